@@ -31,11 +31,9 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.TypedObject;
 import schemacrawler.utility.Identifiers;
@@ -170,12 +168,9 @@ abstract class AbstractDatabaseObject
   }
 
   @Override
-  public List<String> toUniqueLookupKey()
+  NamedObjectKey buildKey()
   {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(schema.toUniqueLookupKey());
-    lookupKey.add(getName());
-    return lookupKey;
+    return schema.key().with(getName());
   }
 
 }
@@ -31,11 +31,9 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DependantObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.utility.Identifiers;
 
 /**
@@ -153,13 +151,9 @@ abstract class AbstractDependantObject<D extends DatabaseObject>
   }
 
   @Override
-  public final List<String> toUniqueLookupKey()
+  final NamedObjectKey buildKey()
   {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(parent.get()
-      .toUniqueLookupKey());
-    lookupKey.add(getName());
-    return lookupKey;
+    return parent.get().key().with(getName());
   }
 
 }
@@ -29,11 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.utility.NamedObjectSort;
 
 /**
@@ -48,6 +47,7 @@ abstract class AbstractNamedObject
   private static final long serialVersionUID = -1486322887991472729L;
 
   private final String name;
+  private transient NamedObjectKey key;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private
@@ -132,6 +132,19 @@ abstract class AbstractNamedObject
     return result;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final NamedObjectKey key()
+  {
+    if (key == null)
+    {
+      key = buildKey();
+    }
+    return key;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -142,9 +155,28 @@ abstract class AbstractNamedObject
   }
 
   @Override
-  public List<String> toUniqueLookupKey()
+  public final List<String> toUniqueLookupKey()
+  {
+    return key().toList();
+  }
+
+  /**
+   * Builds the lookup key, which is cached once it is built.
+   *
+   * @return Lookup key
+   */
+  NamedObjectKey buildKey()
+  {
+    return new NamedObjectKey(name);
+  }
+
+  /**
+   * Discards the cached lookup key, if any of the names that make up
+   * the key change.
+   */
+  final void resetKey()
   {
-    return new ArrayList<>(Arrays.asList(name));
+    key = null;
   }
 
 }
@@ -52,7 +52,12 @@ abstract class AbstractNamedObjectWithAttributes
   private static final long serialVersionUID = -1486322887991472729L;
 
   private String remarks;
-  private final Map<String, Object> attributeMap;
+  /**
+   * Attributes, which start out shared and immutable (either empty, or
+   * a row of metadata attributes), and are copied to a hash map when
+   * they are first changed.
+   */
+  private Map<String, Object> attributeMap;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private
@@ -64,7 +69,7 @@ abstract class AbstractNamedObjectWithAttributes
   AbstractNamedObjectWithAttributes(final String name)
   {
     super(name);
-    attributeMap = new HashMap<>();
+    attributeMap = Collections.emptyMap();
   }
 
   /**
@@ -153,7 +158,7 @@ abstract class AbstractNamedObjectWithAttributes
   {
     if (!isBlank(name))
     {
-      attributeMap.remove(name);
+      mutableAttributeMap().remove(name);
     }
   }
 
@@ -167,20 +172,29 @@ abstract class AbstractNamedObjectWithAttributes
     {
       if (value == null)
       {
-        attributeMap.remove(name);
+        mutableAttributeMap().remove(name);
       }
       else
       {
-        attributeMap.put(name, value);
+        mutableAttributeMap().put(name, value);
       }
     }
   }
 
   protected final void addAttributes(final Map<String, Object> values)
   {
-    if (values != null)
+    if (values == null || values.isEmpty())
+    {
+      return;
+    }
+    if (attributeMap.isEmpty() && values instanceof AttributeRow)
+    {
+      // Share the immutable row, until the attributes are changed
+      attributeMap = values;
+    }
+    else
     {
-      attributeMap.putAll(values);
+      mutableAttributeMap().putAll(values);
     }
   }
 
@@ -196,4 +210,13 @@ abstract class AbstractNamedObjectWithAttributes
     }
   }
 
+  private Map<String, Object> mutableAttributeMap()
+  {
+    if (!(attributeMap instanceof HashMap))
+    {
+      attributeMap = new HashMap<>(attributeMap);
+    }
+    return attributeMap;
+  }
+
 }
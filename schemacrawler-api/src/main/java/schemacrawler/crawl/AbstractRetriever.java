@@ -35,17 +35,20 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.sql.Statement;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.StatementTuning;
 import schemacrawler.utility.TypeMap;
 import sf.util.SchemaCrawlerLogger;
 
@@ -118,6 +121,31 @@ abstract class AbstractRetriever
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Creates a statement for a metadata retrieval phase, with the fetch
+   * size, query timeout and result set type configured for that phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @return Tuned statement
+   */
+  final Statement createStatement(final InformationSchemaKey key)
+    throws SQLException
+  {
+    return retrieverConnection.createStatement(key);
+  }
+
+  /**
+   * Gets the rule for which unmapped metadata columns to capture as
+   * attributes of database objects.
+   *
+   * @return Attribute inclusion rule
+   */
+  final InclusionRule getAttributeInclusionRule()
+  {
+    return options.getAttributeInclusionRule();
+  }
+
   final NamedObjectList<SchemaReference> getAllSchemas()
   {
     return catalog.getAllSchemas();
@@ -138,9 +166,14 @@ abstract class AbstractRetriever
     return retrieverConnection;
   }
 
-  final InclusionRule getSchemaInclusionRule()
+  final SchemaCrawlerOptions getSchemaCrawlerOptions()
+  {
+    return options;
+  }
+
+  final StatementTuning getStatementTuning(final InformationSchemaKey key)
   {
-    return options.getSchemaInclusionRule();
+    return retrieverConnection.getStatementTuning(key);
   }
 
   final void logPossiblyUnsupportedSQLFeature(final Supplier<String> message,
@@ -207,39 +240,44 @@ abstract class AbstractRetriever
                                                            final String databaseSpecificTypeName,
                                                            final String mappedClassName)
   {
-    MutableColumnDataType columnDataType = catalog
-      .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
-        .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null)
+    // Lookup and creation need to be atomic, since tables and routines
+    // may be crawled concurrently
+    synchronized (catalog)
     {
-      columnDataType = new MutableColumnDataType(schema,
-                                                 databaseSpecificTypeName);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
-        .get(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName))
+      MutableColumnDataType columnDataType = catalog
+        .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
+          .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+      // Create new data type, if needed
+      if (columnDataType == null)
       {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName))
+        columnDataType = new MutableColumnDataType(schema,
+                                                   databaseSpecificTypeName);
+        final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
+          .get(javaSqlTypeInt);
+        columnDataType.setJavaSqlType(javaSqlType);
+        if (isBlank(mappedClassName))
         {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
+          final TypeMap typeMap = retrieverConnection.getTypeMap();
+          final Class<?> mappedClass;
+          if (typeMap.containsKey(databaseSpecificTypeName))
+          {
+            mappedClass = typeMap.get(databaseSpecificTypeName);
+          }
+          else
+          {
+            mappedClass = typeMap.get(javaSqlType.getJavaSqlTypeName());
+          }
+          columnDataType.setTypeMappedClass(mappedClass);
         }
         else
         {
-          mappedClass = typeMap.get(javaSqlType.getJavaSqlTypeName());
+          columnDataType.setTypeMappedClass(mappedClassName);
         }
-        columnDataType.setTypeMappedClass(mappedClass);
-      }
-      else
-      {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
 
-      catalog.addColumnDataType(columnDataType);
+        catalog.addColumnDataType(columnDataType);
+      }
+      return columnDataType;
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(final String catalogName,
@@ -247,8 +285,10 @@ abstract class AbstractRetriever
                                                final String routineName,
                                                final String specificName)
   {
-    return catalog.lookupRoutine(Arrays
-      .asList(catalogName, schemaName, routineName, specificName));
+    return catalog.lookupRoutine(new NamedObjectKey(catalogName,
+                                                   schemaName,
+                                                   routineName,
+                                                   specificName));
   }
 
   final Optional<MutableTable> lookupTable(final String catalogName,
@@ -256,7 +296,7 @@ abstract class AbstractRetriever
                                            final String tableName)
   {
     return catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+      .lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
   }
 
   final String normalizeCatalogName(final String name)
@@ -0,0 +1,165 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable attributes read from a single row of metadata results. The
+ * attribute names are shared by all the rows from the same results,
+ * and the values are held in a flat array, so that each row costs
+ * only a single small array, instead of a hash map.
+ *
+ * @author Sualeh Fatehi
+ */
+final class AttributeRow
+  extends AbstractMap<String, Object>
+  implements Serializable
+{
+
+  private final class Entries
+    extends AbstractSet<Map.Entry<String, Object>>
+  {
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator()
+    {
+      return new Iterator<Map.Entry<String, Object>>()
+      {
+
+        private int index;
+
+        @Override
+        public boolean hasNext()
+        {
+          return index < names.length;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next()
+        {
+          if (!hasNext())
+          {
+            throw new NoSuchElementException();
+          }
+          final Map.Entry<String, Object> entry = new SimpleImmutableEntry<>(names[index],
+                                                                              values[index]);
+          index++;
+          return entry;
+        }
+
+      };
+    }
+
+    @Override
+    public int size()
+    {
+      return names.length;
+    }
+
+  }
+
+  private static final long serialVersionUID = -3413780413632528651L;
+
+  private final String[] names;
+  private final Object[] values;
+
+  /**
+   * Attributes for a row.
+   *
+   * @param names
+   *        Attribute names, which are shared with other rows, and must
+   *        not be changed
+   * @param values
+   *        Attribute values, in the same order as the names
+   */
+  AttributeRow(final String[] names, final Object[] values)
+  {
+    if (names.length != values.length)
+    {
+      throw new IllegalArgumentException("Each attribute needs a value");
+    }
+    this.names = names;
+    this.values = values;
+  }
+
+  @Override
+  public boolean containsKey(final Object key)
+  {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet()
+  {
+    return new Entries();
+  }
+
+  @Override
+  public Object get(final Object key)
+  {
+    final int index = indexOf(key);
+    return index < 0? null: values[index];
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return names.length == 0;
+  }
+
+  @Override
+  public int size()
+  {
+    return names.length;
+  }
+
+  private int indexOf(final Object key)
+  {
+    if (key == null)
+    {
+      return -1;
+    }
+    for (int i = 0; i < names.length; i++)
+    {
+      if (names[i] == key || names[i].equals(key))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
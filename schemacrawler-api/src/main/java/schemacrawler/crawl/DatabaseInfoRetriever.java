@@ -30,6 +30,7 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -407,16 +408,16 @@ final class DatabaseInfoRetriever
     if (informationSchemaViews.hasOverrideTypeInfoSql())
     {
       final Query typeInfoSql = informationSchemaViews.getOverrideTypeInfoSql();
-      final Connection connection = getDatabaseConnection();
-      statement = connection.createStatement();
+      statement = createStatement(OVERRIDE_TYPE_INFO);
       results = new MetadataResultSet(typeInfoSql,
                                       statement,
-                                      getSchemaInclusionRule());
+                                      getSchemaCrawlerOptions());
     }
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(getMetaData().getTypeInfo(),
+                                      getStatementTuning(OVERRIDE_TYPE_INFO));
     }
 
     try
@@ -468,7 +469,8 @@ final class DatabaseInfoRetriever
         columnDataType.setMaximumScale(maximumScale);
         columnDataType.setNumPrecisionRadix(numPrecisionRadix);
 
-        columnDataType.addAttributes(results.getAttributes());
+        columnDataType.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
         catalog.addColumnDataType(columnDataType);
       }
@@ -510,7 +512,8 @@ final class DatabaseInfoRetriever
     final String schemaName = schema.getName();
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getUDTs(catalogName, schemaName, "%", null));)
+      .getUDTs(catalogName, schemaName, "%", null),
+                                                                 getStatementTuning(OVERRIDE_TYPE_INFO));)
     {
       while (results.next())
       {
@@ -542,7 +545,8 @@ final class DatabaseInfoRetriever
         columnDataType.setBaseType(baseType);
         columnDataType.setRemarks(remarks);
 
-        columnDataType.addAttributes(results.getAttributes());
+        columnDataType.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
         catalog.addColumnDataType(columnDataType);
       }
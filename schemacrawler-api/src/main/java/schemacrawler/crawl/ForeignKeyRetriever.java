@@ -30,13 +30,13 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -44,6 +44,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
@@ -84,8 +85,6 @@ final class ForeignKeyRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews.hasExtForeignKeysSql())
     {
       LOGGER.log(Level.FINE,
@@ -105,10 +104,10 @@ final class ForeignKeyRetriever
     final Query extForeignKeysSql = informationSchemaViews
       .getExtForeignKeysSql();
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_FOREIGN_KEYS);
         final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -120,12 +119,13 @@ final class ForeignKeyRetriever
         final String definition = results.getString("FOREIGN_KEY_DEFINITION");
 
         final Optional<MutableForeignKey> optionalFk = allFks
-          .lookup(Arrays.asList(fkName, fkName));
+          .lookup(new NamedObjectKey(fkName, fkName));
         if (optionalFk.isPresent())
         {
           final MutableForeignKey fkConstraint = optionalFk.get();
           fkConstraint.appendDefinition(definition);
-          fkConstraint.addAttributes(results.getAttributes());
+          fkConstraint.addAttributes(results
+            .getAttributes(getAttributeInclusionRule()));
         }
         else
         {
@@ -237,7 +237,7 @@ final class ForeignKeyRetriever
       }
 
       final Optional<MutableForeignKey> foreignKeyOptional = foreignKeys
-        .lookup(Arrays.asList(foreignKeyName, specificName));
+        .lookup(new NamedObjectKey(foreignKeyName, specificName));
       final MutableForeignKey foreignKey;
       if (foreignKeyOptional.isPresent())
       {
@@ -256,7 +256,8 @@ final class ForeignKeyRetriever
       foreignKey.setUpdateRule(updateRule);
       foreignKey.setDeleteRule(deleteRule);
       foreignKey.setDeferrability(deferrability);
-      foreignKey.addAttributes(results.getAttributes());
+      foreignKey.addAttributes(results
+        .getAttributes(getAttributeInclusionRule()));
 
       if (fkColumn instanceof MutableColumn)
       {
@@ -293,7 +294,7 @@ final class ForeignKeyRetriever
     Column column = null;
 
     final Optional<MutableTable> tableOptional = catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+      .lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
     if (tableOptional.isPresent())
     {
       final Table table = tableOptional.get();
@@ -336,11 +337,10 @@ final class ForeignKeyRetriever
 
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
     final Query fkSql = informationSchemaViews.getForeignKeysSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(FOREIGN_KEYS);
         final MetadataResultSet results = new MetadataResultSet(fkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveForeignKeysUsingSql");
       createForeignKeys(results, foreignKeys);
@@ -370,7 +370,8 @@ final class ForeignKeyRetriever
       try (final MetadataResultSet results = new MetadataResultSet(metaData
         .getImportedKeys(table.getSchema().getCatalogName(),
                          table.getSchema().getName(),
-                         table.getName()));)
+                         table.getName()),
+                                                                   getStatementTuning(FOREIGN_KEYS));)
       {
         createForeignKeys(results, foreignKeys);
       }
@@ -387,7 +388,8 @@ final class ForeignKeyRetriever
       try (final MetadataResultSet results = new MetadataResultSet(metaData
         .getExportedKeys(table.getSchema().getCatalogName(),
                          table.getSchema().getName(),
-                         table.getName()));)
+                         table.getName()),
+                                                                   getStatementTuning(FOREIGN_KEYS));)
       {
         createForeignKeys(results, foreignKeys);
       }
@@ -408,7 +410,8 @@ final class ForeignKeyRetriever
 
     // Get imported foreign keys
     try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getImportedKeys(null, null, "%"));)
+      .getImportedKeys(null, null, "%"),
+                                                                 getStatementTuning(FOREIGN_KEYS));)
     {
       createForeignKeys(results, foreignKeys);
     }
@@ -417,7 +420,8 @@ final class ForeignKeyRetriever
     // table is selected, we have not retrieved it's keys that are
     // imported by other tables.
     try (final MetadataResultSet results = new MetadataResultSet(metaData
-      .getExportedKeys(null, null, "%"));)
+      .getExportedKeys(null, null, "%"),
+                                                                 getStatementTuning(FOREIGN_KEYS));)
     {
       createForeignKeys(results, foreignKeys);
     }
@@ -30,18 +30,19 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -227,7 +228,7 @@ final class IndexRetriever
     index.setIndexType(type);
     index.setCardinality(cardinality);
     index.setPages(pages);
-    index.addAttributes(results.getAttributes());
+    index.addAttributes(results.getAttributes(getAttributeInclusionRule()));
   }
 
   private void createPrimaryKeyForTable(final MutableTable table,
@@ -272,7 +273,7 @@ final class IndexRetriever
     final String tableName = results.getString("TABLE_NAME");
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(catalogName, schemaName, tableName));
+      .lookup(new NamedObjectKey(catalogName, schemaName, tableName));
     return optionalTable;
   }
 
@@ -289,11 +290,10 @@ final class IndexRetriever
     }
 
     final Query indexesSql = informationSchemaViews.getIndexesSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(INDEXES);
         final MetadataResultSet results = new MetadataResultSet(indexesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveIndexesFromDataDictionary");
       while (results.next())
@@ -326,7 +326,8 @@ final class IndexRetriever
                     table.getSchema().getName(),
                     table.getName(),
                     unique,
-                    true/* approximate */));)
+                    true/* approximate */),
+                                                                 getStatementTuning(INDEXES));)
     {
       createIndexes(table, results);
     }
@@ -364,7 +365,8 @@ final class IndexRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getIndexInfo(null, null, "%", unique, true/* approximate */));)
+      .getIndexInfo(null, null, "%", unique, true/* approximate */),
+                                                                 getStatementTuning(INDEXES));)
     {
       while (results.next())
       {
@@ -400,11 +402,10 @@ final class IndexRetriever
     }
 
     final Query pkSql = informationSchemaViews.getPrimaryKeysSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(PRIMARY_KEYS);
         final MetadataResultSet results = new MetadataResultSet(pkSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
       while (results.next())
@@ -439,7 +440,8 @@ final class IndexRetriever
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
         .getPrimaryKeys(table.getSchema().getCatalogName(),
                         table.getSchema().getName(),
-                        table.getName()));)
+                        table.getName()),
+                                                                   getStatementTuning(PRIMARY_KEYS));)
       {
         while (results.next())
         {
@@ -459,7 +461,8 @@ final class IndexRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getPrimaryKeys(null, null, "%"));)
+      .getPrimaryKeys(null, null, "%"),
+                                                                 getStatementTuning(PRIMARY_KEYS));)
     {
       while (results.next())
       {
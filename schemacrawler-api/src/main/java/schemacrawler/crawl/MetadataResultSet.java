@@ -43,16 +43,17 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.StatementTuning;
 import schemacrawler.utility.Query;
 import sf.util.IdentifiedEnum;
 import sf.util.SchemaCrawlerLogger;
@@ -73,39 +74,37 @@ final class MetadataResultSet
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
-
   private String description;
   private final ResultSet results;
-  private final List<String> resultSetColumns;
-  private Set<String> readColumns;
+  private final String[] resultSetColumns;
+  private final Map<String, Integer> resultSetColumnIndexes;
+  private final boolean[] readColumns;
+  private InclusionRule attributeInclusionRule;
+  private int[] attributeColumns;
+  private String[] attributeNames;
 
   private int rowCount;
 
   MetadataResultSet(final Query query,
                     final Statement statement,
-                    final InclusionRule schemaInclusionRule)
+                    final SchemaCrawlerOptions options)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(executeAgainstSchema(query, statement, options));
     if (query.hasName())
     {
       description = query.getName();
     }
   }
 
+  /**
+   * Wraps results from a tuned statement, which already have the fetch
+   * size of the statement.
+   */
   MetadataResultSet(final ResultSet resultSet)
     throws SQLException
   {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try
-    {
-      results.setFetchSize(FETCHSIZE);
-    }
-    catch (final NullPointerException | SQLException e)
-    {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
 
     final List<String> resultSetColumns = new ArrayList<>();
     try
@@ -126,9 +125,30 @@ final class MetadataResultSet
     {
       LOGGER.log(Level.WARNING, "Could not get columns list");
     }
-    this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
+    this.resultSetColumns = resultSetColumns
+      .toArray(new String[resultSetColumns.size()]);
 
-    readColumns = new HashSet<>();
+    resultSetColumnIndexes = new HashMap<>();
+    for (int i = 0; i < this.resultSetColumns.length; i++)
+    {
+      // Duplicate column names are read from the first column, just as
+      // the JDBC driver does for column labels
+      resultSetColumnIndexes.putIfAbsent(this.resultSetColumns[i], i);
+    }
+    readColumns = new boolean[this.resultSetColumns.length];
+  }
+
+  /**
+   * Wraps results from a database metadata call, setting the fetch size
+   * for the retrieval phase.
+   */
+  MetadataResultSet(final ResultSet resultSet,
+                    final StatementTuning statementTuning)
+    throws SQLException
+  {
+    this(resultSet);
+    requireNonNull(statementTuning, "No statement tuning provided")
+      .tune(results);
   }
 
   /**
@@ -156,40 +176,105 @@ final class MetadataResultSet
 
   /**
    * Gets unread (and therefore unmapped) columns from the database
-   * metadata resultset, and makes them available as addiiotnal
-   * attributes.
+   * metadata resultset, and makes them available as additional
+   * attributes. Only columns that pass the attribute inclusion rule are
+   * read, so no values are read at all if the rule excludes everything.
+   * The attribute names are shared by all rows, for as long as the same
+   * columns are left unread.
    *
+   * @param attributeInclusionRule
+   *        Rule for which columns to capture as attributes
    * @return Map of additional attributes to the database object
    */
-  Map<String, Object> getAttributes()
+  Map<String, Object> getAttributes(final InclusionRule attributeInclusionRule)
   {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final String columnName: resultSetColumns)
+    final int[] attributeColumns = lookupAttributeColumns(attributeInclusionRule);
+
+    // Reuse the attribute names from the previous row, if the same
+    // columns are unread
+    int count = 0;
+    boolean sameNames = attributeNames != null;
+    for (final int index: attributeColumns)
+    {
+      if (!readColumns[index])
+      {
+        sameNames = sameNames && count < attributeNames.length
+                    && attributeNames[count] == resultSetColumns[index];
+        count++;
+      }
+    }
+    if (count == 0)
+    {
+      return Collections.emptyMap();
+    }
+    if (!sameNames || count != attributeNames.length)
     {
-      if (!readColumns.contains(columnName))
+      final String[] names = new String[count];
+      int i = 0;
+      for (final int index: attributeColumns)
       {
-        try
+        if (!readColumns[index])
         {
-          final Object value = results.getObject(columnName);
-          attributes.put(columnName, value);
+          names[i] = resultSetColumns[index];
+          i++;
         }
-        catch (final SQLException | ArrayIndexOutOfBoundsException e)
+      }
+      attributeNames = names;
+    }
+
+    final String[] names = attributeNames;
+    final Object[] values = new Object[count];
+    boolean[] unreadable = null;
+    int i = 0;
+    for (final int index: attributeColumns)
+    {
+      if (readColumns[index])
+      {
+        continue;
+      }
+      try
+      {
+        values[i] = results.getObject(index + 1);
+      }
+      catch (final SQLException | ArrayIndexOutOfBoundsException e)
+      {
+        /*
+         * MySQL connector is broken and can cause
+         * ArrayIndexOutOfBoundsExceptions for no good reason (tested
+         * with connector 5.1.26 and server version 5.0.95). Ignoring
+         * the exception, we can still get some useful data out of the
+         * database.
+         */
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not read value for column <%s>",
+                                    resultSetColumns[index]),
+                   e);
+        if (unreadable == null)
+        {
+          unreadable = new boolean[count];
+        }
+        unreadable[i] = true;
+      }
+      i++;
+    }
+
+    if (unreadable == null)
+    {
+      return new AttributeRow(names, values);
+    }
+    else
+    {
+      // Leave out values that could not be read
+      final Map<String, Object> attributes = new HashMap<>();
+      for (int j = 0; j < count; j++)
+      {
+        if (!unreadable[j])
         {
-          /*
-           * MySQL connector is broken and can cause
-           * ArrayIndexOutOfBoundsExceptions for no good reason (tested
-           * with connector 5.1.26 and server version 5.0.95). Ignoring
-           * the exception, we can still get some useful data out of the
-           * database.
-           */
-          LOGGER.log(Level.WARNING,
-                     new StringFormat("Could not read value for column <%s>",
-                                      columnName),
-                     e);
+          attributes.put(names[j], values[j]);
         }
       }
+      return attributes;
     }
-    return attributes;
   }
 
   BigInteger getBigInteger(final String columnName)
@@ -491,7 +576,7 @@ final class MetadataResultSet
   boolean next()
     throws SQLException
   {
-    readColumns = new HashSet<>();
+    Arrays.fill(readColumns, false);
 
     final boolean next = results.next();
     logSQLWarnings(results);
@@ -508,15 +593,49 @@ final class MetadataResultSet
     this.description = description;
   }
 
+  /**
+   * Gets the indexes of the columns that pass the attribute inclusion
+   * rule. The rule is evaluated only once for each column in the
+   * results, and not for every row.
+   */
+  private int[] lookupAttributeColumns(final InclusionRule attributeInclusionRule)
+  {
+    if (attributeColumns == null
+        || attributeInclusionRule != this.attributeInclusionRule)
+    {
+      final int[] columns = new int[resultSetColumns.length];
+      int count = 0;
+      for (int i = 0; i < resultSetColumns.length; i++)
+      {
+        final String columnName = resultSetColumns[i];
+        if (resultSetColumnIndexes.get(columnName) == i
+            && (attributeInclusionRule == null
+                || attributeInclusionRule.test(columnName)))
+        {
+          columns[count] = i;
+          count++;
+        }
+      }
+      this.attributeInclusionRule = attributeInclusionRule;
+      attributeColumns = Arrays.copyOf(columns, count);
+      attributeNames = null;
+    }
+    return attributeColumns;
+  }
+
   private boolean useColumn(final String columnName)
   {
-    final boolean useColumn = columnName != null
-                              && resultSetColumns.contains(columnName);
-    if (useColumn)
+    if (columnName == null)
+    {
+      return false;
+    }
+    final Integer index = resultSetColumnIndexes.get(columnName);
+    if (index == null)
     {
-      readColumns.add(columnName);
+      return false;
     }
-    return useColumn;
+    readColumns[index] = true;
+    return true;
   }
 
 }
@@ -29,11 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -42,6 +42,7 @@ import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -53,7 +54,9 @@ import schemacrawler.schema.Table;
 
 /**
  * Database and connection information. Created from metadata returned
- * by a JDBC call, and other sources of information.
+ * by a JDBC call, and other sources of information. Column data types
+ * are guarded by the catalog, since they can be created by crawl
+ * phases that run concurrently.
  *
  * @author Sualeh Fatehi sualeh@hotmail.com
  */
@@ -107,16 +110,16 @@ final class MutableCatalog
    * {@inheritDoc}
    */
   @Override
-  public Collection<ColumnDataType> getColumnDataTypes()
+  public synchronized Collection<ColumnDataType> getColumnDataTypes()
   {
-    return new ArrayList<ColumnDataType>(columnDataTypes.values());
+    return unmodifiableList(columnDataTypes.values());
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public Collection<ColumnDataType> getColumnDataTypes(final Schema schema)
+  public synchronized Collection<ColumnDataType> getColumnDataTypes(final Schema schema)
   {
     final FilterBySchema filter = new FilterBySchema(schema);
     final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
@@ -157,7 +160,7 @@ final class MutableCatalog
   @Override
   public Collection<Routine> getRoutines()
   {
-    return new ArrayList<Routine>(routines.values());
+    return unmodifiableList(routines.values());
   }
 
   /**
@@ -193,7 +196,7 @@ final class MutableCatalog
   @Override
   public Collection<Schema> getSchemas()
   {
-    return new ArrayList<Schema>(schemas.values());
+    return unmodifiableList(schemas.values());
   }
 
   /**
@@ -202,7 +205,7 @@ final class MutableCatalog
   @Override
   public Collection<Sequence> getSequences()
   {
-    return new ArrayList<Sequence>(sequences.values());
+    return unmodifiableList(sequences.values());
   }
 
   /**
@@ -229,7 +232,7 @@ final class MutableCatalog
   @Override
   public Collection<Synonym> getSynonyms()
   {
-    return new ArrayList<Synonym>(synonyms.values());
+    return unmodifiableList(synonyms.values());
   }
 
   /**
@@ -265,7 +268,7 @@ final class MutableCatalog
   @Override
   public Collection<Table> getTables()
   {
-    return new ArrayList<Table>(tables.values());
+    return unmodifiableList(tables.values());
   }
 
   /**
@@ -290,8 +293,8 @@ final class MutableCatalog
    * {@inheritDoc}
    */
   @Override
-  public Optional<MutableColumnDataType> lookupColumnDataType(final Schema schema,
-                                                              final String name)
+  public synchronized Optional<MutableColumnDataType> lookupColumnDataType(final Schema schema,
+                                                                           final String name)
   {
     return columnDataTypes.lookup(schema, name);
   }
@@ -357,7 +360,7 @@ final class MutableCatalog
     return lookupColumnDataType(new SchemaReference(), name);
   }
 
-  public Optional<MutableTable> lookupTable(final List<String> tableLookupKey)
+  public Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey)
   {
     return tables.lookup(tableLookupKey);
   }
@@ -405,7 +408,7 @@ final class MutableCatalog
     }
   }
 
-  void addColumnDataType(final MutableColumnDataType columnDataType)
+  synchronized void addColumnDataType(final MutableColumnDataType columnDataType)
   {
     if (columnDataType != null)
     {
@@ -454,12 +457,22 @@ final class MutableCatalog
     return schemas;
   }
 
+  NamedObjectList<MutableSequence> getAllSequences()
+  {
+    return sequences;
+  }
+
+  NamedObjectList<MutableSynonym> getAllSynonyms()
+  {
+    return synonyms;
+  }
+
   NamedObjectList<MutableTable> getAllTables()
   {
     return tables;
   }
 
-  MutableColumnDataType lookupColumnDataTypeByType(final int type)
+  synchronized MutableColumnDataType lookupColumnDataTypeByType(final int type)
   {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
@@ -477,7 +490,7 @@ final class MutableCatalog
     return columnDataType;
   }
 
-  Optional<MutableRoutine> lookupRoutine(final List<String> routineLookupKey)
+  Optional<MutableRoutine> lookupRoutine(final NamedObjectKey routineLookupKey)
   {
     return routines.lookup(routineLookupKey);
   }
@@ -29,7 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -80,7 +81,7 @@ final class MutableColumn
   @Override
   public Collection<Privilege<Column>> getPrivileges()
   {
-    return new ArrayList<Privilege<Column>>(privileges.values());
+    return unmodifiableList(privileges.values());
   }
 
   /**
@@ -43,6 +43,7 @@ import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.TableConstraintType;
 import schemacrawler.utility.CompareUtility;
 
@@ -194,12 +195,9 @@ final class MutableForeignKey
   }
 
   @Override
-  public List<String> toUniqueLookupKey()
+  final NamedObjectKey buildKey()
   {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(super.toUniqueLookupKey());
-    lookupKey.add(specificName);
-    return lookupKey;
+    return super.buildKey().with(specificName);
   }
 
   void addColumnReference(final int keySequence,
@@ -212,6 +210,11 @@ final class MutableForeignKey
     columnReferences.add(fkColumnReference);
   }
 
+  void clearColumnReferences()
+  {
+    columnReferences.clear();
+  }
+
   void appendDefinition(final String definition)
   {
     if (definition != null)
@@ -233,6 +236,7 @@ final class MutableForeignKey
   void setSpecificName(final String specificName)
   {
     this.specificName = specificName;
+    resetKey();
   }
 
   final void setUpdateRule(final ForeignKeyUpdateRule updateRule)
@@ -29,9 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,7 +70,7 @@ final class MutableFunction
   @Override
   public List<FunctionColumn> getColumns()
   {
-    return new ArrayList<FunctionColumn>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /**
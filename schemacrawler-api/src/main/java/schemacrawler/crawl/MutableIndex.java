@@ -29,9 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -134,7 +134,7 @@ class MutableIndex
   @Override
   public final List<IndexColumn> getColumns()
   {
-    return new ArrayList<IndexColumn>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /**
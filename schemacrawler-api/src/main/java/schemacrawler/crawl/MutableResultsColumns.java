@@ -29,7 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -62,7 +63,7 @@ final class MutableResultsColumns
   @Override
   public List<ResultsColumn> getColumns()
   {
-    return new ArrayList<ResultsColumn>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /**
@@ -29,9 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.util.ArrayList;
-import java.util.List;
-
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineBodyType;
 import schemacrawler.schema.RoutineType;
@@ -110,12 +108,9 @@ abstract class MutableRoutine
   }
 
   @Override
-  public final List<String> toUniqueLookupKey()
+  final NamedObjectKey buildKey()
   {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(super.toUniqueLookupKey());
-    lookupKey.add(specificName);
-    return lookupKey;
+    return super.buildKey().with(specificName);
   }
 
   final void appendDefinition(final String definition)
@@ -134,6 +129,7 @@ abstract class MutableRoutine
   final void setSpecificName(final String specificName)
   {
     this.specificName = specificName;
+    resetKey();
   }
 
 }
@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static java.util.Collections.unmodifiableList;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -121,7 +123,7 @@ class MutableTable
   @Override
   public List<Column> getColumns()
   {
-    return new ArrayList<Column>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /**
@@ -172,7 +174,7 @@ class MutableTable
   @Override
   public Collection<Index> getIndexes()
   {
-    return new ArrayList<Index>(indexes.values());
+    return unmodifiableList(indexes.values());
   }
 
   /**
@@ -190,7 +192,7 @@ class MutableTable
   @Override
   public Collection<Privilege<Table>> getPrivileges()
   {
-    return new ArrayList<Privilege<Table>>(privileges.values());
+    return unmodifiableList(privileges.values());
   }
 
   /**
@@ -245,7 +247,7 @@ class MutableTable
   @Override
   public Collection<TableConstraint> getTableConstraints()
   {
-    return new ArrayList<TableConstraint>(constraints.values());
+    return unmodifiableList(constraints.values());
   }
 
   /**
@@ -263,7 +265,7 @@ class MutableTable
   @Override
   public Collection<Trigger> getTriggers()
   {
-    return new ArrayList<Trigger>(triggers.values());
+    return unmodifiableList(triggers.values());
   }
 
   /**
@@ -394,6 +396,11 @@ class MutableTable
     }
   }
 
+  final void removeForeignKey(final MutableForeignKey foreignKey)
+  {
+    foreignKeys.remove(foreignKey);
+  }
+
   final void setPrimaryKeyAndReplaceIndex(final MutablePrimaryKey primaryKey)
   {
     if (primaryKey == null)
@@ -29,7 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.List;
 
 import schemacrawler.schema.Table;
@@ -65,7 +66,7 @@ class MutableTableConstraint
   @Override
   public List<TableConstraintColumn> getColumns()
   {
-    return new ArrayList<TableConstraintColumn>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /**
@@ -44,6 +44,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
 import sf.util.ObjectToString;
 
@@ -52,7 +53,12 @@ import sf.util.ObjectToString;
  * NamedObjectList has the ability to look up by dependent object which
  * is not created yet. That is, by NamedObject + String. Returns values
  * sorted in natural sort order, and is iterable. The iterator does not
- * allow modifications to the underlying data structure.
+ * allow modifications to the underlying data structure. The sorted
+ * values are cached as an unmodifiable snapshot, which is discarded when
+ * objects are added or removed. Since the sort order of some objects
+ * can change after they are added to the list (for example, the sort
+ * index of tables), the snapshot is checked in linear time before it
+ * is reused, and sorted again only if it is out of order.
  */
 final class NamedObjectList<N extends NamedObject>
   implements Serializable, ReducibleCollection<N>
@@ -60,29 +66,41 @@ final class NamedObjectList<N extends NamedObject>
 
   private static final long serialVersionUID = 3257847666804142128L;
 
-  private static List<String> makeLookupKey(final NamedObject namedObject)
+  private static NamedObjectKey makeLookupKey(final NamedObject namedObject)
   {
-    final List<String> key;
+    final NamedObjectKey key;
     if (namedObject == null)
     {
       key = null;
     }
     else
     {
-      key = namedObject.toUniqueLookupKey();
+      key = namedObject.key();
     }
     return key;
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject,
-                                            final String name)
+  private static NamedObjectKey makeLookupKey(final NamedObject namedObject,
+                                              final String name)
   {
-    final List<String> key = makeLookupKey(namedObject);
-    key.add(name);
-    return key;
+    final NamedObjectKey key = makeLookupKey(namedObject);
+    return key.with(name);
+  }
+
+  private static <N extends NamedObject> boolean isSorted(final List<N> values)
+  {
+    for (int i = 1; i < values.size(); i++)
+    {
+      if (values.get(i - 1).compareTo(values.get(i)) > 0)
+      {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  private final Map<NamedObjectKey, N> objects = new HashMap<>();
+  private transient volatile List<N> sortedValues;
 
   @Override
   public void filter(final Predicate<? super N> predicate)
@@ -92,14 +110,15 @@ final class NamedObjectList<N extends NamedObject>
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet
+    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
+    for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet
       .iterator(); iterator.hasNext();)
     {
-      final Entry<List<String>, N> entry = iterator.next();
+      final Entry<NamedObjectKey, N> entry = iterator.next();
       if (!predicate.test(entry.getValue()))
       {
         iterator.remove();
+        sortedValues = null;
       }
     }
   }
@@ -116,37 +135,8 @@ final class NamedObjectList<N extends NamedObject>
   @Override
   public Iterator<N> iterator()
   {
-    final class UnmodifiableIterator
-      implements Iterator<N>
-    {
-
-      private final Iterator<N> iterator;
-
-      UnmodifiableIterator(final Iterator<N> iterator)
-      {
-        this.iterator = iterator;
-      }
-
-      @Override
-      public boolean hasNext()
-      {
-        return iterator.hasNext();
-      }
-
-      @Override
-      public N next()
-      {
-        return iterator.next();
-      }
-
-      @Override
-      public void remove()
-      {
-        throw new UnsupportedOperationException();
-      }
-
-    }
-    return new UnmodifiableIterator(values().iterator());
+    // Values are unmodifiable, so the iterator does not support removal
+    return values().iterator();
   }
 
   /**
@@ -167,8 +157,9 @@ final class NamedObjectList<N extends NamedObject>
   boolean add(final N namedObject)
   {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final NamedObjectKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    sortedValues = null;
     return true;
   }
 
@@ -185,24 +176,26 @@ final class NamedObjectList<N extends NamedObject>
   /**
    * Looks up a named object by lookup key.
    *
-   * @param fullName
-   *        Fully qualified name
+   * @param lookupKey
+   *        Lookup key
    * @return Named object
    */
-  Optional<N> lookup(final List<String> lookupKey)
+  Optional<N> lookup(final NamedObjectKey lookupKey)
   {
     return internalGet(lookupKey);
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name)
   {
-    final List<String> key = makeLookupKey(namedObject, name);
+    final NamedObjectKey key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
   N remove(final N namedObject)
   {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    sortedValues = null;
+    return removed;
   }
 
   /**
@@ -218,18 +211,51 @@ final class NamedObjectList<N extends NamedObject>
   /**
    * Gets all named objects in the list, in sorted order.
    *
-   * @return All named objects
+   * @return All named objects, as an unmodifiable list
    */
   List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    Collections.sort(all);
-    return all;
+    List<N> values = sortedValues;
+    if (values == null || !isSorted(values))
+    {
+      final List<N> all = new ArrayList<>(objects.values());
+      Collections.sort(all);
+      values = Collections.unmodifiableList(all);
+      sortedValues = values;
+    }
+    return values;
   }
 
-  private Optional<N> internalGet(final List<String> key)
+  private Optional<N> internalGet(final NamedObjectKey key)
   {
     return Optional.ofNullable(objects.get(key));
   }
 
+  /**
+   * Snapshots saved by SchemaCrawler 14.20.04 and earlier have lists of
+   * names as lookup keys, so they are converted when the list is read
+   * back.
+   */
+  private Object readResolve()
+  {
+    @SuppressWarnings("unchecked")
+    final Map<Object, N> rawObjects = (Map<Object, N>) (Map<?, N>) objects;
+    final List<Object> listKeys = new ArrayList<>();
+    for (final Object key: rawObjects.keySet())
+    {
+      if (key instanceof List)
+      {
+        listKeys.add(key);
+      }
+    }
+    for (final Object listKey: listKeys)
+    {
+      final List<?> names = (List<?>) listKey;
+      final N namedObject = rawObjects.remove(listKey);
+      objects.put(new NamedObjectKey(names.toArray(new String[names.size()])),
+                  namedObject);
+    }
+    return this;
+  }
+
 }
@@ -0,0 +1,232 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs crawl phases concurrently, honoring the dependencies between
+ * phases. Every phase that queries the database runs on its own
+ * connection, borrowed from the data source for the duration of the
+ * phase.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ParallelCrawlExecutor
+  implements AutoCloseable
+{
+
+  @FunctionalInterface
+  interface CatalogPhase
+  {
+
+    void run()
+      throws SchemaCrawlerException;
+
+  }
+
+  @FunctionalInterface
+  interface CrawlPhase
+  {
+
+    void crawl(RetrieverConnection retrieverConnection)
+      throws SchemaCrawlerException;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ParallelCrawlExecutor.class.getName());
+
+  private final DataSource dataSource;
+  private final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
+  private final ExecutorService executorService;
+  private final List<CompletableFuture<Void>> phases;
+
+  ParallelCrawlExecutor(final DataSource dataSource,
+                        final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions,
+                        final int crawlThreads)
+  {
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
+                                                          "No database specific overrides provided");
+    if (crawlThreads < 1)
+    {
+      throw new IllegalArgumentException("Need at least one crawl thread");
+    }
+    executorService = Executors.newFixedThreadPool(crawlThreads);
+    phases = new ArrayList<>();
+  }
+
+  /**
+   * Waits for all submitted crawl phases to complete.
+   *
+   * @throws SchemaCrawlerException
+   *         On an exception in any of the crawl phases
+   */
+  void await()
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      CompletableFuture.allOf(phases.toArray(new CompletableFuture[0])).join();
+    }
+    catch (final CompletionException e)
+    {
+      Throwable cause = e;
+      while (cause instanceof CompletionException && cause.getCause() != null)
+      {
+        cause = cause.getCause();
+      }
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception in parallel crawl", cause);
+      }
+    }
+  }
+
+  @Override
+  public void close()
+  {
+    executorService.shutdownNow();
+  }
+
+  /**
+   * Submits a crawl phase, that will run after all the phases it
+   * depends on have completed successfully.
+   *
+   * @param phaseName
+   *        Name of the phase, for logging
+   * @param phase
+   *        Crawl phase
+   * @param dependencies
+   *        Phases that need to complete before this phase can run
+   * @return Completion of the crawl phase
+   */
+  CompletableFuture<Void> submit(final String phaseName,
+                                 final CrawlPhase phase,
+                                 final CompletableFuture<?>... dependencies)
+  {
+    requireNonNull(phase, "No crawl phase provided");
+    final CompletableFuture<Void> future = CompletableFuture
+      .allOf(dependencies)
+      .thenRunAsync(() -> runPhase(phaseName, phase), executorService);
+    phases.add(future);
+    return future;
+  }
+
+  /**
+   * Submits a phase that only works on the catalog, and does not query
+   * the database, so it does not borrow a connection. The phase will
+   * run after all the phases it depends on have completed successfully.
+   *
+   * @param phaseName
+   *        Name of the phase, for logging
+   * @param phase
+   *        Catalog phase
+   * @param dependencies
+   *        Phases that need to complete before this phase can run
+   * @return Completion of the phase
+   */
+  CompletableFuture<Void> submitWithoutConnection(final String phaseName,
+                                                  final CatalogPhase phase,
+                                                  final CompletableFuture<?>... dependencies)
+  {
+    requireNonNull(phase, "No catalog phase provided");
+    final CompletableFuture<Void> future = CompletableFuture
+      .allOf(dependencies)
+      .thenRunAsync(() -> runPhase(phaseName, phase), executorService);
+    phases.add(future);
+    return future;
+  }
+
+  private void logPhase(final String phaseName)
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running crawl phase <%s> on thread <%s>",
+                                phaseName,
+                                Thread.currentThread().getName()));
+  }
+
+  private void runPhase(final String phaseName, final CatalogPhase phase)
+  {
+    logPhase(phaseName);
+    try
+    {
+      phase.run();
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw new CompletionException(e);
+    }
+  }
+
+  private void runPhase(final String phaseName, final CrawlPhase phase)
+  {
+    logPhase(phaseName);
+    try (final Connection connection = dataSource.getConnection();)
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              databaseSpecificOverrideOptions);
+      phase.crawl(retrieverConnection);
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw new CompletionException(e);
+    }
+    catch (final SQLException e)
+    {
+      throw new CompletionException(new SchemaCrawlerException(String
+        .format("Could not obtain a connection for crawl phase <%s>",
+                phaseName), e));
+    }
+  }
+
+}
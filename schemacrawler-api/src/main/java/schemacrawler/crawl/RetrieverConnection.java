@@ -35,11 +35,15 @@ import static sf.util.DatabaseUtility.checkConnection;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.DatabaseSpecificOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalTuning;
+import schemacrawler.schemacrawler.StatementTuning;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TableTypes;
 import schemacrawler.utility.TypeMap;
@@ -67,7 +71,10 @@ final class RetrieverConnection
   private final MetadataRetrievalStrategy fkRetrievalStrategy;
   private final MetadataRetrievalStrategy procedureRetrievalStrategy;
   private final MetadataRetrievalStrategy functionRetrievalStrategy;
+  private final MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy functionColumnRetrievalStrategy;
   private final InformationSchemaViews informationSchemaViews;
+  private final MetadataRetrievalTuning metadataRetrievalTuning;
   private final TableTypes tableTypes;
   private final JavaSqlTypes javaSqlTypes;
 
@@ -84,6 +91,11 @@ final class RetrieverConnection
 
     informationSchemaViews = databaseSpecificOverrideOptions
       .getInformationSchemaViews();
+    metadataRetrievalTuning = databaseSpecificOverrideOptions
+      .getMetadataRetrievalTuning();
+    LOGGER.log(Level.CONFIG,
+               new StringFormat("Metadata retrieval tuning is <%s>",
+                                metadataRetrievalTuning));
 
     databaseSpecificOptions = new DatabaseSpecificOptions(connection,
                                                           databaseSpecificOverrideOptions);
@@ -103,6 +115,10 @@ final class RetrieverConnection
       .getProcedureRetrievalStrategy();
     functionRetrievalStrategy = databaseSpecificOverrideOptions
       .getFunctionRetrievalStrategy();
+    procedureColumnRetrievalStrategy = databaseSpecificOverrideOptions
+      .getProcedureColumnRetrievalStrategy();
+    functionColumnRetrievalStrategy = databaseSpecificOverrideOptions
+      .getFunctionColumnRetrievalStrategy();
 
     tableTypes = new TableTypes(connection);
     LOGGER.log(Level.CONFIG,
@@ -121,6 +137,11 @@ final class RetrieverConnection
     return fkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return functionColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
     return functionRetrievalStrategy;
@@ -141,6 +162,11 @@ final class RetrieverConnection
     return pkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return procedureColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
     return procedureRetrievalStrategy;
@@ -151,6 +177,20 @@ final class RetrieverConnection
     return tableRetrievalStrategy;
   }
 
+  /**
+   * Creates a statement for a metadata retrieval phase, tuned for that
+   * phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @return Tuned statement
+   */
+  Statement createStatement(final InformationSchemaKey key)
+    throws SQLException
+  {
+    return getStatementTuning(key).createStatement(connection);
+  }
+
   Connection getConnection()
   {
     return connection;
@@ -176,6 +216,11 @@ final class RetrieverConnection
     return metaData;
   }
 
+  StatementTuning getStatementTuning(final InformationSchemaKey key)
+  {
+    return metadataRetrievalTuning.getStatementTuning(key);
+  }
+
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
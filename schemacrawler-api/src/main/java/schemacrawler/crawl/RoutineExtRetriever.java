@@ -29,7 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.sql.Connection;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
+
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -87,11 +88,10 @@ final class RoutineExtRetriever
     LOGGER.log(Level.INFO, "Retrieving procedure definitions");
 
     final Query routineDefinitionsSql = informationSchemaViews.getRoutinesSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(ROUTINES);
         final MetadataResultSet results = new MetadataResultSet(routineDefinitionsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -119,7 +119,8 @@ final class RoutineExtRetriever
           routine.setRoutineBodyType(routineBodyType);
           routine.appendDefinition(definition);
 
-          routine.addAttributes(results.getAttributes());
+          routine.addAttributes(results
+            .getAttributes(getAttributeInclusionRule()));
         }
       }
     }
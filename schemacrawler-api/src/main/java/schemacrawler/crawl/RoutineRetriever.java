@@ -30,12 +30,20 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.SearchPatternUtility.toSearchPattern;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTION_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
 import static sf.util.Utility.isBlank;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.Arrays;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -44,6 +52,7 @@ import schemacrawler.schema.Function;
 import schemacrawler.schema.FunctionColumn;
 import schemacrawler.schema.FunctionColumnType;
 import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Procedure;
 import schemacrawler.schema.ProcedureColumn;
 import schemacrawler.schema.ProcedureColumnType;
@@ -51,8 +60,10 @@ import schemacrawler.schema.ProcedureReturnType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -77,10 +88,12 @@ final class RoutineRetriever
     super(retrieverConnection, catalog, options);
   }
 
-  void retrieveFunctionColumns(final MutableFunction function,
+  void retrieveFunctionColumns(final NamedObjectList<MutableRoutine> allRoutines,
                                final InclusionRule columnInclusionRule)
     throws SQLException
   {
+    requireNonNull(allRoutines);
+
     final InclusionRuleFilter<FunctionColumn> columnFilter = new InclusionRuleFilter<>(columnInclusionRule,
                                                                                        true);
     if (columnFilter.isExcludeAll())
@@ -91,75 +104,32 @@ final class RoutineRetriever
       return;
     }
 
-    int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctionColumns(function.getSchema().getCatalogName(),
-                          function.getSchema().getName(),
-                          function.getName(),
-                          null));)
+    final MetadataRetrievalStrategy functionColumnRetrievalStrategy = getRetrieverConnection()
+      .getFunctionColumnRetrievalStrategy();
+    switch (functionColumnRetrievalStrategy)
     {
-      while (results.next())
-      {
-        final String columnCatalogName = normalizeCatalogName(results
-          .getString("FUNCTION_CAT"));
-        final String schemaName = normalizeSchemaName(results
-          .getString("FUNCTION_SCHEM"));
-        final String functionName = results.getString("FUNCTION_NAME");
-        final String columnName = results.getString("COLUMN_NAME");
-        final String specificName = results.getString("SPECIFIC_NAME");
-
-        final MutableFunctionColumn column = new MutableFunctionColumn(function,
-                                                                       columnName);
-        if (columnFilter.test(column) && function.getName().equals(functionName)
-            && belongsToSchema(function, columnCatalogName, schemaName))
-        {
-          if (!isBlank(specificName)
-              && !specificName.equals(function.getSpecificName()))
-          {
-            continue;
-          }
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving function columns, using fast data dictionary retrieval");
+        retrieveFunctionColumnsFromDataDictionary(allRoutines, columnFilter);
+        break;
 
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving function column: %s.%s",
-                                      function.getFullName(),
-                                      columnName));
-
-          final FunctionColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setFunctionColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(function
-            .getSchema(), dataType, typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          function.addColumn(column);
-        }
-      }
-    }
-    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
-    {
-      logSQLFeatureNotSupported(new StringFormat("Could not retrieve columns for function %s",
-                                                 function),
-                                e);
-    }
-    catch (final SQLException e)
-    {
-      logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve columns for function %s",
-                                                        function),
-                                       e);
+      case metadata_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving function columns, using fast meta-data retrieval");
+        retrieveFunctionColumnsFromMetadataForAllFunctions(allRoutines,
+                                                           columnFilter);
+        break;
+
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving function columns");
+        retrieveFunctionColumnsFromMetadata(allRoutines, columnFilter);
+        break;
+
+      default:
+        break;
     }
 
   }
@@ -179,6 +149,10 @@ final class RoutineRetriever
       return;
     }
 
+    // Use the routine inclusion rule to leave out excluded routines
+    final String routinesSearchPattern = toSearchPattern(routineInclusionRule)
+      .orElse("%");
+
     final MetadataRetrievalStrategy functionRetrievalStrategy = getRetrieverConnection()
       .getFunctionRetrievalStrategy();
     switch (functionRetrievalStrategy)
@@ -193,12 +167,16 @@ final class RoutineRetriever
       case metadata_all:
         LOGGER.log(Level.INFO,
                    "Retrieving functions, using fast meta-data retrieval");
-        retrieveFunctionsFromMetadataForAllFunctions(schemas, functionFilter);
+        retrieveFunctionsFromMetadataForAllFunctions(schemas,
+                                                     routinesSearchPattern,
+                                                     functionFilter);
         break;
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving functions");
-        retrieveFunctionsFromMetadata(schemas, functionFilter);
+        retrieveFunctionsFromMetadata(schemas,
+                                      routinesSearchPattern,
+                                      functionFilter);
         break;
 
       default:
@@ -207,10 +185,12 @@ final class RoutineRetriever
 
   }
 
-  void retrieveProcedureColumns(final MutableProcedure procedure,
+  void retrieveProcedureColumns(final NamedObjectList<MutableRoutine> allRoutines,
                                 final InclusionRule columnInclusionRule)
     throws SQLException
   {
+    requireNonNull(allRoutines);
+
     final InclusionRuleFilter<ProcedureColumn> columnFilter = new InclusionRuleFilter<>(columnInclusionRule,
                                                                                         true);
     if (columnFilter.isExcludeAll())
@@ -221,70 +201,32 @@ final class RoutineRetriever
       return;
     }
 
-    int ordinalNumber = 0;
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedureColumns(procedure.getSchema().getCatalogName(),
-                           procedure.getSchema().getName(),
-                           procedure.getName(),
-                           null));)
+    final MetadataRetrievalStrategy procedureColumnRetrievalStrategy = getRetrieverConnection()
+      .getProcedureColumnRetrievalStrategy();
+    switch (procedureColumnRetrievalStrategy)
     {
-      while (results.next())
-      {
-        final String columnCatalogName = normalizeCatalogName(results
-          .getString("PROCEDURE_CAT"));
-        final String schemaName = normalizeSchemaName(results
-          .getString("PROCEDURE_SCHEM"));
-        final String procedureName = results.getString("PROCEDURE_NAME");
-        final String columnName = results.getString("COLUMN_NAME");
-        final String specificName = results.getString("SPECIFIC_NAME");
-
-        final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
-                                                                         columnName);
-        if (columnFilter.test(column)
-            && procedure.getName().equals(procedureName)
-            && belongsToSchema(procedure, columnCatalogName, schemaName))
-        {
-          if (!isBlank(specificName)
-              && !specificName.equals(procedure.getSpecificName()))
-          {
-            continue;
-          }
+      case data_dictionary_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving procedure columns, using fast data dictionary retrieval");
+        retrieveProcedureColumnsFromDataDictionary(allRoutines, columnFilter);
+        break;
 
-          LOGGER.log(Level.FINE,
-                     new StringFormat("Retrieving procedure column: %s.%s",
-                                      procedure.getFullName(),
-                                      columnName));
-
-          final ProcedureColumnType columnType = results
-            .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
-          final int dataType = results.getInt("DATA_TYPE", 0);
-          final String typeName = results.getString("TYPE_NAME");
-          final int length = results.getInt("LENGTH", 0);
-          final int precision = results.getInt("PRECISION", 0);
-          final boolean isNullable = results
-            .getShort("NULLABLE",
-                      (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
-          final String remarks = results.getString("REMARKS");
-          column.setOrdinalPosition(ordinalNumber++);
-          column.setProcedureColumnType(columnType);
-          column.setColumnDataType(lookupOrCreateColumnDataType(procedure
-            .getSchema(), dataType, typeName));
-          column.setSize(length);
-          column.setPrecision(precision);
-          column.setNullable(isNullable);
-          column.setRemarks(remarks);
-
-          column.addAttributes(results.getAttributes());
-
-          procedure.addColumn(column);
-        }
-      }
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerSQLException("Could not retrieve columns for procedure "
-                                          + procedure,
-                                          e);
+      case metadata_all:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving procedure columns, using fast meta-data retrieval");
+        retrieveProcedureColumnsFromMetadataForAllProcedures(allRoutines,
+                                                             columnFilter);
+        break;
+
+      case metadata:
+        LOGGER.log(Level.INFO, "Retrieving procedure columns");
+        retrieveProcedureColumnsFromMetadata(allRoutines, columnFilter);
+        break;
+
+      default:
+        break;
     }
 
   }
@@ -304,6 +246,10 @@ final class RoutineRetriever
       return;
     }
 
+    // Use the routine inclusion rule to leave out excluded routines
+    final String routinesSearchPattern = toSearchPattern(routineInclusionRule)
+      .orElse("%");
+
     final MetadataRetrievalStrategy procedureRetrievalStrategy = getRetrieverConnection()
       .getProcedureRetrievalStrategy();
     switch (procedureRetrievalStrategy)
@@ -319,12 +265,15 @@ final class RoutineRetriever
         LOGGER.log(Level.INFO,
                    "Retrieving procedures, using fast meta-data retrieval");
         retrieveProceduresFromMetadataForAllProcedures(schemas,
+                                                       routinesSearchPattern,
                                                        procedureFilter);
         break;
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving procedures");
-        retrieveProceduresFromMetadata(schemas, procedureFilter);
+        retrieveProceduresFromMetadata(schemas,
+                                       routinesSearchPattern,
+                                       procedureFilter);
         break;
 
       default:
@@ -333,6 +282,110 @@ final class RoutineRetriever
 
   }
 
+  /**
+   * Dispatches function column rows to functions, using an index of
+   * functions by name. Overloaded functions share a name, and are told
+   * apart by their specific name.
+   */
+  private void addFunctionColumns(final MetadataResultSet results,
+                                  final NamedObjectList<MutableRoutine> allRoutines,
+                                  final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SQLException
+  {
+    final Map<NamedObjectKey, List<MutableFunction>> functionsIndex = new HashMap<>();
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (routine instanceof MutableFunction)
+      {
+        functionsIndex
+          .computeIfAbsent(routine.getSchema().key().with(routine.getName()),
+                           key -> new ArrayList<>())
+          .add((MutableFunction) routine);
+      }
+    }
+
+    final Map<NamedObjectKey, Integer> ordinalNumbers = new HashMap<>();
+    while (results.next())
+    {
+      final String catalogName = normalizeCatalogName(results
+        .getString("FUNCTION_CAT"));
+      final String schemaName = normalizeSchemaName(results
+        .getString("FUNCTION_SCHEM"));
+      final String functionName = results.getString("FUNCTION_NAME");
+
+      final List<MutableFunction> functions = functionsIndex
+        .get(new NamedObjectKey(catalogName, schemaName, functionName));
+      if (functions == null)
+      {
+        continue;
+      }
+      for (final MutableFunction function: functions)
+      {
+        final int ordinalNumber = ordinalNumbers
+          .getOrDefault(function.key(), 0);
+        if (createFunctionColumn(results,
+                                 function,
+                                 columnFilter,
+                                 ordinalNumber))
+        {
+          ordinalNumbers.put(function.key(), ordinalNumber + 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * Dispatches procedure column rows to procedures, using an index of
+   * procedures by name. Overloaded procedures share a name, and are
+   * told apart by their specific name.
+   */
+  private void addProcedureColumns(final MetadataResultSet results,
+                                   final NamedObjectList<MutableRoutine> allRoutines,
+                                   final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SQLException
+  {
+    final Map<NamedObjectKey, List<MutableProcedure>> proceduresIndex = new HashMap<>();
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (routine instanceof MutableProcedure)
+      {
+        proceduresIndex
+          .computeIfAbsent(routine.getSchema().key().with(routine.getName()),
+                           key -> new ArrayList<>())
+          .add((MutableProcedure) routine);
+      }
+    }
+
+    final Map<NamedObjectKey, Integer> ordinalNumbers = new HashMap<>();
+    while (results.next())
+    {
+      final String catalogName = normalizeCatalogName(results
+        .getString("PROCEDURE_CAT"));
+      final String schemaName = normalizeSchemaName(results
+        .getString("PROCEDURE_SCHEM"));
+      final String procedureName = results.getString("PROCEDURE_NAME");
+
+      final List<MutableProcedure> procedures = proceduresIndex
+        .get(new NamedObjectKey(catalogName, schemaName, procedureName));
+      if (procedures == null)
+      {
+        continue;
+      }
+      for (final MutableProcedure procedure: procedures)
+      {
+        final int ordinalNumber = ordinalNumbers
+          .getOrDefault(procedure.key(), 0);
+        if (createProcedureColumn(results,
+                                  procedure,
+                                  columnFilter,
+                                  ordinalNumber))
+        {
+          ordinalNumbers.put(procedure.key(), ordinalNumber + 1);
+        }
+      }
+    }
+  }
+
   private void createFunction(final MetadataResultSet results,
                               final NamedObjectList<SchemaReference> schemas,
                               final InclusionRuleFilter<Function> functionFilter)
@@ -359,7 +412,7 @@ final class RoutineRetriever
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema = schemas
-      .lookup(Arrays.asList(catalogName, schemaName));
+      .lookup(new NamedObjectKey(catalogName, schemaName));
     if (!optionalSchema.isPresent())
     {
       return;
@@ -372,12 +425,70 @@ final class RoutineRetriever
       function.setReturnType(functionType);
       function.setSpecificName(specificName);
       function.setRemarks(remarks);
-      function.addAttributes(results.getAttributes());
+      function.addAttributes(results
+        .getAttributes(getAttributeInclusionRule()));
 
       catalog.addRoutine(function);
     }
   }
 
+  private boolean createFunctionColumn(final MetadataResultSet results,
+                                       final MutableFunction function,
+                                       final InclusionRuleFilter<FunctionColumn> columnFilter,
+                                       final int ordinalNumber)
+  {
+    final String columnCatalogName = normalizeCatalogName(results
+      .getString("FUNCTION_CAT"));
+    final String schemaName = normalizeSchemaName(results
+      .getString("FUNCTION_SCHEM"));
+    final String functionName = results.getString("FUNCTION_NAME");
+    final String columnName = results.getString("COLUMN_NAME");
+    final String specificName = results.getString("SPECIFIC_NAME");
+
+    final MutableFunctionColumn column = new MutableFunctionColumn(function,
+                                                                   columnName);
+    if (!columnFilter.test(column) || !function.getName().equals(functionName)
+        || !belongsToSchema(function, columnCatalogName, schemaName))
+    {
+      return false;
+    }
+    if (!isBlank(specificName)
+        && !specificName.equals(function.getSpecificName()))
+    {
+      return false;
+    }
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Retrieving function column: %s.%s",
+                                function.getFullName(),
+                                columnName));
+
+    final FunctionColumnType columnType = results
+      .getEnumFromShortId("COLUMN_TYPE", FunctionColumnType.unknown);
+    final int dataType = results.getInt("DATA_TYPE", 0);
+    final String typeName = results.getString("TYPE_NAME");
+    final int length = results.getInt("LENGTH", 0);
+    final int precision = results.getInt("PRECISION", 0);
+    final boolean isNullable = results
+      .getShort("NULLABLE",
+                (short) DatabaseMetaData.functionNullableUnknown) == (short) DatabaseMetaData.functionNullable;
+    final String remarks = results.getString("REMARKS");
+    column.setOrdinalPosition(ordinalNumber);
+    column.setFunctionColumnType(columnType);
+    column.setColumnDataType(lookupOrCreateColumnDataType(function
+      .getSchema(), dataType, typeName));
+    column.setSize(length);
+    column.setPrecision(precision);
+    column.setNullable(isNullable);
+    column.setRemarks(remarks);
+
+    column.addAttributes(results.getAttributes(getAttributeInclusionRule()));
+
+    function.addColumn(column);
+
+    return true;
+  }
+
   private void createProcedure(final MetadataResultSet results,
                                final NamedObjectList<SchemaReference> schemas,
                                final InclusionRuleFilter<Procedure> procedureFilter)
@@ -402,7 +513,7 @@ final class RoutineRetriever
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema = schemas
-      .lookup(Arrays.asList(catalogName, schemaName));
+      .lookup(new NamedObjectKey(catalogName, schemaName));
     if (!optionalSchema.isPresent())
     {
       return;
@@ -416,12 +527,161 @@ final class RoutineRetriever
       procedure.setReturnType(procedureType);
       procedure.setSpecificName(specificName);
       procedure.setRemarks(remarks);
-      procedure.addAttributes(results.getAttributes());
+      procedure.addAttributes(results
+        .getAttributes(getAttributeInclusionRule()));
 
       catalog.addRoutine(procedure);
     }
   }
 
+  private boolean createProcedureColumn(final MetadataResultSet results,
+                                        final MutableProcedure procedure,
+                                        final InclusionRuleFilter<ProcedureColumn> columnFilter,
+                                        final int ordinalNumber)
+  {
+    final String columnCatalogName = normalizeCatalogName(results
+      .getString("PROCEDURE_CAT"));
+    final String schemaName = normalizeSchemaName(results
+      .getString("PROCEDURE_SCHEM"));
+    final String procedureName = results.getString("PROCEDURE_NAME");
+    final String columnName = results.getString("COLUMN_NAME");
+    final String specificName = results.getString("SPECIFIC_NAME");
+
+    final MutableProcedureColumn column = new MutableProcedureColumn(procedure,
+                                                                     columnName);
+    if (!columnFilter.test(column)
+        || !procedure.getName().equals(procedureName)
+        || !belongsToSchema(procedure, columnCatalogName, schemaName))
+    {
+      return false;
+    }
+    if (!isBlank(specificName)
+        && !specificName.equals(procedure.getSpecificName()))
+    {
+      return false;
+    }
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Retrieving procedure column: %s.%s",
+                                procedure.getFullName(),
+                                columnName));
+
+    final ProcedureColumnType columnType = results
+      .getEnumFromShortId("COLUMN_TYPE", ProcedureColumnType.unknown);
+    final int dataType = results.getInt("DATA_TYPE", 0);
+    final String typeName = results.getString("TYPE_NAME");
+    final int length = results.getInt("LENGTH", 0);
+    final int precision = results.getInt("PRECISION", 0);
+    final boolean isNullable = results
+      .getShort("NULLABLE",
+                (short) DatabaseMetaData.procedureNullableUnknown) == (short) DatabaseMetaData.procedureNullable;
+    final String remarks = results.getString("REMARKS");
+    column.setOrdinalPosition(ordinalNumber);
+    column.setProcedureColumnType(columnType);
+    column.setColumnDataType(lookupOrCreateColumnDataType(procedure
+      .getSchema(), dataType, typeName));
+    column.setSize(length);
+    column.setPrecision(precision);
+    column.setNullable(isNullable);
+    column.setRemarks(remarks);
+
+    column.addAttributes(results.getAttributes(getAttributeInclusionRule()));
+
+    procedure.addColumn(column);
+
+    return true;
+  }
+
+  private void retrieveFunctionColumnsFromDataDictionary(final NamedObjectList<MutableRoutine> allRoutines,
+                                                         final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasFunctionColumnsSql())
+    {
+      throw new SchemaCrawlerSQLException("No function columns SQL provided",
+                                          null);
+    }
+    final Query functionColumnsSql = informationSchemaViews
+      .getFunctionColumnsSql();
+    try (final Statement statement = createStatement(FUNCTION_COLUMNS);
+        final MetadataResultSet results = new MetadataResultSet(functionColumnsSql,
+                                                                statement,
+                                                                getSchemaCrawlerOptions());)
+    {
+      results.setDescription("retrieveFunctionColumnsFromDataDictionary");
+      addFunctionColumns(results, allRoutines, columnFilter);
+    }
+  }
+
+  private void retrieveFunctionColumnsFromMetadata(final NamedObjectList<MutableRoutine> allRoutines,
+                                                   final InclusionRuleFilter<FunctionColumn> columnFilter)
+  {
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (!(routine instanceof MutableFunction))
+      {
+        continue;
+      }
+      final MutableFunction function = (MutableFunction) routine;
+
+      int ordinalNumber = 0;
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getFunctionColumns(function.getSchema().getCatalogName(),
+                            function.getSchema().getName(),
+                            function.getName(),
+                            null),
+                                                                   getStatementTuning(FUNCTION_COLUMNS));)
+      {
+        while (results.next())
+        {
+          if (createFunctionColumn(results,
+                                   function,
+                                   columnFilter,
+                                   ordinalNumber))
+          {
+            ordinalNumber++;
+          }
+        }
+      }
+      catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+      {
+        logSQLFeatureNotSupported(new StringFormat("Could not retrieve columns for function %s",
+                                                   function),
+                                  e);
+      }
+      catch (final SQLException e)
+      {
+        logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve columns for function %s",
+                                                          function),
+                                         e);
+      }
+    }
+  }
+
+  private void retrieveFunctionColumnsFromMetadataForAllFunctions(final NamedObjectList<MutableRoutine> allRoutines,
+                                                                  final InclusionRuleFilter<FunctionColumn> columnFilter)
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getFunctionColumns(null, null, "%", "%"),
+                                                                 getStatementTuning(FUNCTION_COLUMNS));)
+    {
+      results.setDescription("retrieveFunctionColumns");
+      addFunctionColumns(results, allRoutines, columnFilter);
+    }
+    catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+    {
+      logSQLFeatureNotSupported(new StringFormat("Could not retrieve function columns"),
+                                e);
+    }
+    catch (final SQLException e)
+    {
+      logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve function columns"),
+                                       e);
+    }
+  }
+
   private void retrieveFunctionsFromDataDictionary(final NamedObjectList<SchemaReference> schemas,
                                                    final InclusionRuleFilter<Function> functionFilter)
   {
@@ -431,6 +691,7 @@ final class RoutineRetriever
   }
 
   private void retrieveFunctionsFromMetadata(final NamedObjectList<SchemaReference> schemas,
+                                             final String functionNamePattern,
                                              final InclusionRuleFilter<Function> functionFilter)
   {
     for (final Schema schema: schemas)
@@ -443,7 +704,8 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getFunctions(catalogName, schemaName, "%"));)
+        .getFunctions(catalogName, schemaName, functionNamePattern),
+                                                                   getStatementTuning(ROUTINES));)
       {
         results.setDescription("retrieveFunctions");
         while (results.next())
@@ -465,11 +727,13 @@ final class RoutineRetriever
   }
 
   private void retrieveFunctionsFromMetadataForAllFunctions(final NamedObjectList<SchemaReference> schemas,
+                                                            final String functionNamePattern,
                                                             final InclusionRuleFilter<Function> functionFilter)
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getFunctions(null, null, "%"));)
+      .getFunctions(null, null, functionNamePattern),
+                                                                 getStatementTuning(ROUTINES));)
     {
       results.setDescription("retrieveFunctions");
       while (results.next())
@@ -489,6 +753,87 @@ final class RoutineRetriever
     }
   }
 
+  private void retrieveProcedureColumnsFromDataDictionary(final NamedObjectList<MutableRoutine> allRoutines,
+                                                          final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    if (!informationSchemaViews.hasProcedureColumnsSql())
+    {
+      throw new SchemaCrawlerSQLException("No procedure columns SQL provided",
+                                          null);
+    }
+    final Query procedureColumnsSql = informationSchemaViews
+      .getProcedureColumnsSql();
+    try (final Statement statement = createStatement(PROCEDURE_COLUMNS);
+        final MetadataResultSet results = new MetadataResultSet(procedureColumnsSql,
+                                                                statement,
+                                                                getSchemaCrawlerOptions());)
+    {
+      results.setDescription("retrieveProcedureColumnsFromDataDictionary");
+      addProcedureColumns(results, allRoutines, columnFilter);
+    }
+  }
+
+  private void retrieveProcedureColumnsFromMetadata(final NamedObjectList<MutableRoutine> allRoutines,
+                                                    final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (!(routine instanceof MutableProcedure))
+      {
+        continue;
+      }
+      final MutableProcedure procedure = (MutableProcedure) routine;
+
+      int ordinalNumber = 0;
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getProcedureColumns(procedure.getSchema().getCatalogName(),
+                             procedure.getSchema().getName(),
+                             procedure.getName(),
+                             null),
+                                                                   getStatementTuning(PROCEDURE_COLUMNS));)
+      {
+        while (results.next())
+        {
+          if (createProcedureColumn(results,
+                                    procedure,
+                                    columnFilter,
+                                    ordinalNumber))
+          {
+            ordinalNumber++;
+          }
+        }
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerSQLException("Could not retrieve columns for procedure "
+                                            + procedure,
+                                            e);
+      }
+    }
+  }
+
+  private void retrieveProcedureColumnsFromMetadataForAllProcedures(final NamedObjectList<MutableRoutine> allRoutines,
+                                                                    final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getProcedureColumns(null, null, "%", "%"),
+                                                                 getStatementTuning(PROCEDURE_COLUMNS));)
+    {
+      results.setDescription("retrieveProcedureColumns");
+      addProcedureColumns(results, allRoutines, columnFilter);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve procedure columns",
+                                          e);
+    }
+  }
+
   private void retrieveProceduresFromDataDictionary(final NamedObjectList<SchemaReference> schemas,
                                                     final InclusionRuleFilter<Procedure> procedureFilter)
   {
@@ -499,6 +844,7 @@ final class RoutineRetriever
   }
 
   private void retrieveProceduresFromMetadata(final NamedObjectList<SchemaReference> schemas,
+                                              final String procedureNamePattern,
                                               final InclusionRuleFilter<Procedure> procedureFilter)
     throws SQLException
   {
@@ -512,7 +858,8 @@ final class RoutineRetriever
       final String schemaName = schema.getName();
 
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getProcedures(catalogName, schemaName, "%"));)
+        .getProcedures(catalogName, schemaName, procedureNamePattern),
+                                                                   getStatementTuning(ROUTINES));)
       {
         results.setDescription("retrieveProcedures");
         while (results.next())
@@ -524,11 +871,13 @@ final class RoutineRetriever
   }
 
   private void retrieveProceduresFromMetadataForAllProcedures(final NamedObjectList<SchemaReference> schemas,
+                                                              final String procedureNamePattern,
                                                               final InclusionRuleFilter<Procedure> procedureFilter)
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getProcedures(null, null, "%"));)
+      .getProcedures(null, null, procedureNamePattern),
+                                                                 getStatementTuning(ROUTINES));)
     {
       results.setDescription("retrieveProcedures");
       while (results.next())
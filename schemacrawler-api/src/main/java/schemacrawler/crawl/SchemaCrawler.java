@@ -40,8 +40,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.ResultsColumns;
@@ -97,6 +100,57 @@ public final class SchemaCrawler
     return resultColumns;
   }
 
+  private static void crawlColumnAttributes(final MutableCatalog catalog,
+                                            final RetrieverConnection retrieverConnection,
+                                            final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (!infoLevel.isRetrieveTables() || allTables.isEmpty())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlColumnAttributes");
+
+    LOGGER.log(Level.INFO, "Crawling additional column attributes");
+
+    try
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
+        if (infoLevel.isRetrieveAdditionalColumnAttributes())
+        {
+          retrieverExtra.retrieveAdditionalColumnAttributes();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving column attributes",
+                                         e);
+      }
+    }
+  }
+
   private static void crawlColumnDataTypes(final MutableCatalog catalog,
                                            final RetrieverConnection retrieverConnection,
                                            final SchemaCrawlerOptions options)
@@ -256,6 +310,158 @@ public final class SchemaCrawler
     }
   }
 
+  private static void crawlIndexes(final MutableCatalog catalog,
+                                   final RetrieverConnection retrieverConnection,
+                                   final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (!infoLevel.isRetrieveTables() || allTables.isEmpty())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlIndexes");
+
+    LOGGER.log(Level.INFO, "Crawling indexes and table constraints");
+
+    try
+    {
+      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
+                                                               catalog,
+                                                               options);
+      final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(retrieverConnection,
+                                                                                        catalog,
+                                                                                        options);
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      stopWatch.time("retrieveIndexes", () -> {
+        LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
+        if (infoLevel.isRetrieveTableColumns())
+        {
+          if (infoLevel.isRetrieveIndexes())
+          {
+            indexRetriever.retrieveIndexes(allTables);
+          }
+          // Setting primary keys will use indexes with a similar name,
+          // if available
+          indexRetriever.retrievePrimaryKeys(allTables);
+          if (infoLevel.isRetrievePrimaryKeyDefinitions())
+          {
+            retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
+          }
+        }
+        return null;
+      });
+
+      stopWatch.time("retrieveTableConstraintInformation", () -> {
+        if (infoLevel.isRetrieveTableConstraintInformation())
+        {
+          constraintRetriever.retrieveTableConstraintInformation();
+        }
+        return null;
+      });
+      stopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
+        if (infoLevel.isRetrieveTableConstraintDefinitions())
+        {
+          constraintRetriever.retrieveTableConstraintDefinitions();
+        }
+        return null;
+      });
+      stopWatch.time("retrieveIndexInformation", () -> {
+        if (infoLevel.isRetrieveIndexInformation())
+        {
+          retrieverExtra.retrieveIndexInformation();
+          if (infoLevel.isRetrieveIndexColumnInformation())
+          {
+            retrieverExtra.retrieveIndexColumnInformation();
+          }
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving index information",
+                                         e);
+      }
+    }
+  }
+
+  private static void crawlPrivileges(final MutableCatalog catalog,
+                                      final RetrieverConnection retrieverConnection,
+                                      final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (!infoLevel.isRetrieveTables() || allTables.isEmpty())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlPrivileges");
+
+    LOGGER.log(Level.INFO, "Crawling table and column privileges");
+
+    try
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      stopWatch.time("retrieveTablePrivileges", () -> {
+        if (infoLevel.isRetrieveTablePrivileges())
+        {
+          retrieverExtra.retrieveTablePrivileges();
+        }
+        return null;
+      });
+      stopWatch.time("retrieveTableColumnPrivileges", () -> {
+        if (infoLevel.isRetrieveTableColumnPrivileges())
+        {
+          retrieverExtra.retrieveTableColumnPrivileges();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving privilege information",
+                                         e);
+      }
+    }
+  }
+
   private static void crawlRoutines(final MutableCatalog catalog,
                                     final RetrieverConnection retrieverConnection,
                                     final SchemaCrawlerOptions options)
@@ -311,28 +517,21 @@ public final class SchemaCrawler
       }
 
       stopWatch.time("retrieveRoutineColumns", () -> {
-        LOGGER.log(Level.INFO, "Retrieving routine columns");
-        for (final MutableRoutine routine: allRoutines)
+        if (infoLevel.isRetrieveRoutineColumns())
         {
-          if (infoLevel.isRetrieveRoutineColumns())
+          LOGGER.log(Level.INFO, "Retrieving routine columns");
+          if (routineTypes.contains(RoutineType.procedure))
           {
-            if (routine instanceof MutableProcedure
-                && routineTypes.contains(RoutineType.procedure))
-            {
-              retriever
-                .retrieveProcedureColumns((MutableProcedure) routine,
-                                          options
-                                            .getRoutineColumnInclusionRule());
-            }
+            retriever.retrieveProcedureColumns(allRoutines,
+                                               options
+                                                 .getRoutineColumnInclusionRule());
+          }
 
-            if (routine instanceof MutableFunction
-                && routineTypes.contains(RoutineType.function))
-            {
-              retriever
-                .retrieveFunctionColumns((MutableFunction) routine,
-                                         options
-                                           .getRoutineColumnInclusionRule());
-            }
+          if (routineTypes.contains(RoutineType.function))
+          {
+            retriever.retrieveFunctionColumns(allRoutines,
+                                              options
+                                                .getRoutineColumnInclusionRule());
           }
         }
         return null;
@@ -538,9 +737,75 @@ public final class SchemaCrawler
     }
   }
 
+  private static void crawlTableDefinitions(final MutableCatalog catalog,
+                                            final RetrieverConnection retrieverConnection,
+                                            final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (!infoLevel.isRetrieveTables() || allTables.isEmpty())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlTableDefinitions");
+
+    LOGGER.log(Level.INFO, "Crawling table and view definitions");
+
+    try
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+
+      stopWatch.time("retrieveViewInformation", () -> {
+        if (infoLevel.isRetrieveViewInformation())
+        {
+          retrieverExtra.retrieveViewInformation();
+        }
+        return null;
+      });
+      stopWatch.time("retrieveTableDefinitions", () -> {
+        if (infoLevel.isRetrieveTableDefinitionsInformation())
+        {
+          retrieverExtra.retrieveTableDefinitions();
+        }
+        return null;
+      });
+      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
+        if (infoLevel.isRetrieveAdditionalTableAttributes())
+        {
+          retrieverExtra.retrieveAdditionalTableAttributes();
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving table definitions",
+                                         e);
+      }
+    }
+  }
+
   private static void crawlTables(final MutableCatalog catalog,
                                   final RetrieverConnection retrieverConnection,
-                                  final SchemaCrawlerOptions options)
+                                  final SchemaCrawlerOptions options,
+                                  final TableChanges tableChanges)
     throws SchemaCrawlerException
   {
 
@@ -565,15 +830,9 @@ public final class SchemaCrawler
       final TableColumnRetriever columnRetriever = new TableColumnRetriever(retrieverConnection,
                                                                             catalog,
                                                                             options);
-      final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection,
-                                                               catalog,
-                                                               options);
       final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
                                                                       catalog,
                                                                       options);
-      final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(retrieverConnection,
-                                                                                        catalog,
-                                                                                        options);
       final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
                                                                      catalog,
                                                                      options);
@@ -588,6 +847,15 @@ public final class SchemaCrawler
         return null;
       });
 
+      if (tableChanges.isRetrieveChangeIndicators())
+      {
+        stopWatch.time("retrieveTableChangeIndicators", () -> {
+          retrieverExtra.retrieveTableChangeIndicators();
+          tableChanges.separateUnchangedTables(catalog);
+          return null;
+        });
+      }
+
       final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
       LOGGER.log(Level.INFO,
                  new StringFormat("Retrieved %d tables", allTables.size()));
@@ -626,6 +894,14 @@ public final class SchemaCrawler
         return null;
       });
 
+      if (tableChanges.hasUnchangedTables())
+      {
+        // Tables are filtered and sorted once unchanged tables are
+        // merged in
+        LOGGER.log(Level.INFO, stopWatch.stringify());
+        return;
+      }
+
       stopWatch.time("filterAndSortTables", () -> {
         // Filter the list of tables based on grep criteria, and
         // parent-child relationships
@@ -638,39 +914,49 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveIndexes", () -> {
-        LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
-        if (infoLevel.isRetrieveTableColumns())
-        {
-          if (infoLevel.isRetrieveIndexes())
-          {
-            indexRetriever.retrieveIndexes(allTables);
-          }
-          // Setting primary keys will use indexes with a similar name,
-          // if available
-          indexRetriever.retrievePrimaryKeys(allTables);
-          if (infoLevel.isRetrievePrimaryKeyDefinitions())
-          {
-            retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
-          }
-        }
-        return null;
-      });
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      if (e instanceof SchemaCrawlerSQLException)
+      {
+        throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      }
+      else if (e instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) e;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Exception retrieving table information",
+                                         e);
+      }
+    }
+  }
+
+  private static void crawlTriggers(final MutableCatalog catalog,
+                                    final RetrieverConnection retrieverConnection,
+                                    final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    if (!infoLevel.isRetrieveTables() || allTables.isEmpty())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlTriggers");
+
+    LOGGER.log(Level.INFO, "Crawling triggers");
+
+    try
+    {
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
 
-      stopWatch.time("retrieveTableConstraintInformation", () -> {
-        if (infoLevel.isRetrieveTableConstraintInformation())
-        {
-          constraintRetriever.retrieveTableConstraintInformation();
-        }
-        return null;
-      });
-      stopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
-        if (infoLevel.isRetrieveTableConstraintDefinitions())
-        {
-          constraintRetriever.retrieveTableConstraintDefinitions();
-        }
-        return null;
-      });
       stopWatch.time("retrieveTriggerInformation", () -> {
         if (infoLevel.isRetrieveTriggerInformation())
         {
@@ -678,61 +964,6 @@ public final class SchemaCrawler
         }
         return null;
       });
-      stopWatch.time("retrieveViewInformation", () -> {
-        if (infoLevel.isRetrieveViewInformation())
-        {
-          retrieverExtra.retrieveViewInformation();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTableDefinitions", () -> {
-        if (infoLevel.isRetrieveTableDefinitionsInformation())
-        {
-          retrieverExtra.retrieveTableDefinitions();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveIndexInformation", () -> {
-        if (infoLevel.isRetrieveIndexInformation())
-        {
-          retrieverExtra.retrieveIndexInformation();
-          if (infoLevel.isRetrieveIndexColumnInformation())
-          {
-            retrieverExtra.retrieveIndexColumnInformation();
-          }
-        }
-        return null;
-      });
-
-      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalTableAttributes())
-        {
-          retrieverExtra.retrieveAdditionalTableAttributes();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTablePrivileges", () -> {
-        if (infoLevel.isRetrieveTablePrivileges())
-        {
-          retrieverExtra.retrieveTablePrivileges();
-        }
-        return null;
-      });
-
-      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalColumnAttributes())
-        {
-          retrieverExtra.retrieveAdditionalColumnAttributes();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTableColumnPrivileges", () -> {
-        if (infoLevel.isRetrieveTableColumnPrivileges())
-        {
-          retrieverExtra.retrieveTableColumnPrivileges();
-        }
-        return null;
-      });
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
@@ -748,13 +979,57 @@ public final class SchemaCrawler
       }
       else
       {
-        throw new SchemaCrawlerException("Exception retrieving table information",
+        throw new SchemaCrawlerException("Exception retrieving trigger information",
                                          e);
       }
     }
   }
 
+  private static void mergeUnchangedTables(final MutableCatalog catalog,
+                                           final SchemaCrawlerOptions options,
+                                           final TableChanges tableChanges)
+    throws SchemaCrawlerException
+  {
+    if (!tableChanges.hasUnchangedTables())
+    {
+      return;
+    }
+
+    final StopWatch stopWatch = new StopWatch("mergeUnchangedTables");
+
+    LOGGER.log(Level.INFO, "Merging unchanged tables from previous catalog");
+
+    try
+    {
+      stopWatch.time("mergeUnchangedTables", () -> {
+        tableChanges.mergeUnchangedTables(catalog);
+        return null;
+      });
+
+      stopWatch.time("filterAndSortTables", () -> {
+        // Filter the list of tables based on grep criteria, and
+        // parent-child relationships
+        ((Reducible) catalog).reduce(Table.class, getTableReducer(options));
+
+        // Sort the remaining tables
+        final TablesGraph tablesGraph = new TablesGraph(catalog
+          .getAllTables());
+        tablesGraph.setTablesSortIndexes();
+
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception merging unchanged tables",
+                                       e);
+    }
+  }
+
   private final Connection connection;
+  private final DataSource dataSource;
   private final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
 
   /**
@@ -772,6 +1047,29 @@ public final class SchemaCrawler
     throws SchemaCrawlerException
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    dataSource = null;
+    this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
+                                                          "No database specific overrides provided");
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a data source. Connections
+   * are obtained from the data source as needed, so the crawl can run
+   * in parallel, if requested by the SchemaCrawler options.
+   *
+   * @param dataSource
+   *        A data source, or connection pool.
+   * @param databaseSpecificOverrideOptions
+   *        Database specific overrides
+   * @throws SchemaCrawlerException
+   *         On a SchemaCrawler exception
+   */
+  public SchemaCrawler(final DataSource dataSource,
+                       final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws SchemaCrawlerException
+  {
+    connection = null;
+    this.dataSource = requireNonNull(dataSource, "No data source specified");
     this.databaseSpecificOverrideOptions = requireNonNull(databaseSpecificOverrideOptions,
                                                           "No database specific overrides provided");
   }
@@ -787,31 +1085,232 @@ public final class SchemaCrawler
    */
   public Catalog crawl(final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    return crawl(options, null);
+  }
+
+  /**
+   * Crawls the database incrementally, starting from a previous
+   * catalog, such as one loaded from an offline snapshot. Tables are
+   * always listed, but columns, indexes, foreign keys and other details
+   * are only crawled for tables whose change indicator differs from the
+   * one in the previous catalog. Unchanged tables are carried over
+   * from the previous catalog, which should not be used afterwards.
+   * Tables are only carried over if the previous catalog was crawled
+   * with the same options, and with change indicators, either
+   * incrementally, or with
+   * {@link SchemaCrawlerOptions#setRetrieveTableChangeIndicators(boolean)}.
+   * If the database connector does not supply change indicators, all
+   * tables are crawled.
+   *
+   * @param options
+   *        SchemaCrawler options that control what metadata is returned
+   * @param previousCatalog
+   *        Catalog from a previous crawl, or null to crawl all tables
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawl(final SchemaCrawlerOptions options,
+                       final Catalog previousCatalog)
+    throws SchemaCrawlerException
   {
     final MutableCatalog catalog = new MutableCatalog("catalog");
-    try
+
+    final SchemaCrawlerOptions schemaCrawlerOptions;
+    if (options == null)
     {
-      final SchemaCrawlerOptions schemaCrawlerOptions;
-      if (options == null)
+      schemaCrawlerOptions = new SchemaCrawlerOptions();
+    }
+    else
+    {
+      schemaCrawlerOptions = options;
+    }
+    final TableChanges tableChanges = new TableChanges(previousCatalog,
+                                                       schemaCrawlerOptions);
+
+    final int crawlThreads = schemaCrawlerOptions.getCrawlThreads();
+    if (crawlThreads > 1 && dataSource != null)
+    {
+      crawlInParallel(catalog,
+                      schemaCrawlerOptions,
+                      tableChanges,
+                      crawlThreads);
+    }
+    else
+    {
+      if (crawlThreads > 1)
+      {
+        LOGGER
+          .log(Level.WARNING,
+               "Cannot crawl in parallel without a data source, so crawling sequentially");
+      }
+
+      if (dataSource == null)
       {
-        schemaCrawlerOptions = new SchemaCrawlerOptions();
+        crawlSequentially(catalog,
+                          connection,
+                          schemaCrawlerOptions,
+                          tableChanges);
       }
       else
       {
-        schemaCrawlerOptions = options;
+        try (final Connection dataSourceConnection = dataSource
+          .getConnection();)
+        {
+          crawlSequentially(catalog,
+                            dataSourceConnection,
+                            schemaCrawlerOptions,
+                            tableChanges);
+        }
+        catch (final SQLException e)
+        {
+          throw new SchemaCrawlerException("Database access exception", e);
+        }
       }
+    }
+
+    return catalog;
+  }
+
+  /**
+   * Crawls independent phases concurrently, each on a connection of
+   * its own. Routines, sequences and database information do not
+   * depend on tables, and the details of tables, such as indexes,
+   * triggers and privileges only need the final list of tables. Each
+   * phase only modifies objects that other concurrent phases do not
+   * touch, except for column data types, which are guarded by the
+   * catalog.
+   */
+  private void crawlInParallel(final MutableCatalog catalog,
+                               final SchemaCrawlerOptions options,
+                               final TableChanges tableChanges,
+                               final int crawlThreads)
+    throws SchemaCrawlerException
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Crawling in parallel, with %d threads",
+                                crawlThreads));
+
+    try (final ParallelCrawlExecutor executor = new ParallelCrawlExecutor(dataSource,
+                                                                          databaseSpecificOverrideOptions,
+                                                                          crawlThreads);)
+    {
+      final CompletableFuture<Void> schemas = executor
+        .submit("crawlSchemas",
+                retrieverConnection -> crawlSchemas(catalog,
+                                                    retrieverConnection,
+                                                    options));
+
+      executor.submit("crawlDatabaseInfo",
+                      retrieverConnection -> crawlDatabaseInfo(catalog,
+                                                               retrieverConnection,
+                                                               options),
+                      schemas);
+      final CompletableFuture<Void> columnDataTypes = executor
+        .submit("crawlColumnDataTypes",
+                retrieverConnection -> crawlColumnDataTypes(catalog,
+                                                            retrieverConnection,
+                                                            options),
+                schemas);
+
+      final CompletableFuture<Void> tables = executor
+        .submit("crawlTables",
+                retrieverConnection -> crawlTables(catalog,
+                                                   retrieverConnection,
+                                                   options,
+                                                   tableChanges),
+                columnDataTypes);
+      final CompletableFuture<Void> indexes = executor
+        .submit("crawlIndexes",
+                retrieverConnection -> crawlIndexes(catalog,
+                                                    retrieverConnection,
+                                                    options),
+                tables);
+      final CompletableFuture<Void> triggers = executor
+        .submit("crawlTriggers",
+                retrieverConnection -> crawlTriggers(catalog,
+                                                     retrieverConnection,
+                                                     options),
+                tables);
+      final CompletableFuture<Void> tableDefinitions = executor
+        .submit("crawlTableDefinitions",
+                retrieverConnection -> crawlTableDefinitions(catalog,
+                                                             retrieverConnection,
+                                                             options),
+                tables);
+      final CompletableFuture<Void> privileges = executor
+        .submit("crawlPrivileges",
+                retrieverConnection -> crawlPrivileges(catalog,
+                                                       retrieverConnection,
+                                                       options),
+                tables);
+      final CompletableFuture<Void> columnAttributes = executor
+        .submit("crawlColumnAttributes",
+                retrieverConnection -> crawlColumnAttributes(catalog,
+                                                             retrieverConnection,
+                                                             options),
+                tables);
+      // Unchanged tables are merged in once changed tables are crawled
+      final CompletableFuture<Void> mergedTables = executor
+        .submitWithoutConnection("mergeUnchangedTables",
+                                 () -> mergeUnchangedTables(catalog,
+                                                            options,
+                                                            tableChanges),
+                                 indexes,
+                                 triggers,
+                                 tableDefinitions,
+                                 privileges,
+                                 columnAttributes);
+
+      final CompletableFuture<Void> routines = executor
+        .submit("crawlRoutines",
+                retrieverConnection -> crawlRoutines(catalog,
+                                                     retrieverConnection,
+                                                     options),
+                columnDataTypes);
+      // Synonyms refer to tables and routines, and in an incremental
+      // crawl, tables are complete only once unchanged tables are merged
+      executor.submit("crawlSynonyms",
+                      retrieverConnection -> crawlSynonyms(catalog,
+                                                           retrieverConnection,
+                                                           options),
+                      tableChanges.isIncremental()? mergedTables: tables,
+                      routines);
+      executor.submit("crawlSequences",
+                      retrieverConnection -> crawlSequences(catalog,
+                                                            retrieverConnection,
+                                                            options),
+                      schemas);
+
+      executor.await();
+    }
+  }
+
+  private void crawlSequentially(final MutableCatalog catalog,
+                                 final Connection connection,
+                                 final SchemaCrawlerOptions options,
+                                 final TableChanges tableChanges)
+    throws SchemaCrawlerException
+  {
+    try
+    {
       final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
                                                                               databaseSpecificOverrideOptions);
 
-      crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlTables(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlRoutines(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
-
-      return catalog;
+      crawlSchemas(catalog, retrieverConnection, options);
+      crawlDatabaseInfo(catalog, retrieverConnection, options);
+      crawlColumnDataTypes(catalog, retrieverConnection, options);
+      crawlTables(catalog, retrieverConnection, options, tableChanges);
+      crawlIndexes(catalog, retrieverConnection, options);
+      crawlTriggers(catalog, retrieverConnection, options);
+      crawlTableDefinitions(catalog, retrieverConnection, options);
+      crawlPrivileges(catalog, retrieverConnection, options);
+      crawlColumnAttributes(catalog, retrieverConnection, options);
+      mergeUnchangedTables(catalog, options, tableChanges);
+      crawlRoutines(catalog, retrieverConnection, options);
+      crawlSynonyms(catalog, retrieverConnection, options);
+      crawlSequences(catalog, retrieverConnection, options);
     }
     catch (final SQLException e)
     {
@@ -29,7 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.sql.Connection;
+import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
+
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashSet;
@@ -175,7 +176,8 @@ final class SchemaRetriever
     if (supportsSchemas)
     {
       try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getSchemas());)
+        .getSchemas(),
+                                                                   getStatementTuning(SCHEMATA));)
       {
         results.setDescription("retrieveAllSchemas");
         while (results.next())
@@ -238,12 +240,10 @@ final class SchemaRetriever
     }
     final Query schemataSql = informationSchemaViews.getSchemataSql();
 
-    final Connection connection = getDatabaseConnection();
-
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(SCHEMATA);
         final MetadataResultSet results = new MetadataResultSet(schemataSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveAllSchemasFromInformationSchemaViews");
       while (results.next())
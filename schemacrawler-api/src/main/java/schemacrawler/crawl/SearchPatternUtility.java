@@ -0,0 +1,173 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InclusionRuleWithRegularExpression;
+import sf.util.UtilityMarker;
+
+/**
+ * Compiles inclusion rules into JDBC search patterns, so that database
+ * metadata calls can leave out objects that would be excluded anyway.
+ * A search pattern only pre-filters objects by their simple names, and
+ * may match more objects than the inclusion rule, but never fewer.
+ * Objects are still checked against the inclusion rule after they are
+ * retrieved.
+ */
+@UtilityMarker
+final class SearchPatternUtility
+{
+
+  /**
+   * Gets a JDBC search pattern for the simple names of objects included
+   * by an inclusion rule. A search pattern is only found for regular
+   * expressions of the form <code>&lt;prefix&gt;\.&lt;name&gt;</code>,
+   * where the name is made up of letters, digits, underscores, escaped
+   * dollar signs and <code>\w</code>, with optional quantifiers. The
+   * name then has to match the last part of the full name of an
+   * object, after the last dot. Inclusion rules that are not regular
+   * expressions, or any other regular expressions, do not have a search
+   * pattern.
+   *
+   * @param inclusionRule
+   *        Inclusion rule
+   * @return JDBC search pattern, if one could be found
+   */
+  static Optional<String> toSearchPattern(final InclusionRule inclusionRule)
+  {
+    if (!(inclusionRule instanceof InclusionRuleWithRegularExpression))
+    {
+      return Optional.empty();
+    }
+    final Pattern pattern = ((InclusionRuleWithRegularExpression) inclusionRule)
+      .getInclusionPattern();
+    if (pattern == null || pattern.flags() != 0)
+    {
+      return Optional.empty();
+    }
+
+    final String regex = pattern.pattern();
+    final int separator = findLastSeparator(regex);
+    if (separator < 0)
+    {
+      return Optional.empty();
+    }
+    // Alternatives, or embedded flags, before the last separator change
+    // the meaning of the name
+    final String prefix = regex.substring(0, separator);
+    if (prefix.indexOf('|') >= 0 || prefix.contains("(?"))
+    {
+      return Optional.empty();
+    }
+
+    final String name = regex.substring(separator + 2);
+    final StringBuilder searchPattern = new StringBuilder();
+    int i = 0;
+    while (i < name.length())
+    {
+      final char ch = name.charAt(i);
+      final String token;
+      if (isNameCharacter(ch))
+      {
+        token = String.valueOf(ch);
+        i++;
+      }
+      else if (name.startsWith("\\w", i))
+      {
+        token = "_";
+        i = i + 2;
+      }
+      else if (name.startsWith("\\$", i))
+      {
+        token = "$";
+        i = i + 2;
+      }
+      else
+      {
+        return Optional.empty();
+      }
+
+      if (i < name.length() && "*+?".indexOf(name.charAt(i)) >= 0)
+      {
+        // Any number of characters, none of which can be a dot
+        searchPattern.append('%');
+        i++;
+      }
+      else
+      {
+        searchPattern.append(token);
+      }
+    }
+
+    if (searchPattern.length() == 0)
+    {
+      return Optional.empty();
+    }
+    return Optional.of(searchPattern.toString());
+  }
+
+  /**
+   * Finds the last escaped dot in a regular expression, which separates
+   * the simple name from the rest of the full name.
+   */
+  private static int findLastSeparator(final String regex)
+  {
+    int separator = regex.lastIndexOf("\\.");
+    while (separator >= 0)
+    {
+      // Make sure that the backslash is not itself escaped
+      int backslashes = 0;
+      for (int i = separator; i >= 0 && regex.charAt(i) == '\\'; i--)
+      {
+        backslashes++;
+      }
+      if (backslashes % 2 == 1)
+      {
+        return separator;
+      }
+      separator = regex.lastIndexOf("\\.", separator - 1);
+    }
+    return -1;
+  }
+
+  private static boolean isNameCharacter(final char ch)
+  {
+    return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z'
+           || ch >= '0' && ch <= '9' || ch == '_';
+  }
+
+  private SearchPatternUtility()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import schemacrawler.schema.Schema;
+
+/**
+ * Stands in for a database object that is owned by another section of
+ * a sectioned catalog snapshot. References are resolved against the
+ * catalog as the sections are read back.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SectionReference
+  implements Serializable
+{
+
+  enum SectionReferenceType
+  {
+   columnDataType,
+   table,
+   column;
+  }
+
+  private static final long serialVersionUID = -6040915394420470542L;
+
+  private final SectionReferenceType type;
+  private final Schema schema;
+  private final String tableName;
+  private final String name;
+
+  SectionReference(final SectionReferenceType type,
+                   final Schema schema,
+                   final String tableName,
+                   final String name)
+  {
+    this.type = requireNonNull(type, "No section reference type provided");
+    this.schema = requireNonNull(schema, "No schema provided");
+    this.tableName = tableName;
+    this.name = requireNonNull(name, "No name provided");
+  }
+
+  @Override
+  public boolean equals(final Object obj)
+  {
+    if (this == obj)
+    {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass())
+    {
+      return false;
+    }
+    final SectionReference other = (SectionReference) obj;
+    return type == other.type && schema.equals(other.schema)
+           && Objects.equals(tableName, other.tableName)
+           && name.equals(other.name);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(type, schema, tableName, name);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s <%s.%s%s>",
+                         type,
+                         schema.getFullName(),
+                         tableName == null? "": tableName + ".",
+                         name);
+  }
+
+  String getName()
+  {
+    return name;
+  }
+
+  Schema getSchema()
+  {
+    return schema;
+  }
+
+  String getTableName()
+  {
+    return tableName;
+  }
+
+  SectionReferenceType getType()
+  {
+    return type;
+  }
+
+}
@@ -0,0 +1,546 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.NamedObjectKey;
+
+/**
+ * Reads back a catalog that was written in sections by a
+ * {@link SectionedCatalogWriter}. The catalog section is read first,
+ * followed by any number of schema sections, in any order. References
+ * to objects in schema sections that have not been read are resolved to
+ * partial objects, in the same way as references to tables that are not
+ * included in a crawl.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SectionedCatalogReader
+{
+
+  /**
+   * Classes that can be read from a snapshot. These are the classes of
+   * the catalog model, and the specific JDK types that the model, and
+   * attribute values from database metadata, need.
+   */
+  private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays
+    .asList(
+            // Catalog model
+            "schemacrawler.crawl.AbstractColumn",
+            "schemacrawler.crawl.AbstractDatabaseObject",
+            "schemacrawler.crawl.AbstractDependantObject",
+            "schemacrawler.crawl.AbstractNamedObject",
+            "schemacrawler.crawl.AbstractNamedObjectWithAttributes",
+            "schemacrawler.crawl.AbstractProperty",
+            "schemacrawler.crawl.AttributeRow",
+            "schemacrawler.crawl.BaseColumnReference",
+            "schemacrawler.crawl.ColumnPartial",
+            "schemacrawler.crawl.ColumnReference",
+            "schemacrawler.crawl.DatabaseObjectReference",
+            "schemacrawler.crawl.FunctionPartial",
+            "schemacrawler.crawl.FunctionReference",
+            "schemacrawler.crawl.ImmutableCrawlInfo",
+            "schemacrawler.crawl.ImmutableDatabaseProperty",
+            "schemacrawler.crawl.ImmutableJdbcDriverProperty",
+            "schemacrawler.crawl.ImmutableSchemaCrawlerInfo",
+            "schemacrawler.crawl.MutableCatalog",
+            "schemacrawler.crawl.MutableColumn",
+            "schemacrawler.crawl.MutableColumnDataType",
+            "schemacrawler.crawl.MutableDatabaseInfo",
+            "schemacrawler.crawl.MutableForeignKey",
+            "schemacrawler.crawl.MutableForeignKeyColumnReference",
+            "schemacrawler.crawl.MutableFunction",
+            "schemacrawler.crawl.MutableFunctionColumn",
+            "schemacrawler.crawl.MutableIndex",
+            "schemacrawler.crawl.MutableIndexColumn",
+            "schemacrawler.crawl.MutableJdbcDriverInfo",
+            "schemacrawler.crawl.MutablePrimaryKey",
+            "schemacrawler.crawl.MutablePrivilege",
+            "schemacrawler.crawl.MutablePrivilege$PrivilegeGrant",
+            "schemacrawler.crawl.MutableProcedure",
+            "schemacrawler.crawl.MutableProcedureColumn",
+            "schemacrawler.crawl.MutableRoutine",
+            "schemacrawler.crawl.MutableRoutineColumn",
+            "schemacrawler.crawl.MutableSequence",
+            "schemacrawler.crawl.MutableSynonym",
+            "schemacrawler.crawl.MutableTable",
+            "schemacrawler.crawl.MutableTableConstraint",
+            "schemacrawler.crawl.MutableTableConstraintColumn",
+            "schemacrawler.crawl.MutableTrigger",
+            "schemacrawler.crawl.MutableView",
+            "schemacrawler.crawl.NamedObjectList",
+            "schemacrawler.crawl.ProcedurePartial",
+            "schemacrawler.crawl.ProcedureReference",
+            "schemacrawler.crawl.RoutinePartial",
+            "schemacrawler.crawl.SectionReference",
+            "schemacrawler.crawl.SectionReference$SectionReferenceType",
+            // Referenced object of a synonym
+            "schemacrawler.crawl.SynonymRetriever$UnknownDatabaseObject",
+            "schemacrawler.crawl.TablePartial",
+            "schemacrawler.crawl.TableReference",
+            "schemacrawler.schema.ActionOrientationType",
+            "schemacrawler.schema.CheckOptionType",
+            "schemacrawler.schema.ConditionTimingType",
+            "schemacrawler.schema.EventManipulationType",
+            "schemacrawler.schema.ForeignKeyDeferrability",
+            "schemacrawler.schema.ForeignKeyUpdateRule",
+            "schemacrawler.schema.FunctionColumnType",
+            "schemacrawler.schema.FunctionReturnType",
+            "schemacrawler.schema.IndexColumnSortSequence",
+            "schemacrawler.schema.IndexType",
+            "schemacrawler.schema.JavaSqlType",
+            "schemacrawler.schema.JavaSqlType$JavaSqlTypeGroup",
+            "schemacrawler.schema.NamedObjectKey",
+            "schemacrawler.schema.ProcedureColumnType",
+            "schemacrawler.schema.ProcedureReturnType",
+            "schemacrawler.schema.RoutineBodyType",
+            "schemacrawler.schema.RoutineType",
+            "schemacrawler.schema.SchemaReference",
+            "schemacrawler.schema.SearchableType",
+            "schemacrawler.schema.TableConstraintType",
+            "schemacrawler.schema.TableRelationshipType",
+            "schemacrawler.schema.TableType",
+            // Values
+            "[B",
+            "[C",
+            "[Ljava.lang.Object;",
+            "[Ljava.lang.String;",
+            "java.lang.Boolean",
+            "java.lang.Byte",
+            "java.lang.Double",
+            "java.lang.Enum",
+            "java.lang.Float",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Number",
+            "java.lang.Short",
+            "java.lang.String",
+            "java.lang.StringBuilder",
+            "java.math.BigDecimal",
+            "java.math.BigInteger",
+            "java.sql.Date",
+            "java.sql.RowIdLifetime",
+            "java.sql.Time",
+            "java.sql.Timestamp",
+            "java.time.Ser",
+            "java.util.Date",
+            // Collections
+            "java.util.ArrayList",
+            "java.util.Arrays$ArrayList",
+            "java.util.Collections$EmptyList",
+            "java.util.Collections$EmptyMap",
+            "java.util.Collections$EmptySet",
+            "java.util.Collections$UnmodifiableCollection",
+            "java.util.Collections$UnmodifiableList",
+            "java.util.Collections$UnmodifiableMap",
+            "java.util.Collections$UnmodifiableSet",
+            "java.util.HashMap",
+            "java.util.HashSet",
+            "java.util.LinkedHashMap",
+            "java.util.LinkedHashSet",
+            "java.util.TreeMap",
+            "java.util.TreeSet"));
+
+  /**
+   * Serializable classes that the default type map maps column data
+   * types to, which can only be read as class literals, and never as
+   * objects.
+   */
+  private static final Set<String> CLASS_LITERALS = new HashSet<>(Arrays
+    .asList("java.net.URL"));
+
+  private final class SectionInputStream
+    extends ObjectInputStream
+  {
+
+    SectionInputStream(final InputStream in)
+      throws IOException
+    {
+      super(in);
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj)
+      throws IOException
+    {
+      if (obj instanceof SectionReference)
+      {
+        return resolve((SectionReference) obj);
+      }
+      else if (obj != null
+               && CLASS_LITERALS.contains(obj.getClass().getName()))
+      {
+        throw new InvalidClassException(obj.getClass().getName(),
+                                        "Only allowed as a type in a catalog snapshot");
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException
+    {
+      // Only allow classes that can legitimately be part of a catalog
+      final String className = desc.getName();
+      if (ALLOWED_CLASSES.contains(className)
+          || CLASS_LITERALS.contains(className))
+      {
+        return super.resolveClass(desc);
+      }
+      // Types mapped to column data types from the database may be
+      // anything, but only a class that is not serializable can be
+      // read without being in the allowed list, since it can appear in
+      // a snapshot as a class literal, but cannot be instantiated
+      final Class<?> type = super.resolveClass(desc);
+      if (Serializable.class.isAssignableFrom(type))
+      {
+        throw new InvalidClassException(className,
+                                        "Not allowed in a catalog snapshot");
+      }
+      return type;
+    }
+
+    @Override
+    protected Class<?> resolveProxyClass(final String[] interfaces)
+      throws IOException, ClassNotFoundException
+    {
+      throw new InvalidClassException("Proxy classes are not allowed in a catalog snapshot");
+    }
+
+  }
+
+  private final Catalog catalog;
+  private final MutableCatalog mutableCatalog;
+  private final Map<SectionReference, DatabaseObject> partials;
+  private final Map<DatabaseObject, SectionReference> partialReferences;
+  private boolean isResolved;
+
+  /**
+   * Reads the catalog section.
+   *
+   * @param in
+   *        Input stream for the catalog section
+   * @throws IOException
+   *         On an exception
+   */
+  public SectionedCatalogReader(final InputStream in)
+    throws IOException
+  {
+    requireNonNull(in, "No input stream provided");
+
+    catalog = (Catalog) readObject(new SectionInputStream(in));
+    if (catalog instanceof MutableCatalog)
+    {
+      mutableCatalog = (MutableCatalog) catalog;
+      // Objects from the schema sections were written as nulls
+      mutableCatalog.getAllTables().filter(Objects::nonNull);
+      mutableCatalog.getAllRoutines().filter(Objects::nonNull);
+      mutableCatalog.getAllSynonyms().filter(Objects::nonNull);
+      mutableCatalog.getAllSequences().filter(Objects::nonNull);
+    }
+    else
+    {
+      mutableCatalog = null;
+    }
+
+    partials = new HashMap<>();
+    partialReferences = new IdentityHashMap<>();
+  }
+
+  /**
+   * Gets the catalog, with references between the schema sections that
+   * were read resolved.
+   *
+   * @return Catalog
+   */
+  public Catalog getCatalog()
+  {
+    if (!isResolved && mutableCatalog != null)
+    {
+      resolvePartials();
+      isResolved = true;
+    }
+    return catalog;
+  }
+
+  /**
+   * Reads a schema section, and adds the tables, routines, synonyms and
+   * sequences in it to the catalog.
+   *
+   * @param in
+   *        Input stream for the schema section
+   * @throws IOException
+   *         On an exception
+   */
+  public void readSchemaSection(final InputStream in)
+    throws IOException
+  {
+    requireNonNull(in, "No input stream provided");
+    if (mutableCatalog == null)
+    {
+      throw new InvalidObjectException("Catalog was not written in sections");
+    }
+
+    final SectionInputStream objectIn = new SectionInputStream(in);
+    for (final Object table: (List<?>) readObject(objectIn))
+    {
+      mutableCatalog.addTable((MutableTable) table);
+    }
+    for (final Object routine: (List<?>) readObject(objectIn))
+    {
+      mutableCatalog.addRoutine((MutableRoutine) routine);
+    }
+    for (final Object synonym: (List<?>) readObject(objectIn))
+    {
+      mutableCatalog.addSynonym((MutableSynonym) synonym);
+    }
+    for (final Object sequence: (List<?>) readObject(objectIn))
+    {
+      mutableCatalog.addSequence((MutableSequence) sequence);
+    }
+    isResolved = false;
+  }
+
+  private boolean isPartial(final Object databaseObject)
+  {
+    return partialReferences.containsKey(databaseObject);
+  }
+
+  private Object readObject(final ObjectInputStream objectIn)
+    throws IOException
+  {
+    try
+    {
+      return objectIn.readObject();
+    }
+    catch (final ClassNotFoundException e)
+    {
+      throw new IOException("Cannot read catalog section", e);
+    }
+  }
+
+  private Object resolve(final SectionReference reference)
+    throws IOException
+  {
+    switch (reference.getType())
+    {
+      case columnDataType:
+        return mutableCatalog
+          .lookupColumnDataType(reference.getSchema(), reference.getName())
+          .orElseThrow(() -> new InvalidObjectException(String
+            .format("Cannot resolve %s", reference)));
+      case table:
+        final Optional<MutableTable> table = mutableCatalog
+          .lookupTable(reference.getSchema(), reference.getName());
+        if (table.isPresent())
+        {
+          return table.get();
+        }
+        return partials.computeIfAbsent(reference, key -> {
+          final TablePartial tablePartial = new TablePartial(key.getSchema(),
+                                                             key.getName());
+          partialReferences.put(tablePartial, key);
+          return tablePartial;
+        });
+      case column:
+        final Optional<MutableColumn> column = resolveColumn(reference);
+        if (column.isPresent())
+        {
+          return column.get();
+        }
+        return partials.computeIfAbsent(reference, key -> {
+          final TablePartial tablePartial = new TablePartial(key.getSchema(),
+                                                             key
+                                                               .getTableName());
+          final ColumnPartial columnPartial = new ColumnPartial(tablePartial,
+                                                                key.getName());
+          tablePartial.addColumn(columnPartial);
+          partialReferences.put(columnPartial, key);
+          return columnPartial;
+        });
+      default:
+        throw new InvalidObjectException(String
+          .format("Cannot resolve %s", reference));
+    }
+  }
+
+  private Column resolveColumn(final Column column)
+  {
+    if (isPartial(column))
+    {
+      final Optional<MutableColumn> resolvedColumn = resolveColumn(partialReferences
+        .get(column));
+      if (resolvedColumn.isPresent())
+      {
+        return resolvedColumn.get();
+      }
+    }
+    return column;
+  }
+
+  private Optional<MutableColumn> resolveColumn(final SectionReference reference)
+  {
+    final Optional<MutableTable> table = mutableCatalog
+      .lookupTable(reference.getSchema(), reference.getTableName());
+    if (table.isPresent())
+    {
+      return table.get().lookupColumn(reference.getName());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Replaces partial objects with objects from the schema sections that
+   * have since been read. Foreign keys between tables in different
+   * sections are written with each table, so only one copy of each is
+   * kept.
+   */
+  private void resolvePartials()
+  {
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
+    for (final MutableTable table: mutableCatalog.getAllTables())
+    {
+      final List<Column> columns = new ArrayList<>(table.getColumns());
+      columns.addAll(table.getHiddenColumns());
+      for (final Column column: columns)
+      {
+        final Column referencedColumn = column.getReferencedColumn();
+        if (isPartial(referencedColumn))
+        {
+          ((MutableColumn) column)
+            .setReferencedColumn(resolveColumn(referencedColumn));
+        }
+      }
+
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        final MutableForeignKey mutableForeignKey = (MutableForeignKey) foreignKey;
+        final NamedObjectKey key = mutableForeignKey.buildKey();
+        if (foreignKeys.containsKey(key))
+        {
+          table.addForeignKey(foreignKeys.get(key));
+        }
+        else
+        {
+          foreignKeys.put(key, mutableForeignKey);
+          resolveForeignKey(mutableForeignKey);
+        }
+      }
+    }
+
+    for (final MutableSynonym synonym: mutableCatalog.getAllSynonyms())
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (isPartial(referencedObject))
+      {
+        final SectionReference reference = partialReferences
+          .get(referencedObject);
+        final Optional<MutableTable> table = mutableCatalog
+          .lookupTable(reference.getSchema(), reference.getName());
+        if (table.isPresent())
+        {
+          synonym.setReferencedObject(table.get());
+        }
+      }
+    }
+  }
+
+  private void resolveForeignKey(final MutableForeignKey foreignKey)
+  {
+    final List<ForeignKeyColumnReference> columnReferences = foreignKey
+      .getColumnReferences();
+    boolean hasPartials = false;
+    for (final ForeignKeyColumnReference columnReference: columnReferences)
+    {
+      if (isPartial(columnReference.getForeignKeyColumn())
+          || isPartial(columnReference.getPrimaryKeyColumn()))
+      {
+        hasPartials = true;
+        break;
+      }
+    }
+    if (!hasPartials)
+    {
+      return;
+    }
+
+    foreignKey.clearColumnReferences();
+    for (final ForeignKeyColumnReference columnReference: columnReferences)
+    {
+      final Column pkColumn = resolveColumn(columnReference
+        .getPrimaryKeyColumn());
+      final Column fkColumn = resolveColumn(columnReference
+        .getForeignKeyColumn());
+      foreignKey.addColumnReference(columnReference.getKeySequence(),
+                                    pkColumn,
+                                    fkColumn);
+
+      // Columns from schema sections that were not read remain
+      // partial, and are connected up as when crawling
+      if (fkColumn instanceof ColumnPartial)
+      {
+        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+        ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
+      }
+      if (pkColumn instanceof ColumnPartial)
+      {
+        ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+      }
+    }
+  }
+
+}
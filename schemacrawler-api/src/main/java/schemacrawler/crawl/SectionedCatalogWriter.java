@@ -0,0 +1,273 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import schemacrawler.crawl.SectionReference.SectionReferenceType;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+
+/**
+ * Writes a catalog as a number of independently readable sections - one
+ * section for the catalog itself, and one section for the tables,
+ * routines, synonyms and sequences of each schema. Objects that belong
+ * to another section are written as references, and equal strings are
+ * written only once in each section. The sections can be read back with
+ * a {@link SectionedCatalogReader}.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SectionedCatalogWriter
+{
+
+  private final class SectionOutputStream
+    extends ObjectOutputStream
+  {
+
+    private final Schema schema;
+    private final Map<String, String> strings = new HashMap<>();
+
+    SectionOutputStream(final OutputStream out, final Schema schema)
+      throws IOException
+    {
+      super(out);
+      this.schema = schema;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+    {
+      if (obj instanceof String)
+      {
+        final String string = (String) obj;
+        final String interned = strings.putIfAbsent(string, string);
+        return interned == null? string: interned;
+      }
+      else if (catalog == null)
+      {
+        return obj;
+      }
+      else if (schema == null)
+      {
+        // The catalog section does not carry any of the objects that
+        // are written in the schema sections
+        if (obj instanceof MutableTable || obj instanceof MutableRoutine
+            || obj instanceof MutableSynonym || obj instanceof MutableSequence)
+        {
+          return null;
+        }
+        return obj;
+      }
+      else if (obj instanceof MutableColumnDataType)
+      {
+        final MutableColumnDataType columnDataType = (MutableColumnDataType) obj;
+        final Optional<MutableColumnDataType> lookedupColumnDataType = catalog
+          .lookupColumnDataType(columnDataType.getSchema(),
+                                columnDataType.getName());
+        if (isSame(lookedupColumnDataType, columnDataType))
+        {
+          return new SectionReference(SectionReferenceType.columnDataType,
+                                      columnDataType.getSchema(),
+                                      null,
+                                      columnDataType.getName());
+        }
+        return obj;
+      }
+      else if (obj instanceof MutableTable)
+      {
+        final MutableTable table = (MutableTable) obj;
+        if (isInOtherSection(table))
+        {
+          return new SectionReference(SectionReferenceType.table,
+                                      table.getSchema(),
+                                      null,
+                                      table.getName());
+        }
+        return obj;
+      }
+      else if (obj instanceof MutableColumn)
+      {
+        final MutableColumn column = (MutableColumn) obj;
+        final Table table = column.getParent();
+        if (table instanceof MutableTable
+            && isInOtherSection((MutableTable) table)
+            && isSame(((MutableTable) table).lookupColumn(column.getName()),
+                      column))
+        {
+          return new SectionReference(SectionReferenceType.column,
+                                      table.getSchema(),
+                                      table.getName(),
+                                      column.getName());
+        }
+        return obj;
+      }
+      else
+      {
+        return obj;
+      }
+    }
+
+    private boolean isInOtherSection(final MutableTable table)
+    {
+      return !schema.equals(table.getSchema()) && isSame(catalog
+        .lookupTable(table.getSchema(), table.getName()), table);
+    }
+
+    private boolean isSame(final Optional<?> lookedupObject,
+                           final Object object)
+    {
+      return lookedupObject.isPresent() && lookedupObject.get() == object;
+    }
+
+  }
+
+  private final Catalog catalogToWrite;
+  private final MutableCatalog catalog;
+  private final Map<Schema, List<List<DatabaseObject>>> sections;
+
+  /**
+   * Prepares a catalog to be written in sections. A catalog that is not
+   * produced by SchemaCrawler, such as a decorated catalog, is written
+   * entirely in the catalog section.
+   *
+   * @param catalog
+   *        Catalog to write
+   */
+  public SectionedCatalogWriter(final Catalog catalog)
+  {
+    catalogToWrite = requireNonNull(catalog, "No catalog provided");
+    sections = new TreeMap<>();
+    if (catalog instanceof MutableCatalog)
+    {
+      this.catalog = (MutableCatalog) catalog;
+      addToSections(0, this.catalog.getAllTables());
+      addToSections(1, this.catalog.getAllRoutines());
+      addToSections(2, this.catalog.getAllSynonyms());
+      addToSections(3, this.catalog.getAllSequences());
+    }
+    else
+    {
+      this.catalog = null;
+    }
+  }
+
+  /**
+   * Schemas that have their own section, in sorted order.
+   *
+   * @return Schemas for the schema sections
+   */
+  public Collection<Schema> getSectionSchemas()
+  {
+    return new ArrayList<>(sections.keySet());
+  }
+
+  /**
+   * Writes the catalog section, which carries everything except for
+   * the tables, routines, synonyms and sequences. The output stream is
+   * flushed, but not closed.
+   *
+   * @param out
+   *        Output stream
+   * @throws IOException
+   *         On an exception
+   */
+  public void writeCatalogSection(final OutputStream out)
+    throws IOException
+  {
+    requireNonNull(out, "No output stream provided");
+    final SectionOutputStream objectOut = new SectionOutputStream(out, null);
+    objectOut.writeObject(catalogToWrite);
+    objectOut.flush();
+  }
+
+  /**
+   * Writes the section for a schema. The output stream is flushed, but
+   * not closed.
+   *
+   * @param schema
+   *        Schema to write
+   * @param out
+   *        Output stream
+   * @throws IOException
+   *         On an exception
+   */
+  public void writeSchemaSection(final Schema schema, final OutputStream out)
+    throws IOException
+  {
+    requireNonNull(schema, "No schema provided");
+    requireNonNull(out, "No output stream provided");
+    if (!sections.containsKey(schema))
+    {
+      throw new IllegalArgumentException(String
+        .format("No section for schema <%s>", schema));
+    }
+
+    final SectionOutputStream objectOut = new SectionOutputStream(out, schema);
+    for (final List<DatabaseObject> databaseObjects: sections.get(schema))
+    {
+      objectOut.writeObject(databaseObjects);
+    }
+    objectOut.flush();
+  }
+
+  private void addToSections(final int index,
+                             final Iterable<? extends DatabaseObject> databaseObjects)
+  {
+    for (final DatabaseObject databaseObject: databaseObjects)
+    {
+      final Schema schema = databaseObject.getSchema();
+      if (!sections.containsKey(schema))
+      {
+        final List<List<DatabaseObject>> section = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+        {
+          section.add(new ArrayList<>());
+        }
+        sections.put(schema, section);
+      }
+      sections.get(schema).get(index).add(databaseObject);
+    }
+  }
+
+}
@@ -29,15 +29,16 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
+
 import java.math.BigInteger;
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Sequence;
@@ -103,12 +104,11 @@ final class SequenceRetriever
 
     final Query sequencesDefinitionSql = informationSchemaViews
       .getSequencesSql();
-    final Connection connection = getDatabaseConnection();
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(SEQUENCES);
         final MetadataResultSet results = new MetadataResultSet(sequencesDefinitionSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -124,7 +124,7 @@ final class SequenceRetriever
         final boolean cycle = results.getBoolean("CYCLE_OPTION");
 
         final Optional<SchemaReference> optionalSchema = schemas
-          .lookup(Arrays.asList(catalogName, schemaName));
+          .lookup(new NamedObjectKey(catalogName, schemaName));
         if (!optionalSchema.isPresent())
         {
           continue;
@@ -138,7 +138,8 @@ final class SequenceRetriever
         sequence.setIncrement(longIncrement);
         sequence.setCycle(cycle);
 
-        sequence.addAttributes(results.getAttributes());
+        sequence.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
         if (sequenceFilter.test(sequence))
         {
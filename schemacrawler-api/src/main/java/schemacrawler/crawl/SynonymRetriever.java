@@ -29,9 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -59,6 +59,23 @@ final class SynonymRetriever
   extends AbstractRetriever
 {
 
+  /**
+   * Object referenced by a synonym, that is neither a table nor a
+   * routine that was crawled.
+   */
+  private static final class UnknownDatabaseObject
+    extends AbstractDatabaseObject
+  {
+
+    private static final long serialVersionUID = -2212843304418302122L;
+
+    UnknownDatabaseObject(final Schema schema, final String name)
+    {
+      super(schema, name);
+    }
+
+  }
+
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SynonymRetriever.class.getName());
 
@@ -104,11 +121,10 @@ final class SynonymRetriever
     final NamedObjectList<SchemaReference> schemas = getAllSchemas();
 
     final Query synonymsDefinitionSql = informationSchemaViews.getSynonymsSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_SYNONYMS);
         MetadataResultSet results = new MetadataResultSet(synonymsDefinitionSql,
                                                           statement,
-                                                          getSchemaInclusionRule());)
+                                                          getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -160,18 +176,15 @@ final class SynonymRetriever
         }
         else
         {
-          referencedObject = new AbstractDatabaseObject(referencedSchema,
-                                                        referencedObjectName)
-          {
-
-            private static final long serialVersionUID = -2212843304418302122L;
-          };
+          referencedObject = new UnknownDatabaseObject(referencedSchema,
+                                                       referencedObjectName);
         }
 
         final MutableSynonym synonym = new MutableSynonym(schema, synonymName);
         synonym.setReferencedObject(referencedObject);
 
-        synonym.addAttributes(results.getAttributes());
+        synonym.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
         if (synonymFilter.test(synonym))
         {
@@ -0,0 +1,446 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static sf.util.Utility.isBlank;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Tracks tables that have not changed since a previous crawl, using
+ * change indicators retrieved from the database. Unchanged tables are
+ * not crawled again, but are copied from the previous catalog, and
+ * connected up with the tables that were crawled. The previous catalog
+ * itself is not changed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChanges
+{
+
+  static final String CHANGE_INDICATOR = "CHANGE_INDICATOR";
+
+  /**
+   * Catalog attribute with a fingerprint of the options that affect
+   * which tables, and which table details are crawled.
+   */
+  static final String CRAWL_OPTIONS = "schemacrawler.crawl.table_change_options";
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableChanges.class.getName());
+
+  /**
+   * Builds a fingerprint of the options that affect which tables, and
+   * which table details are crawled. Options such as the title, or the
+   * number of threads do not affect the tables, so they are left out.
+   */
+  /**
+   * Makes a deep copy of a catalog, so that tables from it can be
+   * changed, and added to another catalog.
+   */
+  private static Catalog copy(final Catalog catalog)
+    throws IOException, ClassNotFoundException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(catalog);
+    }
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      return (Catalog) in.readObject();
+    }
+  }
+
+  private static String crawlOptionsFingerprint(final SchemaCrawlerOptions options)
+  {
+    final List<Object> tableOptions = Arrays
+      .asList(options.getSchemaInfoLevel(),
+              new TreeSet<>(options.getTableTypes()),
+              options.getTableNamePattern(),
+              options.getSchemaInclusionRule(),
+              options.getTableInclusionRule(),
+              options.getColumnInclusionRule(),
+              options.getAttributeInclusionRule(),
+              options.getGrepColumnInclusionRule(),
+              options.getGrepRoutineColumnInclusionRule(),
+              options.getGrepDefinitionInclusionRule(),
+              options.isGrepInvertMatch(),
+              options.isGrepOnlyMatching(),
+              options.isHideEmptyTables(),
+              options.getChildTableFilterDepth(),
+              options.getParentTableFilterDepth());
+    try
+    {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+      {
+        out.writeObject(new ArrayList<>(tableOptions));
+      }
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final StringBuilder fingerprint = new StringBuilder();
+      for (final byte b: digest.digest(bytes.toByteArray()))
+      {
+        fingerprint.append(String.format("%02x", b));
+      }
+      return fingerprint.toString();
+    }
+    catch (final IOException | NoSuchAlgorithmException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not fingerprint crawl options", e);
+      return "";
+    }
+  }
+
+  private final Catalog previousCatalog;
+  private final boolean retrieveChangeIndicators;
+  private final String crawlOptions;
+  private final List<MutableTable> unchangedTables;
+
+  TableChanges(final Catalog previousCatalog,
+               final SchemaCrawlerOptions options)
+  {
+    this.previousCatalog = previousCatalog;
+    retrieveChangeIndicators = previousCatalog != null
+                               || options.isRetrieveTableChangeIndicators();
+    if (retrieveChangeIndicators)
+    {
+      crawlOptions = crawlOptionsFingerprint(options);
+    }
+    else
+    {
+      crawlOptions = "";
+    }
+    unchangedTables = new ArrayList<>();
+  }
+
+  boolean hasUnchangedTables()
+  {
+    return !unchangedTables.isEmpty();
+  }
+
+  boolean isIncremental()
+  {
+    return previousCatalog != null;
+  }
+
+  /**
+   * Whether change indicators are retrieved, either for an incremental
+   * crawl, or so that the catalog can be the starting point of a later
+   * one.
+   */
+  boolean isRetrieveChangeIndicators()
+  {
+    return retrieveChangeIndicators;
+  }
+
+  /**
+   * Adds unchanged tables from the previous catalog to the crawled
+   * catalog. Foreign keys between unchanged tables and crawled tables
+   * are taken from the crawled tables, since crawled tables retrieve
+   * both their imported and exported foreign keys.
+   *
+   * @param catalog
+   *        Crawled catalog
+   */
+  void mergeUnchangedTables(final MutableCatalog catalog)
+  {
+    final Set<Table> carriedOverTables = Collections
+      .newSetFromMap(new IdentityHashMap<>());
+    carriedOverTables.addAll(unchangedTables);
+
+    for (final MutableTable table: unchangedTables)
+    {
+      final List<Column> columns = new ArrayList<>(table.getColumns());
+      columns.addAll(table.getHiddenColumns());
+      for (final Column column: columns)
+      {
+        final MutableColumn mutableColumn = (MutableColumn) column;
+        final ColumnDataType columnDataType = column.getColumnDataType();
+        if (columnDataType != null)
+        {
+          final Optional<MutableColumnDataType> currentColumnDataType = catalog
+            .lookupColumnDataType(columnDataType.getSchema(),
+                                  columnDataType.getName());
+          if (currentColumnDataType.isPresent())
+          {
+            mutableColumn.setColumnDataType(currentColumnDataType.get());
+          }
+        }
+
+        final Column referencedColumn = column.getReferencedColumn();
+        if (isStale(referencedColumn, carriedOverTables))
+        {
+          mutableColumn.setReferencedColumn(null);
+        }
+      }
+
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey
+          .getColumnReferences())
+        {
+          if (isStale(columnReference.getPrimaryKeyColumn(), carriedOverTables)
+              || isStale(columnReference.getForeignKeyColumn(),
+                         carriedOverTables))
+          {
+            table.removeForeignKey((MutableForeignKey) foreignKey);
+            break;
+          }
+        }
+      }
+
+      catalog.addTable(table);
+    }
+
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      if (carriedOverTables.contains(table))
+      {
+        continue;
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        connectForeignKey(catalog,
+                          (MutableForeignKey) foreignKey,
+                          carriedOverTables);
+      }
+    }
+  }
+
+  /**
+   * Compares the change indicators of the tables that were retrieved
+   * with those of the previous catalog, and removes unchanged tables
+   * from the catalog, so that their details are not crawled again.
+   * Tables are only carried over if the previous catalog was crawled
+   * with the same options.
+   *
+   * @param catalog
+   *        Catalog being crawled
+   */
+  void separateUnchangedTables(final MutableCatalog catalog)
+  {
+    catalog.setAttribute(CRAWL_OPTIONS, crawlOptions);
+    if (previousCatalog == null)
+    {
+      return;
+    }
+    if (isBlank(crawlOptions)
+        || !crawlOptions.equals(previousCatalog.getAttribute(CRAWL_OPTIONS)))
+    {
+      LOGGER.log(Level.INFO,
+                 "Crawling all tables, since the previous catalog was crawled with different options");
+      return;
+    }
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    final List<MutableTable> tablesToCopy = new ArrayList<>();
+    for (final MutableTable table: allTables)
+    {
+      final String changeIndicator = table.getAttribute(CHANGE_INDICATOR);
+      if (isBlank(changeIndicator))
+      {
+        continue;
+      }
+
+      final Optional<? extends Table> previousTableOptional = previousCatalog
+        .lookupTable(table.getSchema(), table.getName());
+      if (!previousTableOptional.isPresent())
+      {
+        continue;
+      }
+
+      final Table previousTable = previousTableOptional.get();
+      if (previousTable instanceof MutableTable
+          && changeIndicator
+            .equals(previousTable.getAttribute(CHANGE_INDICATOR)))
+      {
+        tablesToCopy.add(table);
+      }
+    }
+    if (tablesToCopy.isEmpty())
+    {
+      LOGGER.log(Level.INFO,
+                 "Crawling all tables, since no tables are unchanged");
+      return;
+    }
+
+    // Unchanged tables are connected up with crawled tables when they
+    // are merged, so they are taken from a copy of the previous catalog
+    final Catalog previousCatalogCopy;
+    try
+    {
+      previousCatalogCopy = copy(previousCatalog);
+    }
+    catch (final IOException | ClassNotFoundException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Crawling all tables, since the previous catalog could not be copied",
+                 e);
+      return;
+    }
+    for (final MutableTable table: tablesToCopy)
+    {
+      final Optional<? extends Table> previousTableOptional = previousCatalogCopy
+        .lookupTable(table.getSchema(), table.getName());
+      if (previousTableOptional.isPresent())
+      {
+        allTables.remove(table);
+        unchangedTables.add((MutableTable) previousTableOptional.get());
+      }
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Carrying over %d unchanged tables, and crawling %d changed tables",
+                                unchangedTables.size(),
+                                allTables.size()));
+  }
+
+  /**
+   * Replaces columns of foreign keys that could not be found when the
+   * foreign keys were crawled, with columns of tables that were carried
+   * over.
+   */
+  private void connectForeignKey(final MutableCatalog catalog,
+                                 final MutableForeignKey foreignKey,
+                                 final Set<Table> carriedOverTables)
+  {
+    final List<ForeignKeyColumnReference> columnReferences = foreignKey
+      .getColumnReferences();
+    boolean hasPartials = false;
+    for (final ForeignKeyColumnReference columnReference: columnReferences)
+    {
+      if (columnReference.getForeignKeyColumn() instanceof ColumnPartial
+          || columnReference.getPrimaryKeyColumn() instanceof ColumnPartial)
+      {
+        hasPartials = true;
+        break;
+      }
+    }
+    if (!hasPartials)
+    {
+      return;
+    }
+
+    foreignKey.clearColumnReferences();
+    for (final ForeignKeyColumnReference columnReference: columnReferences)
+    {
+      final Column pkColumn = lookupCarriedOverColumn(catalog,
+                                                      columnReference
+                                                        .getPrimaryKeyColumn(),
+                                                      carriedOverTables);
+      final Column fkColumn = lookupCarriedOverColumn(catalog,
+                                                      columnReference
+                                                        .getForeignKeyColumn(),
+                                                      carriedOverTables);
+      foreignKey.addColumnReference(columnReference.getKeySequence(),
+                                    pkColumn,
+                                    fkColumn);
+
+      if (fkColumn instanceof MutableColumn)
+      {
+        ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
+        ((MutableTable) fkColumn.getParent()).addForeignKey(foreignKey);
+      }
+      if (pkColumn instanceof MutableColumn)
+      {
+        ((MutableTable) pkColumn.getParent()).addForeignKey(foreignKey);
+      }
+    }
+  }
+
+  /**
+   * Checks whether a column belongs to a table from the previous
+   * catalog that was not carried over, since it has changed or been
+   * dropped. Partial tables from the previous catalog were not crawled
+   * either time, so they are kept.
+   */
+  private boolean isStale(final Column column,
+                          final Set<Table> carriedOverTables)
+  {
+    if (column == null)
+    {
+      return false;
+    }
+    final Table table = column.getParent();
+    return table instanceof MutableTable && !carriedOverTables.contains(table);
+  }
+
+  private Column lookupCarriedOverColumn(final MutableCatalog catalog,
+                                         final Column column,
+                                         final Set<Table> carriedOverTables)
+  {
+    if (!(column instanceof ColumnPartial))
+    {
+      return column;
+    }
+
+    final Table table = column.getParent();
+    final Optional<MutableTable> carriedOverTable = catalog
+      .lookupTable(table.getSchema(), table.getName());
+    if (carriedOverTable.isPresent()
+        && carriedOverTables.contains(carriedOverTable.get()))
+    {
+      final Optional<MutableColumn> carriedOverColumn = carriedOverTable.get()
+        .lookupColumn(column.getName());
+      if (carriedOverColumn.isPresent())
+      {
+        return carriedOverColumn.get();
+      }
+    }
+    return column;
+  }
+
+}
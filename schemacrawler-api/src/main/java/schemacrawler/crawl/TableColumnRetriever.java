@@ -30,21 +30,22 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.SearchPatternUtility.toSearchPattern;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_HIDDEN_TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -89,7 +90,9 @@ final class TableColumnRetriever
       return;
     }
 
-    final Set<List<String>> hiddenColumns = retrieveHiddenColumns();
+    final Set<NamedObjectKey> hiddenColumns = retrieveHiddenColumns();
+    // Use the column inclusion rule to leave out excluded columns
+    final Optional<String> columnsSearchPattern = toSearchPattern(columnInclusionRule);
 
     final MetadataRetrievalStrategy tableColumnRetrievalStrategy = getRetrieverConnection()
       .getTableColumnRetrievalStrategy();
@@ -108,13 +111,18 @@ final class TableColumnRetriever
         LOGGER.log(Level.INFO,
                    "Retrieving table columns, using fast meta-data retrieval");
         retrieveColumnsFromMetadataForAllTables(allTables,
+                                                columnsSearchPattern
+                                                  .orElse("%"),
                                                 columnFilter,
                                                 hiddenColumns);
         break;
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving table columns");
-        retrieveColumnsFromMetadata(allTables, columnFilter, hiddenColumns);
+        retrieveColumnsFromMetadata(allTables,
+                                    columnsSearchPattern.orElse(null),
+                                    columnFilter,
+                                    hiddenColumns);
         break;
 
       default:
@@ -126,7 +134,7 @@ final class TableColumnRetriever
   private MutableColumn createTableColumn(final MetadataResultSet results,
                                           final NamedObjectList<MutableTable> allTables,
                                           final InclusionRuleFilter<Column> columnFilter,
-                                          final Set<List<String>> hiddenColumns)
+                                          final Set<NamedObjectKey> hiddenColumns)
     throws SQLException
   {
     // Get the "COLUMN_DEF" value first as it the Oracle drivers
@@ -150,7 +158,7 @@ final class TableColumnRetriever
                                 columnName));
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(columnCatalogName, schemaName, tableName));
+      .lookup(new NamedObjectKey(columnCatalogName, schemaName, tableName));
     if (!optionalTable.isPresent())
     {
       return null;
@@ -177,8 +185,7 @@ final class TableColumnRetriever
       final boolean isGenerated = results.getBoolean("IS_GENERATEDCOLUMN");
       final String remarks = results.getString("REMARKS");
 
-      final List<String> lookupKey = Arrays
-        .asList(columnCatalogName, schemaName, tableName, columnName);
+      final NamedObjectKey lookupKey = new NamedObjectKey(columnCatalogName, schemaName, tableName, columnName);
       final boolean isHidden = hiddenColumns.contains(lookupKey);
 
       String columnDataTypeName = null;
@@ -211,7 +218,7 @@ final class TableColumnRetriever
         column.setDefaultValue(defaultValue);
       }
 
-      column.addAttributes(results.getAttributes());
+      column.addAttributes(results.getAttributes(getAttributeInclusionRule()));
 
       LOGGER.log(Level.FINER,
                  new StringFormat("Adding %scolumn to table <%s>",
@@ -250,7 +257,7 @@ final class TableColumnRetriever
 
   private void retrieveColumnsFromDataDictionary(final NamedObjectList<MutableTable> allTables,
                                                  final InclusionRuleFilter<Column> columnFilter,
-                                                 final Set<List<String>> hiddenColumns)
+                                                 final Set<NamedObjectKey> hiddenColumns)
     throws SchemaCrawlerSQLException, SQLException
   {
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
@@ -261,11 +268,10 @@ final class TableColumnRetriever
                                           null);
     }
     final Query tableColumnsSql = informationSchemaViews.getTableColumnsSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(TABLE_COLUMNS);
         final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveColumnsFromDataDictionary");
       while (results.next())
@@ -276,8 +282,9 @@ final class TableColumnRetriever
   }
 
   private void retrieveColumnsFromMetadata(final NamedObjectList<MutableTable> allTables,
+                                           final String columnNamePattern,
                                            final InclusionRuleFilter<Column> columnFilter,
-                                           final Set<List<String>> hiddenColumns)
+                                           final Set<NamedObjectKey> hiddenColumns)
     throws SchemaCrawlerSQLException
   {
     for (final MutableTable table: allTables)
@@ -287,7 +294,8 @@ final class TableColumnRetriever
         .getColumns(table.getSchema().getCatalogName(),
                     table.getSchema().getName(),
                     table.getName(),
-                    null));)
+                    columnNamePattern),
+                                                                   getStatementTuning(TABLE_COLUMNS));)
       {
         while (results.next())
         {
@@ -305,12 +313,14 @@ final class TableColumnRetriever
   }
 
   private void retrieveColumnsFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables,
+                                                       final String columnNamePattern,
                                                        final InclusionRuleFilter<Column> columnFilter,
-                                                       final Set<List<String>> hiddenColumns)
+                                                       final Set<NamedObjectKey> hiddenColumns)
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumns(null, null, "%", "%"));)
+      .getColumns(null, null, "%", columnNamePattern),
+                                                                 getStatementTuning(TABLE_COLUMNS));)
     {
       while (results.next())
       {
@@ -319,11 +329,11 @@ final class TableColumnRetriever
     }
   }
 
-  private Set<List<String>> retrieveHiddenColumns()
+  private Set<NamedObjectKey> retrieveHiddenColumns()
     throws SQLException
   {
 
-    final Set<List<String>> hiddenColumns = new HashSet<>();
+    final Set<NamedObjectKey> hiddenColumns = new HashSet<>();
 
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
@@ -334,11 +344,10 @@ final class TableColumnRetriever
     }
     final Query hiddenColumnsSql = informationSchemaViews
       .getExtHiddenTableColumnsSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_HIDDEN_TABLE_COLUMNS);
         final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveHiddenColumns");
       while (results.next())
@@ -359,8 +368,7 @@ final class TableColumnRetriever
                                     tableName,
                                     columnName));
 
-        final List<String> lookupKey = Arrays
-          .asList(catalogName, schemaName, tableName, columnName);
+        final NamedObjectKey lookupKey = new NamedObjectKey(catalogName, schemaName, tableName, columnName);
         hiddenColumns.add(lookupKey);
       }
     }
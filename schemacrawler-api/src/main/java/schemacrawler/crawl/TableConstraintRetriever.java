@@ -29,16 +29,18 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.sql.Connection;
+import static schemacrawler.schemacrawler.InformationSchemaKey.CONSTRAINT_COLUMN_USAGE;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.TableConstraintType;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -60,7 +62,7 @@ final class TableConstraintRetriever
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TableConstraintRetriever.class.getName());
 
-  private final Map<List<String>, MutableTableConstraint> tableConstraintsMap;
+  private final Map<NamedObjectKey, MutableTableConstraint> tableConstraintsMap;
 
   TableConstraintRetriever(final RetrieverConnection retrieverConnection,
                            final MutableCatalog catalog,
@@ -82,8 +84,6 @@ final class TableConstraintRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews.hasExtTableConstraintsSql())
     {
       LOGGER.log(Level.FINE,
@@ -94,10 +94,10 @@ final class TableConstraintRetriever
       .getExtTableConstraintsSql();
 
     // Get check constraint definitions
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_TABLE_CONSTRAINTS);
         final MetadataResultSet results = new MetadataResultSet(extTableConstraintInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -112,7 +112,7 @@ final class TableConstraintRetriever
         final String definition = results.getString("CHECK_CLAUSE");
 
         final MutableTableConstraint tableConstraint = tableConstraintsMap
-          .get(Arrays.asList(catalogName, schemaName, constraintName));
+          .get(new NamedObjectKey(catalogName, schemaName, constraintName));
         if (tableConstraint == null)
         {
           LOGGER.log(Level.FINEST,
@@ -122,7 +122,8 @@ final class TableConstraintRetriever
         }
         tableConstraint.appendDefinition(definition);
 
-        tableConstraint.addAttributes(results.getAttributes());
+        tableConstraint.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
       }
     }
@@ -146,22 +147,16 @@ final class TableConstraintRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
-    createTableConstraints(connection,
-                           tableConstraintsMap,
-                           informationSchemaViews);
+    createTableConstraints(tableConstraintsMap, informationSchemaViews);
 
     if (!tableConstraintsMap.isEmpty())
     {
-      retrieveTableConstraintsColumns(connection,
-                                      tableConstraintsMap,
+      retrieveTableConstraintsColumns(tableConstraintsMap,
                                       informationSchemaViews);
     }
   }
 
-  private void createTableConstraints(final Connection connection,
-                                      final Map<List<String>, MutableTableConstraint> tableConstraintsMap,
+  private void createTableConstraints(final Map<NamedObjectKey, MutableTableConstraint> tableConstraintsMap,
                                       final InformationSchemaViews informationSchemaViews)
   {
     if (!informationSchemaViews.hasTableConstraintsSql())
@@ -173,10 +168,10 @@ final class TableConstraintRetriever
 
     final Query tableConstraintsInformationSql = informationSchemaViews
       .getTableConstraintsSql();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(TABLE_CONSTRAINTS);
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -218,15 +213,17 @@ final class TableConstraintRetriever
         tableConstraint.setDeferrable(deferrable);
         tableConstraint.setInitiallyDeferred(initiallyDeferred);
 
-        tableConstraint.addAttributes(results.getAttributes());
+        tableConstraint.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
 
         // Add constraint to table
         table.addTableConstraint(tableConstraint);
 
         // Add to map, since we will need this later
         final Schema schema = table.getSchema();
-        tableConstraintsMap.put(Arrays
-          .asList(schema.getCatalogName(), schema.getName(), constraintName),
+        tableConstraintsMap.put(new NamedObjectKey(schema.getCatalogName(),
+                                                   schema.getName(),
+                                                   constraintName),
                                 tableConstraint);
       }
     }
@@ -239,8 +236,7 @@ final class TableConstraintRetriever
     }
   }
 
-  private void retrieveTableConstraintsColumns(final Connection connection,
-                                               final Map<List<String>, MutableTableConstraint> tableConstraintsMap,
+  private void retrieveTableConstraintsColumns(final Map<NamedObjectKey, MutableTableConstraint> tableConstraintsMap,
                                                final InformationSchemaViews informationSchemaViews)
   {
     if (!informationSchemaViews.hasTableConstraintsColumnsSql())
@@ -253,10 +249,10 @@ final class TableConstraintRetriever
     final Query tableConstraintsColumnsInformationSql = informationSchemaViews
       .getTableConstraintsColumnsSql();
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(CONSTRAINT_COLUMN_USAGE);
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -270,7 +266,7 @@ final class TableConstraintRetriever
                                     constraintName));
 
         final MutableTableConstraint tableConstraint = tableConstraintsMap
-          .get(Arrays.asList(catalogName, schemaName, constraintName));
+          .get(new NamedObjectKey(catalogName, schemaName, constraintName));
         if (tableConstraint == null)
         {
           LOGGER.log(Level.FINEST,
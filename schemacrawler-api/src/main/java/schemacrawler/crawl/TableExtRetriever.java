@@ -30,12 +30,20 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEX_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -44,6 +52,7 @@ import schemacrawler.schema.CheckOptionType;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ConditionTimingType;
 import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -96,11 +105,10 @@ final class TableExtRetriever
     final Query columnAttributesSql = informationSchemaViews
       .getAdditionalColumnAttributesSql();
 
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_COLUMN_ATTRIBUTES);
         final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -143,7 +151,8 @@ final class TableExtRetriever
         else
         {
           final MutableColumn column = columnOptional.get();
-          column.addAttributes(results.getAttributes());
+          column.addAttributes(results
+            .getAttributes(getAttributeInclusionRule()));
         }
       }
     }
@@ -179,11 +188,10 @@ final class TableExtRetriever
     final Query tableAttributesSql = informationSchemaViews
       .getAdditionalTableAttributesSql();
 
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(ADDITIONAL_TABLE_ATTRIBUTES);
         final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -210,7 +218,7 @@ final class TableExtRetriever
         }
 
         final MutableTable table = tableOptional.get();
-        table.addAttributes(results.getAttributes());
+        table.addAttributes(results.getAttributes(getAttributeInclusionRule()));
       }
     }
     catch (final Exception e)
@@ -249,11 +257,10 @@ final class TableExtRetriever
 
     final Query extIndexColumnsInformationSql = informationSchemaViews
       .getExtIndexColumnsSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_INDEX_COLUMNS);
         final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -319,7 +326,8 @@ final class TableExtRetriever
 
         indexColumn.appendDefinition(definition);
 
-        indexColumn.addAttributes(results.getAttributes());
+        indexColumn.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
       }
     }
     catch (final Exception e)
@@ -329,6 +337,67 @@ final class TableExtRetriever
 
   }
 
+  /**
+   * Retrieves an indicator of when each table last changed, so that
+   * unchanged tables can be carried over from a previous catalog.
+   *
+   * @throws SQLException
+   *         On a SQL exception
+   */
+  void retrieveTableChangeIndicators()
+    throws SQLException
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+
+    if (!informationSchemaViews.hasExtTableChangesSql())
+    {
+      LOGGER.log(Level.FINE,
+                 "Table change indicators SQL statement was not provided");
+      return;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving table change indicators");
+
+    final Query tableChangesSql = informationSchemaViews
+      .getExtTableChangesSql();
+    try (final Statement statement = createStatement(EXT_TABLE_CHANGES);
+        final MetadataResultSet results = new MetadataResultSet(tableChangesSql,
+                                                                statement,
+                                                                getSchemaCrawlerOptions());)
+    {
+      while (results.next())
+      {
+        final String catalogName = normalizeCatalogName(results
+          .getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results
+          .getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+
+        final Optional<MutableTable> tableOptional = lookupTable(catalogName,
+                                                                 schemaName,
+                                                                 tableName);
+        if (!tableOptional.isPresent())
+        {
+          continue;
+        }
+
+        final MutableTable table = tableOptional.get();
+        final String changeIndicator = results.getString("CHANGE_INDICATOR");
+        if (changeIndicator != null)
+        {
+          table.setAttribute(TableChanges.CHANGE_INDICATOR, changeIndicator);
+        }
+      }
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not retrieve table change indicators",
+                 e);
+    }
+  }
+
   /**
    * Retrieves index information from the database, in the
    * INFORMATION_SCHEMA format.
@@ -356,11 +425,10 @@ final class TableExtRetriever
 
     final Query extIndexesInformationSql = informationSchemaViews
       .getExtIndexesSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_INDEXES);
         final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -410,7 +478,7 @@ final class TableExtRetriever
         index.appendDefinition(definition);
         index.setRemarks(remarks);
 
-        index.addAttributes(results.getAttributes());
+        index.addAttributes(results.getAttributes(getAttributeInclusionRule()));
       }
     }
     catch (final Exception e)
@@ -427,8 +495,6 @@ final class TableExtRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews.hasExtPrimaryKeysSql())
     {
       LOGGER.log(Level.FINE,
@@ -449,10 +515,10 @@ final class TableExtRetriever
     final Query extPrimaryKeysSql = informationSchemaViews
       .getExtPrimaryKeysSql();
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_PRIMARY_KEYS);
         final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       while (results.next())
       {
@@ -463,8 +529,7 @@ final class TableExtRetriever
         final String tableName = results.getString("PRIMARY_KEY_TABLE_NAME");
         final String pkName = results.getString("PRIMARY_KEY_NAME");
 
-        final List<String> constraintLookupKey = Arrays
-          .asList(catalogName, schemaName, tableName, pkName);
+        final NamedObjectKey constraintLookupKey = new NamedObjectKey(catalogName, schemaName, tableName, pkName);
         LOGGER.log(Level.FINER,
                    new StringFormat("Retrieving definition of primary key <%s>",
                                     constraintLookupKey));
@@ -476,7 +541,8 @@ final class TableExtRetriever
         {
           final MutablePrimaryKey pkConstraint = optionalPk.get();
           pkConstraint.appendDefinition(definition);
-          pkConstraint.addAttributes(results.getAttributes());
+          pkConstraint.addAttributes(results
+            .getAttributes(getAttributeInclusionRule()));
         }
         else
         {
@@ -498,7 +564,8 @@ final class TableExtRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getColumnPrivileges(null, null, "%", "%"));)
+      .getColumnPrivileges(null, null, "%", "%"),
+                                                                 getStatementTuning(TABLE_COLUMNS));)
     {
       createPrivileges(results, true);
     }
@@ -537,11 +604,10 @@ final class TableExtRetriever
 
     final Query tableDefinitionsInformationSql = informationSchemaViews
       .getExtTablesSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(EXT_TABLES);
         final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -574,7 +640,7 @@ final class TableExtRetriever
 
         table.appendDefinition(definition);
 
-        table.addAttributes(results.getAttributes());
+        table.addAttributes(results.getAttributes(getAttributeInclusionRule()));
       }
     }
     catch (final Exception e)
@@ -588,7 +654,8 @@ final class TableExtRetriever
     throws SQLException
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTablePrivileges(null, null, "%"));)
+      .getTablePrivileges(null, null, "%"),
+                                                                 getStatementTuning(TABLES));)
     {
       createPrivileges(results, false);
     }
@@ -623,11 +690,10 @@ final class TableExtRetriever
     LOGGER.log(Level.INFO, "Retrieving trigger definitions");
 
     final Query triggerInformationSql = informationSchemaViews.getTriggersSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(TRIGGERS);
         final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -682,7 +748,8 @@ final class TableExtRetriever
         trigger.setActionOrientation(actionOrientation);
         trigger.setConditionTiming(conditionTiming);
 
-        trigger.addAttributes(results.getAttributes());
+        trigger.addAttributes(results
+          .getAttributes(getAttributeInclusionRule()));
         // Add trigger to the table
         table.addTrigger(trigger);
 
@@ -720,11 +787,10 @@ final class TableExtRetriever
     LOGGER.log(Level.INFO, "Retrieving additional view information");
 
     final Query viewInformationSql = informationSchemaViews.getViewsSql();
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(VIEWS);
         final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
 
       while (results.next())
@@ -761,7 +827,7 @@ final class TableExtRetriever
         view.setCheckOption(checkOption);
         view.setUpdatable(updatable);
 
-        view.addAttributes(results.getAttributes());
+        view.addAttributes(results.getAttributes(getAttributeInclusionRule()));
       }
     }
     catch (final Exception e)
@@ -30,8 +30,9 @@ package schemacrawler.crawl;
 
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.SearchPatternUtility.toSearchPattern;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
@@ -40,6 +41,7 @@ import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
@@ -91,6 +93,18 @@ final class TableRetriever
       return;
     }
 
+    // Use the table inclusion rule to leave out excluded tables, unless
+    // a table name pattern was explicitly provided
+    final String tablesSearchPattern;
+    if (tableNamePattern == null)
+    {
+      tablesSearchPattern = toSearchPattern(tableInclusionRule).orElse(null);
+    }
+    else
+    {
+      tablesSearchPattern = tableNamePattern;
+    }
+
     final MetadataRetrievalStrategy tableRetrievalStrategy = getRetrieverConnection()
       .getTableRetrievalStrategy();
     switch (tableRetrievalStrategy)
@@ -99,7 +113,7 @@ final class TableRetriever
         LOGGER.log(Level.INFO,
                    "Retrieving tables, using fast data dictionary retrieval");
         retrieveTablesFromDataDictionary(schemas,
-                                         tableNamePattern,
+                                         tablesSearchPattern,
                                          tableTypes,
                                          tableFilter);
         break;
@@ -108,7 +122,7 @@ final class TableRetriever
         LOGGER.log(Level.INFO,
                    "Retrieving tables, using fast meta-data retrieval");
         retrieveTablesFromMetadataForAllTables(schemas,
-                                               tableNamePattern,
+                                               tablesSearchPattern,
                                                tableTypes,
                                                tableFilter);
         break;
@@ -116,7 +130,7 @@ final class TableRetriever
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving tables");
         retrieveTablesFromMetadata(schemas,
-                                   tableNamePattern,
+                                   tablesSearchPattern,
                                    tableTypes,
                                    tableFilter);
         break;
@@ -145,7 +159,7 @@ final class TableRetriever
     final String remarks = results.getString("REMARKS");
 
     final Optional<SchemaReference> optionalSchema = schemas
-      .lookup(Arrays.asList(catalogName, schemaName));
+      .lookup(new NamedObjectKey(catalogName, schemaName));
     if (!optionalSchema.isPresent())
     {
       return;
@@ -195,13 +209,12 @@ final class TableRetriever
       throw new SchemaCrawlerSQLException("No tables SQL provided", null);
     }
     final Query tablesSql = informationSchemaViews.getTablesSql();
-    final Connection connection = getDatabaseConnection();
     final TableTypes supportedTableTypes = getRetrieverConnection()
       .getTableTypes();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(TABLES);
         final MetadataResultSet results = new MetadataResultSet(tablesSql,
                                                                 statement,
-                                                                getSchemaInclusionRule());)
+                                                                getSchemaCrawlerOptions());)
     {
       results.setDescription("retrieveTablesFromDataDictionary");
       while (results.next())
@@ -238,7 +251,8 @@ final class TableRetriever
         .getTables(catalogName,
                    schemaName,
                    tableNamePattern,
-                   filteredTableTypes));)
+                   filteredTableTypes),
+                                                                   getStatementTuning(TABLES));)
       {
         results.setDescription("retrieveTables");
         while (results.next())
@@ -265,7 +279,8 @@ final class TableRetriever
                                   .asList(filteredTableTypes)));
 
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getTables(null, null, tableNamePattern, filteredTableTypes));)
+      .getTables(null, null, tableNamePattern, filteredTableTypes),
+                                                                 getStatementTuning(TABLES));)
     {
       results.setDescription("retrieveTables");
       while (results.next())
@@ -73,12 +73,14 @@ public class InclusionRuleFilter<N extends NamedObject>
     {
       return false;
     }
+    // Full names are built on every call, so build it only once
+    final String fullName = namedObject.getFullName();
     // Schema names may be null
-    if (namedObject.getFullName() == null)
+    if (fullName == null)
     {
       return false;
     }
-    return inclusionRule.test(namedObject.getFullName());
+    return inclusionRule.test(fullName);
   }
 
   @Override
@@ -55,6 +55,17 @@ public interface NamedObject
    */
   String getName();
 
+  /**
+   * A compact, immutable value guaranteed to be unique in the database
+   * for this object. It has the same names as the unique lookup key.
+   *
+   * @return Lookup key
+   */
+  default NamedObjectKey key()
+  {
+    return new NamedObjectKey(toUniqueLookupKey().toArray(new String[0]));
+  }
+
   /**
    * A value guaranteed to be unique in the database for this object.
    */
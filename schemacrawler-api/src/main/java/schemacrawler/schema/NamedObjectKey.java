@@ -0,0 +1,155 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable lookup key for a named object, made up of the names of
+ * the object and its parents. The hash code is computed once, and
+ * extended incrementally when a name is appended, so keys for
+ * dependent objects are cheap to build and compare.
+ */
+public final class NamedObjectKey
+  implements Serializable
+{
+
+  private static final long serialVersionUID = -7386347932870213384L;
+
+  private final String[] key;
+  private final int hashCode;
+
+  /**
+   * Constructor for a lookup key, from the names that make up the key.
+   *
+   * @param key
+   *        Names that make up the key, some of which may be null
+   */
+  public NamedObjectKey(final String... key)
+  {
+    if (key == null)
+    {
+      this.key = new String[0];
+    }
+    else
+    {
+      this.key = key.clone();
+    }
+    hashCode = Arrays.hashCode(this.key);
+  }
+
+  private NamedObjectKey(final String[] key, final int hashCode)
+  {
+    this.key = key;
+    this.hashCode = hashCode;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(final Object obj)
+  {
+    if (this == obj)
+    {
+      return true;
+    }
+    if (obj == null)
+    {
+      return false;
+    }
+    if (!(obj instanceof NamedObjectKey))
+    {
+      return false;
+    }
+    final NamedObjectKey other = (NamedObjectKey) obj;
+    return hashCode == other.hashCode && Arrays.equals(key, other.key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode()
+  {
+    return hashCode;
+  }
+
+  /**
+   * Number of names in the key.
+   *
+   * @return Number of names in the key
+   */
+  public int size()
+  {
+    return key.length;
+  }
+
+  /**
+   * Converts the key to a list, as returned by
+   * {@link NamedObject#toUniqueLookupKey()}.
+   *
+   * @return New, modifiable list of the names in the key
+   */
+  public List<String> toList()
+  {
+    return new ArrayList<>(Arrays.asList(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return Arrays.toString(key);
+  }
+
+  /**
+   * Creates a new key for a dependent object, by appending a name to
+   * this key.
+   *
+   * @param name
+   *        Name to append
+   * @return New key
+   */
+  public NamedObjectKey with(final String name)
+  {
+    final String[] withKey = Arrays.copyOf(key, key.length + 1);
+    withKey[key.length] = name;
+    // Same as Arrays.hashCode(withKey)
+    return new NamedObjectKey(withKey, 31 * hashCode + Objects.hashCode(name));
+  }
+
+}
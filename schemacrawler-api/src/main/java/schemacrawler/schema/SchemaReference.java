@@ -31,8 +31,6 @@ package schemacrawler.schema;
 import static sf.util.Utility.convertForComparison;
 import static sf.util.Utility.isBlank;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +48,7 @@ public final class SchemaReference
   private final String catalogName;
   private final String schemaName;
   private transient String fullName;
+  private transient NamedObjectKey key;
   private final Map<String, Object> attributeMap = new HashMap<>();
 
   public SchemaReference()
@@ -272,10 +271,20 @@ public final class SchemaReference
     return getFullName();
   }
 
+  @Override
+  public NamedObjectKey key()
+  {
+    if (key == null)
+    {
+      key = new NamedObjectKey(catalogName, schemaName);
+    }
+    return key;
+  }
+
   @Override
   public List<String> toUniqueLookupKey()
   {
-    return new ArrayList<>(Arrays.asList(catalogName, schemaName));
+    return key().toList();
   }
 
   private void buildFullName()
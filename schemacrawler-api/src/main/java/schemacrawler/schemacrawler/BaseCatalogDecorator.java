@@ -41,6 +41,7 @@ import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
 import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -289,6 +290,12 @@ public abstract class BaseCatalogDecorator
     catalog.setAttribute(name, value);
   }
 
+  @Override
+  public NamedObjectKey key()
+  {
+    return catalog.key();
+  }
+
   @Override
   public List<String> toUniqueLookupKey()
   {
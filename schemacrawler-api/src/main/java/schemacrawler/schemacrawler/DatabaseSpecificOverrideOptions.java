@@ -59,8 +59,11 @@ public final class DatabaseSpecificOverrideOptions
   private final MetadataRetrievalStrategy fkRetrievalStrategy;
   private final MetadataRetrievalStrategy procedureRetrievalStrategy;
   private final MetadataRetrievalStrategy functionRetrievalStrategy;
+  private final MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
+  private final MetadataRetrievalStrategy functionColumnRetrievalStrategy;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
+  private final MetadataRetrievalTuning metadataRetrievalTuning;
   private final TypeMap typeMap;
 
   protected DatabaseSpecificOverrideOptions(final DatabaseSpecificOverrideOptionsBuilder builder)
@@ -76,9 +79,15 @@ public final class DatabaseSpecificOverrideOptions
     fkRetrievalStrategy = bldr.getForeignKeyRetrievalStrategy();
     procedureRetrievalStrategy = bldr.getProcedureRetrievalStrategy();
     functionRetrievalStrategy = bldr.getFunctionRetrievalStrategy();
+    procedureColumnRetrievalStrategy = bldr
+      .getProcedureColumnRetrievalStrategy();
+    functionColumnRetrievalStrategy = bldr
+      .getFunctionColumnRetrievalStrategy();
     identifierQuoteString = bldr.getIdentifierQuoteString();
     informationSchemaViews = bldr.getInformationSchemaViewsBuilder()
       .toOptions();
+    metadataRetrievalTuning = bldr.getMetadataRetrievalTuningBuilder()
+      .toOptions();
 
     final Map<String, Class<?>> bldrTypeMap = bldr.getTypeMap();
     if (bldrTypeMap != null)
@@ -101,6 +110,11 @@ public final class DatabaseSpecificOverrideOptions
     return fkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return functionColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
     return functionRetrievalStrategy;
@@ -125,6 +139,11 @@ public final class DatabaseSpecificOverrideOptions
     return informationSchemaViews;
   }
 
+  public MetadataRetrievalTuning getMetadataRetrievalTuning()
+  {
+    return metadataRetrievalTuning;
+  }
+
   public MetadataRetrievalStrategy getPkRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -135,6 +154,11 @@ public final class DatabaseSpecificOverrideOptions
     return pkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return procedureColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
     return procedureRetrievalStrategy;
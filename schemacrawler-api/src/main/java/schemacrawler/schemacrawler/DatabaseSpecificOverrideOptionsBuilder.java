@@ -45,6 +45,8 @@ public final class DatabaseSpecificOverrideOptionsBuilder
   private static final String SC_RETRIEVAL_FOREIGN_KEYS = "schemacrawler.schema.retrieval.strategy.foreignkeys";
   private static final String SC_RETRIEVAL_PROCEDURES = "schemacrawler.schema.retrieval.strategy.procedures";
   private static final String SC_RETRIEVAL_FUNCTIONS = "schemacrawler.schema.retrieval.strategy.functions";
+  private static final String SC_RETRIEVAL_PROCEDURE_COLUMNS = "schemacrawler.schema.retrieval.strategy.procedurecolumns";
+  private static final String SC_RETRIEVAL_FUNCTION_COLUMNS = "schemacrawler.schema.retrieval.strategy.functioncolumns";
 
   private Optional<Boolean> supportsSchemas;
   private Optional<Boolean> supportsCatalogs;
@@ -55,13 +57,17 @@ public final class DatabaseSpecificOverrideOptionsBuilder
   private MetadataRetrievalStrategy fkRetrievalStrategy;
   private MetadataRetrievalStrategy procedureRetrievalStrategy;
   private MetadataRetrievalStrategy functionRetrievalStrategy;
+  private MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
+  private MetadataRetrievalStrategy functionColumnRetrievalStrategy;
   private String identifierQuoteString;
   private Map<String, Class<?>> typeMap;
   private final InformationSchemaViewsBuilder informationSchemaViewsBuilder;
+  private final MetadataRetrievalTuningBuilder metadataRetrievalTuningBuilder;
 
   public DatabaseSpecificOverrideOptionsBuilder()
   {
     informationSchemaViewsBuilder = new InformationSchemaViewsBuilder();
+    metadataRetrievalTuningBuilder = new MetadataRetrievalTuningBuilder();
     supportsSchemas = Optional.empty();
     supportsCatalogs = Optional.empty();
     identifierQuoteString = "";
@@ -72,6 +78,8 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     fkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     procedureRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     typeMap = null;
   }
 
@@ -117,6 +125,7 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     }
 
     informationSchemaViewsBuilder.fromConfig(configProperties);
+    metadataRetrievalTuningBuilder.fromConfig(configProperties);
 
     tableRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_TABLES, tableRetrievalStrategy);
@@ -132,6 +141,12 @@ public final class DatabaseSpecificOverrideOptionsBuilder
       .getEnumValue(SC_RETRIEVAL_PROCEDURES, procedureRetrievalStrategy);
     functionRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_FUNCTIONS, functionRetrievalStrategy);
+    procedureColumnRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_PROCEDURE_COLUMNS,
+                    procedureColumnRetrievalStrategy);
+    functionColumnRetrievalStrategy = configProperties
+      .getEnumValue(SC_RETRIEVAL_FUNCTION_COLUMNS,
+                    functionColumnRetrievalStrategy);
 
     return this;
   }
@@ -146,6 +161,11 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return fkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
+  {
+    return functionColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
     return functionRetrievalStrategy;
@@ -166,6 +186,11 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return informationSchemaViewsBuilder;
   }
 
+  public MetadataRetrievalTuningBuilder getMetadataRetrievalTuningBuilder()
+  {
+    return metadataRetrievalTuningBuilder;
+  }
+
   public MetadataRetrievalStrategy getPkRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -176,6 +201,11 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return pkRetrievalStrategy;
   }
 
+  public MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
+  {
+    return procedureColumnRetrievalStrategy;
+  }
+
   public MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
     return procedureRetrievalStrategy;
@@ -264,6 +294,19 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return this;
   }
 
+  public DatabaseSpecificOverrideOptionsBuilder withFunctionColumnRetrievalStrategy(final MetadataRetrievalStrategy functionColumnRetrievalStrategy)
+  {
+    if (functionColumnRetrievalStrategy == null)
+    {
+      this.functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.functionColumnRetrievalStrategy = functionColumnRetrievalStrategy;
+    }
+    return this;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withFunctionRetrievalStrategy(final MetadataRetrievalStrategy functionRetrievalStrategy)
   {
     if (functionRetrievalStrategy == null)
@@ -295,6 +338,15 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return informationSchemaViewsBuilder;
   }
 
+  /**
+   * JDBC fetch size, query timeout and result set type for each
+   * metadata retrieval phase.
+   */
+  public MetadataRetrievalTuningBuilder withMetadataRetrievalTuning()
+  {
+    return metadataRetrievalTuningBuilder;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withoutIdentifierQuoteString()
   {
     identifierQuoteString = null;
@@ -326,6 +378,19 @@ public final class DatabaseSpecificOverrideOptionsBuilder
     return this;
   }
 
+  public DatabaseSpecificOverrideOptionsBuilder withProcedureColumnRetrievalStrategy(final MetadataRetrievalStrategy procedureColumnRetrievalStrategy)
+  {
+    if (procedureColumnRetrievalStrategy == null)
+    {
+      this.procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    }
+    else
+    {
+      this.procedureColumnRetrievalStrategy = procedureColumnRetrievalStrategy;
+    }
+    return this;
+  }
+
   public DatabaseSpecificOverrideOptionsBuilder withProcedureRetrievalStrategy(final MetadataRetrievalStrategy procedureRetrievalStrategy)
   {
     if (procedureRetrievalStrategy == null)
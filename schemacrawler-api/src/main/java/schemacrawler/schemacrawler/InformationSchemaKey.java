@@ -46,11 +46,15 @@ public enum InformationSchemaKey
  EXT_PRIMARY_KEYS(METADATA_EXTENSION),
  EXT_SYNONYMS(METADATA_EXTENSION),
  EXT_TABLES(METADATA_EXTENSION),
+ EXT_TABLE_CHANGES(METADATA_EXTENSION),
  EXT_TABLE_CONSTRAINTS(METADATA_EXTENSION),
+ EXT_TABLE_ROW_COUNTS(METADATA_EXTENSION),
  FOREIGN_KEYS(DATABASE_METADATA),
+ FUNCTION_COLUMNS(DATABASE_METADATA),
  INDEXES(DATABASE_METADATA),
  OVERRIDE_TYPE_INFO(DATABASE_METADATA),
  PRIMARY_KEYS(DATABASE_METADATA),
+ PROCEDURE_COLUMNS(DATABASE_METADATA),
  ROUTINES(INFORMATION_SCHEMA),
  SCHEMATA(INFORMATION_SCHEMA),
  SEQUENCES(INFORMATION_SCHEMA),
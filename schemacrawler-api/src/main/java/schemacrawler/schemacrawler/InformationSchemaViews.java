@@ -40,10 +40,14 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_PRIMARY_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTION_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
 import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURE_COLUMNS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMATA;
 import static schemacrawler.schemacrawler.InformationSchemaKey.SEQUENCES;
@@ -192,6 +196,31 @@ public final class InformationSchemaViews
                      informationSchemaQueries.get(EXT_TABLE_CONSTRAINTS));
   }
 
+  /**
+   * Gets the SQL that reads an indicator of when each table last
+   * changed, such as a DDL timestamp or a system version, from the
+   * additional configuration.
+   *
+   * @return Table change indicators SQL.
+   */
+  public Query getExtTableChangesSql()
+  {
+    return new Query(EXT_TABLE_CHANGES.name(),
+                     informationSchemaQueries.get(EXT_TABLE_CHANGES));
+  }
+
+  /**
+   * Gets the SQL that reads approximate table row counts from database
+   * engine statistics, from the additional configuration.
+   *
+   * @return Table row counts SQL.
+   */
+  public Query getExtTableRowCountsSql()
+  {
+    return new Query(EXT_TABLE_ROW_COUNTS.name(),
+                     informationSchemaQueries.get(EXT_TABLE_ROW_COUNTS));
+  }
+
   /**
    * Gets the table definitions SQL from the additional configuration.
    *
@@ -215,6 +244,18 @@ public final class InformationSchemaViews
                      true);
   }
 
+  /**
+   * Gets the function columns SQL from the additional configuration.
+   *
+   * @return Function columns SQL.
+   */
+  public Query getFunctionColumnsSql()
+  {
+    return new Query(FUNCTION_COLUMNS.name(),
+                     informationSchemaQueries.get(FUNCTION_COLUMNS),
+                     true);
+  }
+
   /**
    * Gets the indexes SQL from the additional configuration.
    *
@@ -251,6 +292,18 @@ public final class InformationSchemaViews
                      true);
   }
 
+  /**
+   * Gets the procedure columns SQL from the additional configuration.
+   *
+   * @return Procedure columns SQL.
+   */
+  public Query getProcedureColumnsSql()
+  {
+    return new Query(PROCEDURE_COLUMNS.name(),
+                     informationSchemaQueries.get(PROCEDURE_COLUMNS),
+                     true);
+  }
+
   /**
    * Gets the routine definitions SQL from the additional configuration.
    *
@@ -392,11 +445,21 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(EXT_PRIMARY_KEYS);
   }
 
+  public boolean hasExtTableChangesSql()
+  {
+    return informationSchemaQueries.containsKey(EXT_TABLE_CHANGES);
+  }
+
   public boolean hasExtTableConstraintsSql()
   {
     return informationSchemaQueries.containsKey(EXT_TABLE_CONSTRAINTS);
   }
 
+  public boolean hasExtTableRowCountsSql()
+  {
+    return informationSchemaQueries.containsKey(EXT_TABLE_ROW_COUNTS);
+  }
+
   public boolean hasExtTablesSql()
   {
     return informationSchemaQueries.containsKey(EXT_TABLES);
@@ -407,6 +470,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(FOREIGN_KEYS);
   }
 
+  public boolean hasFunctionColumnsSql()
+  {
+    return informationSchemaQueries.containsKey(FUNCTION_COLUMNS);
+  }
+
   public boolean hasIndexesSql()
   {
     return informationSchemaQueries.containsKey(INDEXES);
@@ -422,6 +490,11 @@ public final class InformationSchemaViews
     return informationSchemaQueries.containsKey(PRIMARY_KEYS);
   }
 
+  public boolean hasProcedureColumnsSql()
+  {
+    return informationSchemaQueries.containsKey(PROCEDURE_COLUMNS);
+  }
+
   public boolean hasRoutinesSql()
   {
     return informationSchemaQueries.containsKey(ROUTINES);
@@ -40,6 +40,8 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_PRIMARY_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_SYNONYMS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
 import static schemacrawler.schemacrawler.InformationSchemaKey.OVERRIDE_TYPE_INFO;
@@ -265,6 +267,32 @@ public final class InformationSchemaViewsBuilder
     return this;
   }
 
+  /**
+   * Sets the SQL for table change indicators, which are compared with
+   * those of a previous catalog in an incremental crawl.
+   *
+   * @param sql
+   *        Table change indicators SQL.
+   */
+  public InformationSchemaViewsBuilder withExtTableChangesSql(final String sql)
+  {
+    informationSchemaQueries.put(EXT_TABLE_CHANGES, sql);
+    return this;
+  }
+
+  /**
+   * Sets the SQL for approximate table row counts, from database engine
+   * statistics.
+   *
+   * @param sql
+   *        Table row counts SQL.
+   */
+  public InformationSchemaViewsBuilder withExtTableRowCountsSql(final String sql)
+  {
+    informationSchemaQueries.put(EXT_TABLE_ROW_COUNTS, sql);
+    return this;
+  }
+
   /**
    * Sets the foreign key SQL.
    *
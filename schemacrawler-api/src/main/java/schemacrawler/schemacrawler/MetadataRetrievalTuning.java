@@ -0,0 +1,112 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import sf.util.ObjectToString;
+
+/**
+ * JDBC statement tuning for each metadata retrieval phase. Each phase
+ * is identified by the information schema key for its query, and is
+ * tuned the same way whether it retrieves metadata from database
+ * metadata calls, or from data dictionary queries.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class MetadataRetrievalTuning
+  implements Options
+{
+
+  private static final long serialVersionUID = -2176245563902414361L;
+
+  private final StatementTuning defaultStatementTuning;
+  private final Map<InformationSchemaKey, StatementTuning> statementTunings;
+
+  /**
+   * Creates default metadata retrieval tuning.
+   */
+  public MetadataRetrievalTuning()
+  {
+    this(new MetadataRetrievalTuningBuilder().getDefaultStatementTuning(),
+         null);
+  }
+
+  MetadataRetrievalTuning(final StatementTuning defaultStatementTuning,
+                          final Map<InformationSchemaKey, StatementTuning> statementTunings)
+  {
+    this.defaultStatementTuning = requireNonNull(defaultStatementTuning,
+                                                 "No default statement tuning provided");
+    this.statementTunings = new EnumMap<>(InformationSchemaKey.class);
+    if (statementTunings != null)
+    {
+      this.statementTunings.putAll(statementTunings);
+    }
+  }
+
+  /**
+   * Gets the statement tuning used for retrieval phases that are not
+   * tuned individually.
+   *
+   * @return Default statement tuning
+   */
+  public StatementTuning getDefaultStatementTuning()
+  {
+    return defaultStatementTuning;
+  }
+
+  /**
+   * Gets the statement tuning for a metadata retrieval phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @return Statement tuning for the phase
+   */
+  public StatementTuning getStatementTuning(final InformationSchemaKey key)
+  {
+    if (key != null && statementTunings.containsKey(key))
+    {
+      return statementTunings.get(key);
+    }
+    else
+    {
+      return defaultStatementTuning;
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return ObjectToString.toString(this);
+  }
+
+}
@@ -0,0 +1,297 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import sf.util.ObjectToString;
+
+/**
+ * Builds JDBC statement tuning for each metadata retrieval phase. A
+ * phase uses its own fetch size, query timeout or result set type if
+ * one is set, and the default otherwise. Configuration properties are
+ * named like
+ * <code>schemacrawler.schema.retrieval.fetchsize.TABLE_COLUMNS</code>,
+ * and without the phase suffix for the default.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class MetadataRetrievalTuningBuilder
+  implements OptionsBuilder<MetadataRetrievalTuning>
+{
+
+  private static final String SC_RETRIEVAL_FETCH_SIZE = "schemacrawler.schema.retrieval.fetchsize";
+  private static final String SC_RETRIEVAL_QUERY_TIMEOUT = "schemacrawler.schema.retrieval.querytimeout";
+  private static final String SC_RETRIEVAL_RESULT_SET_TYPE = "schemacrawler.schema.retrieval.resultsettype";
+
+  private static final int DEFAULT_FETCH_SIZE = 20;
+
+  private static String phaseKey(final String key,
+                                 final InformationSchemaKey informationSchemaKey)
+  {
+    return key + "." + informationSchemaKey.name();
+  }
+
+  private int fetchSize;
+  private int queryTimeout;
+  private ResultSetType resultSetType;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private final Map<InformationSchemaKey, Integer> queryTimeouts;
+  private final Map<InformationSchemaKey, ResultSetType> resultSetTypes;
+
+  public MetadataRetrievalTuningBuilder()
+  {
+    fetchSize = DEFAULT_FETCH_SIZE;
+    queryTimeout = 0;
+    resultSetType = ResultSetType.forward_only;
+    fetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    queryTimeouts = new EnumMap<>(InformationSchemaKey.class);
+    resultSetTypes = new EnumMap<>(InformationSchemaKey.class);
+  }
+
+  /**
+   * Metadata retrieval tuning from a map. Negative fetch sizes and
+   * query timeouts are ignored.
+   *
+   * @param config
+   *        Configuration properties
+   */
+  @Override
+  public MetadataRetrievalTuningBuilder fromConfig(final Config config)
+  {
+    if (config == null)
+    {
+      return this;
+    }
+
+    final int fetchSize = config.getIntegerValue(SC_RETRIEVAL_FETCH_SIZE,
+                                                 this.fetchSize);
+    if (fetchSize >= 0)
+    {
+      this.fetchSize = fetchSize;
+    }
+    final int queryTimeout = config
+      .getIntegerValue(SC_RETRIEVAL_QUERY_TIMEOUT, this.queryTimeout);
+    if (queryTimeout >= 0)
+    {
+      this.queryTimeout = queryTimeout;
+    }
+    resultSetType = config.getEnumValue(SC_RETRIEVAL_RESULT_SET_TYPE,
+                                        resultSetType);
+
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      final String fetchSizeKey = phaseKey(SC_RETRIEVAL_FETCH_SIZE, key);
+      if (config.containsKey(fetchSizeKey))
+      {
+        final int phaseFetchSize = config.getIntegerValue(fetchSizeKey, -1);
+        if (phaseFetchSize >= 0)
+        {
+          fetchSizes.put(key, phaseFetchSize);
+        }
+      }
+      final String queryTimeoutKey = phaseKey(SC_RETRIEVAL_QUERY_TIMEOUT,
+                                              key);
+      if (config.containsKey(queryTimeoutKey))
+      {
+        final int phaseQueryTimeout = config.getIntegerValue(queryTimeoutKey,
+                                                             -1);
+        if (phaseQueryTimeout >= 0)
+        {
+          queryTimeouts.put(key, phaseQueryTimeout);
+        }
+      }
+      final String resultSetTypeKey = phaseKey(SC_RETRIEVAL_RESULT_SET_TYPE,
+                                               key);
+      if (config.containsKey(resultSetTypeKey))
+      {
+        resultSetTypes.put(key,
+                           config.getEnumValue(resultSetTypeKey,
+                                               resultSetType));
+      }
+    }
+
+    return this;
+  }
+
+  public StatementTuning getDefaultStatementTuning()
+  {
+    return new StatementTuning(fetchSize, queryTimeout, resultSetType);
+  }
+
+  public StatementTuning getStatementTuning(final InformationSchemaKey key)
+  {
+    requireNonNull(key, "No information schema key provided");
+    return new StatementTuning(fetchSizes.getOrDefault(key, fetchSize),
+                               queryTimeouts.getOrDefault(key, queryTimeout),
+                               resultSetTypes.getOrDefault(key,
+                                                           resultSetType));
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MetadataRetrievalTuning toOptions()
+  {
+    final Map<InformationSchemaKey, StatementTuning> statementTunings = new EnumMap<>(InformationSchemaKey.class);
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      if (fetchSizes.containsKey(key) || queryTimeouts.containsKey(key)
+          || resultSetTypes.containsKey(key))
+      {
+        statementTunings.put(key, getStatementTuning(key));
+      }
+    }
+    return new MetadataRetrievalTuning(getDefaultStatementTuning(),
+                                       statementTunings);
+  }
+
+  @Override
+  public String toString()
+  {
+    return ObjectToString.toString(this);
+  }
+
+  /**
+   * Sets the default fetch size for all retrieval phases.
+   *
+   * @param fetchSize
+   *        Number of rows fetched in each round trip, or zero for the
+   *        JDBC driver default
+   */
+  public MetadataRetrievalTuningBuilder withFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Sets the fetch size for a retrieval phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @param fetchSize
+   *        Number of rows fetched in each round trip, or zero for the
+   *        JDBC driver default
+   */
+  public MetadataRetrievalTuningBuilder withFetchSize(final InformationSchemaKey key,
+                                                     final int fetchSize)
+  {
+    requireNonNull(key, "No information schema key provided");
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    fetchSizes.put(key, fetchSize);
+    return this;
+  }
+
+  /**
+   * Sets the query timeout for a retrieval phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @param queryTimeout
+   *        Query timeout in seconds, or zero for no timeout
+   */
+  public MetadataRetrievalTuningBuilder withQueryTimeout(final InformationSchemaKey key,
+                                                         final int queryTimeout)
+  {
+    requireNonNull(key, "No information schema key provided");
+    if (queryTimeout < 0)
+    {
+      throw new IllegalArgumentException("Query timeout cannot be negative");
+    }
+    queryTimeouts.put(key, queryTimeout);
+    return this;
+  }
+
+  /**
+   * Sets the default query timeout for all retrieval phases. Query
+   * timeouts only apply to data dictionary queries, and not to database
+   * metadata calls.
+   *
+   * @param queryTimeout
+   *        Query timeout in seconds, or zero for no timeout
+   */
+  public MetadataRetrievalTuningBuilder withQueryTimeout(final int queryTimeout)
+  {
+    if (queryTimeout < 0)
+    {
+      throw new IllegalArgumentException("Query timeout cannot be negative");
+    }
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
+
+  /**
+   * Sets the result set type for a retrieval phase.
+   *
+   * @param key
+   *        Information schema key for the retrieval phase
+   * @param resultSetType
+   *        Type of result set to create
+   */
+  public MetadataRetrievalTuningBuilder withResultSetType(final InformationSchemaKey key,
+                                                          final ResultSetType resultSetType)
+  {
+    requireNonNull(key, "No information schema key provided");
+    resultSetTypes.put(key,
+                       requireNonNull(resultSetType,
+                                      "No result set type provided"));
+    return this;
+  }
+
+  /**
+   * Sets the default result set type for all retrieval phases. Result
+   * set types only apply to data dictionary queries, and not to
+   * database metadata calls.
+   *
+   * @param resultSetType
+   *        Type of result set to create
+   */
+  public MetadataRetrievalTuningBuilder withResultSetType(final ResultSetType resultSetType)
+  {
+    this.resultSetType = requireNonNull(resultSetType,
+                                        "No result set type provided");
+    return this;
+  }
+
+}
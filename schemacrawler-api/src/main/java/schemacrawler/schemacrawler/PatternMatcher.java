@@ -0,0 +1,277 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Matches text against a regular expression, without creating a
+ * matcher for common forms of regular expressions. Literal names,
+ * alternations of literal names, and literal names with leading or
+ * trailing <code>.*</code> are matched with string comparisons. Other
+ * regular expressions are matched using the pattern, and the results
+ * are cached, since the same full names are checked many times during
+ * a crawl.
+ */
+final class PatternMatcher
+{
+
+  private enum MatchType
+  {
+   any,
+   literal,
+   literals,
+   prefix,
+   suffix,
+   contains,
+   regex;
+  }
+
+  private static final int MAX_CACHED_MATCHES = 10000;
+  private static final String ANY = ".*";
+  private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final Pattern pattern;
+  private final MatchType matchType;
+  private final String literal;
+  private final Set<String> literals;
+  private final Map<String, Boolean> cachedMatches;
+
+  PatternMatcher(final Pattern pattern)
+  {
+    this.pattern = pattern;
+
+    MatchType matchType = MatchType.regex;
+    String literal = null;
+    Set<String> literals = null;
+    if (pattern.flags() == 0)
+    {
+      final String regex = pattern.pattern();
+      final boolean startsWithAny = regex.startsWith(ANY);
+      final boolean endsWithAny = regex.length() >= ANY.length() * 2
+                                  && regex.endsWith(ANY);
+      if ((literal = parseLiteral(regex)) != null)
+      {
+        matchType = MatchType.literal;
+      }
+      else if (regex.equals(ANY))
+      {
+        matchType = MatchType.any;
+      }
+      else if (startsWithAny && endsWithAny
+               && (literal = parseLiteral(regex
+                 .substring(ANY.length(), regex.length() - ANY.length()))) != null)
+      {
+        matchType = MatchType.contains;
+      }
+      else if (startsWithAny
+               && (literal = parseLiteral(regex.substring(ANY.length()))) != null)
+      {
+        matchType = MatchType.suffix;
+      }
+      else if (regex.endsWith(ANY) && (literal = parseLiteral(regex
+        .substring(0, regex.length() - ANY.length()))) != null)
+      {
+        matchType = MatchType.prefix;
+      }
+      else if ((literals = parseLiterals(regex)) != null)
+      {
+        matchType = MatchType.literals;
+      }
+    }
+    this.matchType = matchType;
+    this.literal = literal;
+    this.literals = literals;
+
+    if (matchType == MatchType.regex)
+    {
+      cachedMatches = new ConcurrentHashMap<>();
+    }
+    else
+    {
+      cachedMatches = null;
+    }
+  }
+
+  /**
+   * Checks whether the text matches the regular expression in its
+   * entirety.
+   *
+   * @param text
+   *        Text to match
+   * @return Whether the text matches
+   */
+  boolean matches(final String text)
+  {
+    switch (matchType)
+    {
+      case any:
+        return !hasLineTerminator(text, 0, text.length());
+      case literal:
+        return literal.equals(text);
+      case literals:
+        return literals.contains(text);
+      case prefix:
+        return text.startsWith(literal)
+               && !hasLineTerminator(text, literal.length(), text.length());
+      case suffix:
+        return text.endsWith(literal)
+               && !hasLineTerminator(text,
+                                     0,
+                                     text.length() - literal.length());
+      case contains:
+        // Any occurrence will do, since the text has no line terminators
+        return text.contains(literal)
+               && !hasLineTerminator(text, 0, text.length());
+      default:
+        final Boolean cachedMatch = cachedMatches.get(text);
+        if (cachedMatch != null)
+        {
+          return cachedMatch;
+        }
+        final boolean matches = pattern.matcher(text).matches();
+        if (cachedMatches.size() < MAX_CACHED_MATCHES)
+        {
+          cachedMatches.put(text, matches);
+        }
+        return matches;
+    }
+  }
+
+  /**
+   * Checks for characters that are not matched by a <code>.</code> in
+   * a regular expression.
+   */
+  private boolean hasLineTerminator(final String text,
+                                    final int start,
+                                    final int end)
+  {
+    for (int i = start; i < end; i++)
+    {
+      final char ch = text.charAt(i);
+      if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028'
+          || ch == '\u2029')
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parses a regular expression that matches exactly one string, made
+   * up of ordinary characters, and punctuation escaped with a
+   * backslash.
+   *
+   * @return String matched by the regular expression, or null if the
+   *         regular expression is not a literal
+   */
+  private String parseLiteral(final String regex)
+  {
+    final StringBuilder buffer = new StringBuilder(regex.length());
+    for (int i = 0; i < regex.length(); i++)
+    {
+      final char ch = regex.charAt(i);
+      if (ch == '\\')
+      {
+        i++;
+        // Escaped letters and digits denote character classes, and
+        // other constructs
+        if (i == regex.length() || Character.isLetterOrDigit(regex.charAt(i)))
+        {
+          return null;
+        }
+        buffer.append(regex.charAt(i));
+      }
+      else if (META_CHARACTERS.indexOf(ch) >= 0)
+      {
+        return null;
+      }
+      else
+      {
+        buffer.append(ch);
+      }
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Parses a regular expression that is an alternation of literals,
+   * optionally enclosed in a group, such as
+   * <code>(?:TABLE1|TABLE2)</code>.
+   *
+   * @return Strings matched by the regular expression, or null if the
+   *         regular expression is not an alternation of literals
+   */
+  private Set<String> parseLiterals(final String regex)
+  {
+    String alternatives = regex;
+    if (alternatives.startsWith("(?:") && alternatives.endsWith(")"))
+    {
+      alternatives = alternatives.substring(3, alternatives.length() - 1);
+    }
+    else if (alternatives.startsWith("(") && !alternatives.startsWith("(?")
+             && alternatives.endsWith(")"))
+    {
+      alternatives = alternatives.substring(1, alternatives.length() - 1);
+    }
+
+    final Set<String> literals = new HashSet<>();
+    int start = 0;
+    for (int i = 0; i <= alternatives.length(); i++)
+    {
+      if (i < alternatives.length() && alternatives.charAt(i) == '\\')
+      {
+        // Skip escaped character
+        i++;
+      }
+      else if (i >= alternatives.length() || alternatives.charAt(i) == '|')
+      {
+        final String literal = parseLiteral(alternatives
+          .substring(start, Math.min(i, alternatives.length())));
+        if (literal == null)
+        {
+          return null;
+        }
+        literals.add(literal);
+        start = i + 1;
+      }
+    }
+    if (literals.size() < 2)
+    {
+      return null;
+    }
+    return literals;
+  }
+
+}
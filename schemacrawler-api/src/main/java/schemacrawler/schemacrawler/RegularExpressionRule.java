@@ -54,6 +54,8 @@ public final class RegularExpressionRule
 
   private final Pattern patternInclude;
   private final Pattern patternExclude;
+  private final transient PatternMatcher includeMatcher;
+  private final transient PatternMatcher excludeMatcher;
 
   /**
    * Set include and exclude patterns.
@@ -86,6 +88,9 @@ public final class RegularExpressionRule
     {
       this.patternExclude = patternExclude;
     }
+
+    includeMatcher = new PatternMatcher(this.patternInclude);
+    excludeMatcher = new PatternMatcher(this.patternExclude);
   }
 
   /**
@@ -168,18 +173,28 @@ public final class RegularExpressionRule
   @Override
   public boolean test(final String text)
   {
-
-    final StringFormat actionMessage;
-    boolean include = false;
-    if (!isBlank(text))
+    final boolean isBlankText = isBlank(text);
+    final boolean matchesInclude = !isBlankText
+                                   && includeMatcher.matches(text);
+    final boolean matchesExclude = matchesInclude
+                                   && excludeMatcher.matches(text);
+    final boolean include = matchesInclude && !matchesExclude;
+
+    // Log caller, building the message only if it will be logged
+    if (LOGGER.isLoggable(Level.FINE))
     {
-      if (!patternInclude.matcher(text).matches())
+      final StringFormat actionMessage;
+      if (isBlankText)
+      {
+        actionMessage = new StringFormat("Excluding, since text is bank");
+      }
+      else if (!matchesInclude)
       {
         actionMessage = new StringFormat("Excluding <%s> since it does not match /%s/",
                                          text,
                                          patternInclude.pattern());
       }
-      else if (patternExclude.matcher(text).matches())
+      else if (matchesExclude)
       {
         actionMessage = new StringFormat("Excluding <%s> since it matches /%s/",
                                          text,
@@ -190,17 +205,7 @@ public final class RegularExpressionRule
         actionMessage = new StringFormat("Including <%s> since it matches /%s/",
                                          text,
                                          patternInclude.pattern());
-        include = true;
       }
-    }
-    else
-    {
-      actionMessage = new StringFormat("Excluding, since text is bank");
-    }
-
-    // Log caller
-    if (LOGGER.isLoggable(Level.FINE))
-    {
       LOGGER.log(Level.FINE, 5, actionMessage.get(), null);
     }
 
@@ -220,4 +225,12 @@ public final class RegularExpressionRule
                          patternExclude.pattern());
   }
 
+  /**
+   * Creates the pattern matchers, which are not serialized.
+   */
+  private Object readResolve()
+  {
+    return new RegularExpressionRule(patternInclude, patternExclude);
+  }
+
 }
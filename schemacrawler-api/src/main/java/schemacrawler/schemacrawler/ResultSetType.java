@@ -0,0 +1,62 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import java.sql.ResultSet;
+
+/**
+ * Type of JDBC result set to create for metadata queries.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum ResultSetType
+{
+
+ forward_only(ResultSet.TYPE_FORWARD_ONLY),
+ scroll_insensitive(ResultSet.TYPE_SCROLL_INSENSITIVE),
+ scroll_sensitive(ResultSet.TYPE_SCROLL_SENSITIVE);
+
+  private final int resultSetType;
+
+  private ResultSetType(final int resultSetType)
+  {
+    this.resultSetType = resultSetType;
+  }
+
+  /**
+   * JDBC result set type constant.
+   *
+   * @return One of the <code>ResultSet.TYPE_*</code> constants
+   */
+  public int getResultSetType()
+  {
+    return resultSetType;
+  }
+
+}
@@ -88,6 +88,11 @@ public final class SchemaCrawlerOptions
   private int childTableFilterDepth;
   private int parentTableFilterDepth;
 
+  private int crawlThreads;
+  private boolean retrieveTableChangeIndicators;
+
+  private InclusionRule attributeInclusionRule;
+
   /**
    * Default options.
    */
@@ -113,13 +118,52 @@ public final class SchemaCrawlerOptions
     routineInclusionRule = new ExcludeAll();
     routineColumnInclusionRule = new ExcludeAll();
 
+    crawlThreads = 1;
+
+    // All additional metadata attributes are captured by default
+    attributeInclusionRule = new IncludeAll();
+  }
+
+  /**
+   * Gets the inclusion rule for additional metadata attributes, that
+   * is, columns returned by the JDBC driver which SchemaCrawler does
+   * not otherwise map. Attributes are captured for all database objects
+   * by default. No attributes are read if the rule excludes all
+   * columns.
+   *
+   * @return Attribute inclusion rule.
+   */
+  public InclusionRule getAttributeInclusionRule()
+  {
+    return attributeInclusionRule;
   }
 
+  /**
+   * Number of generations of child tables of the selected tables to
+   * include. Child tables may be in other schemas, so when this is
+   * greater than 0, binary offline snapshots are loaded in full, and
+   * not only the sections for the included schemas.
+   *
+   * @return Depth of child tables
+   */
   public int getChildTableFilterDepth()
   {
     return childTableFilterDepth;
   }
 
+  /**
+   * Number of threads to use for crawling. Independent phases of the
+   * crawl are run concurrently on separate connections, if more than
+   * one thread is requested, and SchemaCrawler can obtain connections
+   * from a data source.
+   *
+   * @return Number of crawl threads
+   */
+  public int getCrawlThreads()
+  {
+    return crawlThreads;
+  }
+
   /**
    * Gets the column inclusion rule.
    *
@@ -160,6 +204,14 @@ public final class SchemaCrawlerOptions
     return grepRoutineColumnInclusionRule;
   }
 
+  /**
+   * Number of generations of parent tables of the selected tables to
+   * include. Parent tables may be in other schemas, so when this is
+   * greater than 0, binary offline snapshots are loaded in full, and
+   * not only the sections for the included schemas.
+   *
+   * @return Depth of parent tables
+   */
   public int getParentTableFilterDepth()
   {
     return parentTableFilterDepth;
@@ -320,11 +372,51 @@ public final class SchemaCrawlerOptions
     return hideEmptyTables;
   }
 
+  /**
+   * Whether change indicators are retrieved for tables, so that the
+   * catalog can be the starting point for a later incremental crawl.
+   * Incremental crawls always retrieve change indicators.
+   *
+   * @return Whether to retrieve table change indicators
+   */
+  public boolean isRetrieveTableChangeIndicators()
+  {
+    return retrieveTableChangeIndicators;
+  }
+
+  /**
+   * Sets the inclusion rule for additional metadata attributes.
+   *
+   * @param attributeInclusionRule
+   *        Attribute inclusion rule
+   */
+  public void setAttributeInclusionRule(final InclusionRule attributeInclusionRule)
+  {
+    this.attributeInclusionRule = requireNonNull(attributeInclusionRule,
+                                                 "Cannot use null value in a setter");
+  }
+
   public void setChildTableFilterDepth(final int childTableFilterDepth)
   {
     this.childTableFilterDepth = childTableFilterDepth;
   }
 
+  /**
+   * Sets the number of threads to use for crawling. A single thread
+   * crawls sequentially.
+   *
+   * @param crawlThreads
+   *        Number of crawl threads
+   */
+  public void setCrawlThreads(final int crawlThreads)
+  {
+    if (crawlThreads < 1)
+    {
+      throw new IllegalArgumentException("Need at least one crawl thread");
+    }
+    this.crawlThreads = crawlThreads;
+  }
+
   /**
    * Sets the column inclusion rule.
    *
@@ -417,6 +509,19 @@ public final class SchemaCrawlerOptions
    * @param routineColumnInclusionRule
    *        Routine column inclusion rule
    */
+  /**
+   * Sets whether change indicators are retrieved for tables, so that
+   * the catalog can be the starting point for a later incremental
+   * crawl. This needs an extra query, so it is off by default.
+   *
+   * @param retrieveTableChangeIndicators
+   *        Whether to retrieve table change indicators
+   */
+  public void setRetrieveTableChangeIndicators(final boolean retrieveTableChangeIndicators)
+  {
+    this.retrieveTableChangeIndicators = retrieveTableChangeIndicators;
+  }
+
   public void setRoutineColumnInclusionRule(final InclusionRule routineColumnInclusionRule)
   {
     this.routineColumnInclusionRule = requireNonNull(routineColumnInclusionRule,
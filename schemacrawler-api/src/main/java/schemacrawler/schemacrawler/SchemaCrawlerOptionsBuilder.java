@@ -63,6 +63,9 @@ public class SchemaCrawlerOptionsBuilder
   private static final String SC_ROUTINE_COLUMN_PATTERN_EXCLUDE = "schemacrawler.routine.inout.pattern.exclude";
   private static final String SC_ROUTINE_COLUMN_PATTERN_INCLUDE = "schemacrawler.routine.inout.pattern.include";
 
+  private static final String SC_ATTRIBUTE_PATTERN_EXCLUDE = "schemacrawler.attribute.pattern.exclude";
+  private static final String SC_ATTRIBUTE_PATTERN_INCLUDE = "schemacrawler.attribute.pattern.include";
+
   private static final String SC_GREP_COLUMN_PATTERN_INCLUDE = "schemacrawler.grep.column.pattern.include";
   private static final String SC_GREP_COLUMN_PATTERN_EXCLUDE = "schemacrawler.grep.column.pattern.exclude";
   private static final String SC_GREP_ROUTINE_COLUMN_PATTERN_EXCLUDE = "schemacrawler.grep.routine.inout.pattern.exclude";
@@ -70,6 +73,8 @@ public class SchemaCrawlerOptionsBuilder
   private static final String SC_GREP_DEFINITION_PATTERN_EXCLUDE = "schemacrawler.grep.definition.pattern.exclude";
   private static final String SC_GREP_DEFINITION_PATTERN_INCLUDE = "schemacrawler.grep.definition.pattern.include";
 
+  private static final String SC_CRAWL_THREADS = "schemacrawler.crawl.threads";
+
   private final SchemaCrawlerOptions options;
 
   public SchemaCrawlerOptionsBuilder()
@@ -88,6 +93,12 @@ public class SchemaCrawlerOptionsBuilder
     return this;
   }
 
+  public SchemaCrawlerOptionsBuilder crawlThreads(final int crawlThreads)
+  {
+    options.setCrawlThreads(crawlThreads);
+    return this;
+  }
+
   /**
    * Options from properties.
    *
@@ -128,6 +139,10 @@ public class SchemaCrawlerOptionsBuilder
       .getInclusionRule(SC_ROUTINE_COLUMN_PATTERN_INCLUDE,
                         SC_ROUTINE_COLUMN_PATTERN_EXCLUDE));
 
+    options.setAttributeInclusionRule(configProperties
+      .getInclusionRule(SC_ATTRIBUTE_PATTERN_INCLUDE,
+                        SC_ATTRIBUTE_PATTERN_EXCLUDE));
+
     options.setGrepColumnInclusionRule(configProperties
       .getInclusionRuleOrNull(SC_GREP_COLUMN_PATTERN_INCLUDE,
                               SC_GREP_COLUMN_PATTERN_EXCLUDE));
@@ -138,6 +153,9 @@ public class SchemaCrawlerOptionsBuilder
       .getInclusionRuleOrNull(SC_GREP_DEFINITION_PATTERN_INCLUDE,
                               SC_GREP_DEFINITION_PATTERN_EXCLUDE));
 
+    options.setCrawlThreads(Math.max(1, configProperties
+      .getIntegerValue(SC_CRAWL_THREADS, 1)));
+
     return this;
   }
 
@@ -153,6 +171,21 @@ public class SchemaCrawlerOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets which additional metadata attributes to capture. Use
+   * {@link ExcludeAll} to turn off attribute capture, a regular
+   * expression inclusion rule to capture only some attributes, or
+   * {@link IncludeAll} to capture all attributes, which is the default.
+   *
+   * @param attributeInclusionRule
+   *        Attribute inclusion rule
+   */
+  public SchemaCrawlerOptionsBuilder includeAttributes(final InclusionRule attributeInclusionRule)
+  {
+    options.setAttributeInclusionRule(attributeInclusionRule);
+    return this;
+  }
+
   public SchemaCrawlerOptionsBuilder includeColumns(final InclusionRule columnInclusionRule)
   {
     options.setColumnInclusionRule(columnInclusionRule);
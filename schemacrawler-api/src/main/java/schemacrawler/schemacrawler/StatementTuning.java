@@ -0,0 +1,201 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schemacrawler;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+
+import sf.util.ObjectToString;
+import sf.util.SchemaCrawlerLogger;
+
+/**
+ * JDBC fetch size, query timeout and result set type used for a
+ * metadata or data query. A fetch size or query timeout of zero leaves
+ * the JDBC driver default in place.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class StatementTuning
+  implements Options
+{
+
+  private static final long serialVersionUID = 4290513917458316062L;
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(StatementTuning.class.getName());
+
+  private final int fetchSize;
+  private final int queryTimeout;
+  private final ResultSetType resultSetType;
+
+  /**
+   * Statement tuning with the given fetch size, and driver defaults for
+   * everything else.
+   *
+   * @param fetchSize
+   *        Number of rows fetched in each round trip to the database
+   */
+  public StatementTuning(final int fetchSize)
+  {
+    this(fetchSize, 0, ResultSetType.forward_only);
+  }
+
+  /**
+   * Statement tuning.
+   *
+   * @param fetchSize
+   *        Number of rows fetched in each round trip to the database
+   * @param queryTimeout
+   *        Query timeout, in seconds
+   * @param resultSetType
+   *        Type of result set to create
+   */
+  public StatementTuning(final int fetchSize,
+                         final int queryTimeout,
+                         final ResultSetType resultSetType)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    if (queryTimeout < 0)
+    {
+      throw new IllegalArgumentException("Query timeout cannot be negative");
+    }
+    this.fetchSize = fetchSize;
+    this.queryTimeout = queryTimeout;
+    this.resultSetType = requireNonNull(resultSetType,
+                                        "No result set type provided");
+  }
+
+  /**
+   * Creates a read-only statement, with this fetch size, query timeout
+   * and result set type. Settings that the JDBC driver does not support
+   * are logged, and skipped.
+   *
+   * @param connection
+   *        Database connection
+   * @return Statement
+   * @throws SQLException
+   *         On an exception creating the statement
+   */
+  public Statement createStatement(final Connection connection)
+    throws SQLException
+  {
+    requireNonNull(connection, "No connection provided");
+
+    final Statement statement;
+    if (resultSetType == ResultSetType.forward_only)
+    {
+      statement = connection.createStatement();
+    }
+    else
+    {
+      statement = connection
+        .createStatement(resultSetType.getResultSetType(),
+                         ResultSet.CONCUR_READ_ONLY);
+    }
+
+    if (fetchSize > 0)
+    {
+      try
+      {
+        statement.setFetchSize(fetchSize);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
+    }
+    if (queryTimeout > 0)
+    {
+      try
+      {
+        statement.setQueryTimeout(queryTimeout);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not set query timeout", e);
+      }
+    }
+
+    return statement;
+  }
+
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  public int getQueryTimeout()
+  {
+    return queryTimeout;
+  }
+
+  public ResultSetType getResultSetType()
+  {
+    return resultSetType;
+  }
+
+  @Override
+  public String toString()
+  {
+    return ObjectToString.toString(this);
+  }
+
+  /**
+   * Sets the fetch size on results that were not created from a
+   * statement, such as database metadata results. The query timeout and
+   * result set type cannot be applied after the fact.
+   *
+   * @param results
+   *        Results to tune
+   */
+  public void tune(final ResultSet results)
+  {
+    if (results == null || fetchSize <= 0)
+    {
+      return;
+    }
+    try
+    {
+      results.setFetchSize(fetchSize);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
+}
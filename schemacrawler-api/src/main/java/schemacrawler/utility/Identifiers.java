@@ -31,24 +31,15 @@ package schemacrawler.utility;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.logging.Level;
-import java.util.regex.Pattern;
 
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DependantObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.Schema;
-import sf.util.SchemaCrawlerLogger;
 
 /**
  * Allows working with database object identifiers. All SQL 2003
@@ -63,83 +54,13 @@ public final class Identifiers
   public static class Builder
   {
 
-    /**
-     * Load a list of SQL 2003 reserved words, and normalize them by
-     * converting to uppercase.
-     */
-    private static Collection<String> loadSql2003ReservedWords()
-    {
-      final Set<String> reservedWords = new HashSet<>();
-      try (
-          final BufferedReader reader = new BufferedReader(new InputStreamReader(Identifiers.class
-            .getResourceAsStream("/sql2003_reserved_words.txt")));)
-      {
-        String line;
-        while ((line = reader.readLine()) != null)
-        {
-          if (!isBlank(line))
-          {
-            reservedWords.add(line);
-          }
-        }
-      }
-      catch (final IOException e)
-      {
-        LOGGER.log(Level.WARNING,
-                   "Could not read list of SQL 2003 reserved words",
-                   e);
-      }
-      if (reservedWords.isEmpty())
-      {
-        throw new RuntimeException("No SQL 2003 reserved words found");
-      }
-
-      return toUpperCase(reservedWords);
-    }
-
-    /**
-     * Lookup a list of reserved words for a database system, using
-     * database metadata.
-     */
-    private static Collection<String> lookupReservedWords(final DatabaseMetaData metaData)
-    {
-      String sqlKeywords = "";
-      try
-      {
-        sqlKeywords = metaData.getSQLKeywords();
-      }
-      catch (final Exception e)
-      {
-        LOGGER
-          .log(Level.WARNING, "Could not retrieve SQL keywords metadata", e);
-      }
-
-      return toUpperCase(Arrays.asList(sqlKeywords.split(",")));
-    }
-
-    private static Collection<String> toUpperCase(final Iterable<String> words)
-    {
-      final Collection<String> upperCaseWords = new HashSet<>();
-      if (words != null)
-      {
-        for (final String word: words)
-        {
-          if (!isBlank(word))
-          {
-            upperCaseWords.add(word.toUpperCase());
-          }
-        }
-      }
-      return upperCaseWords;
-    }
-
     private String identifierQuoteString;
     private IdentifierQuotingStrategy identifierQuotingStrategy;
-    private final Collection<String> reservedWords;
+    private ReservedWords reservedWords;
 
     private Builder()
     {
-      reservedWords = loadSql2003ReservedWords();
+      reservedWords = ReservedWords.SQL2003;
       identifierQuotingStrategy = IdentifierQuotingStrategy.quote_if_special_characters_and_reserved_words;
     }
 
@@ -151,7 +72,9 @@ public final class Identifiers
     /**
      * Constructs a list of database object identifiers from SQL 2003
      * keywords, and from the database server. Also obtains the
-     * identifier quote string from the database server.
+     * identifier quote string from the database server. Values
+     * obtained from the database server are cached for the database
+     * and driver, so they are only looked up once.
      *
      * @param connection
      *        Live database connection
@@ -164,11 +87,21 @@ public final class Identifiers
       final DatabaseMetaData metaData = requireNonNull(connection
         .getMetaData(), "No database metadata obtained");
 
-      reservedWords.addAll(lookupReservedWords(metaData));
+      final IdentifiersCache.CachedIdentifiers cachedIdentifiers = IdentifiersCache
+        .lookup(metaData);
+      if (reservedWords == ReservedWords.SQL2003)
+      {
+        reservedWords = cachedIdentifiers.getReservedWords();
+      }
+      else
+      {
+        reservedWords = reservedWords
+          .with(cachedIdentifiers.getSqlKeywords());
+      }
 
       if (!isIdentifierQuoteStringSet())
       {
-        final String metaDataIdentifierQuoteString = metaData
+        final String metaDataIdentifierQuoteString = cachedIdentifiers
           .getIdentifierQuoteString();
         if (metaDataIdentifierQuoteString != null)
         {
@@ -252,13 +185,6 @@ public final class Identifiers
   public static final Identifiers STANDARD = Identifiers.identifiers()
     .withIdentifierQuoteString("\"").build();
 
-  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
-    .getLogger(Identifiers.class.getName());
-
-  private static final Pattern isIdentifier = Pattern
-    .compile("^[\\p{Nd}\\p{L}\\p{M}_]*$");
-  private static final Pattern isAllNumeric = Pattern.compile("^\\p{Nd}*$");
-
   public static Builder identifiers()
   {
     return new Builder();
@@ -266,7 +192,9 @@ public final class Identifiers
 
   /**
    * Checks if the name is valid database object identifier, according
-   * to the rules of most databases.
+   * to the rules of most databases. A valid identifier consists only of
+   * letters, decimal digits, combining marks and underscores, and is
+   * not all numeric.
    *
    * @param name
    *        Name to check.
@@ -278,16 +206,56 @@ public final class Identifiers
     {
       return false;
     }
-    else
+
+    boolean isAllNumeric = true;
+    int i = 0;
+    while (i < name.length())
     {
-      return isIdentifier.matcher(name).matches()
-             && !isAllNumeric.matcher(name).matches();
+      final int codePoint = name.codePointAt(i);
+      if (codePoint < 128)
+      {
+        if (codePoint >= '0' && codePoint <= '9')
+        {
+          // Digits are allowed, but not on their own
+        }
+        else if (codePoint >= 'A' && codePoint <= 'Z'
+                 || codePoint >= 'a' && codePoint <= 'z'
+                 || codePoint == '_')
+        {
+          isAllNumeric = false;
+        }
+        else
+        {
+          return false;
+        }
+      }
+      else
+      {
+        final int type = Character.getType(codePoint);
+        if (type == Character.DECIMAL_DIGIT_NUMBER)
+        {
+          // Digits are allowed, but not on their own
+        }
+        else if (Character.isLetter(codePoint)
+                 || type == Character.NON_SPACING_MARK
+                 || type == Character.ENCLOSING_MARK
+                 || type == Character.COMBINING_SPACING_MARK)
+        {
+          isAllNumeric = false;
+        }
+        else
+        {
+          return false;
+        }
+      }
+      i = i + Character.charCount(codePoint);
     }
+    return !isAllNumeric;
   }
 
   private final String identifierQuoteString;
   private final IdentifierQuotingStrategy identifierQuotingStrategy;
-  private final Collection<String> reservedWords;
+  private final ReservedWords reservedWords;
 
   private Identifiers(final Builder builder)
   {
@@ -325,7 +293,7 @@ public final class Identifiers
    */
   public Collection<String> getReservedWords()
   {
-    return new HashSet<>(reservedWords);
+    return reservedWords.toSet();
   }
 
   /**
@@ -352,7 +320,7 @@ public final class Identifiers
 
   /**
    * Checks if a given word is a reserved word. Searches are
-   * case-insensitive.
+   * case-insensitive, and ignore leading and trailing whitespace.
    *
    * @param word
    *        Word to check
@@ -360,7 +328,7 @@ public final class Identifiers
    */
   public boolean isReservedWord(final String word)
   {
-    return !isBlank(word) && reservedWords.contains(word.trim().toUpperCase());
+    return reservedWords.contains(word);
   }
 
   /**
@@ -0,0 +1,315 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static java.nio.file.Files.newBufferedReader;
+import static java.nio.file.Files.newBufferedWriter;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Caches the reserved words and identifier quote string obtained from
+ * database metadata, keyed by the database product and version, and
+ * the driver and version. The cache is shared by all
+ * {@link Identifiers} built in the same process, and can be saved to,
+ * and loaded from a file so that it can be reused between runs.
+ */
+public final class IdentifiersCache
+{
+
+  static final class CachedIdentifiers
+  {
+
+    private final String identifierQuoteString;
+    private final Collection<String> sqlKeywords;
+    private final ReservedWords reservedWords;
+
+    CachedIdentifiers(final Collection<String> sqlKeywords,
+                      final String identifierQuoteString)
+    {
+      this.sqlKeywords = sqlKeywords;
+      this.identifierQuoteString = identifierQuoteString;
+      reservedWords = ReservedWords.SQL2003.with(sqlKeywords);
+    }
+
+    String getIdentifierQuoteString()
+    {
+      return identifierQuoteString;
+    }
+
+    ReservedWords getReservedWords()
+    {
+      return reservedWords;
+    }
+
+    Collection<String> getSqlKeywords()
+    {
+      return sqlKeywords;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(IdentifiersCache.class.getName());
+
+  private static final String IDENTIFIER_QUOTE_STRING = ".identifier_quote_string";
+  private static final String SQL_KEYWORDS = ".sql_keywords";
+
+  private static final Map<String, CachedIdentifiers> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Clears all cached identifiers.
+   */
+  public static void clear()
+  {
+    cache.clear();
+  }
+
+  /**
+   * Loads cached identifiers from a file that was previously saved.
+   * Entries in the file replace entries in the cache for the same
+   * database and driver.
+   *
+   * @param cacheFile
+   *        File to load
+   * @throws IOException
+   *         On an exception reading the file
+   */
+  public static void load(final Path cacheFile)
+    throws IOException
+  {
+    requireNonNull(cacheFile, "No cache file provided");
+    if (!Files.isReadable(cacheFile))
+    {
+      LOGGER.log(Level.CONFIG,
+                 new StringFormat("Identifiers cache file not found, %s",
+                                  cacheFile));
+      return;
+    }
+
+    final Properties properties = new Properties();
+    try (final Reader reader = newBufferedReader(cacheFile,
+                                                 StandardCharsets.UTF_8);)
+    {
+      properties.load(reader);
+    }
+
+    for (final String name: properties.stringPropertyNames())
+    {
+      if (!name.endsWith(SQL_KEYWORDS))
+      {
+        continue;
+      }
+      final String key = name.substring(0,
+                                        name.length() - SQL_KEYWORDS.length());
+      final Collection<String> sqlKeywords = splitKeywords(properties
+        .getProperty(name));
+      final String identifierQuoteString = properties
+        .getProperty(key + IDENTIFIER_QUOTE_STRING);
+      cache.put(key,
+                new CachedIdentifiers(sqlKeywords, identifierQuoteString));
+    }
+    LOGGER.log(Level.CONFIG,
+               new StringFormat("Loaded %d cached identifiers from %s",
+                                cache.size(),
+                                cacheFile));
+  }
+
+  /**
+   * Saves all cached identifiers to a file, so that they can be loaded
+   * again in the next run.
+   *
+   * @param cacheFile
+   *        File to save to
+   * @throws IOException
+   *         On an exception writing the file
+   */
+  public static void save(final Path cacheFile)
+    throws IOException
+  {
+    requireNonNull(cacheFile, "No cache file provided");
+
+    final Properties properties = new Properties();
+    for (final Map.Entry<String, CachedIdentifiers> entry: cache.entrySet())
+    {
+      final String key = entry.getKey();
+      final CachedIdentifiers cachedIdentifiers = entry.getValue();
+      properties.setProperty(key + SQL_KEYWORDS,
+                             String.join(",",
+                                         cachedIdentifiers.getSqlKeywords()));
+      final String identifierQuoteString = cachedIdentifiers
+        .getIdentifierQuoteString();
+      if (identifierQuoteString != null)
+      {
+        properties.setProperty(key + IDENTIFIER_QUOTE_STRING,
+                               identifierQuoteString);
+      }
+    }
+
+    try (final Writer writer = newBufferedWriter(cacheFile,
+                                                 StandardCharsets.UTF_8,
+                                                 WRITE,
+                                                 CREATE,
+                                                 TRUNCATE_EXISTING);)
+    {
+      properties.store(writer, "SchemaCrawler identifiers cache");
+    }
+  }
+
+  /**
+   * Number of databases and drivers with cached identifiers.
+   *
+   * @return Number of cache entries
+   */
+  public static int size()
+  {
+    return cache.size();
+  }
+
+  /**
+   * Looks up cached identifiers for the database and driver, and
+   * obtains them from database metadata if they are not cached.
+   *
+   * @param metaData
+   *        Database metadata
+   * @return Cached identifiers
+   */
+  static CachedIdentifiers lookup(final DatabaseMetaData metaData)
+  {
+    final String key = cacheKey(metaData);
+    if (key == null)
+    {
+      return lookupCachedIdentifiers(metaData);
+    }
+
+    CachedIdentifiers cachedIdentifiers = cache.get(key);
+    if (cachedIdentifiers == null)
+    {
+      cachedIdentifiers = lookupCachedIdentifiers(metaData);
+      final CachedIdentifiers previous = cache.putIfAbsent(key,
+                                                           cachedIdentifiers);
+      if (previous != null)
+      {
+        cachedIdentifiers = previous;
+      }
+    }
+    return cachedIdentifiers;
+  }
+
+  private static String cacheKey(final DatabaseMetaData metaData)
+  {
+    try
+    {
+      return String.join("|",
+                         String.valueOf(metaData.getDatabaseProductName()),
+                         String.valueOf(metaData.getDatabaseProductVersion()),
+                         String.valueOf(metaData.getDriverName()),
+                         String.valueOf(metaData.getDriverVersion()));
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.FINE,
+                 "Could not identify database and driver, so not caching identifiers",
+                 e);
+      return null;
+    }
+  }
+
+  private static CachedIdentifiers lookupCachedIdentifiers(final DatabaseMetaData metaData)
+  {
+    String sqlKeywords = "";
+    try
+    {
+      sqlKeywords = metaData.getSQLKeywords();
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING, "Could not retrieve SQL keywords metadata", e);
+    }
+
+    String identifierQuoteString = null;
+    try
+    {
+      identifierQuoteString = metaData.getIdentifierQuoteString();
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not retrieve identifier quote string metadata",
+                 e);
+    }
+
+    return new CachedIdentifiers(splitKeywords(sqlKeywords),
+                                 identifierQuoteString);
+  }
+
+  private static Collection<String> splitKeywords(final String sqlKeywords)
+  {
+    final List<String> keywords = new ArrayList<>();
+    if (sqlKeywords != null)
+    {
+      for (final String keyword: Arrays.asList(sqlKeywords.split(",")))
+      {
+        if (!isBlank(keyword))
+        {
+          keywords.add(keyword.trim().toUpperCase());
+        }
+      }
+    }
+    return keywords;
+  }
+
+  private IdentifiersCache()
+  {
+    // Prevent instantiation
+  }
+
+}
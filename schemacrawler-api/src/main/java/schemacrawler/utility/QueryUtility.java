@@ -29,6 +29,7 @@ package schemacrawler.utility;
 
 
 import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.createStatement;
 import static sf.util.DatabaseUtility.executeSql;
 import static sf.util.DatabaseUtility.executeSqlForLong;
 import static sf.util.DatabaseUtility.executeSqlForScalar;
@@ -38,10 +39,12 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -53,6 +56,7 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InclusionRuleWithRegularExpression;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 import sf.util.UtilityMarker;
@@ -76,6 +80,44 @@ public final class QueryUtility
     return executeSql(statement, sql);
   }
 
+  /**
+   * Executes a query, with the ${schemas}, ${tables}, ${columns} and
+   * ${routines} variables set to the inclusion patterns for schemas,
+   * tables, table columns and routines, so that data dictionary queries
+   * can filter out excluded objects in the database.
+   *
+   * @param query
+   *        Query to execute
+   * @param statement
+   *        Statement to execute the query with
+   * @param options
+   *        SchemaCrawler options with inclusion rules
+   * @return Results of the query
+   */
+  public static ResultSet executeAgainstSchema(final Query query,
+                                               final Statement statement,
+                                               final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    requireNonNull(query, "No query provided");
+    requireNonNull(options, "No SchemaCrawler options provided");
+
+    final Map<String, String> properties = new HashMap<>();
+    properties.put("schemas",
+                   getInclusionPattern(options.getSchemaInclusionRule()));
+    properties.put("tables",
+                   getInclusionPattern(options.getTableInclusionRule()));
+    properties.put("columns",
+                   getInclusionPattern(options.getColumnInclusionRule()));
+    properties.put("routines",
+                   getInclusionPattern(options.getRoutineInclusionRule()));
+
+    final String sql = getQuery(query, properties);
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSql(statement, sql);
+  }
+
   public static ResultSet executeAgainstTable(final Query query,
                                               final Statement statement,
                                               final Table table,
@@ -132,6 +174,102 @@ public final class QueryUtility
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Executes a query against a batch of tables, in a single round trip
+   * to the database. The query is expanded for each table, in the same
+   * way as for a single table, and needs to return a single column, and
+   * at most one row, for each table. Expanded queries are combined with
+   * UNION ALL, each as a derived table tagged with the position of the
+   * table in the batch. If the connection is in a transaction, the
+   * combined query runs inside a savepoint, which is rolled back if the
+   * query fails, so that the transaction can still be used, for example
+   * to query the tables one at a time.
+   *
+   * @param query
+   *        Query to expand for each table
+   * @param connection
+   *        Database connection
+   * @param tables
+   *        Batch of tables
+   * @param identifiers
+   *        Identifiers, used to quote table and column names
+   * @return Query result for each table that returned a row
+   * @throws SchemaCrawlerException
+   *         If the combined query could not be executed, or returned
+   *         more than one row for a table
+   */
+  public static Map<Table, Object> executeForScalars(final Query query,
+                                                     final Connection connection,
+                                                     final List<Table> tables,
+                                                     final Identifiers identifiers)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(identifiers, "No identifiers provided");
+
+    final Map<Table, Object> scalars = new IdentityHashMap<>();
+    if (tables.isEmpty())
+    {
+      return scalars;
+    }
+
+    final StringBuilder buffer = new StringBuilder(tables.size() * 64);
+    for (int i = 0; i < tables.size(); i++)
+    {
+      if (i > 0)
+      {
+        buffer.append(System.lineSeparator()).append("UNION ALL")
+          .append(System.lineSeparator());
+      }
+      buffer.append("SELECT ").append(i).append(" AS TABLE_INDEX, Q").append(i)
+        .append(".* FROM (")
+        .append(getQuery(query, tables.get(i), true, identifiers))
+        .append(") Q").append(i);
+    }
+    final String sql = buffer.toString();
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s for %d tables: %n%s",
+                                query.getName(),
+                                tables.size(),
+                                sql));
+    final Savepoint savepoint = setSavepoint(connection);
+    try (final Statement statement = createStatement(connection);
+        final ResultSet resultSet = executeSql(statement, sql, true);)
+    {
+      if (resultSet == null)
+      {
+        releaseSavepoint(connection, savepoint);
+        return scalars;
+      }
+
+      if (resultSet.getMetaData().getColumnCount() != 2)
+      {
+        throw new SchemaCrawlerException("Too many columns of data returned");
+      }
+
+      while (resultSet.next())
+      {
+        final Table table = tables.get(resultSet.getInt(1));
+        if (scalars.containsKey(table))
+        {
+          throw new SchemaCrawlerException(String
+            .format("Too many rows of data returned for table <%s>", table));
+        }
+        scalars.put(table, resultSet.getObject(2));
+      }
+
+      releaseSavepoint(connection, savepoint);
+      return scalars;
+    }
+    catch (final SQLException e)
+    {
+      rollback(connection, savepoint);
+      throw new SchemaCrawlerException(sql, e);
+    }
+  }
+
   private static String getColumnsListAsString(final List<Column> columns,
                                                final boolean omitLargeObjectColumns,
                                                final Identifiers identifiers)
@@ -152,6 +290,25 @@ public final class QueryUtility
     return String.join(", ", columnsList);
   }
 
+  /**
+   * Gets the regular expression for an inclusion rule, or a regular
+   * expression that matches everything.
+   */
+  private static String getInclusionPattern(final InclusionRule inclusionRule)
+  {
+    if (inclusionRule != null
+        && inclusionRule instanceof InclusionRuleWithRegularExpression)
+    {
+      final String inclusionPattern = ((InclusionRuleWithRegularExpression) inclusionRule)
+        .getInclusionPattern().pattern();
+      if (!isBlank(inclusionPattern))
+      {
+        return inclusionPattern;
+      }
+    }
+    return ".*";
+  }
+
   private static String getQuery(final Query query)
   {
     return expandTemplate(query.getQuery());
@@ -168,19 +325,16 @@ public final class QueryUtility
                                  final InclusionRule schemaInclusionRule)
   {
     final Map<String, String> properties = new HashMap<>();
+    properties.put("schemas", getInclusionPattern(schemaInclusionRule));
+    properties.put("tables", ".*");
+    properties.put("columns", ".*");
+    properties.put("routines", ".*");
+    return getQuery(query, properties);
+  }
 
-    properties.put("schemas", ".*");
-    if (schemaInclusionRule != null
-        && schemaInclusionRule instanceof InclusionRuleWithRegularExpression)
-    {
-      final String schemaInclusionPattern = ((InclusionRuleWithRegularExpression) schemaInclusionRule)
-        .getInclusionPattern().pattern();
-      if (!isBlank(schemaInclusionPattern))
-      {
-        properties.put("schemas", schemaInclusionPattern);
-      }
-    }
-
+  private static String getQuery(final Query query,
+                                 final Map<String, String> properties)
+  {
     String sql = query.getQuery();
     sql = expandTemplate(sql, properties);
     sql = expandTemplate(sql);
@@ -198,7 +352,7 @@ public final class QueryUtility
     {
       final NamedObjectSort columnsSort = NamedObjectSort
         .getNamedObjectSort(isAlphabeticalSortForTableColumns);
-      final List<Column> columns = table.getColumns();
+      final List<Column> columns = new ArrayList<>(table.getColumns());
       Collections.sort(columns, columnsSort);
 
       final Schema schema = table.getSchema();
@@ -223,6 +377,64 @@ public final class QueryUtility
     return sql;
   }
 
+  private static void releaseSavepoint(final Connection connection,
+                                       final Savepoint savepoint)
+  {
+    if (savepoint == null)
+    {
+      return;
+    }
+    try
+    {
+      connection.releaseSavepoint(savepoint);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE, "Could not release savepoint", e);
+    }
+  }
+
+  private static void rollback(final Connection connection,
+                               final Savepoint savepoint)
+  {
+    if (savepoint == null)
+    {
+      return;
+    }
+    try
+    {
+      connection.rollback(savepoint);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not roll back to savepoint", e);
+    }
+  }
+
+  /**
+   * Sets a savepoint, if the connection is in a transaction, and the
+   * database supports savepoints.
+   *
+   * @return Savepoint, or null if none was set
+   */
+  private static Savepoint setSavepoint(final Connection connection)
+  {
+    try
+    {
+      if (connection.getAutoCommit()
+          || !connection.getMetaData().supportsSavepoints())
+      {
+        return null;
+      }
+      return connection.setSavepoint();
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE, "Could not set savepoint", e);
+      return null;
+    }
+  }
+
   private QueryUtility()
   {
     // Prevent instantiation
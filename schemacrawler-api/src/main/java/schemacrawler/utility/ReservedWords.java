@@ -0,0 +1,258 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.utility;
+
+
+import static sf.util.Utility.isBlank;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+
+/**
+ * Immutable set of reserved words, with case-insensitive lookup that
+ * does not create any objects. Words are held in an open-addressing
+ * hash table, with hash codes computed over the uppercase characters
+ * of the word, ignoring leading and trailing whitespace.
+ */
+final class ReservedWords
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ReservedWords.class.getName());
+
+  /**
+   * SQL 2003 reserved words, loaded once.
+   */
+  static final ReservedWords SQL2003 = new ReservedWords(loadSql2003ReservedWords());
+
+  private static int hash(final CharSequence word,
+                          final int start,
+                          final int end)
+  {
+    int hash = 0;
+    for (int i = start; i < end; i++)
+    {
+      hash = 31 * hash + Character.toUpperCase(word.charAt(i));
+    }
+    // Spread higher bits, since the table size is a power of two
+    return hash ^ hash >>> 16;
+  }
+
+  /**
+   * Load a list of SQL 2003 reserved words.
+   */
+  private static Collection<String> loadSql2003ReservedWords()
+  {
+    final Set<String> reservedWords = new HashSet<>();
+    try (
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(ReservedWords.class
+          .getResourceAsStream("/sql2003_reserved_words.txt")));)
+    {
+      String line;
+      while ((line = reader.readLine()) != null)
+      {
+        if (!isBlank(line))
+        {
+          reservedWords.add(line);
+        }
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not read list of SQL 2003 reserved words",
+                 e);
+    }
+    if (reservedWords.isEmpty())
+    {
+      throw new RuntimeException("No SQL 2003 reserved words found");
+    }
+
+    return reservedWords;
+  }
+
+  private static String toUpperCase(final String word)
+  {
+    final char[] chars = word.trim().toCharArray();
+    for (int i = 0; i < chars.length; i++)
+    {
+      chars[i] = Character.toUpperCase(chars[i]);
+    }
+    return new String(chars);
+  }
+
+  private final String[] table;
+  private final int mask;
+  private final int size;
+  private final int maxLength;
+
+  ReservedWords(final Collection<String> words)
+  {
+    final Set<String> upperCaseWords = new HashSet<>();
+    if (words != null)
+    {
+      for (final String word: words)
+      {
+        if (!isBlank(word))
+        {
+          upperCaseWords.add(toUpperCase(word));
+        }
+      }
+    }
+
+    int capacity = 16;
+    while (capacity < upperCaseWords.size() * 2)
+    {
+      capacity = capacity * 2;
+    }
+    table = new String[capacity];
+    mask = capacity - 1;
+    size = upperCaseWords.size();
+
+    int maxLength = 0;
+    for (final String word: upperCaseWords)
+    {
+      int index = hash(word, 0, word.length()) & mask;
+      while (table[index] != null)
+      {
+        index = index + 1 & mask;
+      }
+      table[index] = word;
+      maxLength = Math.max(maxLength, word.length());
+    }
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Checks if a word is reserved. Lookups are case-insensitive, and
+   * ignore leading and trailing whitespace.
+   *
+   * @param word
+   *        Word to check
+   * @return Whether the word is reserved
+   */
+  boolean contains(final String word)
+  {
+    if (word == null)
+    {
+      return false;
+    }
+
+    int start = 0;
+    int end = word.length();
+    while (start < end && word.charAt(start) <= ' ')
+    {
+      start++;
+    }
+    while (end > start && word.charAt(end - 1) <= ' ')
+    {
+      end--;
+    }
+    final int length = end - start;
+    if (length == 0 || length > maxLength)
+    {
+      return false;
+    }
+
+    int index = hash(word, start, end) & mask;
+    String reservedWord;
+    while ((reservedWord = table[index]) != null)
+    {
+      if (matches(reservedWord, word, start, length))
+      {
+        return true;
+      }
+      index = index + 1 & mask;
+    }
+    return false;
+  }
+
+  int size()
+  {
+    return size;
+  }
+
+  Set<String> toSet()
+  {
+    final Set<String> words = new HashSet<>();
+    for (final String word: table)
+    {
+      if (word != null)
+      {
+        words.add(word);
+      }
+    }
+    return words;
+  }
+
+  /**
+   * Creates a set of reserved words with additional words.
+   *
+   * @param words
+   *        Additional reserved words
+   * @return New set of reserved words
+   */
+  ReservedWords with(final Collection<String> words)
+  {
+    if (words == null || words.isEmpty())
+    {
+      return this;
+    }
+    final Set<String> allWords = toSet();
+    allWords.addAll(words);
+    return new ReservedWords(allWords);
+  }
+
+  private boolean matches(final String reservedWord,
+                          final String word,
+                          final int start,
+                          final int length)
+  {
+    if (reservedWord.length() != length)
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (reservedWord.charAt(i) != Character
+        .toUpperCase(word.charAt(start + i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
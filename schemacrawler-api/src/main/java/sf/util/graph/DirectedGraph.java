@@ -28,24 +28,61 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Vertices are numbered in the order in which
+ * they are added, and edges are held in adjacency arrays of vertex
+ * numbers, so that graph algorithms run in time linear to the number
+ * of vertices and edges.
+ */
 public class DirectedGraph<T extends Comparable<? super T>>
 {
 
+  private static final int[] NO_ADJACENT_VERTICES = new int[0];
+
+  private static long edgeKey(final int from, final int to)
+  {
+    return (long) from << 32 | to & 0xFFFFFFFFL;
+  }
+
+  private static int[] grow(final int[] adjacentVertices, final int count)
+  {
+    if (count < adjacentVertices.length)
+    {
+      return adjacentVertices;
+    }
+    final int[] grown = new int[Math.max(4, count * 2)];
+    System.arraycopy(adjacentVertices, 0, grown, 0, count);
+    return grown;
+  }
+
   private final String name;
-  private final Map<T, Vertex<T>> verticesMap;
-  private final Set<DirectedEdge<T>> edges;
+  private final Map<T, Integer> vertexIndexes;
+  private final List<Vertex<T>> vertices;
+  private final Set<Long> edgeKeys;
+  private int[][] successors;
+  private int[] successorCounts;
+  private int[][] predecessors;
+  private int[] predecessorCounts;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
-    verticesMap = new HashMap<>();
-    edges = new HashSet<>();
+    vertexIndexes = new HashMap<>();
+    vertices = new ArrayList<>();
+    edgeKeys = new HashSet<>();
+    successors = new int[16][];
+    successorCounts = new int[16];
+    predecessors = new int[16][];
+    predecessorCounts = new int[16];
   }
 
   /**
@@ -62,7 +99,17 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final int fromIndex = addVertexIndex(from);
+      final int toIndex = addVertexIndex(to);
+      if (edgeKeys.add(edgeKey(fromIndex, toIndex)))
+      {
+        successors[fromIndex] = grow(successors[fromIndex],
+                                     successorCounts[fromIndex]);
+        successors[fromIndex][successorCounts[fromIndex]++] = toIndex;
+        predecessors[toIndex] = grow(predecessors[toIndex],
+                                     predecessorCounts[toIndex]);
+        predecessors[toIndex][predecessorCounts[toIndex]++] = fromIndex;
+      }
     }
   }
 
@@ -75,22 +122,20 @@ public class DirectedGraph<T extends Comparable<? super T>>
    */
   public Vertex<T> addVertex(final T value)
   {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value))
-    {
-      vertex = verticesMap.get(value);
-    }
-    else
-    {
-      vertex = new Vertex<>(value);
-      verticesMap.put(value, vertex);
-    }
-    return vertex;
+    return vertices.get(addVertexIndex(value));
   }
 
   public Set<DirectedEdge<T>> edgeSet()
   {
-    return new HashSet<>(edges);
+    final Set<DirectedEdge<T>> edges = new HashSet<>(edgeKeys.size() * 2);
+    for (int from = 0; from < vertices.size(); from++)
+    {
+      for (int i = 0; i < successorCounts[from]; i++)
+      {
+        edges.add(edge(from, successors[from][i]));
+      }
+    }
+    return edges;
   }
 
   public Set<DirectedEdge<T>> getIncomingEdges(final Vertex<T> vertexTo)
@@ -98,11 +143,12 @@ public class DirectedGraph<T extends Comparable<? super T>>
     Objects.requireNonNull(vertexTo);
 
     final Set<DirectedEdge<T>> incomingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
+    final Integer to = vertexIndexes.get(vertexTo.getValue());
+    if (to != null)
     {
-      if (edge.getTo().equals(vertexTo))
+      for (int i = 0; i < predecessorCounts[to]; i++)
       {
-        incomingEdges.add(edge);
+        incomingEdges.add(edge(predecessors[to][i], to));
       }
     }
     return incomingEdges;
@@ -121,11 +167,12 @@ public class DirectedGraph<T extends Comparable<? super T>>
     Objects.requireNonNull(vertexFrom);
 
     final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
+    final Integer from = vertexIndexes.get(vertexFrom.getValue());
+    if (from != null)
     {
-      if (edge.getFrom().equals(vertexFrom))
+      for (int i = 0; i < successorCounts[from]; i++)
       {
-        outgoingEdges.add(edge);
+        outgoingEdges.add(edge(from, successors[from][i]));
       }
     }
     return outgoingEdges;
@@ -141,7 +188,7 @@ public class DirectedGraph<T extends Comparable<? super T>>
       writer.append(String.format("  [label=\"%s\"]\n", name));
     }
     // writer.append(" graph [rankdir=\"LR\"];\n");
-    for (final Vertex<T> vertex: verticesMap.values())
+    for (final Vertex<T> vertex: vertices)
     {
       writer.append("  ").append(vertex);
       if (vertex.hasAttribute("fillcolor"))
@@ -151,9 +198,13 @@ public class DirectedGraph<T extends Comparable<? super T>>
       }
       writer.append(";\n");
     }
-    for (final DirectedEdge<T> edge: edges)
+    for (int from = 0; from < vertices.size(); from++)
     {
-      writer.append("  ").append(edge).append(";\n");
+      for (int i = 0; i < successorCounts[from]; i++)
+      {
+        writer.append("  ").append(edge(from, successors[from][i]))
+          .append(";\n");
+      }
     }
     writer.append("}\n");
     return writer.toString();
@@ -161,7 +212,72 @@ public class DirectedGraph<T extends Comparable<? super T>>
 
   public Set<Vertex<T>> vertexSet()
   {
-    return new HashSet<>(verticesMap.values());
+    return new HashSet<>(vertices);
+  }
+
+  /**
+   * Number of vertices that the given vertex has edges from.
+   */
+  int predecessorCount(final int vertexIndex)
+  {
+    return predecessorCounts[vertexIndex];
+  }
+
+  /**
+   * Numbers of the vertices that the given vertex has edges to. The
+   * returned array may be longer than the number of successors, and
+   * must not be modified.
+   */
+  int[] successors(final int vertexIndex)
+  {
+    return successors[vertexIndex];
+  }
+
+  /**
+   * Number of vertices that the given vertex has edges to.
+   */
+  int successorCount(final int vertexIndex)
+  {
+    return successorCounts[vertexIndex];
+  }
+
+  T valueAt(final int vertexIndex)
+  {
+    return vertices.get(vertexIndex).getValue();
+  }
+
+  int vertexCount()
+  {
+    return vertices.size();
+  }
+
+  private int addVertexIndex(final T value)
+  {
+    final Integer existingIndex = vertexIndexes.get(value);
+    if (existingIndex != null)
+    {
+      return existingIndex;
+    }
+
+    final int index = vertices.size();
+    if (index == successorCounts.length)
+    {
+      final int capacity = index * 2;
+      successors = Arrays.copyOf(successors, capacity);
+      successorCounts = Arrays.copyOf(successorCounts, capacity);
+      predecessors = Arrays.copyOf(predecessors, capacity);
+      predecessorCounts = Arrays.copyOf(predecessorCounts, capacity);
+    }
+    successors[index] = NO_ADJACENT_VERTICES;
+    predecessors[index] = NO_ADJACENT_VERTICES;
+    vertices.add(new Vertex<>(value));
+    vertexIndexes.put(value, index);
+    return index;
+  }
+
+  private DirectedEdge<T> edge(final int from, final int to)
+  {
+    return new DirectedEdge<>(vertices.get(from), vertices.get(to));
   }
 
 }
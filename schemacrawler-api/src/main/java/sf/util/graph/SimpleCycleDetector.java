@@ -28,7 +28,7 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>>
@@ -37,22 +37,9 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
   enum TraversalState
   {
 
-   notStarted("white"),
-   inProgress("lightgray"),
-   marked("red"),
-   complete("gray");
-
-    private final String color;
-
-    private TraversalState(final String color)
-    {
-      this.color = color;
-    }
-
-    public String getColor()
-    {
-      return color;
-    }
+   notStarted,
+   inProgress,
+   complete;
 
   }
 
@@ -64,63 +51,55 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
   }
 
   /**
-   * Checks if the graph contains a cycle.
+   * Checks if the graph contains a cycle, with an iterative depth-first
+   * search, so that long chains of edges do not overflow the stack.
    *
    * @return true if the graph contains a cycle, false otherwise
    */
   public boolean containsCycle()
   {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex: vertices)
+    final int vertexCount = graph.vertexCount();
+    final TraversalState[] traversalStates = new TraversalState[vertexCount];
+    Arrays.fill(traversalStates, TraversalState.notStarted);
+    // Each vertex is on the stack at most once, along with the position
+    // of the next edge to follow from it
+    final int[] stack = new int[vertexCount];
+    final int[] nextEdges = new int[vertexCount];
+
+    for (int start = 0; start < vertexCount; start++)
     {
-      if (vertex.getAttribute("traversalstate") == TraversalState.notStarted)
+      if (traversalStates[start] != TraversalState.notStarted)
       {
-        if (visitForCyles(vertex))
-        {
-          return true;
-        }
+        continue;
       }
-    }
-
-    return false;
-  }
-
-  private Collection<Vertex<T>> clearTraversalStates()
-  {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex: vertices)
-    {
-      vertex.putAttribute("traversalstate", TraversalState.notStarted);
-    }
-    return vertices;
-  }
 
-  private boolean visitForCyles(final Vertex<T> vertex)
-  {
-    vertex.putAttribute("traversalstate", TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge: graph.edgeSet())
-    {
-      if (edge.isFrom(vertex))
+      int stackSize = 0;
+      stack[stackSize++] = start;
+      traversalStates[start] = TraversalState.inProgress;
+      while (stackSize > 0)
       {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute("traversalstate") == TraversalState.inProgress)
+        final int vertex = stack[stackSize - 1];
+        if (nextEdges[vertex] < graph.successorCount(vertex))
         {
-          to.putAttribute("traversalstate", TraversalState.marked);
-          return true;
-        }
-        else if (to.getAttribute("traversalstate") == TraversalState.notStarted)
-        {
-          if (visitForCyles(to))
+          final int to = graph.successors(vertex)[nextEdges[vertex]++];
+          if (traversalStates[to] == TraversalState.inProgress)
           {
             return true;
           }
+          else if (traversalStates[to] == TraversalState.notStarted)
+          {
+            traversalStates[to] = TraversalState.inProgress;
+            stack[stackSize++] = to;
+          }
+        }
+        else
+        {
+          traversalStates[vertex] = TraversalState.complete;
+          stackSize--;
         }
       }
     }
 
-    vertex.putAttribute("traversalstate", TraversalState.complete);
-
     return false;
   }
 
@@ -29,12 +29,20 @@ package sf.util.graph;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Sorts a graph level by level, using <a href=
+ * "https://en.wikipedia.org/wiki/Topological_sorting#Kahn's_algorithm">Kahn's
+ * algorithm</a>. Each level holds the vertices that have no edges from
+ * vertices in later levels, and is sorted by the natural order of the
+ * vertex values.
+ *
+ * @param <T>
+ *        Any comparable class
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>>
 {
 
@@ -48,105 +56,60 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
   public List<T> topologicalSort()
     throws GraphException
   {
-    if (containsCycle())
-    {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
-
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    final int vertexCount = graph.vertexCount();
 
-    while (!vertices.isEmpty())
+    final int[] inDegrees = new int[vertexCount];
+    int[] level = new int[vertexCount];
+    int levelSize = 0;
+    for (int vertex = 0; vertex < vertexCount; vertex++)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
+      inDegrees[vertex] = graph.predecessorCount(vertex);
+      if (inDegrees[vertex] == 0)
       {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+        level[levelSize++] = vertex;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
+    final List<T> sortedValues = new ArrayList<>(vertexCount);
+    int[] nextLevel = new int[vertexCount];
+    while (levelSize > 0)
+    {
+      final List<T> nodesAtLevel = new ArrayList<>(levelSize);
+      int nextLevelSize = 0;
+      for (int i = 0; i < levelSize; i++)
       {
-        if (isStartNode(vertex, edges))
-        {
-          startNodes.add(vertex);
-        }
-      }
+        final int vertex = level[i];
+        nodesAtLevel.add(graph.valueAt(vertex));
 
-      for (final Vertex<T> vertex: startNodes)
-      {
-        // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        final int[] successors = graph.successors(vertex);
+        for (int j = 0; j < graph.successorCount(vertex); j++)
+        {
+          final int to = successors[j];
+          inDegrees[to]--;
+          if (inDegrees[to] == 0)
+          {
+            nextLevel[nextLevelSize++] = to;
+          }
+        }
       }
 
       Collections.sort(nodesAtLevel);
       sortedValues.addAll(nodesAtLevel);
-    }
-
-    return sortedValues;
-  }
 
-  private boolean containsCycle()
-  {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
-    {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
-      {
-        iterator.remove();
-      }
+      final int[] swap = level;
+      level = nextLevel;
+      nextLevel = swap;
+      levelSize = nextLevelSize;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
+    // Vertices on a cycle never lose all their incoming edges
+    if (sortedValues.size() < vertexCount)
     {
-      if (edge.isTo(vertex))
-      {
-        return false;
-      }
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 
 }
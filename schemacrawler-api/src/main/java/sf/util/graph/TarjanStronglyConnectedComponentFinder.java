@@ -28,17 +28,18 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Stack;
 
 /**
  * Implementation of <a href=
  * "https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">
- * Tarjan's algorithm</a>
+ * Tarjan's algorithm</a>. The depth-first search is iterative, so that
+ * long chains of edges do not overflow the stack.
  *
  * @author Sualeh Fatehi
  * @param <T>
@@ -47,80 +48,102 @@ import java.util.Stack;
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>>
 {
 
+  private static final int NOT_VISITED = -1;
+
   private final DirectedGraph<T> graph;
-  private final Collection<List<T>> stronglyConnectedComponents;
-  private final Stack<Vertex<T>> stack;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph)
   {
     this.graph = Objects.requireNonNull(graph);
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new Stack<>();
   }
 
   /**
    * Calculates the sets of strongly connected vertices.
    *
-   * @param graph
-   *        Graph to detect cycles within.
    * @return Set of strongly connected components (sets of vertices)
    */
   public Collection<List<T>> detectCycles()
   {
-    for (final Vertex<T> vertex: graph.vertexSet())
+    final Collection<List<T>> stronglyConnectedComponents = new ArrayList<>();
+
+    final int vertexCount = graph.vertexCount();
+    final int[] indexes = new int[vertexCount];
+    Arrays.fill(indexes, NOT_VISITED);
+    final int[] lowlinks = new int[vertexCount];
+    final boolean[] onStack = new boolean[vertexCount];
+    final int[] stack = new int[vertexCount];
+    int stackSize = 0;
+    // Depth-first search path, along with the position of the next edge
+    // to follow from each vertex on it
+    final int[] path = new int[vertexCount];
+    final int[] nextEdges = new int[vertexCount];
+    int index = 0;
+
+    for (int start = 0; start < vertexCount; start++)
     {
-      if (!vertex.hasAttribute("index"))
+      if (indexes[start] != NOT_VISITED)
       {
-        strongConnect(vertex, 0);
+        continue;
       }
-    }
-    return stronglyConnectedComponents;
-  }
-
-  private void strongConnect(final Vertex<T> vertexFrom, final int index)
-  {
-    vertexFrom.putAttribute("index", index);
-    vertexFrom.putAttribute("lowlink", index);
-    stack.push(vertexFrom);
 
-    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
-    {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute("index"))
-      {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute("lowlink",
-                                Math
-                                  .min((int) vertexFrom.getAttribute("lowlink"),
-                                       (int) vertexTo.getAttribute("lowlink")));
-      }
-      else if (stack.contains(vertexTo))
-      {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute("lowlink",
-                                Math
-                                  .min((int) vertexFrom.getAttribute("lowlink"),
-                                       (int) vertexTo.getAttribute("index")));
-      }
-    }
+      int pathSize = 0;
+      path[pathSize++] = start;
+      indexes[start] = lowlinks[start] = index++;
+      stack[stackSize++] = start;
+      onStack[start] = true;
 
-    if (vertexFrom.getAttribute("lowlink") == vertexFrom.getAttribute("index"))
-    {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do
+      while (pathSize > 0)
       {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1)
-      {
-        stronglyConnectedComponents.add(scc);
+        final int vertexFrom = path[pathSize - 1];
+        if (nextEdges[vertexFrom] < graph.successorCount(vertexFrom))
+        {
+          final int vertexTo = graph
+            .successors(vertexFrom)[nextEdges[vertexFrom]++];
+          if (indexes[vertexTo] == NOT_VISITED)
+          {
+            // Successor vertex has not yet been visited; descend into it
+            path[pathSize++] = vertexTo;
+            indexes[vertexTo] = lowlinks[vertexTo] = index++;
+            stack[stackSize++] = vertexTo;
+            onStack[vertexTo] = true;
+          }
+          else if (onStack[vertexTo])
+          {
+            // Successor vertex is on stack, hence in the current SCC
+            lowlinks[vertexFrom] = Math.min(lowlinks[vertexFrom],
+                                            indexes[vertexTo]);
+          }
+          continue;
+        }
+
+        // All successors have been visited, so return to the caller
+        pathSize--;
+        if (pathSize > 0)
+        {
+          final int caller = path[pathSize - 1];
+          lowlinks[caller] = Math.min(lowlinks[caller],
+                                      lowlinks[vertexFrom]);
+        }
+
+        if (lowlinks[vertexFrom] == indexes[vertexFrom])
+        {
+          final LinkedList<T> scc = new LinkedList<>();
+          int sccVertex;
+          do
+          {
+            sccVertex = stack[--stackSize];
+            onStack[sccVertex] = false;
+            scc.addFirst(graph.valueAt(sccVertex));
+          } while (sccVertex != vertexFrom);
+          if (scc.size() > 1)
+          {
+            stronglyConnectedComponents.add(scc);
+          }
+        }
       }
     }
 
+    return stronglyConnectedComponents;
   }
 
 }
@@ -0,0 +1,103 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+
+public class NamedObjectListTest
+{
+
+  private static MutableTable newTable(final Schema schema,
+                                       final String name,
+                                       final int sortIndex)
+  {
+    final MutableTable table = new MutableTable(schema, name);
+    table.setTableType(NamedObjectTest.TABLE);
+    table.setSortIndex(sortIndex);
+    return table;
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void iteratorIsReadOnly()
+  {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(newTable(schema, "A", 0));
+
+    tables.iterator().remove();
+  }
+
+  @Test
+  public void sortedValuesAreCached()
+  {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(newTable(schema, "C", 0));
+    tables.add(newTable(schema, "A", 0));
+
+    final List<MutableTable> values = tables.values();
+    assertEquals("A", values.get(0).getName());
+    assertSame(values, tables.values());
+
+    tables.add(newTable(schema, "B", 0));
+    final List<MutableTable> valuesAfterAdd = tables.values();
+    assertNotSame(values, valuesAfterAdd);
+    assertEquals(3, valuesAfterAdd.size());
+    assertEquals("B", valuesAfterAdd.get(1).getName());
+
+    tables.filter(table -> !table.getName().equals("B"));
+    assertEquals(2, tables.values().size());
+  }
+
+  @Test
+  public void sortedValuesFollowSortIndexChanges()
+  {
+    final Schema schema = new SchemaReference("CATALOG", "SCHEMA");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable tableA = newTable(schema, "A", 0);
+    final MutableTable tableB = newTable(schema, "B", 1);
+    tables.add(tableA);
+    tables.add(tableB);
+    assertEquals("A", tables.values().get(0).getName());
+
+    tableA.setSortIndex(2);
+    assertEquals("B", tables.values().get(0).getName());
+  }
+
+}
@@ -29,9 +29,11 @@ package schemacrawler.crawl;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
@@ -41,6 +43,29 @@ public class NamedObjectTest
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void lookupKeys()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final MutableTable table = new MutableTable(schema, "CUSTOMER");
+    final MutableColumn column = new MutableColumn(table, "ID");
+
+    final NamedObjectKey tableKey = new NamedObjectKey("CATALOG",
+                                                       "PUBLIC",
+                                                       "CUSTOMER");
+    assertEquals(tableKey, table.key());
+    assertEquals(tableKey.hashCode(), table.key().hashCode());
+    assertEquals(tableKey.toList(), table.toUniqueLookupKey());
+    assertEquals(tableKey.with("ID"), column.key());
+    assertEquals(4, column.key().size());
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table);
+    assertTrue(tables.lookup(tableKey).isPresent());
+    assertTrue(tables.lookup(schema, "CUSTOMER").isPresent());
+  }
+
   @Test
   public void tableNames()
   {
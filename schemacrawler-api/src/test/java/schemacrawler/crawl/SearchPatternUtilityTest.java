@@ -0,0 +1,104 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static schemacrawler.crawl.SearchPatternUtility.toSearchPattern;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.ExcludeAll;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+
+public class SearchPatternUtilityTest
+{
+
+  @Test
+  public void literalNames()
+  {
+    assertEquals("AUTHORS",
+                 toSearchPattern(new RegularExpressionInclusionRule(".*\\.AUTHORS"))
+                   .get());
+    assertEquals("BOOK_AUTHOR",
+                 toSearchPattern(new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\.BOOK_AUTHOR"))
+                   .get());
+    assertEquals("X$Y",
+                 toSearchPattern(new RegularExpressionInclusionRule(".*\\.X\\$Y"))
+                   .get());
+    assertEquals("AUTHORS",
+                 toSearchPattern(new RegularExpressionRule(".*\\.AUTHORS",
+                                                           ".*\\.AUTHORS_OLD"))
+                   .get());
+  }
+
+  @Test
+  public void noSearchPattern()
+  {
+    assertFalse(toSearchPattern(new IncludeAll()).isPresent());
+    assertFalse(toSearchPattern(new ExcludeAll()).isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(".*"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionExclusionRule(".*\\.AUTHORS"))
+      .isPresent());
+    // Unescaped dots match any character
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule("PUBLIC.BOOKS.AUTHORS"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(".*\\.(AUTHORS|BOOKS)"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(".*\\.AUTHORS|.*\\.BOOKS"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(".*\\.[AB]UTHORS"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(".*\\\\.AUTHORS"))
+      .isPresent());
+    assertFalse(toSearchPattern(new RegularExpressionInclusionRule(Pattern
+      .compile(".*\\.AUTHORS", Pattern.CASE_INSENSITIVE))).isPresent());
+  }
+
+  @Test
+  public void wildcards()
+  {
+    assertEquals("BOOK%",
+                 toSearchPattern(new RegularExpressionInclusionRule(".*\\.BOOK\\w*"))
+                   .get());
+    assertEquals("B_OK%S",
+                 toSearchPattern(new RegularExpressionInclusionRule(".*\\.B\\wOK\\w+S"))
+                   .get());
+    assertEquals("AUTHOR%",
+                 toSearchPattern(new RegularExpressionInclusionRule(".*\\.AUTHORS?"))
+                   .get());
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.ExcludeAll;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class AttributeCaptureTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void allowedAttributes()
+    throws Exception
+  {
+    final Map<String, Object> allAttributes = lookupColumn(new SchemaCrawlerOptions())
+      .getAttributes();
+    assertFalse("No attributes captured", allAttributes.isEmpty());
+    final String attributeName = allAttributes.keySet().iterator().next();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setAttributeInclusionRule(new RegularExpressionInclusionRule(attributeName));
+    final Column column = lookupColumn(schemaCrawlerOptions);
+
+    assertEquals(Collections.singleton(attributeName),
+                 column.getAttributes().keySet());
+    assertEquals(allAttributes.get(attributeName),
+                 column.getAttribute(attributeName));
+  }
+
+  @Test
+  public void changeAttributes()
+    throws Exception
+  {
+    final Column column = lookupColumn(new SchemaCrawlerOptions());
+    final int attributeCount = column.getAttributes().size();
+    final String attributeName = column.getAttributes().keySet().iterator()
+      .next();
+
+    column.setAttribute("NEW_ATTRIBUTE", "value");
+    column.removeAttribute(attributeName);
+
+    assertEquals(attributeCount, column.getAttributes().size());
+    assertEquals("value", column.getAttribute("NEW_ATTRIBUTE"));
+    assertFalse(column.hasAttribute(attributeName));
+  }
+
+  @Test
+  public void noAttributes()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setAttributeInclusionRule(new ExcludeAll());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    for (final Table table: catalog.getTables())
+    {
+      assertTrue(table.getFullName(), table.getAttributes().isEmpty());
+      for (final Column column: table.getColumns())
+      {
+        assertTrue(column.getFullName(), column.getAttributes().isEmpty());
+      }
+    }
+  }
+
+  private Column lookupColumn(final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    final Schema schema = new SchemaReference("PUBLIC", "BOOKS");
+    final Table table = catalog.lookupTable(schema, "AUTHORS").orElse(null);
+    assertNotNull("Table not found", table);
+    final Column column = table.lookupColumn("ID").orElse(null);
+    assertNotNull("Column not found", column);
+    return column;
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.IdentifiersCache;
+import sf.util.IOUtility;
+
+public class IdentifiersCacheTest
+  extends BaseDatabaseTest
+{
+
+  @Before
+  public void clearCache()
+  {
+    IdentifiersCache.clear();
+  }
+
+  @Test
+  public void cacheIsSharedAcrossBuilders()
+    throws Exception
+  {
+    final Connection connection = getConnection();
+
+    final Identifiers identifiers1 = Identifiers.identifiers()
+      .withConnection(connection).build();
+    assertEquals(1, IdentifiersCache.size());
+    final Identifiers identifiers2 = Identifiers.identifiers()
+      .withConnection(connection).build();
+    assertEquals(1, IdentifiersCache.size());
+
+    assertEquals(identifiers1.getReservedWords(),
+                 identifiers2.getReservedWords());
+    assertEquals(identifiers1.getIdentifierQuoteString(),
+                 identifiers2.getIdentifierQuoteString());
+    assertTrue(identifiers1.getReservedWords()
+      .containsAll(Identifiers.identifiers().build().getReservedWords()));
+  }
+
+  @Test
+  public void cacheRoundTrip()
+    throws Exception
+  {
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(getConnection()).build();
+
+    final Path cacheFile = IOUtility.createTempFilePath("identifiers",
+                                                        "properties");
+    IdentifiersCache.save(cacheFile);
+    IdentifiersCache.clear();
+    assertEquals(0, IdentifiersCache.size());
+
+    IdentifiersCache.load(cacheFile);
+    assertEquals(1, IdentifiersCache.size());
+
+    final Identifiers loadedIdentifiers = Identifiers.identifiers()
+      .withConnection(getConnection()).build();
+    assertEquals(identifiers.getReservedWords(),
+                 loadedIdentifiers.getReservedWords());
+    assertEquals(identifiers.getIdentifierQuoteString(),
+                 loadedIdentifiers.getIdentifierQuoteString());
+  }
+
+  @Test
+  public void loadMissingFile()
+    throws Exception
+  {
+    final Path cacheFile = IOUtility.createTempFilePath("identifiers",
+                                                        "properties");
+    IdentifiersCache.load(cacheFile);
+    assertEquals(0, IdentifiersCache.size());
+  }
+
+  @Test
+  public void reservedWordsIgnoreCaseAndWhitespace()
+    throws Exception
+  {
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(getConnection()).build();
+    final String[] words = new String[] {
+                                          "select",
+                                          "Select",
+                                          " SELECT",
+                                          "select\t" };
+    for (final String word: words)
+    {
+      assertTrue(word, identifiers.isReservedWord(word));
+    }
+    assertFalse(identifiers.isReservedWord("selected"));
+    assertFalse(identifiers.isReservedWord("selec"));
+  }
+
+}
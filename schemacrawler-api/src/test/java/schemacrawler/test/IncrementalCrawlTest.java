@@ -0,0 +1,351 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.crawl.SectionedCatalogReader;
+import schemacrawler.crawl.SectionedCatalogWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+
+public class IncrementalCrawlTest
+{
+
+  /**
+   * Attribute that is only set on tables of the previous catalog, so
+   * that tables that were carried over can be told apart from tables
+   * that were crawled again.
+   */
+  private static final String CARRIED_OVER = "CARRIED_OVER";
+
+  private static final String TABLE_CHANGES_SQL = "SELECT TABLES.TABLE_CAT AS TABLE_CATALOG, "
+                                                  + "TABLES.TABLE_SCHEM AS TABLE_SCHEMA, TABLES.TABLE_NAME, "
+                                                  + "(SELECT GROUP_CONCAT(COLUMNS.COLUMN_NAME || ' ' || COLUMNS.TYPE_NAME "
+                                                  + "ORDER BY COLUMNS.ORDINAL_POSITION SEPARATOR ', ') "
+                                                  + "FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS COLUMNS "
+                                                  + "WHERE COLUMNS.TABLE_SCHEM = TABLES.TABLE_SCHEM "
+                                                  + "AND COLUMNS.TABLE_NAME = TABLES.TABLE_NAME) "
+                                                  + "|| ' / ' || COALESCE((SELECT GROUP_CONCAT(CONSTRAINTS.CONSTRAINT_NAME "
+                                                  + "ORDER BY CONSTRAINTS.CONSTRAINT_NAME SEPARATOR ', ') "
+                                                  + "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS CONSTRAINTS "
+                                                  + "WHERE CONSTRAINTS.TABLE_SCHEMA = TABLES.TABLE_SCHEM "
+                                                  + "AND CONSTRAINTS.TABLE_NAME = TABLES.TABLE_NAME), '') "
+                                                  + "AS CHANGE_INDICATOR "
+                                                  + "FROM INFORMATION_SCHEMA.SYSTEM_TABLES TABLES";
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getTableType()).append(" ")
+        .append(table.getPrimaryKey()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.getReferencedColumn()).append("\n");
+      }
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  ").append(index).append(" ")
+          .append(index.getColumns()).append("\n");
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        buffer.append("  ").append(foreignKey).append(" ")
+          .append(foreignKey.getColumnReferences()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private Connection connection;
+  private DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
+  private SchemaCrawlerOptions options;
+
+  @Test
+  public void changedChildTable()
+    throws Exception
+  {
+    final Catalog previousCatalog = crawl(null);
+    final Table previousParent = lookupTable(previousCatalog, "PARENT");
+    final String previousDescription = describe(previousCatalog);
+    previousParent.setAttribute(CARRIED_OVER, Boolean.TRUE);
+
+    execute("ALTER TABLE INCREMENTAL.CHILD ADD COLUMN EXTRA INTEGER");
+
+    final Catalog catalog = crawl(previousCatalog);
+    final Table parent = lookupTable(catalog, "PARENT");
+    final Table child = lookupTable(catalog, "CHILD");
+    assertNotSame(previousParent, parent);
+    assertTrue(parent.hasAttribute(CARRIED_OVER));
+    assertEquals(3, child.getColumns().size());
+
+    assertEquals(1, parent.getForeignKeys().size());
+    final ForeignKey foreignKey = parent.getForeignKeys().iterator().next();
+    assertSame(foreignKey, child.getForeignKeys().iterator().next());
+    assertSame(child.lookupColumn("PARENT_ID").get(),
+               foreignKey.getColumnReferences().get(0).getForeignKeyColumn());
+    assertSame(parent.lookupColumn("ID").get(),
+               child.lookupColumn("PARENT_ID").get().getReferencedColumn());
+
+    assertEquals(describe(crawl(null)), describe(catalog));
+
+    // The previous catalog is not changed
+    assertEquals(previousDescription, describe(previousCatalog));
+    assertSame(lookupTable(previousCatalog, "CHILD"),
+               previousParent.getForeignKeys().iterator().next()
+                 .getColumnReferences().get(0).getForeignKeyColumn()
+                 .getParent());
+  }
+
+  @Test
+  public void changedParentTable()
+    throws Exception
+  {
+    final Catalog previousCatalog = crawl(null);
+    final Table previousChild = lookupTable(previousCatalog, "CHILD");
+    final String previousDescription = describe(previousCatalog);
+    previousChild.setAttribute(CARRIED_OVER, Boolean.TRUE);
+
+    execute("ALTER TABLE INCREMENTAL.PARENT ADD COLUMN EXTRA INTEGER");
+
+    final Catalog catalog = crawl(previousCatalog);
+    final Table parent = lookupTable(catalog, "PARENT");
+    final Table child = lookupTable(catalog, "CHILD");
+    assertNotSame(previousChild, child);
+    assertTrue(child.hasAttribute(CARRIED_OVER));
+    assertEquals(3, parent.getColumns().size());
+
+    assertEquals(1, child.getForeignKeys().size());
+    final ForeignKey foreignKey = child.getForeignKeys().iterator().next();
+    assertSame(foreignKey, parent.getForeignKeys().iterator().next());
+    assertSame(parent.lookupColumn("ID").get(),
+               foreignKey.getColumnReferences().get(0).getPrimaryKeyColumn());
+    assertSame(parent.lookupColumn("ID").get(),
+               child.lookupColumn("PARENT_ID").get().getReferencedColumn());
+    assertSame(catalog.lookupSystemColumnDataType("INTEGER").get(),
+               child.lookupColumn("PARENT_ID").get().getColumnDataType());
+
+    assertEquals(describe(crawl(null)), describe(catalog));
+
+    // The previous catalog is not changed
+    assertEquals(previousDescription, describe(previousCatalog));
+    assertSame(lookupTable(previousCatalog, "PARENT").lookupColumn("ID")
+      .get(), previousChild.lookupColumn("PARENT_ID").get()
+        .getReferencedColumn());
+  }
+
+  @Before
+  public void createDatabase()
+    throws Exception
+  {
+    connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:incremental_crawl", "SA", "");
+    execute("CREATE SCHEMA INCREMENTAL");
+    execute("CREATE TABLE INCREMENTAL.PARENT (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))");
+    execute("CREATE TABLE INCREMENTAL.CHILD (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER, "
+            + "CONSTRAINT FK_CHILD_PARENT FOREIGN KEY (PARENT_ID) REFERENCES INCREMENTAL.PARENT (ID))");
+    execute("CREATE TABLE INCREMENTAL.OTHER (ID INTEGER PRIMARY KEY, CODE CHAR(2))");
+    execute("CREATE INDEX IDX_OTHER_CODE ON INCREMENTAL.OTHER (CODE)");
+
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withExtTableChangesSql(TABLE_CHANGES_SQL);
+    databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+      .toOptions();
+
+    options = new SchemaCrawlerOptions();
+    options.setSchemaInfoLevel(SchemaInfoLevelBuilder.detailed());
+    options
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.INCREMENTAL"));
+    options.setRetrieveTableChangeIndicators(true);
+  }
+
+  @Test
+  public void differentOptions()
+    throws Exception
+  {
+    final Catalog previousCatalog = crawl(null);
+
+    options.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    final Catalog catalog = crawl(previousCatalog);
+    assertEquals(3, catalog.getTables().size());
+    for (final Table table: catalog.getTables())
+    {
+      assertNotSame(lookupTable(previousCatalog, table.getName()), table);
+    }
+    assertEquals(describe(crawl(null)), describe(catalog));
+  }
+
+  @Test
+  public void droppedChildTable()
+    throws Exception
+  {
+    final Catalog previousCatalog = crawl(null);
+
+    execute("DROP TABLE INCREMENTAL.CHILD");
+
+    final Catalog catalog = crawl(previousCatalog);
+    final Table parent = lookupTable(catalog, "PARENT");
+    assertEquals(2, catalog.getTables().size());
+    assertEquals(0, parent.getForeignKeys().size());
+
+    assertEquals(describe(crawl(null)), describe(catalog));
+  }
+
+  @After
+  public void dropDatabase()
+    throws Exception
+  {
+    execute("DROP SCHEMA INCREMENTAL CASCADE");
+    connection.close();
+  }
+
+  @Test
+  public void noChangeIndicators()
+    throws Exception
+  {
+    final Catalog previousCatalog = crawl(null);
+
+    databaseSpecificOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .toOptions();
+    final Catalog catalog = crawl(previousCatalog);
+    for (final Table table: catalog.getTables())
+    {
+      assertNotSame(lookupTable(previousCatalog, table.getName()), table);
+    }
+    assertEquals(describe(previousCatalog), describe(catalog));
+  }
+
+  @Test
+  public void noChangeIndicatorsUnlessRequested()
+    throws Exception
+  {
+    options.setRetrieveTableChangeIndicators(false);
+    final Catalog catalog = crawl(null);
+    assertEquals(3, catalog.getTables().size());
+    for (final Table table: catalog.getTables())
+    {
+      assertFalse(table.hasAttribute("CHANGE_INDICATOR"));
+    }
+  }
+
+  @Test
+  public void unchangedTablesFromSnapshot()
+    throws Exception
+  {
+    final Catalog previousCatalog = roundTrip(crawl(null));
+    final String expected = describe(previousCatalog);
+    for (final Table table: previousCatalog.getTables())
+    {
+      table.setAttribute(CARRIED_OVER, Boolean.TRUE);
+    }
+
+    final Catalog catalog = crawl(previousCatalog);
+    assertEquals(3, catalog.getTables().size());
+    for (final Table table: catalog.getTables())
+    {
+      assertNotSame(lookupTable(previousCatalog, table.getName()), table);
+      assertTrue(table.hasAttribute(CARRIED_OVER));
+    }
+    assertEquals(expected, describe(catalog));
+    assertEquals(expected, describe(previousCatalog));
+  }
+
+  private Catalog crawl(final Catalog previousCatalog)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          databaseSpecificOverrideOptions);
+    return schemaCrawler.crawl(options, previousCatalog);
+  }
+
+  private void execute(final String sql)
+    throws Exception
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute(sql);
+    }
+  }
+
+  private Table lookupTable(final Catalog catalog, final String tableName)
+  {
+    final Schema schema = catalog.getSchemas().stream()
+      .filter(schemaRef -> schemaRef.getName().equals("INCREMENTAL"))
+      .findFirst().get();
+    return catalog.lookupTable(schema, tableName).get();
+  }
+
+  private Catalog roundTrip(final Catalog catalog)
+    throws Exception
+  {
+    final SectionedCatalogWriter writer = new SectionedCatalogWriter(catalog);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.writeCatalogSection(out);
+    final SectionedCatalogReader reader = new SectionedCatalogReader(new ByteArrayInputStream(out
+      .toByteArray()));
+    for (final Schema schema: writer.getSectionSchemas())
+    {
+      out.reset();
+      writer.writeSchemaSection(schema, out);
+      reader.readSchemaSection(new ByteArrayInputStream(out.toByteArray()));
+    }
+    return reader.getCatalog();
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.MetadataRetrievalTuning;
+import schemacrawler.schemacrawler.MetadataRetrievalTuningBuilder;
+import schemacrawler.schemacrawler.ResultSetType;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.StatementTuning;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class MetadataRetrievalTuningTest
+  extends BaseDatabaseTest
+{
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getColumns()).append(" ")
+        .append(table.getIndexes()).append(" ")
+        .append(table.getForeignKeys()).append(" ")
+        .append(table.getTableConstraints()).append("\n");
+    }
+    return buffer.toString();
+  }
+
+  @Test
+  public void defaultTuning()
+  {
+    final MetadataRetrievalTuning tuning = new MetadataRetrievalTuning();
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      final StatementTuning statementTuning = tuning.getStatementTuning(key);
+      assertEquals(20, statementTuning.getFetchSize());
+      assertEquals(0, statementTuning.getQueryTimeout());
+      assertEquals(ResultSetType.forward_only,
+                   statementTuning.getResultSetType());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeFetchSize()
+  {
+    new MetadataRetrievalTuningBuilder().withFetchSize(-1);
+  }
+
+  @Test
+  public void tunedCrawlMatchesDefaultCrawl()
+    throws Exception
+  {
+    final Config config = Config
+      .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final DatabaseSpecificOverrideOptions defaultOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions();
+    final Catalog defaultCatalog = getCatalog(defaultOptions,
+                                              schemaCrawlerOptions);
+
+    config.put("schemacrawler.schema.retrieval.fetchsize", "1");
+    config.put("schemacrawler.schema.retrieval.querytimeout", "60");
+    config.put("schemacrawler.schema.retrieval.resultsettype",
+               "scroll_insensitive");
+    config.put("schemacrawler.schema.retrieval.fetchsize.TABLE_COLUMNS",
+               "1000");
+    final DatabaseSpecificOverrideOptions tunedOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions();
+    final Catalog tunedCatalog = getCatalog(tunedOptions,
+                                            schemaCrawlerOptions);
+
+    assertTrue("Nothing was crawled", defaultCatalog.getTables().size() > 0);
+    assertEquals(describe(defaultCatalog), describe(tunedCatalog));
+  }
+
+  @Test
+  public void tunedStatement()
+    throws Exception
+  {
+    final StatementTuning statementTuning = new StatementTuning(7,
+                                                                5,
+                                                                ResultSetType.scroll_insensitive);
+    try (final Statement statement = statementTuning
+      .createStatement(getConnection());)
+    {
+      assertEquals(7, statement.getFetchSize());
+      assertEquals(5, statement.getQueryTimeout());
+      assertEquals(ResultSet.TYPE_SCROLL_INSENSITIVE,
+                   statement.getResultSetType());
+      assertEquals(ResultSet.CONCUR_READ_ONLY,
+                   statement.getResultSetConcurrency());
+    }
+  }
+
+  @Test
+  public void tuningFromBuilder()
+  {
+    final MetadataRetrievalTuning tuning = new MetadataRetrievalTuningBuilder()
+      .withFetchSize(0)
+      .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 1000)
+      .withQueryTimeout(InformationSchemaKey.TABLE_COLUMNS, 10).toOptions();
+
+    assertEquals(0, tuning.getDefaultStatementTuning().getFetchSize());
+    final StatementTuning columnsTuning = tuning
+      .getStatementTuning(InformationSchemaKey.TABLE_COLUMNS);
+    assertEquals(1000, columnsTuning.getFetchSize());
+    assertEquals(10, columnsTuning.getQueryTimeout());
+  }
+
+  @Test
+  public void tuningFromConfig()
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.fetchsize", "50");
+    config.put("schemacrawler.schema.retrieval.fetchsize.TABLE_COLUMNS",
+               "500");
+    config.put("schemacrawler.schema.retrieval.fetchsize.INDEXES", "-1");
+    config.put("schemacrawler.schema.retrieval.querytimeout.TABLES", "30");
+    config.put("schemacrawler.schema.retrieval.resultsettype.FOREIGN_KEYS",
+               "scroll_insensitive");
+
+    final MetadataRetrievalTuning tuning = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions().getMetadataRetrievalTuning();
+
+    assertEquals(50, tuning.getDefaultStatementTuning().getFetchSize());
+    assertEquals(500,
+                 tuning.getStatementTuning(InformationSchemaKey.TABLE_COLUMNS)
+                   .getFetchSize());
+    // Negative values are ignored
+    assertEquals(50,
+                 tuning.getStatementTuning(InformationSchemaKey.INDEXES)
+                   .getFetchSize());
+
+    final StatementTuning tablesTuning = tuning
+      .getStatementTuning(InformationSchemaKey.TABLES);
+    assertEquals(50, tablesTuning.getFetchSize());
+    assertEquals(30, tablesTuning.getQueryTimeout());
+    assertEquals(0,
+                 tuning.getStatementTuning(InformationSchemaKey.VIEWS)
+                   .getQueryTimeout());
+
+    assertEquals(ResultSetType.scroll_insensitive,
+                 tuning.getStatementTuning(InformationSchemaKey.FOREIGN_KEYS)
+                   .getResultSetType());
+    assertEquals(ResultSetType.forward_only,
+                 tuning.getStatementTuning(InformationSchemaKey.PRIMARY_KEYS)
+                   .getResultSetType());
+  }
+
+}
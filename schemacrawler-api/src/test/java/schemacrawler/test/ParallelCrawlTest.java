@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.testdb.TestDatabase;
+
+public class ParallelCrawlTest
+  extends BaseDatabaseTest
+{
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append(catalog.getColumnDataTypes().size()).append("\n");
+    for (final Schema schema: catalog.getSchemas())
+    {
+      buffer.append(schema).append("\n");
+      for (final Table table: catalog.getTables(schema))
+      {
+        buffer.append("  ").append(table.getFullName()).append(" ")
+          .append(table.getTableType()).append(" ")
+          .append(table.getDefinition()).append(" ")
+          .append(table.getAttributes()).append("\n");
+        for (final Column column: table.getColumns())
+        {
+          buffer.append("    ").append(column.getName()).append(" ")
+            .append(column.getColumnDataType()).append(" ")
+            .append(column.isPartOfPrimaryKey()).append(" ")
+            .append(column.getAttributes()).append("\n");
+          for (final Privilege<Column> privilege: column.getPrivileges())
+          {
+            buffer.append("      ").append(privilege.getName())
+              .append(privilege.getGrants().size()).append("\n");
+          }
+        }
+        appendAll(buffer, table.getIndexes());
+        appendAll(buffer, table.getForeignKeys());
+        appendAll(buffer, table.getTableConstraints());
+        appendAll(buffer, table.getTriggers());
+        appendAll(buffer, table.getPrivileges());
+        if (table.hasPrimaryKey())
+        {
+          buffer.append("    ").append(table.getPrimaryKey()).append("\n");
+        }
+      }
+      for (final Routine routine: catalog.getRoutines(schema))
+      {
+        buffer.append("  ").append(routine.getFullName()).append(" ")
+          .append(routine.getDefinition()).append("\n");
+        for (final RoutineColumn<?> column: routine.getColumns())
+        {
+          buffer.append("    ").append(column.getName()).append(" ")
+            .append(column.getColumnDataType()).append("\n");
+        }
+      }
+      for (final Synonym synonym: catalog.getSynonyms(schema))
+      {
+        buffer.append("  ").append(synonym.getFullName()).append(" ")
+          .append(synonym.getReferencedObject()).append("\n");
+      }
+      for (final Sequence sequence: catalog.getSequences(schema))
+      {
+        buffer.append("  ").append(sequence.getFullName()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private static JDBCDataSource createDataSource()
+  {
+    final JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl(TestDatabase.CONNECTION_STRING);
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+    return dataSource;
+  }
+
+  private static void appendAll(final StringBuilder buffer,
+                                final Collection<?> objects)
+  {
+    for (final Object object: objects)
+    {
+      buffer.append("    ").append(object);
+      if (object instanceof Index)
+      {
+        buffer.append(" ").append(((Index) object).getColumns());
+      }
+      else if (object instanceof ForeignKey)
+      {
+        buffer.append(" ").append(((ForeignKey) object).getColumnReferences());
+      }
+      else if (object instanceof TableConstraint)
+      {
+        buffer.append(" ").append(((TableConstraint) object).getColumns());
+      }
+      else if (object instanceof Trigger)
+      {
+        buffer.append(" ").append(((Trigger) object).getActionStatement());
+      }
+      buffer.append("\n");
+    }
+  }
+
+  @Test
+  public void parallelCrawlMatchesSequentialCrawl()
+    throws Exception
+  {
+    final Config config = Config
+      .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+    final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setSynonymInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setSequenceInclusionRule(new IncludeAll());
+
+    final Catalog sequentialCatalog = getCatalog(databaseSpecificOverrideOptions,
+                                                 schemaCrawlerOptions);
+
+    schemaCrawlerOptions.setCrawlThreads(4);
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(createDataSource(),
+                                                          databaseSpecificOverrideOptions);
+    final Catalog parallelCatalog = schemaCrawler.crawl(schemaCrawlerOptions);
+
+    final String sequential = describe(sequentialCatalog);
+    assertTrue("Nothing was crawled", sequentialCatalog.getTables().size() > 0);
+    assertEquals(sequential, describe(parallelCatalog));
+  }
+
+  @Test
+  public void sequentialCrawlFromDataSource()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+
+    final Catalog connectionCatalog = getCatalog(schemaCrawlerOptions);
+
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(createDataSource(),
+                                                          new DatabaseSpecificOverrideOptionsBuilder()
+                                                            .toOptions());
+    final Catalog dataSourceCatalog = schemaCrawler.crawl(schemaCrawlerOptions);
+
+    assertEquals(describe(connectionCatalog), describe(dataSourceCatalog));
+  }
+
+}
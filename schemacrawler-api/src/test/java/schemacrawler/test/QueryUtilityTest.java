@@ -0,0 +1,190 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static schemacrawler.utility.QueryUtility.executeForScalar;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+
+public class QueryUtilityTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void batchedQueryMatchesQueryPerTable()
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(connection).build();
+    final List<Table> tables = getTables();
+
+    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+    final Map<Table, Object> counts = executeForScalars(query,
+                                                        connection,
+                                                        tables,
+                                                        identifiers);
+
+    assertEquals(tables.size(), counts.size());
+    for (final Table table: tables)
+    {
+      assertEquals(table.getFullName(),
+                   executeForScalar(query, connection, table, identifiers),
+                   counts.get(table));
+    }
+  }
+
+  @Test
+  public void batchedQueryWithNoRows()
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(connection).build();
+
+    final Query query = new Query("No rows",
+                                  "SELECT TOP 1 1 FROM ${table} WHERE 1 != 1");
+    final Map<Table, Object> results = executeForScalars(query,
+                                                         connection,
+                                                         getTables(),
+                                                         identifiers);
+
+    assertTrue(results.isEmpty());
+  }
+
+  @Test(expected = SchemaCrawlerException.class)
+  public void batchedQueryWithTooManyRows()
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    final Identifiers identifiers = Identifiers.identifiers()
+      .withConnection(connection).build();
+
+    final Query query = new Query("Too many rows",
+                                  "SELECT '${tablename}' FROM ${table}");
+    executeForScalars(query, connection, getTables(), identifiers);
+  }
+
+  @Test
+  public void failedBatchedQueryKeepsTransaction()
+    throws Exception
+  {
+    final List<Table> tables = getTables();
+    Table globalCounts = null;
+    for (final Table table: tables)
+    {
+      if (table.getSchema().getName().equals("BOOKS")
+          && table.getName().equals("Global Counts"))
+      {
+        globalCounts = table;
+      }
+    }
+    assertNotNull(globalCounts);
+
+    final Connection connection = getConnection();
+    connection.setAutoCommit(false);
+    try (final Statement statement = connection.createStatement();)
+    {
+      final Identifiers identifiers = Identifiers.identifiers()
+        .withConnection(connection).build();
+      final Query count = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+      final long initialCount = ((Number) executeForScalar(count,
+                                                           connection,
+                                                           globalCounts,
+                                                           identifiers))
+                                                             .longValue();
+      statement.executeUpdate("INSERT INTO "
+                              + identifiers.quoteFullName(globalCounts)
+                              + " (\"Global Count\") VALUES (100)");
+
+      try
+      {
+        executeForScalars(new Query("Unknown column",
+                                    "SELECT NO_SUCH_COLUMN FROM ${table}"),
+                          connection,
+                          tables,
+                          identifiers);
+        fail("Batched query with an unknown column should fail");
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        // Expected
+      }
+
+      // Earlier work in the transaction is kept, and the connection can
+      // still be used
+      assertEquals(initialCount + 1,
+                   ((Number) executeForScalar(count,
+                                              connection,
+                                              globalCounts,
+                                              identifiers)).longValue());
+    }
+    finally
+    {
+      connection.rollback();
+      connection.close();
+    }
+  }
+
+  private List<Table> getTables()
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(new SchemaCrawlerOptions());
+    final List<Table> tables = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      if (table.getTableType().isView())
+      {
+        continue;
+      }
+      tables.add(table);
+    }
+    return tables;
+  }
+
+}
@@ -0,0 +1,148 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.RegularExpressionRule;
+
+public class RegularExpressionRuleTest
+{
+
+  private static final String[] REGULAR_EXPRESSIONS = {
+                                                        "",
+                                                        ".*",
+                                                        ".*.*",
+                                                        "PUBLIC.BOOKS",
+                                                        "PUBLIC\\.BOOKS",
+                                                        "PUBLIC\\.BOOKS\\..*",
+                                                        ".*\\.AUTHORS",
+                                                        ".*AUTHOR.*",
+                                                        ".*\\.AUTHORS\\..*",
+                                                        "PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS",
+                                                        "(PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS)",
+                                                        "(?:AUTHORS|BOOKS|)",
+                                                        "(AUTHORS)|(BOOKS)",
+                                                        "AUTHORS\\|BOOKS",
+                                                        "A\\.*",
+                                                        ".*\\.*",
+                                                        ".*?",
+                                                        "\\w+\\.\\w+",
+                                                        "(?i)public\\..*",
+                                                        "\"PUBLIC\"\\.\"BOOKS\"\\..*", };
+
+  private static final String[] TEXTS = {
+                                          "",
+                                          "PUBLIC",
+                                          "PUBLIC.BOOKS",
+                                          "PUBLICXBOOKS",
+                                          "PUBLIC.BOOKS.AUTHORS",
+                                          "PUBLIC.BOOKS.BOOKS",
+                                          "PUBLIC.BOOKS.AUTHORS.ID",
+                                          "PUBLIC.BOOKS.COAUTHORS",
+                                          "PUBLIC.BOOKS.AUTHORS\n",
+                                          "PUBLIC.BOOKS.\u2028AUTHORS",
+                                          "AUTHORS",
+                                          "BOOKS",
+                                          "AUTHORS|BOOKS",
+                                          "A...",
+                                          "...",
+                                          "public.books",
+                                          "\"PUBLIC\".\"BOOKS\".\"Global Counts\"", };
+
+  @Test
+  public void excludes()
+  {
+    final InclusionRule rule = new RegularExpressionRule(".*\\.BOOKS\\..*",
+                                                         ".*\\.AUTHORS|.*\\.COAUTHORS");
+    assertTrue(rule.test("PUBLIC.BOOKS.BOOKS"));
+    assertFalse(rule.test("PUBLIC.BOOKS.AUTHORS"));
+    assertFalse(rule.test("PUBLIC.BOOKS.COAUTHORS"));
+    assertFalse(rule.test("PUBLIC.FOR_LINT.AUTHORS"));
+    assertFalse(rule.test(null));
+  }
+
+  @Test
+  public void matchesLikeRegularExpressions()
+  {
+    for (final String regex: REGULAR_EXPRESSIONS)
+    {
+      final Pattern pattern = Pattern.compile(regex);
+      final InclusionRule rule = new RegularExpressionRule(pattern, null);
+      for (final String text: TEXTS)
+      {
+        final boolean expected = !text.trim().isEmpty()
+                                 && pattern.matcher(text).matches();
+        // Test twice, to check cached results
+        for (int i = 0; i < 2; i++)
+        {
+          assertEquals(String.format("/%s/ on <%s>", regex, text),
+                       expected,
+                       rule.test(text));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void serialization()
+    throws Exception
+  {
+    final InclusionRule rule = new RegularExpressionRule(".*\\.BOOKS\\..*",
+                                                         ".*\\.AUTHORS");
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ObjectOutputStream objectOut = new ObjectOutputStream(out);)
+    {
+      objectOut.writeObject(rule);
+    }
+    final InclusionRule deserializedRule;
+    try (final ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(out
+      .toByteArray()));)
+    {
+      deserializedRule = (InclusionRule) objectIn.readObject();
+    }
+
+    assertEquals(rule, deserializedRule);
+    assertTrue(deserializedRule.test("PUBLIC.BOOKS.BOOKS"));
+    assertFalse(deserializedRule.test("PUBLIC.BOOKS.AUTHORS"));
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+
+public class RoutineColumnRetrievalTest
+  extends BaseDatabaseTest
+{
+
+  private static String describeRoutineColumns(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Routine routine: catalog.getRoutines())
+    {
+      buffer.append(routine.getFullName()).append(" ")
+        .append(routine.getSpecificName()).append("\n");
+      for (final RoutineColumn<?> column: routine.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getOrdinalPosition()).append(" ")
+          .append(column.getColumnType()).append(" ")
+          .append(column.getColumnDataType()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  @Test
+  public void routineColumnsForAllRoutines()
+    throws Exception
+  {
+    final Config config = Config
+      .loadResource("/hsqldb.INFORMATION_SCHEMA.config.properties");
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
+
+    final DatabaseSpecificOverrideOptions perRoutineOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config).toOptions();
+    final Catalog perRoutineCatalog = getCatalog(perRoutineOptions,
+                                                 schemaCrawlerOptions);
+
+    final DatabaseSpecificOverrideOptions allRoutinesOptions = new DatabaseSpecificOverrideOptionsBuilder()
+      .fromConfig(config)
+      .withProcedureColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .withFunctionColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all)
+      .toOptions();
+    final Catalog allRoutinesCatalog = getCatalog(allRoutinesOptions,
+                                                  schemaCrawlerOptions);
+
+    final String perRoutine = describeRoutineColumns(perRoutineCatalog);
+    assertTrue("No routine columns were retrieved",
+               perRoutine.contains("  "));
+    assertEquals(perRoutine, describeRoutineColumns(allRoutinesCatalog));
+  }
+
+}
@@ -0,0 +1,305 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.crawl.SectionedCatalogReader;
+import schemacrawler.crawl.SectionedCatalogWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+
+public class SectionedCatalogTest
+{
+
+  private static Connection connection;
+  private static Catalog catalog;
+  private static byte[] catalogSection;
+  private static Map<String, byte[]> schemaSections;
+
+  @AfterClass
+  public static void closeConnection()
+    throws Exception
+  {
+    connection.close();
+  }
+
+  @BeforeClass
+  public static void writeSections()
+    throws Exception
+  {
+    connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:sectioned_catalog", "SA", "");
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE SCHEMA PARENTS");
+      statement.execute("CREATE SCHEMA CHILDREN");
+      statement
+        .execute("CREATE TABLE PARENTS.PARENT (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))");
+      statement
+        .execute("CREATE TABLE CHILDREN.CHILD (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER, "
+                 + "CONSTRAINT FK_CHILD_PARENT FOREIGN KEY (PARENT_ID) REFERENCES PARENTS.PARENT (ID))");
+    }
+
+    final SchemaCrawlerOptions options = new SchemaCrawlerOptions();
+    options.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    options
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.(PARENTS|CHILDREN)"));
+    catalog = new SchemaCrawler(connection,
+                                new DatabaseSpecificOverrideOptionsBuilder()
+                                  .toOptions()).crawl(options);
+
+    final SectionedCatalogWriter writer = new SectionedCatalogWriter(catalog);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.writeCatalogSection(out);
+    catalogSection = out.toByteArray();
+
+    schemaSections = new HashMap<>();
+    for (final Schema schema: writer.getSectionSchemas())
+    {
+      out.reset();
+      writer.writeSchemaSection(schema, out);
+      schemaSections.put(schema.getName(), out.toByteArray());
+    }
+    assertEquals(2, schemaSections.size());
+  }
+
+  @Test
+  public void readAllSections()
+    throws Exception
+  {
+    final Catalog readCatalog = read("CHILDREN", "PARENTS");
+
+    assertEquals(catalog.getSchemas().size(), readCatalog.getSchemas().size());
+    assertEquals(catalog.getColumnDataTypes().size(),
+                 readCatalog.getColumnDataTypes().size());
+    assertEquals(2, readCatalog.getTables().size());
+
+    final Table parent = lookupTable(readCatalog, "PARENTS", "PARENT");
+    final Table child = lookupTable(readCatalog, "CHILDREN", "CHILD");
+    final ForeignKey foreignKey = onlyForeignKey(child);
+    assertSame(foreignKey, onlyForeignKey(parent));
+
+    final ForeignKeyColumnReference columnReference = foreignKey
+      .getColumnReferences().get(0);
+    assertSame(parent.lookupColumn("ID").get(),
+               columnReference.getPrimaryKeyColumn());
+    assertSame(child.lookupColumn("PARENT_ID").get(),
+               columnReference.getForeignKeyColumn());
+    assertSame(parent.lookupColumn("ID").get(),
+               child.lookupColumn("PARENT_ID").get().getReferencedColumn());
+
+    final Column column = child.lookupColumn("PARENT_ID").get();
+    assertSame(readCatalog.lookupSystemColumnDataType("INTEGER").get(),
+               column.getColumnDataType());
+  }
+
+  @Test
+  public void readOnlyChildSection()
+    throws Exception
+  {
+    final Catalog readCatalog = read("CHILDREN");
+
+    assertEquals(1, readCatalog.getTables().size());
+    assertFalse(readCatalog.lookupTable(schema(readCatalog, "PARENTS"),
+                                        "PARENT")
+      .isPresent());
+
+    final Table child = lookupTable(readCatalog, "CHILDREN", "CHILD");
+    final ForeignKeyColumnReference columnReference = onlyForeignKey(child)
+      .getColumnReferences().get(0);
+    final Column pkColumn = columnReference.getPrimaryKeyColumn();
+    assertTrue(pkColumn instanceof PartialDatabaseObject);
+    assertTrue(pkColumn.getParent() instanceof PartialDatabaseObject);
+    assertEquals("PUBLIC.PARENTS.PARENT.ID", pkColumn.getFullName());
+    assertSame(pkColumn,
+               child.lookupColumn("PARENT_ID").get().getReferencedColumn());
+  }
+
+  @Test
+  public void readOnlyParentSection()
+    throws Exception
+  {
+    final Catalog readCatalog = read("PARENTS");
+
+    assertEquals(1, readCatalog.getTables().size());
+
+    final Table parent = lookupTable(readCatalog, "PARENTS", "PARENT");
+    final ForeignKeyColumnReference columnReference = onlyForeignKey(parent)
+      .getColumnReferences().get(0);
+    final Column fkColumn = columnReference.getForeignKeyColumn();
+    assertTrue(fkColumn instanceof PartialDatabaseObject);
+    assertEquals("PUBLIC.CHILDREN.CHILD.PARENT_ID", fkColumn.getFullName());
+    assertSame(parent.lookupColumn("ID").get(),
+               fkColumn.getReferencedColumn());
+  }
+
+  @Test
+  public void readSynonymsForUnknownObjects()
+    throws Exception
+  {
+    final SchemaInfoLevel infoLevel = SchemaInfoLevelBuilder.standard();
+    infoLevel.setRetrieveSynonymInformation(true);
+    final SchemaCrawlerOptions options = new SchemaCrawlerOptions();
+    options.setSchemaInfoLevel(infoLevel);
+    options
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*\\.(PARENTS|CHILDREN)"));
+    options.setSynonymInclusionRule(new IncludeAll());
+
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
+      .withSynonymsSql("SELECT 'PUBLIC' AS SYNONYM_CATALOG, "
+                       + "'PARENTS' AS SYNONYM_SCHEMA, 'ELSEWHERE' AS SYNONYM_NAME, "
+                       + "'PUBLIC' AS REFERENCED_OBJECT_CATALOG, "
+                       + "'PARENTS' AS REFERENCED_OBJECT_SCHEMA, "
+                       + "'NOWHERE' AS REFERENCED_OBJECT_NAME FROM (VALUES(0))");
+    final Catalog synonymsCatalog = new SchemaCrawler(connection,
+                                                      databaseSpecificOverrideOptionsBuilder
+                                                        .toOptions())
+                                                          .crawl(options);
+
+    final Catalog readCatalog = roundTrip(synonymsCatalog);
+    final Synonym synonym = readCatalog
+      .lookupSynonym(schema(readCatalog, "PARENTS"), "ELSEWHERE").get();
+    assertEquals("PUBLIC.PARENTS.NOWHERE",
+                 synonym.getReferencedObject().getFullName());
+  }
+
+  @Test(expected = InvalidClassException.class)
+  public void rejectClassesOutsideCatalogModel()
+    throws Exception
+  {
+    final PriorityQueue<String> queue = new PriorityQueue<>();
+    queue.add("value");
+    new SectionedCatalogReader(new ByteArrayInputStream(serialize(queue)));
+  }
+
+  @Test(expected = InvalidClassException.class)
+  public void rejectTypeMappedClassObjects()
+    throws Exception
+  {
+    final Map<URL, String> map = new HashMap<>();
+    map.put(new URL("http://localhost/"), "value");
+    new SectionedCatalogReader(new ByteArrayInputStream(serialize(map)));
+  }
+
+  private Table lookupTable(final Catalog readCatalog,
+                            final String schemaName,
+                            final String tableName)
+  {
+    return readCatalog.lookupTable(schema(readCatalog, schemaName), tableName)
+      .get();
+  }
+
+  private ForeignKey onlyForeignKey(final Table table)
+  {
+    assertEquals(1, table.getForeignKeys().size());
+    return table.getForeignKeys().iterator().next();
+  }
+
+  private Catalog read(final String... schemaNames)
+    throws Exception
+  {
+    final SectionedCatalogReader reader = new SectionedCatalogReader(new ByteArrayInputStream(catalogSection));
+    for (final String schemaName: schemaNames)
+    {
+      reader
+        .readSchemaSection(new ByteArrayInputStream(schemaSections
+          .get(schemaName)));
+    }
+    return reader.getCatalog();
+  }
+
+  private Catalog roundTrip(final Catalog catalogToWrite)
+    throws Exception
+  {
+    final SectionedCatalogWriter writer = new SectionedCatalogWriter(catalogToWrite);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.writeCatalogSection(out);
+    final SectionedCatalogReader reader = new SectionedCatalogReader(new ByteArrayInputStream(out
+      .toByteArray()));
+    for (final Schema schema: writer.getSectionSchemas())
+    {
+      out.reset();
+      writer.writeSchemaSection(schema, out);
+      reader.readSchemaSection(new ByteArrayInputStream(out.toByteArray()));
+    }
+    return reader.getCatalog();
+  }
+
+  private byte[] serialize(final Object object)
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ObjectOutputStream objectOut = new ObjectOutputStream(out);)
+    {
+      objectOut.writeObject(object);
+    }
+    return out.toByteArray();
+  }
+
+  private Schema schema(final Catalog readCatalog, final String schemaName)
+  {
+    return readCatalog.getSchemas().stream()
+      .filter(schema -> schema.getName().equals(schemaName)).findFirst().get();
+  }
+
+}
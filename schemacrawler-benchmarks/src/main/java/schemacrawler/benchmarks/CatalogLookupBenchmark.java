@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+
+/**
+ * Looks up every table and column of a synthetic catalog by name, and
+ * lists all tables, which exercises the named object lists that back
+ * the catalog.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogLookupBenchmark
+{
+
+  @Param({ "1000", "10000", "100000" })
+  public int tableCount;
+
+  private Catalog catalog;
+  private List<Table> tables;
+
+  @Benchmark
+  public List<Table> getTables()
+  {
+    return new ArrayList<>(catalog.getTables());
+  }
+
+  @Benchmark
+  public void lookupColumns(final Blackhole blackhole)
+  {
+    for (final Table table: tables)
+    {
+      for (final Column column: table.getColumns())
+      {
+        blackhole.consume(table.lookupColumn(column.getName()));
+      }
+    }
+  }
+
+  @Benchmark
+  public void lookupTables(final Blackhole blackhole)
+  {
+    for (final Table table: tables)
+    {
+      blackhole.consume(catalog.lookupTable(table.getSchema(),
+                                            table.getName()));
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+  {
+    catalog = SyntheticCatalog.generate(tableCount);
+    tables = new ArrayList<>(catalog.getTables());
+  }
+
+}
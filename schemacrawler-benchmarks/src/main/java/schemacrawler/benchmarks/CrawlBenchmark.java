@@ -0,0 +1,127 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.testdb.TestDatabase;
+
+/**
+ * Crawls the test database, retrieving tables, columns, primary keys,
+ * indexes and foreign keys with each metadata retrieval strategy.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CrawlBenchmark
+{
+
+  @Param({ "metadata", "metadata_all", "data_dictionary_all" })
+  public MetadataRetrievalStrategy retrievalStrategy;
+
+  private Connection connection;
+  private DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  @TearDown(Level.Trial)
+  public void closeConnection()
+    throws Exception
+  {
+    connection.close();
+  }
+
+  @Benchmark
+  public Catalog crawl()
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          databaseSpecificOverrideOptions);
+    return schemaCrawler.crawl(schemaCrawlerOptions);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    TestDatabase.initialize();
+    connection = DriverManager.getConnection(TestDatabase.CONNECTION_STRING,
+                                             "sa",
+                                             "");
+
+    final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
+    if (retrievalStrategy == MetadataRetrievalStrategy.data_dictionary_all)
+    {
+      databaseSpecificOverrideOptionsBuilder.fromConfig(Config
+        .loadResource("/hsqldb.data_dictionary.config.properties"));
+    }
+    databaseSpecificOverrideOptions = databaseSpecificOverrideOptionsBuilder
+      .withTableRetrievalStrategy(retrievalStrategy)
+      .withTableColumnRetrievalStrategy(retrievalStrategy)
+      .withPrimaryKeyRetrievalStrategy(retrievalStrategy)
+      .withIndexRetrievalStrategy(retrievalStrategy)
+      .withForeignKeyRetrievalStrategy(retrievalStrategy).toOptions();
+
+    schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setSequenceInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setSynonymInclusionRule(new IncludeAll());
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.tools.lint.LintCollector;
+import schemacrawler.tools.lint.LinterConfig;
+import schemacrawler.tools.lint.LinterConfigs;
+import schemacrawler.tools.lint.Linters;
+
+/**
+ * Lints a synthetic catalog with all linters that do not need table
+ * data.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LintBenchmark
+{
+
+  @Param({ "1000", "10000", "100000" })
+  public int tableCount;
+
+  private Catalog catalog;
+  private Connection connection;
+  private LinterConfigs linterConfigs;
+
+  @TearDown(Level.Trial)
+  public void closeConnection()
+    throws Exception
+  {
+    connection.close();
+  }
+
+  @Benchmark
+  public LintCollector lint()
+    throws Exception
+  {
+    final Linters linters = new Linters(linterConfigs);
+    linters.lint(catalog, connection);
+    return linters.getCollector();
+  }
+
+  /**
+   * Generates a catalog for each iteration, since lints are added to
+   * tables as attributes.
+   */
+  @Setup(Level.Iteration)
+  public void setUp()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tableCount);
+  }
+
+  @Setup(Level.Trial)
+  public void setUpLinters()
+    throws Exception
+  {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:lint",
+                                             "SA",
+                                             "");
+
+    linterConfigs = new LinterConfigs(new Config());
+    // Synthetic tables do not exist in the database
+    final LinterConfig linterConfig = new LinterConfig("schemacrawler.tools.linter.LinterTableEmpty");
+    linterConfig.setRunLinter(false);
+    linterConfigs.add(linterConfig);
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs SchemaCrawler benchmarks. Takes the usual JMH command-line
+ * options, but unless another result format or file is requested,
+ * writes results as JSON to a time-stamped file in the
+ * benchmark-results directory, so that results from different runs can
+ * be compared.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SchemaCrawlerBenchmarks
+{
+
+  public static void main(final String[] args)
+    throws Exception
+  {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList())
+    {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+
+    final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+      .parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue())
+    {
+      optionsBuilder.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue())
+    {
+      final Path resultsDirectory = Paths.get("benchmark-results");
+      Files.createDirectories(resultsDirectory);
+      final String timestamp = LocalDateTime.now()
+        .format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+      optionsBuilder.result(resultsDirectory
+        .resolve(String.format("schemacrawler-%s.json", timestamp))
+        .toString());
+    }
+
+    new Runner(optionsBuilder.build()).run();
+  }
+
+  private SchemaCrawlerBenchmarks()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
+
+/**
+ * Saves a synthetic catalog as XML, and loads it back.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark
+{
+
+  @Param({ "100", "1000" })
+  public int tableCount;
+
+  private Catalog catalog;
+  private byte[] serializedCatalog;
+
+  @Benchmark
+  public Catalog load()
+    throws Exception
+  {
+    try (final Reader reader = new InputStreamReader(new ByteArrayInputStream(serializedCatalog),
+                                                     StandardCharsets.UTF_8);)
+    {
+      return new XmlSerializedCatalog(reader);
+    }
+  }
+
+  @Benchmark
+  public byte[] roundTrip()
+    throws Exception
+  {
+    final byte[] bytes = save(catalog);
+    try (final Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes),
+                                                     StandardCharsets.UTF_8);)
+    {
+      return save(new XmlSerializedCatalog(reader));
+    }
+  }
+
+  @Benchmark
+  public byte[] save()
+    throws Exception
+  {
+    return save(catalog);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tableCount);
+    serializedCatalog = save(catalog);
+  }
+
+  private byte[] save(final Catalog catalog)
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final Writer writer = new OutputStreamWriter(out,
+                                                      StandardCharsets.UTF_8);)
+    {
+      new XmlSerializedCatalog(catalog).save(writer);
+    }
+    return out.toByteArray();
+  }
+
+}
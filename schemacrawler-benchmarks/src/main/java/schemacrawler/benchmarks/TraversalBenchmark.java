@@ -0,0 +1,150 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SyntheticCatalog;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.DatabaseSpecificOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
+import schemacrawler.tools.executable.StagedExecutable;
+import schemacrawler.tools.integration.graph.GraphExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.text.schema.SchemaTextExecutable;
+
+/**
+ * Traverses a synthetic catalog, formatting it as text, JSON, or a
+ * SchemaCrawler generated DOT file. Output is discarded, so that only
+ * traversal and formatting are measured.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TraversalBenchmark
+{
+
+  private static final class DiscardingWriter
+    extends Writer
+  {
+
+    @Override
+    public void close()
+    {
+      // Nothing to close
+    }
+
+    @Override
+    public void flush()
+    {
+      // Nothing to flush
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+      // Discard output
+    }
+
+  }
+
+  @Param({ "1000", "10000", "100000" })
+  public int tableCount;
+
+  @Param({ "text", "json", "scdot" })
+  public String outputFormat;
+
+  private Catalog catalog;
+  private Connection connection;
+  private DatabaseSpecificOptions databaseSpecificOptions;
+
+  @TearDown(Level.Trial)
+  public void closeConnection()
+    throws Exception
+  {
+    connection.close();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tableCount);
+    // Formatters need database specific options, such as the
+    // identifier quote string
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:traversal",
+                                             "SA",
+                                             "");
+    databaseSpecificOptions = new DatabaseSpecificOptions(connection,
+                                                          new DatabaseSpecificOverrideOptionsBuilder()
+                                                            .toOptions());
+  }
+
+  @Benchmark
+  public void traverse()
+    throws Exception
+  {
+    final StagedExecutable executable;
+    if ("scdot".equals(outputFormat))
+    {
+      executable = new GraphExecutable("graph");
+    }
+    else
+    {
+      executable = new SchemaTextExecutable("details");
+    }
+    executable.setOutputOptions(new OutputOptions(outputFormat,
+                                                  new DiscardingWriter()));
+    executable.setDatabaseSpecificOptions(databaseSpecificOptions);
+    executable.executeOn(catalog, connection);
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.TableType;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Generates catalogs of any size, with tables that have primary keys,
+ * indexes, foreign keys and columns that are weak associations, without
+ * needing a database.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class SyntheticCatalog
+{
+
+  private static final int TABLES_PER_SCHEMA = 1000;
+  private static final String[] TABLE_NAMES = {
+                                                "CUSTOMER",
+                                                "ORDER",
+                                                "PRODUCT",
+                                                "INVOICE",
+                                                "SUPPLIER",
+                                                "SHIPMENT",
+                                                "ACCOUNT",
+                                                "EMPLOYEE", };
+
+  /**
+   * Generates a catalog. Tables are spread over schemas of a thousand
+   * tables each. Each table has a foreign key to a parent table, so
+   * that tables form a tree, and a column that is named for another
+   * table, but has no foreign key.
+   *
+   * @param tableCount
+   *        Number of tables to generate
+   * @return Generated catalog
+   */
+  public static Catalog generate(final int tableCount)
+  {
+    if (tableCount < 1)
+    {
+      throw new IllegalArgumentException("Need at least one table");
+    }
+
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    final MutableColumnDataType integerType = addColumnDataType(catalog,
+                                                                javaSqlTypes,
+                                                                "INTEGER");
+    final MutableColumnDataType varcharType = addColumnDataType(catalog,
+                                                                javaSqlTypes,
+                                                                "VARCHAR");
+    final MutableColumnDataType decimalType = addColumnDataType(catalog,
+                                                                javaSqlTypes,
+                                                                "DECIMAL");
+    final MutableColumnDataType timestampType = addColumnDataType(catalog,
+                                                                  javaSqlTypes,
+                                                                  "TIMESTAMP");
+    final MutableColumnDataType clobType = addColumnDataType(catalog,
+                                                             javaSqlTypes,
+                                                             "CLOB");
+
+    final TableType tableType = new TableType("TABLE");
+    final List<MutableTable> tables = new ArrayList<>(tableCount);
+    Schema schema = null;
+    for (int i = 0; i < tableCount; i++)
+    {
+      if (i % TABLES_PER_SCHEMA == 0)
+      {
+        schema = catalog.addSchema("SYNTHETIC",
+                                   String.format("SCHEMA_%03d",
+                                                 i / TABLES_PER_SCHEMA));
+      }
+
+      final MutableTable table = new MutableTable(schema, tableName(i));
+      table.setTableType(tableType);
+      table.setRemarks("Synthetic table " + i);
+
+      final MutableColumn idColumn = addColumn(table, "ID", integerType, 10);
+      idColumn.setNullable(false);
+      final MutableColumn nameColumn = addColumn(table,
+                                                 "NAME",
+                                                 varcharType,
+                                                 100);
+      nameColumn.setNullable(false);
+      addColumn(table, "AMOUNT", decimalType, 10).setDecimalDigits(2);
+      addColumn(table, "CREATED_AT", timestampType, 26);
+      addColumn(table, "NOTES", clobType, Integer.MAX_VALUE);
+
+      final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table,
+                                                                 "PK_"
+                                                                        + table
+                                                                          .getName());
+      primaryKey.setUnique(true);
+      addIndexColumn(primaryKey, idColumn);
+      idColumn.markAsPartOfPrimaryKey();
+      table.setPrimaryKeyAndReplaceIndex(primaryKey);
+
+      final MutableIndex index = new MutableIndex(table,
+                                                  "IDX_" + table.getName()
+                                                         + "_NAME");
+      addIndexColumn(index, nameColumn);
+      nameColumn.markAsPartOfIndex();
+      table.addIndex(index);
+
+      if (i > 0)
+      {
+        final MutableTable parentTable = tables.get((i - 1) / 2);
+        final MutableColumn parentColumn = addColumn(table,
+                                                     "PARENT_ID",
+                                                     integerType,
+                                                     10);
+        final MutableColumn parentIdColumn = parentTable.lookupColumn("ID")
+          .get();
+        final MutableForeignKey foreignKey = new MutableForeignKey("FK_"
+                                                                   + table
+                                                                     .getName()
+                                                                   + "_PARENT");
+        foreignKey.addColumnReference(1, parentIdColumn, parentColumn);
+        parentColumn.setReferencedColumn(parentIdColumn);
+        table.addForeignKey(foreignKey);
+        parentTable.addForeignKey(foreignKey);
+      }
+      if (i > 1)
+      {
+        // Named for another table, for weak associations
+        addColumn(table, tableName(i / 3) + "_ID", integerType, 10);
+      }
+
+      tables.add(table);
+      catalog.addTable(table);
+    }
+
+    return catalog;
+  }
+
+  private static MutableColumn addColumn(final MutableTable table,
+                                         final String name,
+                                         final ColumnDataType columnDataType,
+                                         final int size)
+  {
+    final MutableColumn column = new MutableColumn(table, name);
+    column.setOrdinalPosition(table.getColumns().size() + 1);
+    column.setColumnDataType(columnDataType);
+    column.setSize(size);
+    column.setNullable(true);
+    table.addColumn(column);
+    return column;
+  }
+
+  private static MutableColumnDataType addColumnDataType(final MutableCatalog catalog,
+                                                         final JavaSqlTypes javaSqlTypes,
+                                                         final String typeName)
+  {
+    final MutableColumnDataType columnDataType = new MutableColumnDataType(new SchemaReference(),
+                                                                           typeName);
+    columnDataType.setJavaSqlType(javaSqlTypes
+      .getFromJavaSqlTypeName(typeName));
+    catalog.addColumnDataType(columnDataType);
+    return columnDataType;
+  }
+
+  private static void addIndexColumn(final MutableIndex index,
+                                     final MutableColumn column)
+  {
+    final MutableIndexColumn indexColumn = new MutableIndexColumn(index,
+                                                                  column);
+    indexColumn.setIndexOrdinalPosition(1);
+    indexColumn.setSortSequence(IndexColumnSortSequence.ascending);
+    index.addColumn(indexColumn);
+  }
+
+  private static String tableName(final int i)
+  {
+    return TABLE_NAMES[i % TABLE_NAMES.length] + "_" + i;
+  }
+
+  private SyntheticCatalog()
+  {
+    // Prevent instantiation
+  }
+
+}
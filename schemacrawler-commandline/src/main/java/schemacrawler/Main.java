@@ -42,7 +42,9 @@ import schemacrawler.tools.commandline.ApplicationOptionsParser;
 import schemacrawler.tools.commandline.CommandLine;
 import schemacrawler.tools.commandline.SchemaCrawlerCommandLine;
 import schemacrawler.tools.commandline.SchemaCrawlerHelpCommandLine;
+import schemacrawler.tools.commandline.SchemaCrawlerServer;
 import schemacrawler.tools.options.ApplicationOptions;
+import schemacrawler.utility.IdentifiersCache;
 import us.fatehi.commandlineparser.CommandLineUtility;
 
 /**
@@ -83,11 +85,27 @@ public final class Main
         commandLine = new SchemaCrawlerHelpCommandLine(argsMap,
                                                        showVersionOnly);
       }
+      else if (applicationOptions.isServer())
+      {
+        commandLine = new SchemaCrawlerServer(argsMap,
+                                              applicationOptions
+                                                .getServerPort(),
+                                              applicationOptions
+                                                .getCatalogCacheTimeToLive());
+      }
       else
       {
         commandLine = new SchemaCrawlerCommandLine(argsMap);
       }
+      if (applicationOptions.hasIdentifiersCacheFile())
+      {
+        IdentifiersCache.load(applicationOptions.getIdentifiersCacheFile());
+      }
       commandLine.execute();
+      if (applicationOptions.hasIdentifiersCacheFile())
+      {
+        IdentifiersCache.save(applicationOptions.getIdentifiersCacheFile());
+      }
     }
     catch (final Throwable e)
     {
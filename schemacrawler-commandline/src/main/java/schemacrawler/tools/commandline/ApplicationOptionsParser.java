@@ -31,6 +31,8 @@ package schemacrawler.tools.commandline;
 
 import static sf.util.Utility.isBlank;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.Config;
@@ -52,6 +54,9 @@ public final class ApplicationOptionsParser
     normalizeOptionName("loglevel");
     normalizeOptionName("help", "?", "h", "-help");
     normalizeOptionName("version", "V", "-version");
+    normalizeOptionName("serverport");
+    normalizeOptionName("cachettl");
+    normalizeOptionName("identifierscache");
   }
 
   @Override
@@ -81,6 +86,39 @@ public final class ApplicationOptionsParser
       consumeOption("loglevel");
     }
 
+    if (config.hasValue("serverport"))
+    {
+      final int serverPort = config.getIntegerValue("serverport", 0);
+      if (serverPort <= 0 || serverPort > 65535)
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid server port, not <%s>",
+                  config.getStringValue("serverport", "")));
+      }
+      options.setServerPort(serverPort);
+      consumeOption("serverport");
+    }
+    if (config.hasValue("cachettl"))
+    {
+      final int catalogCacheTimeToLive = config.getIntegerValue("cachettl",
+                                                                -1);
+      if (catalogCacheTimeToLive < 0)
+      {
+        throw new SchemaCrawlerCommandLineException(String
+          .format("Please provide a valid cache time to live, in seconds, not <%s>",
+                  config.getStringValue("cachettl", "")));
+      }
+      options.setCatalogCacheTimeToLive(catalogCacheTimeToLive);
+      consumeOption("cachettl");
+    }
+    if (config.hasValue("identifierscache"))
+    {
+      final Path identifiersCacheFile = Paths
+        .get(config.getStringValue("identifierscache", "")).toAbsolutePath();
+      options.setIdentifiersCacheFile(identifiersCacheFile);
+      consumeOption("identifierscache");
+    }
+
     if (config.hasValue("help"))
     {
       options.setShowHelp(true);
@@ -0,0 +1,374 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.ConnectionOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.UserCredentials;
+import schemacrawler.tools.executable.StagedExecutable;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Caches crawled catalogs, and the connections they were crawled with,
+ * by connection URL, user credentials and SchemaCrawler options. Catalogs are kept
+ * in serialized form, and each command runs on its own copy, so that
+ * commands that add information to a catalog, such as row counts or
+ * lints, do not affect later commands.
+ */
+final class CatalogCache
+{
+
+  /**
+   * A crawled catalog, and the connection it was crawled with. Commands
+   * for the same catalog run one at a time, since they share the
+   * connection.
+   */
+  private final class CachedCatalog
+  {
+
+    private final String key;
+    private Connection connection;
+    private DatabaseSpecificOptions databaseSpecificOptions;
+    private byte[] serializedCatalog;
+    private long crawledAt;
+    private boolean isEvicted;
+
+    CachedCatalog(final String key)
+    {
+      this.key = key;
+    }
+
+    synchronized void close()
+    {
+      isEvicted = true;
+      serializedCatalog = null;
+      closeConnection();
+    }
+
+    /**
+     * Executes a command on a copy of the catalog. Returns false,
+     * without executing the command, if the catalog was evicted from
+     * the cache in the meantime.
+     */
+    synchronized boolean execute(final StagedExecutable executable,
+                                 final ConnectionOptions connectionOptions,
+                                 final String user,
+                                 final String password,
+                                 final SchemaCrawlerOptions schemaCrawlerOptions,
+                                 final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+      throws Exception
+    {
+      if (isEvicted)
+      {
+        return false;
+      }
+
+      if (!isConnectionValid())
+      {
+        closeConnection();
+        connection = connectionOptions.getConnection(user, password);
+        databaseSpecificOptions = new DatabaseSpecificOptions(connection,
+                                                              databaseSpecificOverrideOptions);
+      }
+
+      if (serializedCatalog == null || isExpired())
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Crawling catalog for <%s>",
+                                    connectionOptions.getConnectionUrl()));
+        final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                              databaseSpecificOverrideOptions);
+        final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+        serializedCatalog = serialize(catalog);
+        crawledAt = System.nanoTime();
+      }
+      else
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Using cached catalog for <%s>",
+                                    connectionOptions.getConnectionUrl()));
+      }
+
+      final Catalog catalog = (Catalog) deserialize(serializedCatalog);
+      executable.setDatabaseSpecificOptions(databaseSpecificOptions);
+      executable.setDataSource(new CommandLineDataSource(connectionOptions,
+                                                         user,
+                                                         password));
+      executable.executeOn(catalog, connection);
+      return true;
+    }
+
+    private void closeConnection()
+    {
+      if (connection != null)
+      {
+        try
+        {
+          connection.close();
+        }
+        catch (final SQLException e)
+        {
+          LOGGER.log(Level.WARNING, "Could not close connection", e);
+        }
+        connection = null;
+      }
+    }
+
+    private boolean isConnectionValid()
+    {
+      if (connection == null)
+      {
+        return false;
+      }
+      try
+      {
+        return connection.isValid(CONNECTION_VALIDATION_TIMEOUT);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.FINE, "Could not validate connection", e);
+        return false;
+      }
+    }
+
+    private boolean isExpired()
+    {
+      return timeToLive > 0 && System.nanoTime() - crawledAt >= timeToLive;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogCache.class.getName());
+
+  private static final int CONNECTION_VALIDATION_TIMEOUT = 5;
+
+  private static Object deserialize(final byte[] bytes)
+    throws IOException, ClassNotFoundException
+  {
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));)
+    {
+      return in.readObject();
+    }
+  }
+
+  private static byte[] serialize(final Object object)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static String sha256(final byte[] bytes)
+    throws NoSuchAlgorithmException
+  {
+    final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    final StringBuilder hash = new StringBuilder();
+    for (final byte b: digest.digest(bytes))
+    {
+      hash.append(String.format("%02x", b));
+    }
+    return hash.toString();
+  }
+
+  private final ConcurrentMap<String, CachedCatalog> catalogs;
+  private final long timeToLive;
+
+  /**
+   * Creates a catalog cache.
+   *
+   * @param timeToLive
+   *        Number of seconds before a cached catalog is crawled again,
+   *        or zero to keep catalogs until they are refreshed
+   */
+  CatalogCache(final int timeToLive)
+  {
+    if (timeToLive < 0)
+    {
+      throw new IllegalArgumentException("Time to live cannot be negative");
+    }
+    this.timeToLive = TimeUnit.SECONDS.toNanos(timeToLive);
+    catalogs = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Evicts all catalogs, and closes their connections.
+   */
+  void close()
+  {
+    refresh();
+  }
+
+  /**
+   * Executes a command on a copy of the cached catalog, crawling the
+   * database first if the catalog is not cached, or has expired.
+   */
+  void execute(final StagedExecutable executable,
+               final ConnectionOptions connectionOptions,
+               final SchemaCrawlerOptions schemaCrawlerOptions,
+               final DatabaseSpecificOverrideOptions databaseSpecificOverrideOptions)
+    throws Exception
+  {
+    requireNonNull(executable, "No executable provided");
+    requireNonNull(connectionOptions, "No connection options provided");
+    // Credentials can only be read once, so they are read here, and
+    // used both for the cache key and for the connection
+    final UserCredentials userCredentials = connectionOptions
+      .getUserCredentials();
+    final String user;
+    final String password;
+    if (userCredentials == null)
+    {
+      user = null;
+      password = null;
+    }
+    else
+    {
+      user = userCredentials.getUser();
+      password = userCredentials.getPassword();
+    }
+    final String key = lookupKey(connectionOptions,
+                                 user,
+                                 password,
+                                 schemaCrawlerOptions);
+    boolean isExecuted = false;
+    while (!isExecuted)
+    {
+      final CachedCatalog cachedCatalog = catalogs
+        .computeIfAbsent(key, CachedCatalog::new);
+      isExecuted = cachedCatalog.execute(executable,
+                                         connectionOptions,
+                                         user,
+                                         password,
+                                         schemaCrawlerOptions,
+                                         databaseSpecificOverrideOptions);
+    }
+  }
+
+  /**
+   * Evicts all catalogs, so that databases are crawled again.
+   */
+  void refresh()
+  {
+    final List<CachedCatalog> evicted = new ArrayList<>(catalogs.values());
+    catalogs.clear();
+    for (final CachedCatalog cachedCatalog: evicted)
+    {
+      cachedCatalog.close();
+    }
+  }
+
+  /**
+   * Evicts a catalog, so that the database is crawled again.
+   */
+  void refresh(final ConnectionOptions connectionOptions,
+               final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(connectionOptions, "No connection options provided");
+    final UserCredentials userCredentials = connectionOptions
+      .getUserCredentials();
+    final String key;
+    if (userCredentials == null)
+    {
+      key = lookupKey(connectionOptions, null, null, schemaCrawlerOptions);
+    }
+    else
+    {
+      key = lookupKey(connectionOptions,
+                      userCredentials.getUser(),
+                      userCredentials.getPassword(),
+                      schemaCrawlerOptions);
+    }
+    final CachedCatalog cachedCatalog = catalogs.remove(key);
+    if (cachedCatalog != null)
+    {
+      cachedCatalog.close();
+    }
+  }
+
+  /**
+   * Builds a cache key from the connection URL, the user, and hashes of
+   * the password and of the serialized SchemaCrawler options. The
+   * password is part of the key, so that a request with the wrong
+   * password is not served from a connection that was authenticated
+   * with the right one.
+   */
+  private String lookupKey(final ConnectionOptions connectionOptions,
+                           final String user,
+                           final String password,
+                           final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    try
+    {
+      return String
+        .format("%s|%s|%s|%s",
+                connectionOptions.getConnectionUrl(),
+                user == null? "": user,
+                sha256((password == null? "": password).getBytes(UTF_8)),
+                sha256(serialize(schemaCrawlerOptions)));
+    }
+    catch (final IOException | NoSuchAlgorithmException e)
+    {
+      throw new SchemaCrawlerException("Cannot build catalog cache key", e);
+    }
+  }
+
+}
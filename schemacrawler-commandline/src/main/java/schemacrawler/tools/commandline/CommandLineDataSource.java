@@ -0,0 +1,145 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schemacrawler.ConnectionOptions;
+import schemacrawler.schemacrawler.UserCredentials;
+
+/**
+ * Data source for the connections of a single command-line execution.
+ * User credentials can only be read once from the connection options,
+ * so they are read when the data source is created, and used for every
+ * connection, so that executables can open additional connections for
+ * parallel work.
+ */
+final class CommandLineDataSource
+  implements DataSource
+{
+
+  private final ConnectionOptions connectionOptions;
+  private final String user;
+  private final String password;
+
+  CommandLineDataSource(final ConnectionOptions connectionOptions)
+  {
+    this(connectionOptions, connectionOptions.getUserCredentials());
+  }
+
+  CommandLineDataSource(final ConnectionOptions connectionOptions,
+                        final String user,
+                        final String password)
+  {
+    this.connectionOptions = requireNonNull(connectionOptions,
+                                            "No connection options provided");
+    this.user = user;
+    this.password = password;
+  }
+
+  private CommandLineDataSource(final ConnectionOptions connectionOptions,
+                                final UserCredentials userCredentials)
+  {
+    this(connectionOptions,
+         userCredentials == null? null: userCredentials.getUser(),
+         userCredentials == null? null: userCredentials.getPassword());
+  }
+
+  @Override
+  public Connection getConnection()
+    throws SQLException
+  {
+    return connectionOptions.getConnection(user, password);
+  }
+
+  @Override
+  public Connection getConnection(final String user, final String password)
+    throws SQLException
+  {
+    return connectionOptions.getConnection(user, password);
+  }
+
+  @Override
+  public int getLoginTimeout()
+    throws SQLException
+  {
+    return connectionOptions.getLoginTimeout();
+  }
+
+  @Override
+  public PrintWriter getLogWriter()
+    throws SQLException
+  {
+    return connectionOptions.getLogWriter();
+  }
+
+  @Override
+  public Logger getParentLogger()
+    throws SQLFeatureNotSupportedException
+  {
+    return connectionOptions.getParentLogger();
+  }
+
+  @Override
+  public boolean isWrapperFor(final Class<?> iface)
+    throws SQLException
+  {
+    return false;
+  }
+
+  @Override
+  public void setLoginTimeout(final int seconds)
+    throws SQLException
+  {
+    connectionOptions.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public void setLogWriter(final PrintWriter out)
+    throws SQLException
+  {
+    connectionOptions.setLogWriter(out);
+  }
+
+  @Override
+  public <T> T unwrap(final Class<T> iface)
+    throws SQLException
+  {
+    throw new SQLFeatureNotSupportedException("Not supported", "HYC00");
+  }
+
+}
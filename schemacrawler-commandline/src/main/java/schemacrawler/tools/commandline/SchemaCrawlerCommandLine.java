@@ -31,6 +31,8 @@ package schemacrawler.tools.commandline;
 import java.sql.Connection;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.ConnectionOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
@@ -41,6 +43,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.UserCredentials;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.executable.Executable;
+import schemacrawler.tools.executable.StagedExecutable;
 import schemacrawler.tools.options.OutputOptions;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -115,18 +118,13 @@ public final class SchemaCrawlerCommandLine
   public void execute()
     throws Exception
   {
-    if (connectionOptions == null)
-    {
-      throw new SchemaCrawlerException("No connection options provided");
-    }
-
-    final Executable executable = dbConnector.newExecutable(command);
-    // Configure
-    executable.setOutputOptions(outputOptions);
-    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
-    executable.setAdditionalConfiguration(config);
+    final Executable executable = newExecutable();
+    final DataSource dataSource = new CommandLineDataSource(connectionOptions);
+    // Allow executables to open additional connections, for parallel
+    // work
+    executable.setDataSource(dataSource);
     // Execute
-    try (final Connection connection = connectionOptions.getConnection();)
+    try (final Connection connection = dataSource.getConnection();)
     {
       executable.execute(connection, databaseSpecificOverrideOptions);
     }
@@ -157,6 +155,48 @@ public final class SchemaCrawlerCommandLine
     return schemaCrawlerOptions;
   }
 
+  /**
+   * Executes the command against a cached catalog, so that the database
+   * is crawled only if the catalog is not already cached.
+   *
+   * @param catalogCache
+   *        Cache of catalogs, and their connections
+   */
+  void execute(final CatalogCache catalogCache)
+    throws Exception
+  {
+    final Executable executable = newExecutable();
+    if (executable instanceof StagedExecutable)
+    {
+      catalogCache.execute((StagedExecutable) executable,
+                           connectionOptions,
+                           schemaCrawlerOptions,
+                           databaseSpecificOverrideOptions);
+    }
+    else
+    {
+      final DataSource dataSource = new CommandLineDataSource(connectionOptions);
+      executable.setDataSource(dataSource);
+      try (final Connection connection = dataSource.getConnection();)
+      {
+        executable.execute(connection, databaseSpecificOverrideOptions);
+      }
+    }
+  }
+
+  /**
+   * Evicts the catalog for this command-line from the cache, so that
+   * the database is crawled again the next time.
+   *
+   * @param catalogCache
+   *        Cache of catalogs, and their connections
+   */
+  void refresh(final CatalogCache catalogCache)
+    throws SchemaCrawlerException
+  {
+    catalogCache.refresh(connectionOptions, schemaCrawlerOptions);
+  }
+
   /**
    * Loads configuration from a number of sources, in order of priority.
    */
@@ -183,6 +223,22 @@ public final class SchemaCrawlerCommandLine
     return config;
   }
 
+  private Executable newExecutable()
+    throws SchemaCrawlerException
+  {
+    if (connectionOptions == null)
+    {
+      throw new SchemaCrawlerException("No connection options provided");
+    }
+
+    final Executable executable = dbConnector.newExecutable(command);
+    // Configure
+    executable.setOutputOptions(outputOptions);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    return executable;
+  }
+
   /**
    * Parse connection options, for both ways of connecting.
    *
@@ -0,0 +1,438 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.commandline;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import schemacrawler.schemacrawler.Config;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+import us.fatehi.commandlineparser.CommandLineUtility;
+
+/**
+ * Runs SchemaCrawler as a long-running server, that keeps crawled
+ * catalogs and their connections cached, so that repeated commands do
+ * not crawl the database again. The server listens for HTTP requests
+ * on the loopback interface only.
+ * <p>
+ * Each request needs the random token that is printed when the server
+ * starts, in the <code>X-SchemaCrawler-Token</code> header. Requests
+ * for a host name other than the loopback interface, or from a web page
+ * on another origin, are rejected, so that web pages cannot run
+ * commands through a browser.
+ * <p>
+ * The body of each request has command-line arguments, one on each
+ * line, which are added to the arguments that the server was started
+ * with. A POST request to <code>/execute</code> runs a command, and
+ * responds with the output, unless an output file is given. A POST
+ * request to <code>/refresh</code> evicts the cached catalog for the
+ * given arguments, or all cached catalogs if there are no arguments,
+ * so that the database is crawled again.
+ */
+public final class SchemaCrawlerServer
+  implements CommandLine
+{
+
+  @FunctionalInterface
+  private interface RequestHandler
+  {
+
+    String handle(Config requestArgs)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SchemaCrawlerServer.class.getName());
+
+  /**
+   * Request header with the server token.
+   */
+  public static final String TOKEN_HEADER = "X-SchemaCrawler-Token";
+
+  private static final int TOKEN_BYTES = 32;
+
+  private static final String[] LOOPBACK_HOSTS = {
+                                                   "localhost",
+                                                   "127.0.0.1",
+                                                   "[::1]" };
+
+  private static String newToken()
+  {
+    final byte[] bytes = new byte[TOKEN_BYTES];
+    new SecureRandom().nextBytes(bytes);
+    final StringBuilder token = new StringBuilder();
+    for (final byte b: bytes)
+    {
+      token.append(String.format("%02x", b));
+    }
+    return token.toString();
+  }
+
+  private final Config argsMap;
+  private final int port;
+  private final CatalogCache catalogCache;
+  private final CountDownLatch stopped;
+  private final String token;
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * Creates a server.
+   *
+   * @param argsMap
+   *        Command-line arguments used for every request
+   * @param port
+   *        Port to listen on, or zero for any free port
+   * @param catalogCacheTimeToLive
+   *        Number of seconds before a cached catalog is crawled again,
+   *        or zero to keep catalogs until they are refreshed
+   */
+  public SchemaCrawlerServer(final Config argsMap,
+                             final int port,
+                             final int catalogCacheTimeToLive)
+  {
+    this.argsMap = new Config(argsMap);
+    this.port = port;
+    catalogCache = new CatalogCache(catalogCacheTimeToLive);
+    stopped = new CountDownLatch(1);
+    token = newToken();
+  }
+
+  /**
+   * Starts the server, and waits until it is stopped.
+   */
+  @Override
+  public void execute()
+    throws Exception
+  {
+    start();
+    System.out.printf("SchemaCrawler server listening on port %d%n"
+                      + "Send requests with the header%n%s: %s%n",
+                      getPort(),
+                      TOKEN_HEADER,
+                      token);
+    System.out.flush();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+    stopped.await();
+  }
+
+  /**
+   * Gets the port that the server listens on.
+   *
+   * @return Server port
+   */
+  public synchronized int getPort()
+  {
+    if (server == null)
+    {
+      return port;
+    }
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Gets the token that requests need to send in the
+   * <code>X-SchemaCrawler-Token</code> header.
+   *
+   * @return Server token
+   */
+  public String getToken()
+  {
+    return token;
+  }
+
+  /**
+   * Starts the server, without waiting for it to stop.
+   *
+   * @throws IOException
+   *         If the server cannot listen on the port
+   */
+  public synchronized void start()
+    throws IOException
+  {
+    if (server != null)
+    {
+      return;
+    }
+
+    server = HttpServer
+      .create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+              0);
+    server.createContext("/execute",
+                         exchange -> handle(exchange, this::execute));
+    server.createContext("/refresh",
+                         exchange -> handle(exchange, this::refresh));
+    executor = Executors
+      .newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    server.setExecutor(executor);
+    server.start();
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("SchemaCrawler server listening on port <%d>",
+                                getPort()));
+  }
+
+  /**
+   * Stops the server, and closes cached connections.
+   */
+  public synchronized void stop()
+  {
+    if (server == null)
+    {
+      return;
+    }
+
+    server.stop(0);
+    executor.shutdownNow();
+    catalogCache.close();
+    server = null;
+    executor = null;
+    stopped.countDown();
+
+    LOGGER.log(Level.INFO, "SchemaCrawler server stopped");
+  }
+
+  /**
+   * Checks the host, origin and token of a request, and returns the
+   * reason that the request is rejected, or null if the request can be
+   * handled.
+   */
+  private String checkRequest(final HttpExchange exchange)
+  {
+    final Headers headers = exchange.getRequestHeaders();
+    final int port = exchange.getLocalAddress().getPort();
+
+    // Check the host, so that a web page on a host name that resolves
+    // to the loopback interface cannot make requests
+    final String host = headers.getFirst("Host");
+    if (!isLoopbackHost(host, port))
+    {
+      return String.format("host <%s> is not the loopback interface", host);
+    }
+
+    // Browsers send the origin with cross-site requests, while
+    // command-line clients do not
+    final String origin = headers.getFirst("Origin");
+    if (origin != null && !(origin.regionMatches(true, 0, "http://", 0, 7)
+                            && isLoopbackHost(origin.substring(7), port)))
+    {
+      return String.format("origin <%s> is not allowed", origin);
+    }
+
+    final String requestToken = headers.getFirst(TOKEN_HEADER);
+    if (requestToken == null || !MessageDigest
+      .isEqual(token.getBytes(UTF_8), requestToken.getBytes(UTF_8)))
+    {
+      return String.format("the %s header is missing or wrong", TOKEN_HEADER);
+    }
+
+    return null;
+  }
+
+  private String execute(final Config requestArgs)
+    throws Exception
+  {
+    final Config args = withServerArgs(requestArgs);
+    final boolean hasOutputFile = args.hasValue("outputfile")
+                                  || args.hasValue("o");
+
+    final SchemaCrawlerCommandLine commandLine = new SchemaCrawlerCommandLine(args);
+    final StringWriter writer = new StringWriter();
+    if (!hasOutputFile)
+    {
+      commandLine.getOutputOptions().setWriter(writer);
+    }
+    commandLine.execute(catalogCache);
+
+    if (hasOutputFile)
+    {
+      return String.format("Output written to <%s>%n",
+                           commandLine.getOutputOptions().getOutputFile());
+    }
+    else
+    {
+      return writer.toString();
+    }
+  }
+
+  private void handle(final HttpExchange exchange,
+                      final RequestHandler handler)
+    throws IOException
+  {
+    int status;
+    String response;
+    try
+    {
+      final String rejection = checkRequest(exchange);
+      if (rejection != null)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Rejected request for <%s>, since %s",
+                                    exchange.getRequestURI(),
+                                    rejection));
+        response = String.format("Forbidden: %s%n", rejection);
+        status = 403;
+      }
+      else if ("POST".equalsIgnoreCase(exchange.getRequestMethod()))
+      {
+        response = handler.handle(readArgs(exchange));
+        status = 200;
+      }
+      else
+      {
+        response = String.format("Please use a POST request%n");
+        status = 405;
+      }
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not handle request for <%s>",
+                                  exchange.getRequestURI()),
+                 e);
+      response = String.format("Error: %s%n", e.getMessage());
+      status = 500;
+    }
+
+    final byte[] responseBytes = requireNonNull(response).getBytes(UTF_8);
+    exchange.getResponseHeaders().set("Content-Type",
+                                      "text/plain; charset=UTF-8");
+    if (responseBytes.length == 0)
+    {
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+    exchange.sendResponseHeaders(status, responseBytes.length);
+    try (final OutputStream out = exchange.getResponseBody();)
+    {
+      out.write(responseBytes);
+    }
+  }
+
+  /**
+   * Checks whether a host header value names the loopback interface,
+   * on the port that the server listens on.
+   */
+  private boolean isLoopbackHost(final String host, final int port)
+  {
+    if (host == null)
+    {
+      return false;
+    }
+    for (final String loopbackHost: LOOPBACK_HOSTS)
+    {
+      if (host.equalsIgnoreCase(loopbackHost + ":" + port)
+          || port == 80 && host.equalsIgnoreCase(loopbackHost))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads command-line arguments from the request body, one on each
+   * line.
+   */
+  private Config readArgs(final HttpExchange exchange)
+    throws Exception
+  {
+    final List<String> args = new ArrayList<>();
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(exchange
+      .getRequestBody(), UTF_8));)
+    {
+      String line;
+      while ((line = reader.readLine()) != null)
+      {
+        line = line.trim();
+        if (!line.isEmpty())
+        {
+          args.add(line);
+        }
+      }
+    }
+
+    if (args.isEmpty())
+    {
+      return new Config();
+    }
+    return CommandLineUtility.parseArgs(args.toArray(new String[args.size()]));
+  }
+
+  private String refresh(final Config requestArgs)
+    throws Exception
+  {
+    if (requestArgs.isEmpty())
+    {
+      catalogCache.refresh();
+      return String.format("Refreshed all catalogs%n");
+    }
+    else
+    {
+      new SchemaCrawlerCommandLine(withServerArgs(requestArgs))
+        .refresh(catalogCache);
+      return String.format("Refreshed catalog%n");
+    }
+  }
+
+  /**
+   * Adds request arguments to the arguments that the server was started
+   * with, in a new map, since parsing changes the map.
+   */
+  private Config withServerArgs(final Config requestArgs)
+  {
+    final Config args = new Config(argsMap);
+    args.putAll(requestArgs);
+    return args;
+  }
+
+}
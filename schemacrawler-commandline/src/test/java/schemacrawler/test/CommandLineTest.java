@@ -29,10 +29,16 @@ package schemacrawler.test;
 
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newBufferedReader;
 import static java.nio.file.Files.newBufferedWriter;
+import static org.junit.Assert.assertEquals;
 import static schemacrawler.test.utility.TestUtility.flattenCommandlineArgs;
+import static sf.util.Utility.isBlank;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +52,8 @@ import schemacrawler.schemacrawler.Config;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestName;
 import schemacrawler.test.utility.TestWriter;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.IdentifiersCache;
 import sf.util.IOUtility;
 
 public class CommandLineTest
@@ -221,6 +229,68 @@ public class CommandLineTest
     run(args, null);
   }
 
+  @Test
+  public void commandLineWithIdentifiersCache()
+    throws Exception
+  {
+    final Path identifiersCacheFile = IOUtility
+      .createTempFilePath("identifiers", "properties");
+    try
+    {
+      IdentifiersCache.clear();
+      Identifiers.identifiers().withConnection(getConnection()).build();
+      IdentifiersCache.save(identifiersCacheFile);
+
+      // Add a marker reserved word to the cache file, which the database
+      // does not report, so that it is only saved again if the cache
+      // file was loaded
+      final Properties identifiersCache = new Properties();
+      try (final Reader reader = newBufferedReader(identifiersCacheFile,
+                                                   UTF_8);)
+      {
+        identifiersCache.load(reader);
+      }
+      for (final String name: identifiersCache.stringPropertyNames())
+      {
+        if (name.endsWith(".sql_keywords"))
+        {
+          final String sqlKeywords = identifiersCache.getProperty(name);
+          identifiersCache
+            .setProperty(name,
+                         isBlank(sqlKeywords)? "AUTHORS": sqlKeywords
+                                                         + ",AUTHORS");
+        }
+      }
+      try (final Writer writer = newBufferedWriter(identifiersCacheFile,
+                                                   UTF_8);)
+      {
+        identifiersCache.store(writer, null);
+      }
+      IdentifiersCache.clear();
+
+      final Map<String, String> args = new HashMap<>();
+      args.put("portablenames", Boolean.TRUE.toString());
+      args.put("identifierscache", identifiersCacheFile.toString());
+
+      run(args, null);
+
+      final Properties savedIdentifiersCache = new Properties();
+      try (final Reader reader = newBufferedReader(identifiersCacheFile,
+                                                   UTF_8);)
+      {
+        savedIdentifiersCache.load(reader);
+      }
+      assertEquals("Identifiers cache file was not loaded and saved",
+                   identifiersCache,
+                   savedIdentifiersCache);
+    }
+    finally
+    {
+      IdentifiersCache.clear();
+      Files.deleteIfExists(identifiersCacheFile);
+    }
+  }
+
   @Test
   public void commandLineWithNonDefaults()
     throws Exception
@@ -0,0 +1,279 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static schemacrawler.test.utility.TestUtility.flattenCommandlineArgs;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import schemacrawler.Main;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.commandline.SchemaCrawlerServer;
+
+public class SchemaCrawlerServerTest
+  extends BaseDatabaseTest
+{
+
+  private SchemaCrawlerServer server;
+
+  @Test
+  public void executeCachedCommands()
+    throws Exception
+  {
+    final String firstOutput = post("/execute", "-command=brief");
+    final String secondOutput = post("/execute", "-command=brief");
+    assertFalse(firstOutput.isEmpty());
+    assertEquals(firstOutput, secondOutput);
+
+    final Path outputFile = Files.createTempFile("schemacrawler", ".txt");
+    final Config argsMap = serverArgs();
+    argsMap.put("command", "brief");
+    argsMap.put("outputfile", outputFile.toString());
+    Main.main(flattenCommandlineArgs(argsMap));
+    assertEquals(new String(Files.readAllBytes(outputFile), UTF_8),
+                 firstOutput);
+  }
+
+  @Test
+  public void executeCountsOnCachedCatalog()
+    throws Exception
+  {
+    final String firstOutput = post("/execute", "-command=count");
+    final String secondOutput = post("/execute", "-command=count");
+    assertFalse(firstOutput.isEmpty());
+    assertEquals(firstOutput, secondOutput);
+  }
+
+  @Test
+  public void executeWithWrongPassword()
+    throws Exception
+  {
+    post("/execute", "-command=brief");
+
+    // A cached catalog is not used, unless the password matches
+    final HttpURLConnection connection = (HttpURLConnection) url("/execute")
+      .openConnection();
+    connection.setRequestMethod("POST");
+    connection.setRequestProperty(SchemaCrawlerServer.TOKEN_HEADER,
+                                  server.getToken());
+    connection.setDoOutput(true);
+    try (final OutputStream out = connection.getOutputStream();)
+    {
+      out.write(String.format("-command=brief%n-password=wrong")
+        .getBytes(UTF_8));
+    }
+    assertEquals(500, connection.getResponseCode());
+  }
+
+  @Test
+  public void refreshCatalogs()
+    throws Exception
+  {
+    final String output = post("/execute", "-command=schema");
+
+    assertEquals(String.format("Refreshed catalog%n"),
+                 post("/refresh", "-command=schema"));
+    assertEquals(output, post("/execute", "-command=schema"));
+
+    assertEquals(String.format("Refreshed all catalogs%n"),
+                 post("/refresh", ""));
+    assertEquals(output, post("/execute", "-command=schema"));
+  }
+
+  @Test
+  public void rejectForeignHost()
+    throws Exception
+  {
+    assertThat(rawPost("evil.example.com:" + server.getPort(), null),
+               startsWith("HTTP/1.1 403"));
+  }
+
+  @Test
+  public void rejectForeignOrigin()
+    throws Exception
+  {
+    assertThat(rawPost("localhost:" + server.getPort(),
+                       "http://evil.example.com"),
+               startsWith("HTTP/1.1 403"));
+    assertThat(rawPost("localhost:" + server.getPort(),
+                       "http://localhost:" + server.getPort()),
+               startsWith("HTTP/1.1 200"));
+  }
+
+  @Test
+  public void rejectGetRequests()
+    throws Exception
+  {
+    final HttpURLConnection connection = (HttpURLConnection) url("/execute")
+      .openConnection();
+    connection.setRequestProperty(SchemaCrawlerServer.TOKEN_HEADER,
+                                  server.getToken());
+    assertEquals(405, connection.getResponseCode());
+  }
+
+  @Test
+  public void rejectRequestsWithoutToken()
+    throws Exception
+  {
+    HttpURLConnection connection = (HttpURLConnection) url("/execute")
+      .openConnection();
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    try (final OutputStream out = connection.getOutputStream();)
+    {
+      out.write("-command=brief".getBytes(UTF_8));
+    }
+    assertEquals(403, connection.getResponseCode());
+
+    connection = (HttpURLConnection) url("/refresh").openConnection();
+    connection.setRequestMethod("POST");
+    connection.setRequestProperty(SchemaCrawlerServer.TOKEN_HEADER,
+                                  "not-the-token");
+    connection.setDoOutput(true);
+    try (final OutputStream out = connection.getOutputStream();)
+    {
+      out.write(new byte[0]);
+    }
+    assertEquals(403, connection.getResponseCode());
+  }
+
+  @Before
+  public void startServer()
+    throws Exception
+  {
+    server = new SchemaCrawlerServer(serverArgs(), 0, 0);
+    server.start();
+  }
+
+  @After
+  public void stopServer()
+  {
+    server.stop();
+  }
+
+  private String post(final String path, final String args)
+    throws IOException
+  {
+    final HttpURLConnection connection = (HttpURLConnection) url(path)
+      .openConnection();
+    connection.setRequestMethod("POST");
+    connection.setRequestProperty(SchemaCrawlerServer.TOKEN_HEADER,
+                                  server.getToken());
+    connection.setDoOutput(true);
+    try (final OutputStream out = connection.getOutputStream();)
+    {
+      out.write(args.getBytes(UTF_8));
+    }
+    assertEquals(200, connection.getResponseCode());
+
+    final ByteArrayOutputStream response = new ByteArrayOutputStream();
+    try (final InputStream in = connection.getInputStream();)
+    {
+      final byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1)
+      {
+        response.write(buffer, 0, read);
+      }
+    }
+    return new String(response.toByteArray(), UTF_8);
+  }
+
+  /**
+   * Posts a refresh request with the token, over a socket, since the
+   * host and origin headers cannot be set on a URL connection.
+   */
+  private String rawPost(final String host, final String origin)
+    throws IOException
+  {
+    try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(),
+                                          server.getPort());)
+    {
+      final StringBuilder request = new StringBuilder();
+      request.append("POST /refresh HTTP/1.1\r\n");
+      request.append("Host: ").append(host).append("\r\n");
+      if (origin != null)
+      {
+        request.append("Origin: ").append(origin).append("\r\n");
+      }
+      request.append(SchemaCrawlerServer.TOKEN_HEADER).append(": ")
+        .append(server.getToken()).append("\r\n");
+      request.append("Content-Type: text/plain\r\n");
+      request.append("Content-Length: 0\r\n");
+      request.append("Connection: close\r\n\r\n");
+      socket.getOutputStream().write(request.toString().getBytes(UTF_8));
+      socket.getOutputStream().flush();
+
+      final BufferedReader reader = new BufferedReader(new InputStreamReader(socket
+        .getInputStream(), UTF_8));
+      return String.valueOf(reader.readLine());
+    }
+  }
+
+  private Config serverArgs()
+  {
+    final Config argsMap = new Config();
+    argsMap.put("url", "jdbc:hsqldb:hsql://localhost/schemacrawler");
+    argsMap.put("user", "sa");
+    argsMap.put("password", "");
+    argsMap.put("noinfo", Boolean.TRUE.toString());
+    argsMap.put("schemas", ".*\\.(?!FOR_LINT).*");
+    argsMap.put("infolevel", "standard");
+    argsMap.put("outputformat", "text");
+    return argsMap;
+  }
+
+  private URL url(final String path)
+    throws IOException
+  {
+    return new URL("http", "localhost", server.getPort(), path);
+  }
+
+}
@@ -0,0 +1,49 @@
+SELECT
+  TABLES.TABLE_CAT AS TABLE_CATALOG,
+  TABLES.TABLE_SCHEM AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  COALESCE(TABLES.REMARKS, '')
+  || ' / ' || COALESCE(
+    (SELECT 
+       GROUP_CONCAT(COLUMNS.COLUMN_NAME || ' ' || COLUMNS.TYPE_NAME 
+         || ' ' || COALESCE(CAST(COLUMNS.COLUMN_SIZE AS VARCHAR(20)), '')
+         || ' ' || COALESCE(CAST(COLUMNS.DECIMAL_DIGITS AS VARCHAR(20)), '')
+         || ' ' || COLUMNS.IS_NULLABLE 
+         || ' ' || COALESCE(COLUMNS.COLUMN_DEF, '')
+         || ' ' || COALESCE(COLUMNS.REMARKS, '')
+         ORDER BY COLUMNS.ORDINAL_POSITION SEPARATOR ', ')
+     FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS COLUMNS
+     WHERE COLUMNS.TABLE_CAT = TABLES.TABLE_CAT
+       AND COLUMNS.TABLE_SCHEM = TABLES.TABLE_SCHEM
+       AND COLUMNS.TABLE_NAME = TABLES.TABLE_NAME), '')
+  || ' / ' || COALESCE(
+    (SELECT 
+       GROUP_CONCAT(INDEXES.INDEX_NAME || ' ' || INDEXES.COLUMN_NAME
+         ORDER BY INDEXES.INDEX_NAME, INDEXES.ORDINAL_POSITION SEPARATOR ', ')
+     FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO INDEXES
+     WHERE INDEXES.TABLE_CAT = TABLES.TABLE_CAT
+       AND INDEXES.TABLE_SCHEM = TABLES.TABLE_SCHEM
+       AND INDEXES.TABLE_NAME = TABLES.TABLE_NAME), '')
+  || ' / ' || COALESCE(
+    (SELECT 
+       GROUP_CONCAT(CONSTRAINTS.CONSTRAINT_NAME || ' ' || CONSTRAINTS.CONSTRAINT_TYPE
+         ORDER BY CONSTRAINTS.CONSTRAINT_NAME SEPARATOR ', ')
+     FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS CONSTRAINTS
+     WHERE CONSTRAINTS.TABLE_CATALOG = TABLES.TABLE_CAT
+       AND CONSTRAINTS.TABLE_SCHEMA = TABLES.TABLE_SCHEM
+       AND CONSTRAINTS.TABLE_NAME = TABLES.TABLE_NAME), '')
+  || ' / ' || COALESCE(
+    (SELECT 
+       GROUP_CONCAT(TRIGGERS.TRIGGER_NAME 
+         ORDER BY TRIGGERS.TRIGGER_NAME SEPARATOR ', ')
+     FROM INFORMATION_SCHEMA.TRIGGERS TRIGGERS
+     WHERE TRIGGERS.EVENT_OBJECT_CATALOG = TABLES.TABLE_CAT
+       AND TRIGGERS.EVENT_OBJECT_SCHEMA = TABLES.TABLE_SCHEM
+       AND TRIGGERS.EVENT_OBJECT_TABLE = TABLES.TABLE_NAME), '')
+  AS CHANGE_INDICATOR
+FROM
+  INFORMATION_SCHEMA.SYSTEM_TABLES TABLES
+ORDER BY
+  TABLE_CATALOG,
+  TABLE_SCHEMA,
+  TABLE_NAME
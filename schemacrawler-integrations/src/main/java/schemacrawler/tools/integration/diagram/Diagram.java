@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nodes and edges of a diagram, and the size of the diagram once it
+ * has been laid out.
+ */
+final class Diagram
+{
+
+  private final List<DiagramNode> nodes;
+  private final List<DiagramEdge> edges;
+  private double width;
+  private double height;
+
+  Diagram()
+  {
+    nodes = new ArrayList<>();
+    edges = new ArrayList<>();
+  }
+
+  void addEdge(final DiagramEdge edge)
+  {
+    edges.add(edge);
+  }
+
+  /**
+   * Adds a node, and returns the index of the node.
+   */
+  int addNode(final DiagramNode node)
+  {
+    nodes.add(node);
+    return nodes.size() - 1;
+  }
+
+  List<DiagramEdge> getEdges()
+  {
+    return edges;
+  }
+
+  double getHeight()
+  {
+    return height;
+  }
+
+  List<DiagramNode> getNodes()
+  {
+    return nodes;
+  }
+
+  double getWidth()
+  {
+    return width;
+  }
+
+  void setSize(final double width, final double height)
+  {
+    this.width = width;
+    this.height = height;
+  }
+
+}
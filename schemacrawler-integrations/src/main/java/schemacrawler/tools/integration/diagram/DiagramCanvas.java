@@ -0,0 +1,79 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import java.io.IOException;
+
+import sf.util.Color;
+
+/**
+ * Drawing surface for a diagram. Coordinates are in points, with the
+ * origin at the top left corner.
+ */
+interface DiagramCanvas
+{
+
+  void begin(double width, double height)
+    throws IOException;
+
+  /**
+   * Draws a circle, filled with white.
+   */
+  void circle(double x, double y, double radius, Color color);
+
+  void end()
+    throws IOException;
+
+  /**
+   * Draws lines joining points, given as x and y coordinates, one
+   * after another.
+   */
+  void lines(double[] points, boolean dashed, Color color);
+
+  /**
+   * Draws a filled rectangle, with an optional border.
+   */
+  void rectangle(double x,
+                 double y,
+                 double width,
+                 double height,
+                 Color fill,
+                 Color border);
+
+  /**
+   * Draws text, starting or ending at the given point, on the baseline.
+   */
+  void text(double x,
+            double y,
+            String text,
+            boolean bold,
+            boolean alignRight,
+            Color color);
+
+}
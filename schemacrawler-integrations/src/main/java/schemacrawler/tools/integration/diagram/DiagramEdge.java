@@ -0,0 +1,156 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An edge in a diagram, from a primary key column to a foreign key
+ * column. The route of an edge is a list of points, from the primary
+ * key end to the foreign key end, and is set by the layout.
+ */
+final class DiagramEdge
+{
+
+  /**
+   * Symbols drawn at the ends of an edge.
+   */
+  enum EndSymbol
+  {
+   none,
+   box,
+   teetee,
+   teeodot,
+   crowodot;
+  }
+
+  private final int primaryKeyNode;
+  private final int primaryKeyRow;
+  private final int foreignKeyNode;
+  private final int foreignKeyRow;
+  private final String label;
+  private final boolean dashed;
+  private final EndSymbol primaryKeySymbol;
+  private final EndSymbol foreignKeySymbol;
+  private double[] route;
+
+  DiagramEdge(final int primaryKeyNode,
+              final int primaryKeyRow,
+              final int foreignKeyNode,
+              final int foreignKeyRow,
+              final String label,
+              final boolean dashed,
+              final EndSymbol primaryKeySymbol,
+              final EndSymbol foreignKeySymbol)
+  {
+    this.primaryKeyNode = primaryKeyNode;
+    this.primaryKeyRow = primaryKeyRow;
+    this.foreignKeyNode = foreignKeyNode;
+    this.foreignKeyRow = foreignKeyRow;
+    this.label = requireNonNull(label, "No label provided");
+    this.dashed = dashed;
+    this.primaryKeySymbol = requireNonNull(primaryKeySymbol,
+                                           "No primary key symbol provided");
+    this.foreignKeySymbol = requireNonNull(foreignKeySymbol,
+                                           "No foreign key symbol provided");
+    route = new double[0];
+  }
+
+  int getForeignKeyNode()
+  {
+    return foreignKeyNode;
+  }
+
+  int getForeignKeyRow()
+  {
+    return foreignKeyRow;
+  }
+
+  EndSymbol getForeignKeySymbol()
+  {
+    return foreignKeySymbol;
+  }
+
+  String getLabel()
+  {
+    return label;
+  }
+
+  int getPrimaryKeyNode()
+  {
+    return primaryKeyNode;
+  }
+
+  int getPrimaryKeyRow()
+  {
+    return primaryKeyRow;
+  }
+
+  EndSymbol getPrimaryKeySymbol()
+  {
+    return primaryKeySymbol;
+  }
+
+  /**
+   * Gets the route of the edge, as x and y coordinates of points, one
+   * after another.
+   */
+  double[] getRoute()
+  {
+    return route;
+  }
+
+  boolean isDashed()
+  {
+    return dashed;
+  }
+
+  boolean isSelfLoop()
+  {
+    return primaryKeyNode == foreignKeyNode;
+  }
+
+  void setRoute(final double[] route)
+  {
+    this.route = requireNonNull(route, "No route provided");
+  }
+
+  /**
+   * Moves the route of the edge.
+   */
+  void translate(final double dx, final double dy)
+  {
+    for (int i = 0; i < route.length; i = i + 2)
+    {
+      route[i] = route[i] + dx;
+      route[i + 1] = route[i + 1] + dy;
+    }
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sf.util.Color;
+
+/**
+ * A box in a diagram, with a header, and a row for each column. Each
+ * row is a port where edges can start or end. Nodes are created for
+ * tables, and for columns of tables that are not in the diagram.
+ */
+final class DiagramNode
+{
+
+  /**
+   * A row in a node, with the name of a column, and details about it.
+   */
+  static final class Row
+  {
+
+    private final String name;
+    private final String details;
+    private final boolean emphasize;
+
+    Row(final String name, final String details, final boolean emphasize)
+    {
+      this.name = requireNonNull(name, "No name provided");
+      this.details = requireNonNull(details, "No details provided");
+      this.emphasize = emphasize;
+    }
+
+    String getDetails()
+    {
+      return details;
+    }
+
+    String getName()
+    {
+      return name;
+    }
+
+    boolean isEmphasize()
+    {
+      return emphasize;
+    }
+
+  }
+
+  static final double CHAR_WIDTH = 7;
+  static final double HEADER_HEIGHT = 20;
+  static final double ROW_HEIGHT = 16;
+  static final double PADDING = 6;
+
+  private final String title;
+  private final String subtitle;
+  private final Color color;
+  private final List<Row> rows;
+  private double width;
+  private double x;
+  private double y;
+
+  DiagramNode(final String title, final String subtitle, final Color color)
+  {
+    this.title = requireNonNull(title, "No title provided");
+    this.subtitle = requireNonNull(subtitle, "No subtitle provided");
+    this.color = requireNonNull(color, "No color provided");
+    rows = new ArrayList<>();
+    width = textWidth(title, subtitle);
+  }
+
+  /**
+   * Adds a row, and returns the index of the row.
+   */
+  int addRow(final Row row)
+  {
+    rows.add(requireNonNull(row, "No row provided"));
+    width = Math.max(width, textWidth(row.getName(), row.getDetails()));
+    return rows.size() - 1;
+  }
+
+  Color getColor()
+  {
+    return color;
+  }
+
+  double getHeight()
+  {
+    return HEADER_HEIGHT + rows.size() * ROW_HEIGHT;
+  }
+
+  /**
+   * Gets the offset of a port from the top of the node. Rows that are
+   * not valid are taken to be the header of the node.
+   *
+   * @param row
+   *        Row index
+   * @return Offset of the middle of the row
+   */
+  double getPortOffset(final int row)
+  {
+    if (row < 0 || row >= rows.size())
+    {
+      return HEADER_HEIGHT / 2;
+    }
+    else
+    {
+      return HEADER_HEIGHT + row * ROW_HEIGHT + ROW_HEIGHT / 2;
+    }
+  }
+
+  List<Row> getRows()
+  {
+    return rows;
+  }
+
+  String getSubtitle()
+  {
+    return subtitle;
+  }
+
+  String getTitle()
+  {
+    return title;
+  }
+
+  double getWidth()
+  {
+    return width;
+  }
+
+  double getX()
+  {
+    return x;
+  }
+
+  double getY()
+  {
+    return y;
+  }
+
+  void setPosition(final double x, final double y)
+  {
+    this.x = x;
+    this.y = y;
+  }
+
+  private double textWidth(final String left, final String right)
+  {
+    final int gap = left.isEmpty() || right.isEmpty()? 0: 2;
+    return (left.length() + gap + right.length()) * CHAR_WIDTH + 2 * PADDING;
+  }
+
+}
@@ -0,0 +1,592 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessage;
+import static schemacrawler.tools.analysis.counts.CountsUtility.hasRowCount;
+import static schemacrawler.utility.MetaDataUtility.findForeignKeyCardinality;
+import static sf.util.Utility.isLowerCase;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schema.BaseForeignKey;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
+import schemacrawler.tools.integration.diagram.DiagramEdge.EndSymbol;
+import schemacrawler.tools.integration.graph.GraphOptions;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.utility.DatabaseObjectColorMap;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
+import schemacrawler.utility.NamedObjectSort;
+import sf.util.Color;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+
+/**
+ * Renders schema diagrams in-process, without Graphviz, and without
+ * temporary files. Tables and their relationships are laid out with a
+ * layered layout, and drawn as Scalable Vector Graphics.
+ */
+public final class DiagramRenderer
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(DiagramRenderer.class.getName());
+
+  private static final Color BORDER_COLOR = Color.fromRGB(0x99, 0x99, 0x99);
+  private static final Color TEXT_COLOR = Color.fromRGB(0x00, 0x00, 0x00);
+  private static final Color DETAILS_COLOR = Color.fromRGB(0x55, 0x55, 0x55);
+  private static final Color EDGE_COLOR = Color.fromRGB(0x55, 0x55, 0x55);
+  private static final Color LABEL_COLOR = Color.fromRGB(0x88, 0x88, 0x88);
+
+  private final boolean isVerbose;
+  private final boolean isBrief;
+  private final GraphOptions options;
+  private final Identifiers identifiers;
+  private final DatabaseObjectColorMap colorMap;
+
+  /**
+   * Creates a renderer for diagrams.
+   *
+   * @param schemaTextDetailType
+   *        Level of detail for tables
+   * @param options
+   *        Options for diagrams
+   * @param identifierQuoteString
+   *        Quote string for identifiers
+   */
+  public DiagramRenderer(final SchemaTextDetailType schemaTextDetailType,
+                         final GraphOptions options,
+                         final String identifierQuoteString)
+  {
+    this.options = requireNonNull(options, "No graph options provided");
+    isVerbose = schemaTextDetailType == SchemaTextDetailType.details;
+    isBrief = schemaTextDetailType == SchemaTextDetailType.brief;
+    identifiers = Identifiers.identifiers()
+      .withIdentifierQuoteString(identifierQuoteString)
+      .withIdentifierQuotingStrategy(options.getIdentifierQuotingStrategy())
+      .build();
+    colorMap = DatabaseObjectColorMap.initialize(options.isNoSchemaColors());
+  }
+
+  /**
+   * Renders a diagram of the tables in a catalog as Scalable Vector
+   * Graphics.
+   *
+   * @param catalog
+   *        Catalog to render
+   * @param writer
+   *        Writer for the output, which is not closed
+   * @param charset
+   *        Character set of the writer
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void renderSvg(final Catalog catalog,
+                        final Writer writer,
+                        final Charset charset)
+    throws SchemaCrawlerException
+  {
+    render(catalog, new SvgDiagramCanvas(writer, charset));
+  }
+
+  private void addEdges(final Diagram diagram,
+                        final Table table,
+                        final Collection<? extends BaseForeignKey<?>> foreignKeys,
+                        final Map<Table, Integer> tableNodes,
+                        final Map<Column, int[]> ports,
+                        final Map<Column, Integer> columnNodes)
+  {
+    for (final BaseForeignKey<? extends ColumnReference> foreignKey: foreignKeys)
+    {
+      final ForeignKeyCardinality fkCardinality = findForeignKeyCardinality(foreignKey);
+      for (final ColumnReference columnRef: foreignKey)
+      {
+        final Column primaryKeyColumn = columnRef.getPrimaryKeyColumn();
+        final Column foreignKeyColumn = columnRef.getForeignKeyColumn();
+        final Table foreignKeyTable = foreignKeyColumn.getParent();
+        if (foreignKeyTable.getAttribute("schemacrawler.table.no_grep_match",
+                                         false))
+        {
+          continue;
+        }
+        // Edges are added from the primary key table, so that they are
+        // only added once
+        if (!table.equals(primaryKeyColumn.getParent()))
+        {
+          continue;
+        }
+
+        final int[] primaryKeyPort = ports
+          .getOrDefault(primaryKeyColumn,
+                        new int[] { tableNodes.get(table), -1 });
+        int[] foreignKeyPort = ports.get(foreignKeyColumn);
+        if (foreignKeyPort == null)
+        {
+          if (tableNodes.containsKey(foreignKeyTable))
+          {
+            foreignKeyPort = new int[] { tableNodes.get(foreignKeyTable), -1 };
+          }
+          else
+          {
+            // Show the column of a table that is not in the diagram on
+            // its own
+            final int columnNode = columnNodes
+              .computeIfAbsent(foreignKeyColumn,
+                               column -> diagram
+                                 .addNode(new DiagramNode(columnName(column),
+                                                          "",
+                                                          Color.white)));
+            foreignKeyPort = new int[] { columnNode, -1 };
+          }
+        }
+
+        final boolean isForeignKey = columnRef instanceof ForeignKeyColumnReference;
+        final String label;
+        if (options.isHideForeignKeyNames() || !isForeignKey)
+        {
+          label = "";
+        }
+        else
+        {
+          label = identifiers.quoteName(foreignKey.getName());
+        }
+        final EndSymbol primaryKeySymbol;
+        if (options.isShowForeignKeyCardinality())
+        {
+          primaryKeySymbol = endSymbol(fkCardinality);
+        }
+        else
+        {
+          primaryKeySymbol = EndSymbol.none;
+        }
+        final EndSymbol foreignKeySymbol;
+        if (options.isShowPrimaryKeyCardinality())
+        {
+          foreignKeySymbol = EndSymbol.teetee;
+        }
+        else
+        {
+          foreignKeySymbol = EndSymbol.none;
+        }
+
+        diagram.addEdge(new DiagramEdge(primaryKeyPort[0],
+                                        primaryKeyPort[1],
+                                        foreignKeyPort[0],
+                                        foreignKeyPort[1],
+                                        label,
+                                        !isForeignKey,
+                                        primaryKeySymbol,
+                                        foreignKeySymbol));
+      }
+    }
+  }
+
+  private int addTableNode(final Diagram diagram,
+                           final Table table,
+                           final Map<Column, int[]> ports)
+  {
+    final String tableName;
+    if (options.isShowUnqualifiedNames())
+    {
+      tableName = identifiers.quoteName(table);
+    }
+    else
+    {
+      tableName = identifiers.quoteFullName(table);
+    }
+    final DiagramNode node = new DiagramNode(tableName,
+                                             "[" + table.getTableType() + "]",
+                                             colorMap.getColor(table));
+    final int nodeIndex = diagram.addNode(node);
+
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    columns.sort(NamedObjectSort
+      .getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
+    if (isVerbose)
+    {
+      final List<Column> hiddenColumns = new ArrayList<>(table
+        .getHiddenColumns());
+      hiddenColumns.sort(NamedObjectSort
+        .getNamedObjectSort(options.isAlphabeticalSortForTableColumns()));
+      columns.addAll(hiddenColumns);
+    }
+    for (final Column column: columns)
+    {
+      if (isBrief && !isColumnSignificant(column))
+      {
+        continue;
+      }
+
+      final String columnTypeName;
+      if (options.isShowStandardColumnTypeNames())
+      {
+        columnTypeName = column.getColumnDataType().getJavaSqlType()
+          .getJavaSqlTypeName();
+      }
+      else
+      {
+        columnTypeName = column.getColumnDataType()
+          .getDatabaseSpecificTypeName();
+      }
+      final String nullable;
+      if (column.isNullable())
+      {
+        nullable = "";
+      }
+      else
+      {
+        nullable = isLowerCase(columnTypeName)? " not null": " NOT NULL";
+      }
+      String columnName = identifiers.quoteName(column.getName());
+      if (options.isShowOrdinalNumbers())
+      {
+        columnName = column.getOrdinalPosition() + " " + columnName;
+      }
+
+      final int row = node
+        .addRow(new DiagramNode.Row(columnName,
+                                    columnTypeName + column.getWidth()
+                                                + nullable,
+                                    column.isPartOfPrimaryKey()));
+      ports.put(column, new int[] { nodeIndex, row });
+    }
+
+    if (options.isShowRowCounts() && hasRowCount(table))
+    {
+      node.addRow(new DiagramNode.Row("", getRowCountMessage(table), false));
+    }
+
+    return nodeIndex;
+  }
+
+  private Diagram buildDiagram(final Catalog catalog)
+  {
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    tables.sort(NamedObjectSort
+      .getNamedObjectSort(options.isAlphabeticalSortForTables()));
+
+    final Diagram diagram = new Diagram();
+    final Map<Table, Integer> tableNodes = new HashMap<>();
+    final Map<Column, int[]> ports = new HashMap<>();
+    for (final Table table: tables)
+    {
+      tableNodes.put(table, addTableNode(diagram, table, ports));
+    }
+
+    final Map<Column, Integer> columnNodes = new HashMap<>();
+    for (final Table table: tables)
+    {
+      addEdges(diagram,
+               table,
+               table.getForeignKeys(),
+               tableNodes,
+               ports,
+               columnNodes);
+      if (options.isShowWeakAssociations())
+      {
+        addEdges(diagram,
+                 table,
+                 WeakAssociationsUtility.getWeakAssociations(table),
+                 tableNodes,
+                 ports,
+                 columnNodes);
+      }
+    }
+    return diagram;
+  }
+
+  private String columnName(final Column column)
+  {
+    if (options.isShowUnqualifiedNames())
+    {
+      return identifiers.quoteShortName(column);
+    }
+    else
+    {
+      return identifiers.quoteFullName(column);
+    }
+  }
+
+  private void draw(final Diagram diagram, final DiagramCanvas canvas)
+    throws IOException
+  {
+    canvas.begin(diagram.getWidth(), diagram.getHeight());
+    for (final DiagramNode node: diagram.getNodes())
+    {
+      drawNode(node, canvas);
+    }
+    for (final DiagramEdge edge: diagram.getEdges())
+    {
+      drawEdge(edge, canvas);
+    }
+    canvas.end();
+  }
+
+  private void drawEdge(final DiagramEdge edge, final DiagramCanvas canvas)
+  {
+    final double[] route = edge.getRoute();
+    final int length = route.length;
+    if (length < 4)
+    {
+      return;
+    }
+
+    canvas.lines(route, edge.isDashed(), EDGE_COLOR);
+    drawEndSymbol(edge.getPrimaryKeySymbol(),
+                  route[0],
+                  route[1],
+                  route[2],
+                  route[3],
+                  canvas);
+    drawEndSymbol(edge.getForeignKeySymbol(),
+                  route[length - 2],
+                  route[length - 1],
+                  route[length - 4],
+                  route[length - 3],
+                  canvas);
+
+    final String label = edge.getLabel();
+    if (!label.isEmpty())
+    {
+      // Place the label above the edge, next to the foreign key end
+      final boolean isFromLeft = route[length - 4] < route[length - 2];
+      canvas.text(route[length - 2] + (isFromLeft? -14: 14),
+                  route[length - 1] - 3,
+                  label,
+                  false,
+                  isFromLeft,
+                  LABEL_COLOR);
+    }
+  }
+
+  /**
+   * Draws a symbol at the end of an edge, given the end point, and the
+   * next point along the edge.
+   */
+  private void drawEndSymbol(final EndSymbol endSymbol,
+                             final double endX,
+                             final double endY,
+                             final double nextX,
+                             final double nextY,
+                             final DiagramCanvas canvas)
+  {
+    final double length = Math.hypot(nextX - endX, nextY - endY);
+    if (endSymbol == EndSymbol.none || length == 0)
+    {
+      return;
+    }
+    // Unit vectors along, and across the edge
+    final double alongX = (nextX - endX) / length;
+    final double alongY = (nextY - endY) / length;
+    final double acrossX = -alongY;
+    final double acrossY = alongX;
+
+    switch (endSymbol)
+    {
+      case box:
+        canvas.rectangle(endX + alongX * 4 - 3,
+                         endY + alongY * 4 - 3,
+                         6,
+                         6,
+                         EDGE_COLOR,
+                         null);
+        break;
+      case teetee:
+        for (final double distance: new double[] { 4, 8 })
+        {
+          drawTee(endX, endY, alongX, alongY, acrossX, acrossY, distance, canvas);
+        }
+        break;
+      case teeodot:
+        drawTee(endX, endY, alongX, alongY, acrossX, acrossY, 4, canvas);
+        canvas.circle(endX + alongX * 11,
+                      endY + alongY * 11,
+                      3,
+                      EDGE_COLOR);
+        break;
+      case crowodot:
+        canvas.lines(new double[] {
+                                    endX + acrossX * 5,
+                                    endY + acrossY * 5,
+                                    endX + alongX * 9,
+                                    endY + alongY * 9,
+                                    endX - acrossX * 5,
+                                    endY - acrossY * 5 },
+                     false,
+                     EDGE_COLOR);
+        canvas.circle(endX + alongX * 13,
+                      endY + alongY * 13,
+                      3,
+                      EDGE_COLOR);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void drawNode(final DiagramNode node, final DiagramCanvas canvas)
+  {
+    final double x = node.getX();
+    final double y = node.getY();
+    final double width = node.getWidth();
+
+    canvas.rectangle(x, y, width, node.getHeight(), Color.white, BORDER_COLOR);
+    canvas.rectangle(x,
+                     y,
+                     width,
+                     DiagramNode.HEADER_HEIGHT,
+                     node.getColor(),
+                     BORDER_COLOR);
+    canvas.text(x + DiagramNode.PADDING,
+                y + 14,
+                node.getTitle(),
+                true,
+                false,
+                TEXT_COLOR);
+    if (!node.getSubtitle().isEmpty())
+    {
+      canvas.text(x + width - DiagramNode.PADDING,
+                  y + 14,
+                  node.getSubtitle(),
+                  false,
+                  true,
+                  TEXT_COLOR);
+    }
+
+    double baseline = y + DiagramNode.HEADER_HEIGHT + 12;
+    for (final DiagramNode.Row row: node.getRows())
+    {
+      if (!row.getName().isEmpty())
+      {
+        canvas.text(x + DiagramNode.PADDING,
+                    baseline,
+                    row.getName(),
+                    row.isEmphasize(),
+                    false,
+                    TEXT_COLOR);
+      }
+      canvas.text(x + width - DiagramNode.PADDING,
+                  baseline,
+                  row.getDetails(),
+                  false,
+                  true,
+                  DETAILS_COLOR);
+      baseline = baseline + DiagramNode.ROW_HEIGHT;
+    }
+  }
+
+  private void drawTee(final double endX,
+                       final double endY,
+                       final double alongX,
+                       final double alongY,
+                       final double acrossX,
+                       final double acrossY,
+                       final double distance,
+                       final DiagramCanvas canvas)
+  {
+    final double x = endX + alongX * distance;
+    final double y = endY + alongY * distance;
+    canvas.lines(new double[] {
+                                x + acrossX * 5,
+                                y + acrossY * 5,
+                                x - acrossX * 5,
+                                y - acrossY * 5 },
+                 false,
+                 EDGE_COLOR);
+  }
+
+  private EndSymbol endSymbol(final ForeignKeyCardinality connectivity)
+  {
+    switch (connectivity)
+    {
+      case zero_one:
+        return EndSymbol.teeodot;
+      case zero_many:
+        return EndSymbol.crowodot;
+      case one_one:
+        return EndSymbol.teetee;
+      default:
+        return EndSymbol.box;
+    }
+  }
+
+  private boolean isColumnSignificant(final Column column)
+  {
+    return column != null
+           && (column instanceof IndexColumn || column.isPartOfPrimaryKey()
+               || column.isPartOfForeignKey() || column.isPartOfIndex());
+  }
+
+  private void render(final Catalog catalog, final DiagramCanvas canvas)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    final StopWatch stopWatch = new StopWatch("renderDiagram");
+    try
+    {
+      final Diagram diagram = stopWatch.time("buildDiagram",
+                                             () -> buildDiagram(catalog));
+      stopWatch.time("layoutDiagram", () -> {
+        new LayeredLayout(diagram).layout();
+        return null;
+      });
+      stopWatch.time("drawDiagram", () -> {
+        draw(diagram, canvas);
+        return null;
+      });
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Could not render diagram", e);
+    }
+    finally
+    {
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+  }
+
+}
@@ -0,0 +1,1011 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Layered layout of a connected part of a diagram, in the steps
+ * described by Sugiyama, Tagawa and Toda. Cycles are broken by
+ * reversing edges, nodes are assigned to layers so that primary key
+ * tables are to the left of the foreign key tables that refer to them,
+ * and long edges are split with dummy nodes, so that every segment
+ * joins adjacent layers. The order of nodes in each layer is found with
+ * barycenter sweeps, from a number of starting orders that are tried
+ * in parallel, keeping the order with the fewest crossings. Nodes are
+ * then placed vertically close to their neighbours, and edges are
+ * routed orthogonally, with vertical runs on tracks in the channels
+ * between layers.
+ */
+final class LayeredGraph
+{
+
+  /**
+   * Points on the route of an edge, leaving out repeated points, and
+   * points in the middle of straight runs.
+   */
+  private static final class RoutePoints
+  {
+
+    private double[] points = new double[16];
+    private int size;
+
+    void add(final double x, final double y)
+    {
+      if (size >= 2 && points[size - 2] == x && points[size - 1] == y)
+      {
+        return;
+      }
+      if (size >= 4)
+      {
+        final double x1 = points[size - 4];
+        final double y1 = points[size - 3];
+        final double x2 = points[size - 2];
+        final double y2 = points[size - 1];
+        if (x1 == x2 && x2 == x || y1 == y2 && y2 == y)
+        {
+          size = size - 2;
+        }
+      }
+      if (size + 2 > points.length)
+      {
+        points = Arrays.copyOf(points, points.length * 2);
+      }
+      points[size++] = x;
+      points[size++] = y;
+    }
+
+    double[] toArray(final boolean isReversed)
+    {
+      final double[] route = new double[size];
+      for (int i = 0; i < size; i = i + 2)
+      {
+        final int j = isReversed? size - 2 - i: i;
+        route[i] = points[j];
+        route[i + 1] = points[j + 1];
+      }
+      return route;
+    }
+
+  }
+
+  /**
+   * Order of nodes in each layer, with the number of edge crossings.
+   */
+  private static final class Ordering
+  {
+
+    private final int[][] layers;
+    private final long crossings;
+    private final int restart;
+
+    Ordering(final int[][] layers, final long crossings, final int restart)
+    {
+      this.layers = layers;
+      this.crossings = crossings;
+      this.restart = restart;
+    }
+
+  }
+
+  private static final double NODE_SPACING = 24;
+  private static final double DUMMY_SPACING = 8;
+  private static final double CHANNEL_PADDING = 24;
+  private static final double TRACK_SPACING = 6;
+  private static final double LOOP_SIZE = 12;
+  private static final int CROSSING_SWEEPS = 12;
+  private static final int ALIGNMENT_ROUNDS = 4;
+  /**
+   * Smallest number of nodes and dummy nodes for which crossing
+   * minimization is started from more than one order.
+   */
+  private static final int PARALLEL_THRESHOLD = 200;
+
+  private static int[][] copy(final int[][] layers)
+  {
+    final int[][] copy = new int[layers.length][];
+    for (int i = 0; i < layers.length; i++)
+    {
+      copy[i] = layers[i].clone();
+    }
+    return copy;
+  }
+
+  /**
+   * Counts the inversions in a sequence of positions in a layer, which
+   * is the number of crossings between the segments that end at those
+   * positions, using a Fenwick tree.
+   */
+  private static long countInversions(final int[] positions,
+                                      final int layerSize)
+  {
+    final int[] tree = new int[layerSize + 1];
+    long inversions = 0;
+    for (int i = 0; i < positions.length; i++)
+    {
+      // Count earlier positions that are at or before this one
+      int atOrBefore = 0;
+      for (int j = positions[i] + 1; j > 0; j = j - (j & -j))
+      {
+        atOrBefore = atOrBefore + tree[j];
+      }
+      inversions = inversions + i - atOrBefore;
+      for (int j = positions[i] + 1; j <= layerSize; j = j + (j & -j))
+      {
+        tree[j]++;
+      }
+    }
+    return inversions;
+  }
+
+  /**
+   * Groups indices by a key, keeping indices in increasing order.
+   */
+  private static int[][] groupBy(final int keyCount, final int[] keys)
+  {
+    final int[] counts = new int[keyCount];
+    for (final int key: keys)
+    {
+      counts[key]++;
+    }
+    final int[][] groups = new int[keyCount][];
+    for (int key = 0; key < keyCount; key++)
+    {
+      groups[key] = new int[counts[key]];
+      counts[key] = 0;
+    }
+    for (int i = 0; i < keys.length; i++)
+    {
+      final int key = keys[i];
+      groups[key][counts[key]++] = i;
+    }
+    return groups;
+  }
+
+  /**
+   * Finds the non-decreasing sequence closest to the given values, in
+   * the least-squares sense, using the pool adjacent violators
+   * algorithm.
+   */
+  private static double[] isotonicRegression(final double[] values)
+  {
+    final int length = values.length;
+    final double[] blockMean = new double[length];
+    final int[] blockSize = new int[length];
+    int blocks = 0;
+    for (final double value: values)
+    {
+      blockMean[blocks] = value;
+      blockSize[blocks] = 1;
+      blocks++;
+      while (blocks > 1 && blockMean[blocks - 1] < blockMean[blocks - 2])
+      {
+        final int size = blockSize[blocks - 2] + blockSize[blocks - 1];
+        blockMean[blocks - 2] = (blockMean[blocks - 2] * blockSize[blocks - 2]
+                                 + blockMean[blocks - 1]
+                                   * blockSize[blocks - 1])
+                                / size;
+        blockSize[blocks - 2] = size;
+        blocks--;
+      }
+    }
+    final double[] fitted = new double[length];
+    int i = 0;
+    for (int block = 0; block < blocks; block++)
+    {
+      for (int j = 0; j < blockSize[block]; j++)
+      {
+        fitted[i++] = blockMean[block];
+      }
+    }
+    return fitted;
+  }
+
+  private final List<DiagramNode> nodes;
+  private final List<DiagramEdge> edges;
+  private final List<DiagramEdge> selfLoops;
+  private final int[] selfLoopNode;
+  private final int restarts;
+  // Ends of edges, by local node index, from primary key to foreign key
+  private final int[] edgeFrom;
+  private final int[] edgeFromRow;
+  private final int[] edgeTo;
+  private final int[] edgeToRow;
+
+  private boolean[] reversed;
+  private int[] layer;
+  private int layerCount;
+  private int nodeCount;
+  private double[] nodeWidth;
+  private double[] nodeHeight;
+  private int[] chainStart;
+  private int[] segmentSource;
+  private int[] segmentTarget;
+  private double[] segmentSourceOffset;
+  private double[] segmentTargetOffset;
+  private int[][] outSegments;
+  private int[][] inSegments;
+  private int[][] layers;
+  private double[] top;
+  private double width;
+  private double height;
+
+  /**
+   * Creates a layered graph for a connected part of a diagram.
+   *
+   * @param nodes
+   *        Nodes of the connected part
+   * @param edges
+   *        Edges between the nodes
+   * @param localIndex
+   *        Index of each node of the diagram in its connected part
+   * @param restarts
+   *        Number of starting orders to try, for large graphs
+   */
+  LayeredGraph(final List<DiagramNode> nodes,
+               final List<DiagramEdge> edges,
+               final int[] localIndex,
+               final int restarts)
+  {
+    this.nodes = nodes;
+    this.restarts = restarts;
+    this.edges = new ArrayList<>();
+    selfLoops = new ArrayList<>();
+    for (final DiagramEdge edge: edges)
+    {
+      if (edge.isSelfLoop())
+      {
+        selfLoops.add(edge);
+      }
+      else
+      {
+        this.edges.add(edge);
+      }
+    }
+
+    selfLoopNode = new int[selfLoops.size()];
+    for (int i = 0; i < selfLoopNode.length; i++)
+    {
+      selfLoopNode[i] = localIndex[selfLoops.get(i).getPrimaryKeyNode()];
+    }
+
+    final int edgeCount = this.edges.size();
+    edgeFrom = new int[edgeCount];
+    edgeFromRow = new int[edgeCount];
+    edgeTo = new int[edgeCount];
+    edgeToRow = new int[edgeCount];
+    for (int e = 0; e < edgeCount; e++)
+    {
+      final DiagramEdge edge = this.edges.get(e);
+      edgeFrom[e] = localIndex[edge.getPrimaryKeyNode()];
+      edgeFromRow[e] = edge.getPrimaryKeyRow();
+      edgeTo[e] = localIndex[edge.getForeignKeyNode()];
+      edgeToRow[e] = edge.getForeignKeyRow();
+    }
+  }
+
+  double getHeight()
+  {
+    return height;
+  }
+
+  double getWidth()
+  {
+    return width;
+  }
+
+  /**
+   * Lays out the nodes, and routes the edges, with the top left corner
+   * at the origin. Nodes and edges are only changed for this connected
+   * part of the diagram, so connected parts can be laid out
+   * concurrently.
+   */
+  void layout()
+  {
+    removeCycles();
+    assignLayers();
+    createSegments();
+    orderLayers();
+    placeVertically();
+    placeHorizontallyAndRoute();
+  }
+
+  private void align(final int[] layerNodes,
+                     final int[][] segments,
+                     final boolean isIncoming)
+  {
+    final int length = layerNodes.length;
+    final double[] targets = new double[length];
+    double offset = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final int v = layerNodes[i];
+      if (i > 0)
+      {
+        final int previous = layerNodes[i - 1];
+        offset = offset + nodeHeight[previous] + spacing(previous, v);
+      }
+
+      double desiredTop = top[v];
+      if (segments[v].length > 0)
+      {
+        double sum = 0;
+        for (final int s: segments[v])
+        {
+          if (isIncoming)
+          {
+            sum = sum + top[segmentSource[s]] + segmentSourceOffset[s]
+                  - segmentTargetOffset[s];
+          }
+          else
+          {
+            sum = sum + top[segmentTarget[s]] + segmentTargetOffset[s]
+                  - segmentSourceOffset[s];
+          }
+        }
+        desiredTop = sum / segments[v].length;
+      }
+      // Fit positions relative to the tightest packing of the layer, so
+      // that the order and spacing of nodes are kept
+      targets[i] = desiredTop - offset;
+    }
+
+    final double[] fitted = isotonicRegression(targets);
+    offset = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final int v = layerNodes[i];
+      if (i > 0)
+      {
+        final int previous = layerNodes[i - 1];
+        offset = offset + nodeHeight[previous] + spacing(previous, v);
+      }
+      top[v] = fitted[i] + offset;
+    }
+  }
+
+  /**
+   * Assigns layers by longest path from the sources, and then moves
+   * sources next to their nearest successors.
+   */
+  private void assignLayers()
+  {
+    final int n = nodes.size();
+    final int edgeCount = edges.size();
+    final int[] source = new int[edgeCount];
+    final int[] target = new int[edgeCount];
+    for (int e = 0; e < edgeCount; e++)
+    {
+      source[e] = dagSource(e);
+      target[e] = dagTarget(e);
+    }
+    final int[][] outEdges = groupBy(n, source);
+    final int[] inDegree = new int[n];
+    for (final int v: target)
+    {
+      inDegree[v]++;
+    }
+
+    final int[] topologicalOrder = new int[n];
+    int tail = 0;
+    for (int v = 0; v < n; v++)
+    {
+      if (inDegree[v] == 0)
+      {
+        topologicalOrder[tail++] = v;
+      }
+    }
+    final int[] remainingInDegree = inDegree.clone();
+    layer = new int[n];
+    for (int head = 0; head < tail; head++)
+    {
+      final int v = topologicalOrder[head];
+      for (final int e: outEdges[v])
+      {
+        final int w = target[e];
+        layer[w] = Math.max(layer[w], layer[v] + 1);
+        remainingInDegree[w]--;
+        if (remainingInDegree[w] == 0)
+        {
+          topologicalOrder[tail++] = w;
+        }
+      }
+    }
+
+    for (int i = n - 1; i >= 0; i--)
+    {
+      final int v = topologicalOrder[i];
+      if (inDegree[v] == 0 && outEdges[v].length > 0)
+      {
+        int nearest = Integer.MAX_VALUE;
+        for (final int e: outEdges[v])
+        {
+          nearest = Math.min(nearest, layer[target[e]]);
+        }
+        layer[v] = nearest - 1;
+      }
+    }
+
+    int minLayer = Integer.MAX_VALUE;
+    int maxLayer = Integer.MIN_VALUE;
+    for (final int l: layer)
+    {
+      minLayer = Math.min(minLayer, l);
+      maxLayer = Math.max(maxLayer, l);
+    }
+    for (int v = 0; v < n; v++)
+    {
+      layer[v] = layer[v] - minLayer;
+    }
+    layerCount = maxLayer - minLayer + 1;
+  }
+
+  /**
+   * Assigns tracks to the vertical runs of segments in the channel to
+   * the right of a layer, so that runs on the same track do not
+   * overlap, using as few tracks as possible.
+   *
+   * @return Number of tracks in the channel
+   */
+  private int assignTracks(final int[] layerNodes, final int[] segmentTrack)
+  {
+    final List<Integer> channelSegments = new ArrayList<>();
+    final List<double[]> runs = new ArrayList<>();
+    for (final int v: layerNodes)
+    {
+      for (final int s: outSegments[v])
+      {
+        final double sourceY = top[v] + segmentSourceOffset[s];
+        final double targetY = top[segmentTarget[s]] + segmentTargetOffset[s];
+        if (Math.abs(sourceY - targetY) < 0.5)
+        {
+          // Straight segments do not need a track
+          segmentTrack[s] = -1;
+        }
+        else
+        {
+          channelSegments.add(s);
+          runs.add(new double[] {
+                                  Math.min(sourceY, targetY),
+                                  Math.max(sourceY, targetY) });
+        }
+      }
+    }
+
+    final Integer[] indices = new Integer[channelSegments.size()];
+    for (int i = 0; i < indices.length; i++)
+    {
+      indices[i] = i;
+    }
+    Arrays.sort(indices,
+                Comparator.<Integer> comparingDouble(i -> runs.get(i)[0])
+                  .thenComparingDouble(i -> runs.get(i)[1]));
+
+    final double[] trackEnd = new double[indices.length];
+    final PriorityQueue<Integer> tracksByEnd = new PriorityQueue<>(Comparator
+      .<Integer> comparingDouble(t -> trackEnd[t])
+      .thenComparingInt(t -> t));
+    int tracks = 0;
+    for (final int i: indices)
+    {
+      final double[] run = runs.get(i);
+      final int track;
+      if (!tracksByEnd.isEmpty()
+          && trackEnd[tracksByEnd.peek()] + TRACK_SPACING <= run[0])
+      {
+        track = tracksByEnd.poll();
+      }
+      else
+      {
+        track = tracks++;
+      }
+      trackEnd[track] = run[1];
+      tracksByEnd.add(track);
+      segmentTrack[channelSegments.get(i)] = track;
+    }
+    return tracks;
+  }
+
+  private long countCrossings(final int[][] order, final int[] position)
+  {
+    long crossings = 0;
+    for (int l = 0; l < layerCount - 1; l++)
+    {
+      int count = 0;
+      for (final int v: order[l])
+      {
+        count = count + outSegments[v].length;
+      }
+      // Positions of the targets of segments, in order of the sources,
+      // and then of the targets
+      final int[] targets = new int[count];
+      int k = 0;
+      for (final int v: order[l])
+      {
+        final int start = k;
+        for (final int s: outSegments[v])
+        {
+          targets[k++] = position[segmentTarget[s]];
+        }
+        Arrays.sort(targets, start, k);
+      }
+      crossings = crossings + countInversions(targets, order[l + 1].length);
+    }
+    return crossings;
+  }
+
+  /**
+   * Splits edges that span more than one layer with dummy nodes, and
+   * creates a segment for each part of an edge between adjacent layers.
+   */
+  private void createSegments()
+  {
+    final int n = nodes.size();
+    final int edgeCount = edges.size();
+    int dummyCount = 0;
+    int segmentCount = 0;
+    for (int e = 0; e < edgeCount; e++)
+    {
+      final int span = layer[dagTarget(e)] - layer[dagSource(e)];
+      dummyCount = dummyCount + span - 1;
+      segmentCount = segmentCount + span;
+    }
+
+    nodeCount = n + dummyCount;
+    layer = Arrays.copyOf(layer, nodeCount);
+    nodeWidth = new double[nodeCount];
+    nodeHeight = new double[nodeCount];
+    for (int v = 0; v < n; v++)
+    {
+      nodeWidth[v] = nodes.get(v).getWidth();
+      nodeHeight[v] = nodes.get(v).getHeight();
+    }
+
+    chainStart = new int[edgeCount + 1];
+    segmentSource = new int[segmentCount];
+    segmentTarget = new int[segmentCount];
+    segmentSourceOffset = new double[segmentCount];
+    segmentTargetOffset = new double[segmentCount];
+    int nextDummy = n;
+    int s = 0;
+    for (int e = 0; e < edgeCount; e++)
+    {
+      chainStart[e] = s;
+      final int source = dagSource(e);
+      final int target = dagTarget(e);
+      final int span = layer[target] - layer[source];
+      int previous = source;
+      for (int k = 1; k <= span; k++)
+      {
+        final int next;
+        if (k == span)
+        {
+          next = target;
+        }
+        else
+        {
+          next = nextDummy++;
+          layer[next] = layer[source] + k;
+        }
+        segmentSource[s] = previous;
+        segmentTarget[s] = next;
+        segmentSourceOffset[s] = previous == source? nodes.get(source)
+          .getPortOffset(reversed[e]? edgeToRow[e]: edgeFromRow[e]): 0;
+        segmentTargetOffset[s] = next == target? nodes.get(target)
+          .getPortOffset(reversed[e]? edgeFromRow[e]: edgeToRow[e]): 0;
+        previous = next;
+        s++;
+      }
+    }
+    chainStart[edgeCount] = s;
+
+    outSegments = groupBy(nodeCount, segmentSource);
+    inSegments = groupBy(nodeCount, segmentTarget);
+  }
+
+  private int dagSource(final int e)
+  {
+    return reversed[e]? edgeTo[e]: edgeFrom[e];
+  }
+
+  private int dagTarget(final int e)
+  {
+    return reversed[e]? edgeFrom[e]: edgeTo[e];
+  }
+
+  private Ordering minimizeCrossings(final int[][] initialOrder,
+                                     final int restart)
+  {
+    final int[][] order = copy(initialOrder);
+    if (restart > 0)
+    {
+      final Random random = new Random(restart);
+      for (final int[] layerNodes: order)
+      {
+        for (int i = layerNodes.length - 1; i > 0; i--)
+        {
+          final int j = random.nextInt(i + 1);
+          final int swap = layerNodes[i];
+          layerNodes[i] = layerNodes[j];
+          layerNodes[j] = swap;
+        }
+      }
+    }
+    final int[] position = new int[nodeCount];
+    for (final int[] layerNodes: order)
+    {
+      for (int i = 0; i < layerNodes.length; i++)
+      {
+        position[layerNodes[i]] = i;
+      }
+    }
+
+    long bestCrossings = countCrossings(order, position);
+    int[][] bestOrder = copy(order);
+    for (int sweep = 0; sweep < CROSSING_SWEEPS && bestCrossings > 0; sweep++)
+    {
+      if (sweep % 2 == 0)
+      {
+        for (int l = 1; l < layerCount; l++)
+        {
+          sortByBarycenter(order[l], position, inSegments, true);
+        }
+      }
+      else
+      {
+        for (int l = layerCount - 2; l >= 0; l--)
+        {
+          sortByBarycenter(order[l], position, outSegments, false);
+        }
+      }
+      final long crossings = countCrossings(order, position);
+      if (crossings < bestCrossings)
+      {
+        bestCrossings = crossings;
+        bestOrder = copy(order);
+      }
+    }
+    return new Ordering(bestOrder, bestCrossings, restart);
+  }
+
+  /**
+   * Orders nodes in each layer, starting from the order in which they
+   * are found by a depth-first search, and then reducing crossings.
+   */
+  private void orderLayers()
+  {
+    final int[][] nodesByLayer = groupBy(layerCount, layer);
+    final int[] rank = new int[nodeCount];
+    Arrays.fill(rank, -1);
+    final int[] stack = new int[nodeCount];
+    int nextRank = 0;
+    for (final int[] layerNodes: nodesByLayer)
+    {
+      for (final int root: layerNodes)
+      {
+        if (rank[root] >= 0)
+        {
+          continue;
+        }
+        int size = 0;
+        stack[size++] = root;
+        rank[root] = nextRank++;
+        while (size > 0)
+        {
+          final int v = stack[--size];
+          final int[] segments = outSegments[v];
+          for (int i = segments.length - 1; i >= 0; i--)
+          {
+            final int w = segmentTarget[segments[i]];
+            if (rank[w] < 0)
+            {
+              rank[w] = nextRank++;
+              stack[size++] = w;
+            }
+          }
+        }
+      }
+    }
+
+    final int[][] initialOrder = new int[layerCount][];
+    for (int l = 0; l < layerCount; l++)
+    {
+      initialOrder[l] = Arrays.stream(nodesByLayer[l]).boxed()
+        .sorted(Comparator.comparingInt(v -> rank[v]))
+        .mapToInt(Integer::intValue).toArray();
+    }
+
+    final int tries = nodeCount >= PARALLEL_THRESHOLD? restarts: 1;
+    IntStream restartStream = IntStream.range(0, tries);
+    if (tries > 1)
+    {
+      restartStream = restartStream.parallel();
+    }
+    final Ordering ordering = restartStream
+      .mapToObj(restart -> minimizeCrossings(initialOrder, restart))
+      .min(Comparator.<Ordering> comparingLong(o -> o.crossings)
+        .thenComparingInt(o -> o.restart))
+      .get();
+    layers = ordering.layers;
+  }
+
+  /**
+   * Places layers from left to right, with channels between them that
+   * are wide enough for the vertical runs of edges, and routes edges.
+   */
+  private void placeHorizontallyAndRoute()
+  {
+    final double[] layerWidth = new double[layerCount];
+    for (int v = 0; v < nodeCount; v++)
+    {
+      layerWidth[layer[v]] = Math.max(layerWidth[layer[v]], nodeWidth[v]);
+    }
+
+    final int[] segmentTrack = new int[segmentSource.length];
+    final double[] layerLeft = new double[layerCount];
+    for (int l = 1; l < layerCount; l++)
+    {
+      final int tracks = assignTracks(layers[l - 1], segmentTrack);
+      final double channelWidth = 2 * CHANNEL_PADDING
+                                  + Math.max(0, tracks - 1) * TRACK_SPACING;
+      layerLeft[l] = layerLeft[l - 1] + layerWidth[l - 1] + channelWidth;
+    }
+
+    final double[] left = new double[nodeCount];
+    for (int v = 0; v < nodeCount; v++)
+    {
+      left[v] = layerLeft[layer[v]]
+                + (layerWidth[layer[v]] - nodeWidth[v]) / 2;
+    }
+
+    for (int e = 0; e < edges.size(); e++)
+    {
+      final RoutePoints route = new RoutePoints();
+      for (int s = chainStart[e]; s < chainStart[e + 1]; s++)
+      {
+        final int source = segmentSource[s];
+        final int target = segmentTarget[s];
+        final double sourceY = top[source] + segmentSourceOffset[s];
+        final double targetY = top[target] + segmentTargetOffset[s];
+        route.add(left[source] + nodeWidth[source], sourceY);
+        if (segmentTrack[s] >= 0)
+        {
+          final double trackX = layerLeft[layer[source]]
+                                + layerWidth[layer[source]] + CHANNEL_PADDING
+                                + segmentTrack[s] * TRACK_SPACING;
+          route.add(trackX, sourceY);
+          route.add(trackX, targetY);
+        }
+        route.add(left[target], targetY);
+      }
+      // Routes start at the primary key
+      edges.get(e).setRoute(route.toArray(reversed[e]));
+    }
+
+    for (int i = 0; i < selfLoopNode.length; i++)
+    {
+      routeSelfLoop(selfLoops.get(i), left[selfLoopNode[i]], selfLoopNode[i]);
+    }
+
+    final int n = nodes.size();
+    width = 0;
+    height = 0;
+    for (int v = 0; v < n; v++)
+    {
+      nodes.get(v).setPosition(left[v], top[v]);
+      width = Math.max(width, left[v] + nodeWidth[v]);
+      height = Math.max(height, top[v] + nodeHeight[v]);
+    }
+    if (!selfLoops.isEmpty())
+    {
+      width = width + LOOP_SIZE + TRACK_SPACING;
+    }
+  }
+
+  /**
+   * Places nodes in each layer in order, and then moves them close to
+   * the average position of their neighbours, in alternating sweeps.
+   */
+  private void placeVertically()
+  {
+    top = new double[nodeCount];
+    for (final int[] layerNodes: layers)
+    {
+      double y = 0;
+      for (int i = 0; i < layerNodes.length; i++)
+      {
+        final int v = layerNodes[i];
+        if (i > 0)
+        {
+          y = y + spacing(layerNodes[i - 1], v);
+        }
+        top[v] = y;
+        y = y + nodeHeight[v];
+      }
+    }
+
+    for (int round = 0; round < ALIGNMENT_ROUNDS; round++)
+    {
+      for (int l = 1; l < layerCount; l++)
+      {
+        align(layers[l], inSegments, true);
+      }
+      for (int l = layerCount - 2; l >= 0; l--)
+      {
+        align(layers[l], outSegments, false);
+      }
+    }
+
+    double minTop = Double.MAX_VALUE;
+    for (final double y: top)
+    {
+      minTop = Math.min(minTop, y);
+    }
+    for (int v = 0; v < nodeCount; v++)
+    {
+      top[v] = top[v] - minTop;
+    }
+  }
+
+  /**
+   * Breaks cycles by reversing the edges that lead back to a node on
+   * the path of a depth-first search.
+   */
+  private void removeCycles()
+  {
+    final int n = nodes.size();
+    reversed = new boolean[edges.size()];
+    final int[][] outEdges = groupBy(n, edgeFrom);
+    final byte[] state = new byte[n];
+    final int[] next = new int[n];
+    final int[] stack = new int[n];
+    for (int root = 0; root < n; root++)
+    {
+      if (state[root] != 0)
+      {
+        continue;
+      }
+      int size = 0;
+      stack[size++] = root;
+      state[root] = 1;
+      while (size > 0)
+      {
+        final int v = stack[size - 1];
+        if (next[v] < outEdges[v].length)
+        {
+          final int e = outEdges[v][next[v]++];
+          final int w = edgeTo[e];
+          if (state[w] == 1)
+          {
+            reversed[e] = true;
+          }
+          else if (state[w] == 0)
+          {
+            state[w] = 1;
+            stack[size++] = w;
+          }
+        }
+        else
+        {
+          state[v] = 2;
+          size--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Routes an edge from a table to itself around the right side of the
+   * node, in the padding of the channel.
+   */
+  private void routeSelfLoop(final DiagramEdge selfLoop,
+                             final double left,
+                             final int v)
+  {
+    final DiagramNode node = nodes.get(v);
+    final double right = left + nodeWidth[v];
+    final double fromY = top[v]
+                         + node.getPortOffset(selfLoop.getPrimaryKeyRow());
+    double toY = top[v] + node.getPortOffset(selfLoop.getForeignKeyRow());
+    if (Math.abs(toY - fromY) < 0.5)
+    {
+      toY = fromY + DiagramNode.ROW_HEIGHT / 4;
+    }
+    selfLoop.setRoute(new double[] {
+                                     right,
+                                     fromY,
+                                     right + LOOP_SIZE,
+                                     fromY,
+                                     right + LOOP_SIZE,
+                                     toY,
+                                     right,
+                                     toY });
+  }
+
+  private void sortByBarycenter(final int[] layerNodes,
+                                final int[] position,
+                                final int[][] segments,
+                                final boolean isIncoming)
+  {
+    final int length = layerNodes.length;
+    final double[] keys = new double[length];
+    final Integer[] indices = new Integer[length];
+    for (int i = 0; i < length; i++)
+    {
+      final int v = layerNodes[i];
+      indices[i] = i;
+      if (segments[v].length == 0)
+      {
+        keys[i] = i;
+      }
+      else
+      {
+        double sum = 0;
+        for (final int s: segments[v])
+        {
+          sum = sum + position[isIncoming? segmentSource[s]
+                                         : segmentTarget[s]];
+        }
+        keys[i] = sum / segments[v].length;
+      }
+    }
+    // Sorting is stable, so ties keep their current order
+    Arrays.sort(indices, Comparator.comparingDouble(i -> keys[i]));
+
+    final int[] sorted = new int[length];
+    for (int i = 0; i < length; i++)
+    {
+      sorted[i] = layerNodes[indices[i]];
+    }
+    for (int i = 0; i < length; i++)
+    {
+      layerNodes[i] = sorted[i];
+      position[sorted[i]] = i;
+    }
+  }
+
+  private double spacing(final int above, final int below)
+  {
+    if (above < nodes.size() && below < nodes.size())
+    {
+      return NODE_SPACING;
+    }
+    else
+    {
+      return DUMMY_SPACING;
+    }
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Lays out a diagram. Each connected part of the diagram is laid out as
+ * a layered graph, and connected parts are laid out in parallel. The
+ * connected parts are then packed in rows, largest first, so that the
+ * diagram is roughly as wide as it is high.
+ */
+final class LayeredLayout
+{
+
+  /**
+   * Connected part of a diagram.
+   */
+  private static final class Component
+  {
+
+    private final List<DiagramNode> nodes = new ArrayList<>();
+    private final List<DiagramEdge> edges = new ArrayList<>();
+    private double width;
+    private double height;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LayeredLayout.class.getName());
+
+  private static final double MARGIN = 20;
+  private static final double COMPONENT_SPACING = 40;
+  private static final double ASPECT_RATIO = 1.6;
+  private static final int MAX_RESTARTS = 4;
+
+  private final Diagram diagram;
+  private final int restarts;
+
+  LayeredLayout(final Diagram diagram)
+  {
+    this.diagram = requireNonNull(diagram, "No diagram provided");
+    restarts = Math.max(1,
+                        Math.min(MAX_RESTARTS,
+                                 Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Lays out nodes, routes edges, and sets the size of the diagram.
+   */
+  void layout()
+  {
+    final int[] localIndex = new int[diagram.getNodes().size()];
+    final List<Component> components = findComponents(localIndex);
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Laying out %d nodes and %d edges, in %d connected parts",
+                                diagram.getNodes().size(),
+                                diagram.getEdges().size(),
+                                components.size()));
+
+    // Connected parts do not share nodes or edges, so they can be laid
+    // out concurrently
+    components.parallelStream().forEach(component -> {
+      final LayeredGraph graph = new LayeredGraph(component.nodes,
+                                                  component.edges,
+                                                  localIndex,
+                                                  restarts);
+      graph.layout();
+      component.width = graph.getWidth();
+      component.height = graph.getHeight();
+    });
+
+    pack(components);
+  }
+
+  /**
+   * Finds connected parts of the diagram, in the order of their first
+   * nodes, and the index of each node in its connected part.
+   */
+  private List<Component> findComponents(final int[] localIndex)
+  {
+    final List<DiagramNode> nodes = diagram.getNodes();
+    final int[] parent = new int[nodes.size()];
+    for (int i = 0; i < parent.length; i++)
+    {
+      parent[i] = i;
+    }
+    for (final DiagramEdge edge: diagram.getEdges())
+    {
+      final int root1 = findRoot(parent, edge.getPrimaryKeyNode());
+      final int root2 = findRoot(parent, edge.getForeignKeyNode());
+      if (root1 != root2)
+      {
+        parent[Math.max(root1, root2)] = Math.min(root1, root2);
+      }
+    }
+
+    final Map<Integer, Component> componentsByRoot = new LinkedHashMap<>();
+    for (int i = 0; i < nodes.size(); i++)
+    {
+      final Component component = componentsByRoot
+        .computeIfAbsent(findRoot(parent, i), root -> new Component());
+      localIndex[i] = component.nodes.size();
+      component.nodes.add(nodes.get(i));
+    }
+    for (final DiagramEdge edge: diagram.getEdges())
+    {
+      componentsByRoot.get(findRoot(parent, edge.getPrimaryKeyNode())).edges
+        .add(edge);
+    }
+    return new ArrayList<>(componentsByRoot.values());
+  }
+
+  private int findRoot(final int[] parent, final int node)
+  {
+    int root = node;
+    while (parent[root] != root)
+    {
+      // Halve the path, to keep later lookups short
+      parent[root] = parent[parent[root]];
+      root = parent[root];
+    }
+    return root;
+  }
+
+  /**
+   * Packs connected parts in rows, largest first, and sets the size of
+   * the diagram.
+   */
+  private void pack(final List<Component> components)
+  {
+    // Sorting is stable, so parts of the same size keep their order
+    final List<Component> sortedComponents = new ArrayList<>(components);
+    sortedComponents.sort(Comparator
+      .comparingInt((final Component component) -> component.nodes.size())
+      .reversed());
+
+    double area = 0;
+    double maxComponentWidth = 0;
+    for (final Component component: sortedComponents)
+    {
+      area = area + (component.width + COMPONENT_SPACING)
+                    * (component.height + COMPONENT_SPACING);
+      maxComponentWidth = Math.max(maxComponentWidth, component.width);
+    }
+    final double rowWidth = Math.max(maxComponentWidth,
+                                     Math.sqrt(area * ASPECT_RATIO));
+
+    double x = 0;
+    double y = 0;
+    double rowHeight = 0;
+    double width = 0;
+    for (final Component component: sortedComponents)
+    {
+      if (x > 0 && x + component.width > rowWidth)
+      {
+        x = 0;
+        y = y + rowHeight + COMPONENT_SPACING;
+        rowHeight = 0;
+      }
+      for (final DiagramNode node: component.nodes)
+      {
+        node.setPosition(node.getX() + MARGIN + x, node.getY() + MARGIN + y);
+      }
+      for (final DiagramEdge edge: component.edges)
+      {
+        edge.translate(MARGIN + x, MARGIN + y);
+      }
+      width = Math.max(width, x + component.width);
+      rowHeight = Math.max(rowHeight, component.height);
+      x = x + component.width + COMPONENT_SPACING;
+    }
+
+    diagram.setSize(width + 2 * MARGIN, y + rowHeight + 2 * MARGIN);
+  }
+
+}
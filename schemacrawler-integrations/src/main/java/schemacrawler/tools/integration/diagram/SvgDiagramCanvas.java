@@ -0,0 +1,187 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import sf.util.Color;
+
+/**
+ * Draws a diagram as Scalable Vector Graphics, written straight to the
+ * output as it is drawn.
+ */
+final class SvgDiagramCanvas
+  implements DiagramCanvas
+{
+
+  private final PrintWriter out;
+  private final Charset charset;
+
+  SvgDiagramCanvas(final Writer writer, final Charset charset)
+  {
+    out = new PrintWriter(requireNonNull(writer, "No writer provided"));
+    this.charset = requireNonNull(charset, "No charset provided");
+  }
+
+  @Override
+  public void begin(final double width, final double height)
+  {
+    out.printf("<?xml version=\"1.0\" encoding=\"%s\" standalone=\"no\"?>%n",
+               charset.name());
+    out.printf("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%s\" height=\"%s\" viewBox=\"0 0 %s %s\" font-family=\"monospace\" font-size=\"11\">%n",
+               number(width),
+               number(height),
+               number(width),
+               number(height));
+    out.println("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>");
+  }
+
+  @Override
+  public void circle(final double x,
+                     final double y,
+                     final double radius,
+                     final Color color)
+  {
+    out.append("<circle cx=\"").append(number(x)).append("\" cy=\"")
+      .append(number(y)).append("\" r=\"").append(number(radius))
+      .append("\" fill=\"white\" stroke=\"").append(hex(color))
+      .append("\"/>").println();
+  }
+
+  @Override
+  public void end()
+    throws IOException
+  {
+    out.println("</svg>");
+    out.flush();
+    if (out.checkError())
+    {
+      throw new IOException("Could not write diagram");
+    }
+  }
+
+  @Override
+  public void lines(final double[] points,
+                    final boolean dashed,
+                    final Color color)
+  {
+    out.append("<polyline points=\"");
+    for (int i = 0; i < points.length; i = i + 2)
+    {
+      if (i > 0)
+      {
+        out.append(' ');
+      }
+      out.append(number(points[i])).append(',').append(number(points[i + 1]));
+    }
+    out.append("\" fill=\"none\" stroke=\"").append(hex(color))
+      .append('"');
+    if (dashed)
+    {
+      out.append(" stroke-dasharray=\"4,3\"");
+    }
+    out.append("/>").println();
+  }
+
+  @Override
+  public void rectangle(final double x,
+                        final double y,
+                        final double width,
+                        final double height,
+                        final Color fill,
+                        final Color border)
+  {
+    out.append("<rect x=\"").append(number(x)).append("\" y=\"")
+      .append(number(y)).append("\" width=\"").append(number(width))
+      .append("\" height=\"").append(number(height)).append("\" fill=\"")
+      .append(hex(fill)).append('"');
+    if (border != null)
+    {
+      out.append(" stroke=\"").append(hex(border)).append('"');
+    }
+    out.append("/>").println();
+  }
+
+  @Override
+  public void text(final double x,
+                   final double y,
+                   final String text,
+                   final boolean bold,
+                   final boolean alignRight,
+                   final Color color)
+  {
+    out.append("<text x=\"").append(number(x)).append("\" y=\"")
+      .append(number(y)).append('"');
+    if (bold)
+    {
+      out.append(" font-weight=\"bold\"");
+    }
+    if (alignRight)
+    {
+      out.append(" text-anchor=\"end\"");
+    }
+    out.append(" fill=\"").append(hex(color)).append("\">")
+      .append(escapeForXMLElement(text)).append("</text>").println();
+  }
+
+  /**
+   * Formats a color as six hexadecimal digits, since colors do not pad
+   * their string form with zeros.
+   */
+  private String hex(final Color color)
+  {
+    return String.format("#%06X",
+                         Integer.parseInt(color.toString().substring(1), 16));
+  }
+
+  /**
+   * Formats a coordinate with at most one decimal place, independent of
+   * the locale.
+   */
+  private String number(final double value)
+  {
+    final long tenths = Math.round(value * 10);
+    if (tenths % 10 == 0)
+    {
+      return String.valueOf(tenths / 10);
+    }
+    else
+    {
+      return (tenths < 0? "-": "") + Math.abs(tenths) / 10 + "."
+             + Math.abs(tenths) % 10;
+    }
+  }
+
+}
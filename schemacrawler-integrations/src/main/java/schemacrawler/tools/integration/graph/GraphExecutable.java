@@ -36,6 +36,7 @@ import static sf.util.IOUtility.createTempFilePath;
 import static sf.util.IOUtility.readResourceFully;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.List;
@@ -46,7 +47,10 @@ import schemacrawler.schemacrawler.SchemaCrawlerCommandLineException;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.executable.BaseStagedExecutable;
+import schemacrawler.tools.integration.diagram.DiagramRenderer;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.schema.SchemaDotFormatter;
 import schemacrawler.tools.text.schema.SchemaTextDetailType;
@@ -90,9 +94,13 @@ public final class GraphExecutable
     if (graphOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
+      final CountOptions countOptions = new CountOptionsBuilder()
+        .fromConfig(additionalConfiguration).toOptions();
       catalog = new CatalogWithCounts(catalog,
                                       connection,
-                                      schemaCrawlerOptions);
+                                      schemaCrawlerOptions,
+                                      informationSchemaViews,
+                                      countOptions);
     }
 
     final GraphOutputFormat graphOutputFormat = GraphOutputFormat
@@ -100,6 +108,13 @@ public final class GraphExecutable
     // Set the format, in case we are using the default
     outputOptions.setOutputFormatValue(graphOutputFormat.getFormat());
 
+    if (graphOutputFormat == GraphOutputFormat.scsvg)
+    {
+      // Lay out and draw the diagram in-process, without a DOT file
+      renderDiagram(catalog);
+      return;
+    }
+
     // Create dot file
     final Path dotFile = createTempFilePath("schemacrawler.", "dot");
     final OutputOptions dotFileOutputOptions;
@@ -255,4 +270,18 @@ public final class GraphExecutable
     return movedDotFile;
   }
 
+  private void renderDiagram(final Catalog catalog)
+    throws SchemaCrawlerException, IOException
+  {
+    final String identifierQuoteString = databaseSpecificOptions
+      .getIdentifierQuoteString();
+    final DiagramRenderer renderer = new DiagramRenderer(getSchemaTextDetailType(),
+                                                         getGraphOptions(),
+                                                         identifierQuoteString);
+    try (final Writer writer = outputOptions.openNewOutputWriter();)
+    {
+      renderer.renderSvg(catalog, writer, outputOptions.getOutputCharset());
+    }
+  }
+
 }
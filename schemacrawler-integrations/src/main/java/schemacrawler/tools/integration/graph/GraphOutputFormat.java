@@ -45,6 +45,7 @@ public enum GraphOutputFormat
 
  htmlx("SchemaCrawler graph embedded in HTML5"),
  scdot("SchemaCrawler generated format"),
+ scsvg("SchemaCrawler layout, as Scalable Vector Graphics"),
  //
  bmp("Windows Bitmap Format"),
  canon("DOT"),
@@ -0,0 +1,360 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import schemacrawler.crawl.SectionedCatalogReader;
+import schemacrawler.crawl.SectionedCatalogWriter;
+import schemacrawler.filter.FilterFactory;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Decorates a catalog to allow for serialization to and from a compact
+ * binary snapshot. The snapshot starts with a header that identifies
+ * the format version, followed by a catalog section, and a section for
+ * each schema. An index of the sections is written at the end of the
+ * snapshot. When a snapshot is loaded, sections are memory-mapped, and
+ * read only for the schemas that are needed.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BinarySerializedCatalog
+  extends BaseCatalogDecorator
+  implements SerializableCatalog
+{
+
+  private static final long serialVersionUID = 2536232452380735012L;
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BinarySerializedCatalog.class.getName());
+
+  private static final int MAGIC = 0x53435342; // SCSB
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_LENGTH = 8;
+  private static final int TRAILER_LENGTH = 8;
+
+  /**
+   * Checks whether a file is a binary catalog snapshot, by looking at
+   * the header.
+   *
+   * @param snapshotFile
+   *        File to check
+   * @return Whether the file is a binary catalog snapshot
+   */
+  public static boolean isBinarySnapshot(final Path snapshotFile)
+  {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    try (final FileChannel channel = FileChannel
+      .open(snapshotFile, StandardOpenOption.READ);)
+    {
+      if (channel.size() < HEADER_LENGTH + TRAILER_LENGTH)
+      {
+        return false;
+      }
+      return map(channel, 0, 4).getInt() == MAGIC;
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not read <%s>", snapshotFile),
+                 e);
+      return false;
+    }
+  }
+
+  private static Catalog loadCatalog(final Path snapshotFile,
+                                     final Predicate<Schema> schemaFilter)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(snapshotFile, "No snapshot file provided");
+    requireNonNull(schemaFilter, "No schema filter provided");
+    try (final FileChannel channel = FileChannel
+      .open(snapshotFile, StandardOpenOption.READ);)
+    {
+      final List<SnapshotSection> sections = readIndex(channel);
+
+      final SectionedCatalogReader reader = new SectionedCatalogReader(openSection(channel,
+                                                                                   sections
+                                                                                     .get(0)));
+      int sectionsRead = 0;
+      for (final SnapshotSection section: sections.subList(1, sections.size()))
+      {
+        // Schemas that are filtered out are never materialized, and
+        // references into them are left as partial objects
+        if (schemaFilter.test(section.getSchema()))
+        {
+          reader.readSchemaSection(openSection(channel, section));
+          sectionsRead++;
+        }
+      }
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded %d of %d schemas from catalog snapshot <%s>",
+                                  sectionsRead,
+                                  sections.size() - 1,
+                                  snapshotFile));
+
+      return reader.getCatalog();
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException(String
+        .format("Could not read catalog snapshot <%s>", snapshotFile), e);
+    }
+  }
+
+  private static InputStream openSection(final FileChannel channel,
+                                         final SnapshotSection section)
+    throws IOException
+  {
+    LOGGER.log(Level.FINE, new StringFormat("Reading %s", section));
+    return new ByteBufferInputStream(map(channel,
+                                         section.getOffset(),
+                                         section.getLength()));
+  }
+
+  /**
+   * Maps a region of the snapshot into memory. The mapping remains
+   * valid after the channel is closed.
+   */
+  private static ByteBuffer map(final FileChannel channel,
+                                final long position,
+                                final long length)
+    throws IOException
+  {
+    if (position < 0 || length < 0 || length > Integer.MAX_VALUE
+        || position + length > channel.size())
+    {
+      throw new IOException(String
+        .format("Region at %d (%d bytes) is outside the catalog snapshot",
+                position,
+                length));
+    }
+    return channel.map(MapMode.READ_ONLY, position, length);
+  }
+
+  /**
+   * Schemas are filtered out of the snapshot when it is loaded, except
+   * when related tables in other schemas may need to be pulled in.
+   */
+  private static Predicate<Schema> schemaFilter(final SchemaCrawlerOptions options)
+  {
+    requireNonNull(options, "No SchemaCrawler options provided");
+    if (options.getChildTableFilterDepth() > 0
+        || options.getParentTableFilterDepth() > 0)
+    {
+      return schema -> true;
+    }
+    else
+    {
+      return FilterFactory.schemaFilter(options);
+    }
+  }
+
+  private static List<SnapshotSection> readIndex(final FileChannel channel)
+    throws IOException
+  {
+    final long size = channel.size();
+    if (size < HEADER_LENGTH + TRAILER_LENGTH)
+    {
+      throw new IOException("Not a catalog snapshot");
+    }
+
+    final ByteBuffer header = map(channel, 0, HEADER_LENGTH);
+    if (header.getInt() != MAGIC)
+    {
+      throw new IOException("Not a catalog snapshot");
+    }
+    final int formatVersion = header.getInt();
+    if (formatVersion > FORMAT_VERSION)
+    {
+      throw new IOException(String
+        .format("Catalog snapshot format version %d is not supported, expected version %d or lower",
+                formatVersion,
+                FORMAT_VERSION));
+    }
+
+    final long indexOffset = map(channel, size - TRAILER_LENGTH,
+                                 TRAILER_LENGTH).getLong();
+    if (indexOffset < HEADER_LENGTH || indexOffset > size - TRAILER_LENGTH)
+    {
+      throw new IOException("Corrupt catalog snapshot index");
+    }
+    final ByteBuffer indexBuffer = map(channel,
+                                       indexOffset,
+                                       size - TRAILER_LENGTH - indexOffset);
+    final DataInputStream in = new DataInputStream(new ByteBufferInputStream(indexBuffer));
+    final int sectionCount = (int) SnapshotSection.readVarLong(in);
+    final List<SnapshotSection> sections = new ArrayList<>(sectionCount);
+    for (int i = 0; i < sectionCount; i++)
+    {
+      sections.add(SnapshotSection.read(in));
+    }
+    if (sections.isEmpty() || !sections.get(0).isCatalogSection())
+    {
+      throw new IOException("No catalog section in catalog snapshot");
+    }
+    return sections;
+  }
+
+  public BinarySerializedCatalog(final Catalog catalog)
+  {
+    super(catalog);
+  }
+
+  /**
+   * Loads all of the schemas in a binary snapshot.
+   *
+   * @param snapshotFile
+   *        Snapshot file
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public BinarySerializedCatalog(final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    this(loadCatalog(snapshotFile, schema -> true));
+  }
+
+  /**
+   * Loads only the schemas in a binary snapshot that are included by
+   * the schema inclusion rule. The snapshot is memory-mapped, and the
+   * sections for other schemas are not read.
+   *
+   * @param snapshotFile
+   *        Snapshot file
+   * @param options
+   *        SchemaCrawler options, with the schema inclusion rule
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public BinarySerializedCatalog(final Path snapshotFile,
+                                 final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    this(loadCatalog(snapshotFile, schemaFilter(options)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> T getAttribute(final String name)
+  {
+    return getAttribute(name, (T) null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return Optional.ofNullable(getAttribute(name));
+  }
+
+  /**
+   * Serializes the catalog to the output stream, as a binary snapshot.
+   * The output stream is flushed, but not closed.
+   *
+   * @param outputStream
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream outputStream)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(outputStream, "Output stream not provided");
+    try
+    {
+      final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+
+      final SectionedCatalogWriter writer = new SectionedCatalogWriter(catalog);
+      final List<SnapshotSection> sections = new ArrayList<>();
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      long offset = HEADER_LENGTH;
+
+      writer.writeCatalogSection(buffer);
+      sections.add(new SnapshotSection(null, offset, buffer.size()));
+      offset = offset + buffer.size();
+      buffer.writeTo(out);
+
+      for (final Schema schema: writer.getSectionSchemas())
+      {
+        buffer.reset();
+        writer.writeSchemaSection(schema, buffer);
+        sections.add(new SnapshotSection(schema, offset, buffer.size()));
+        offset = offset + buffer.size();
+        buffer.writeTo(out);
+      }
+
+      final long indexOffset = offset;
+      SnapshotSection.writeVarLong(out, sections.size());
+      for (final SnapshotSection section: sections)
+      {
+        section.write(out);
+      }
+      out.writeLong(indexOffset);
+      out.flush();
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write catalog snapshot", e);
+    }
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that reads from a byte buffer, such as a memory-mapped
+ * section of a file, without copying it.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ByteBufferInputStream
+  extends InputStream
+{
+
+  private final ByteBuffer buffer;
+
+  ByteBufferInputStream(final ByteBuffer buffer)
+  {
+    this.buffer = requireNonNull(buffer, "No buffer provided");
+  }
+
+  @Override
+  public int available()
+  {
+    return buffer.remaining();
+  }
+
+  @Override
+  public int read()
+  {
+    if (!buffer.hasRemaining())
+    {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length)
+  {
+    if (length == 0)
+    {
+      return 0;
+    }
+    if (!buffer.hasRemaining())
+    {
+      return -1;
+    }
+    final int count = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public long skip(final long n)
+  {
+    final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+}
@@ -29,7 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.integration.serialization;
 
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.sql.Connection;
 
 import schemacrawler.schema.Catalog;
@@ -45,6 +47,7 @@ public final class SerializationExecutable
 {
 
   static final String COMMAND = "serialize";
+  private static final String BINARY_FORMAT = "binary";
 
   public SerializationExecutable()
   {
@@ -63,11 +66,26 @@ public final class SerializationExecutable
   public void executeOn(final Catalog db, final Connection connection)
     throws Exception
   {
-    final SerializableCatalog catalog = new XmlSerializedCatalog(db);
-    outputOptions.forceCompressedOutputFile();
-    try (final Writer writer = outputOptions.openNewOutputWriter();)
+    // Compressed XML is written by default, and the binary snapshot
+    // format only on request
+    if (BINARY_FORMAT.equalsIgnoreCase(outputOptions.getOutputFormatValue()))
     {
-      catalog.save(writer);
+      final SerializableCatalog catalog = new BinarySerializedCatalog(db);
+      outputOptions.forceOutputFile();
+      try (final OutputStream outputStream = Files
+        .newOutputStream(outputOptions.getOutputFile());)
+      {
+        catalog.save(outputStream);
+      }
+    }
+    else
+    {
+      final XmlSerializedCatalog catalog = new XmlSerializedCatalog(db);
+      outputOptions.forceCompressedOutputFile();
+      try (final Writer writer = outputOptions.openNewOutputWriter();)
+      {
+        catalog.save(writer);
+      }
     }
   }
 
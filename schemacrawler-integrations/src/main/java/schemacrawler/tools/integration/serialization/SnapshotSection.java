@@ -0,0 +1,171 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+
+/**
+ * Entry in the section index of a binary catalog snapshot. The catalog
+ * section has no schema.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SnapshotSection
+{
+
+  static SnapshotSection read(final DataInput in)
+    throws IOException
+  {
+    final Schema schema;
+    if (in.readBoolean())
+    {
+      final String catalogName = readNullableString(in);
+      final String schemaName = readNullableString(in);
+      schema = new SchemaReference(catalogName, schemaName);
+    }
+    else
+    {
+      schema = null;
+    }
+    final long offset = readVarLong(in);
+    final long length = readVarLong(in);
+    return new SnapshotSection(schema, offset, length);
+  }
+
+  static long readVarLong(final DataInput in)
+    throws IOException
+  {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift = shift + 7)
+    {
+      final byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable length number");
+  }
+
+  static void writeVarLong(final DataOutput out, final long value)
+    throws IOException
+  {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0)
+    {
+      out.writeByte((int) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+    out.writeByte((int) remaining);
+  }
+
+  private static String readNullableString(final DataInput in)
+    throws IOException
+  {
+    if (in.readBoolean())
+    {
+      return in.readUTF();
+    }
+    else
+    {
+      return null;
+    }
+  }
+
+  private static void writeNullableString(final DataOutput out,
+                                          final String value)
+    throws IOException
+  {
+    out.writeBoolean(value != null);
+    if (value != null)
+    {
+      out.writeUTF(value);
+    }
+  }
+
+  private final Schema schema;
+  private final long offset;
+  private final long length;
+
+  SnapshotSection(final Schema schema, final long offset, final long length)
+  {
+    this.schema = schema;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  long getLength()
+  {
+    return length;
+  }
+
+  long getOffset()
+  {
+    return offset;
+  }
+
+  Schema getSchema()
+  {
+    return schema;
+  }
+
+  boolean isCatalogSection()
+  {
+    return schema == null;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s section at %d (%d bytes)",
+                         isCatalogSection()? "catalog": schema.getFullName(),
+                         offset,
+                         length);
+  }
+
+  void write(final DataOutput out)
+    throws IOException
+  {
+    out.writeBoolean(!isCatalogSection());
+    if (!isCatalogSection())
+    {
+      writeNullableString(out, schema.getCatalogName());
+      writeNullableString(out, schema.getName());
+    }
+    writeVarLong(out, offset);
+    writeVarLong(out, length);
+  }
+
+}
@@ -28,9 +28,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.integration.serialization;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.time.LocalDateTime;
@@ -38,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -90,6 +94,10 @@ public final class XmlSerializedCatalog
       xStream.addPermission(PrimitiveTypePermission.PRIMITIVES);
       xStream.addPermission(ArrayTypePermission.ARRAYS);
       xStream.allowTypeHierarchy(Collection.class);
+      // allow only the maps that attributes and lookups are held in
+      xStream.allowTypes(new Class[] {
+                                       HashMap.class,
+                                       Collections.emptyMap().getClass() });
       // allow any type from the same package
       xStream.allowTypesByWildcard(new String[] {
                                                   "schemacrawler.schema.**",
@@ -183,7 +191,8 @@ public final class XmlSerializedCatalog
               }
               else
               {
-                return Objects.hashCode(key1) - Objects.hashCode(key2);
+                return Integer.compare(Objects.hashCode(key1),
+                                       Objects.hashCode(key2));
               }
             }
           });
@@ -288,6 +297,23 @@ public final class XmlSerializedCatalog
     return Optional.of(getAttribute(name));
   }
 
+  /**
+   * Serializes the database to the output stream, as UTF-8 encoded XML.
+   * The output stream is flushed, but not closed.
+   *
+   * @param outputStream
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream outputStream)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(outputStream, "Output stream not provided");
+    save(new OutputStreamWriter(outputStream, UTF_8));
+  }
+
   /**
    * Serializes the database to the writer, as XML.
    *
@@ -296,7 +322,6 @@ public final class XmlSerializedCatalog
    * @throws SchemaCrawlerException
    *         On an exception
    */
-  @Override
   public void save(final Writer writer)
     throws SchemaCrawlerException
   {
@@ -531,13 +531,14 @@ public final class SchemaDotFormatter
     formattingHelper.append(remarksRow.toString()).println();
   }
 
-  private void printTableColumns(final List<Column> columns)
+  private void printTableColumns(final List<Column> tableColumns)
   {
-    if (columns.isEmpty())
+    if (tableColumns.isEmpty())
     {
       return;
     }
 
+    final List<Column> columns = new ArrayList<>(tableColumns);
     Collections
       .sort(columns,
             NamedObjectSort
@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.graph.GraphExecutable;
+import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
+import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import sf.util.IOUtility;
+
+public class DiagramLayoutTest
+  extends BaseDatabaseTest
+{
+
+  @Test
+  public void layoutIsRepeatable()
+    throws Exception
+  {
+    final Path firstOutputFile = executeGraph(SchemaTextDetailType.details);
+    final Path secondOutputFile = executeGraph(SchemaTextDetailType.details);
+
+    assertEquals(new String(Files.readAllBytes(firstOutputFile), "UTF-8"),
+                 new String(Files.readAllBytes(secondOutputFile), "UTF-8"));
+  }
+
+  @Test
+  public void svgDiagram()
+    throws Exception
+  {
+    final Path outputFile = executeGraph(SchemaTextDetailType.schema);
+
+    final Document document = DocumentBuilderFactory.newInstance()
+      .newDocumentBuilder().parse(outputFile.toFile());
+    final Element svg = document.getDocumentElement();
+    assertEquals("svg", svg.getTagName());
+    assertTrue(Double.parseDouble(svg.getAttribute("width")) > 0);
+    assertTrue(Double.parseDouble(svg.getAttribute("height")) > 0);
+
+    final List<String> text = new ArrayList<>();
+    final NodeList textElements = svg.getElementsByTagName("text");
+    for (int i = 0; i < textElements.getLength(); i++)
+    {
+      text.add(textElements.item(i).getTextContent());
+    }
+    assertThat(text, hasItem("PUBLIC.BOOKS.AUTHORS"));
+    assertThat(text, hasItem("PUBLIC.BOOKS.BOOKAUTHORS"));
+    assertThat(text, hasItem("Z_FK_AUTHOR"));
+
+    // Relationships are drawn as lines
+    assertTrue(svg.getElementsByTagName("polyline").getLength() > 0);
+  }
+
+  private Path executeGraph(final SchemaTextDetailType schemaTextDetailType)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final GraphExecutable executable = new GraphExecutable(schemaTextDetailType
+      .name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(new GraphOptionsBuilder()
+      .weakAssociations(true).toConfig());
+
+    final String outputFormatValue = GraphOutputFormat.scsvg.getFormat();
+    final Path outputFile = IOUtility
+      .createTempFilePath(executable.getCommand(), "svg");
+    executable
+      .setOutputOptions(new OutputOptions(outputFormatValue, outputFile));
+    executable.execute(getConnection());
+
+    return outputFile;
+  }
+
+}
@@ -32,12 +32,15 @@ package schemacrawler.integration.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.file.Files;
@@ -45,11 +48,18 @@ import java.nio.file.Path;
 
 import org.junit.Test;
 
+import com.thoughtworks.xstream.XStreamException;
+
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import sf.util.IOUtility;
 
@@ -57,6 +67,37 @@ public class SchemaSerializationTest
   extends BaseDatabaseTest
 {
 
+  @Test
+  public void rejectForeignMapTypes()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+
+    final StringWriter writer = new StringWriter();
+    new XmlSerializedCatalog(catalog).save(writer);
+    writer.close();
+    final String emptyAttributes = "<attributeMap class=\"empty-map\"/>";
+    final String xmlSerializedCatalog = writer.toString();
+    assertTrue("No empty attributes in serialized catalog",
+               xmlSerializedCatalog.contains(emptyAttributes));
+
+    final String foreignXmlSerializedCatalog = xmlSerializedCatalog
+      .replace(emptyAttributes, "<attributeMap class=\"tree-map\"/>");
+    try
+    {
+      new XmlSerializedCatalog(new StringReader(foreignXmlSerializedCatalog));
+      fail("Deserialized a map type that catalogs do not use");
+    }
+    catch (final XStreamException e)
+    {
+      // Expected
+    }
+  }
+
   @Test
   public void schemaSerializationWithXStream()
     throws Exception
@@ -114,6 +155,85 @@ public class SchemaSerializationTest
      **/
   }
 
+  @Test
+  public void schemaSerializationWithBinarySnapshot()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    assertNotNull("Could not obtain catalog", catalog);
+    assertTrue("Could not find any schemas", catalog.getSchemas().size() > 0);
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath("sc_binary_serialization", "ser");
+    try (final OutputStream out = Files.newOutputStream(testOutputFile);)
+    {
+      new BinarySerializedCatalog(catalog).save(out);
+    }
+    assertTrue("Catalog was not serialized", Files.size(testOutputFile) > 0);
+    assertTrue("Not a binary snapshot",
+               BinarySerializedCatalog.isBinarySnapshot(testOutputFile));
+
+    final Catalog catalogDeserialized = new BinarySerializedCatalog(testOutputFile);
+
+    assertEquals("Unexpected number of schemas",
+                 catalog.getSchemas().size(),
+                 catalogDeserialized.getSchemas().size());
+    assertEquals("Unexpected number of column data types",
+                 catalog.getColumnDataTypes().size(),
+                 catalogDeserialized.getColumnDataTypes().size());
+    assertEquals("Unexpected number of routines",
+                 catalog.getRoutines().size(),
+                 catalogDeserialized.getRoutines().size());
+    assertEquals("Unexpected number of sequences",
+                 catalog.getSequences().size(),
+                 catalogDeserialized.getSequences().size());
+    assertEquals("Unexpected number of synonyms",
+                 catalog.getSynonyms().size(),
+                 catalogDeserialized.getSynonyms().size());
+    assertEquals("Unexpected number of tables",
+                 catalog.getTables().size(),
+                 catalogDeserialized.getTables().size());
+
+    for (final Table table: catalogDeserialized.getTables())
+    {
+      final Table originalTable = catalog
+        .lookupTable(table.getSchema(), table.getName()).get();
+      assertEquals("Unexpected number of columns in " + table,
+                   originalTable.getColumns().size(),
+                   table.getColumns().size());
+      assertEquals("Unexpected number of foreign keys in " + table,
+                   originalTable.getForeignKeys().size(),
+                   table.getForeignKeys().size());
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          // Foreign keys are shared between tables, and refer to the
+          // columns of the deserialized tables, across schemas
+          for (final Column column: new Column[] {
+                                                   columnReference
+                                                     .getForeignKeyColumn(),
+                                                   columnReference
+                                                     .getPrimaryKeyColumn() })
+          {
+            final Table referencedTable = catalogDeserialized
+              .lookupTable(column.getSchema(), column.getParent().getName())
+              .get();
+            assertSame("Column not resolved, " + column,
+                       referencedTable.lookupColumn(column.getName()).get(),
+                       column);
+            assertTrue("Foreign key not shared, " + foreignKey,
+                       referencedTable.getForeignKeys().stream()
+                         .anyMatch(fk -> fk == foreignKey));
+          }
+        }
+      }
+    }
+  }
+
   @Test
   public void schemaSerializationWithJava()
     throws Exception
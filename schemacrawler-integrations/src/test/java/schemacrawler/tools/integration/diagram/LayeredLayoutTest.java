@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.diagram;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import schemacrawler.tools.integration.diagram.DiagramEdge.EndSymbol;
+import sf.util.Color;
+
+/**
+ * Lays out a synthetic diagram that is larger than the threshold for
+ * crossing minimization from more than one starting order.
+ */
+public class LayeredLayoutTest
+{
+
+  private static final int TABLES = 250;
+  private static final int RESTARTS = 4;
+  private static final double EPSILON = 1e-6;
+
+  @Test
+  public void layoutIsRepeatable()
+  {
+    final Diagram diagram1 = newDiagram();
+    newLayeredGraph(diagram1).layout();
+    final Diagram diagram2 = newDiagram();
+    newLayeredGraph(diagram2).layout();
+
+    final List<DiagramNode> nodes1 = diagram1.getNodes();
+    final List<DiagramNode> nodes2 = diagram2.getNodes();
+    for (int i = 0; i < nodes1.size(); i++)
+    {
+      final DiagramNode node1 = nodes1.get(i);
+      final DiagramNode node2 = nodes2.get(i);
+      assertEquals(node1.getTitle(), node1.getX(), node2.getX(), 0);
+      assertEquals(node1.getTitle(), node1.getY(), node2.getY(), 0);
+    }
+    final List<DiagramEdge> edges1 = diagram1.getEdges();
+    final List<DiagramEdge> edges2 = diagram2.getEdges();
+    for (int i = 0; i < edges1.size(); i++)
+    {
+      assertArrayEquals(edges1.get(i).getLabel(),
+                        edges1.get(i).getRoute(),
+                        edges2.get(i).getRoute(),
+                        0);
+    }
+  }
+
+  @Test
+  public void nodesDoNotOverlap()
+  {
+    final Diagram diagram = newDiagram();
+    new LayeredLayout(diagram).layout();
+
+    final List<DiagramNode> nodes = diagram.getNodes();
+    for (int i = 0; i < nodes.size(); i++)
+    {
+      final DiagramNode node1 = nodes.get(i);
+      assertTrue(node1.getTitle(), node1.getX() >= 0 && node1.getY() >= 0);
+      assertTrue(node1.getTitle(),
+                 node1.getX() + node1.getWidth() <= diagram.getWidth());
+      assertTrue(node1.getTitle(),
+                 node1.getY() + node1.getHeight() <= diagram.getHeight());
+      for (int j = i + 1; j < nodes.size(); j++)
+      {
+        final DiagramNode node2 = nodes.get(j);
+        assertFalse(node1.getTitle() + " overlaps " + node2.getTitle(),
+                    overlaps(node1, node2));
+      }
+    }
+  }
+
+  @Test
+  public void routesAreOrthogonal()
+  {
+    final Diagram diagram = newDiagram();
+    newLayeredGraph(diagram).layout();
+
+    for (final DiagramEdge edge: diagram.getEdges())
+    {
+      final double[] route = edge.getRoute();
+      assertTrue(edge.getLabel(), route.length >= 4);
+      for (int i = 2; i < route.length; i = i + 2)
+      {
+        final double dx = route[i] - route[i - 2];
+        final double dy = route[i + 1] - route[i - 1];
+        assertTrue(edge.getLabel() + " is not orthogonal",
+                   Math.abs(dx) < EPSILON || Math.abs(dy) < EPSILON);
+      }
+    }
+  }
+
+  /**
+   * Builds a connected diagram, with a tree of foreign keys, foreign
+   * keys across the tree that cause crossings and cycles, and some
+   * foreign keys from tables to themselves.
+   */
+  private Diagram newDiagram()
+  {
+    final Diagram diagram = new Diagram();
+    for (int i = 0; i < TABLES; i++)
+    {
+      final DiagramNode node = new DiagramNode("TABLE_" + i,
+                                               "[table]",
+                                               Color.white);
+      node.addRow(new DiagramNode.Row("ID", "INTEGER", true));
+      node.addRow(new DiagramNode.Row("PARENT_ID", "INTEGER", false));
+      node.addRow(new DiagramNode.Row("OTHER_ID", "INTEGER", false));
+      node.addRow(new DiagramNode.Row("NAME", "VARCHAR(" + i + ")", false));
+      diagram.addNode(node);
+    }
+    for (int i = 1; i < TABLES; i++)
+    {
+      addEdge(diagram, (i - 1) / 3, i, 1);
+    }
+    for (int i = 0; i < TABLES; i = i + 5)
+    {
+      final int other = (i * 37 + 11) % TABLES;
+      if (other != i)
+      {
+        addEdge(diagram, i, other, 2);
+      }
+    }
+    for (int i = 0; i < TABLES; i = i + 50)
+    {
+      addEdge(diagram, i, i, 2);
+    }
+    return diagram;
+  }
+
+  private void addEdge(final Diagram diagram,
+                       final int primaryKeyNode,
+                       final int foreignKeyNode,
+                       final int foreignKeyRow)
+  {
+    diagram.addEdge(new DiagramEdge(primaryKeyNode,
+                                    0,
+                                    foreignKeyNode,
+                                    foreignKeyRow,
+                                    "FK_" + primaryKeyNode + "_"
+                                                   + foreignKeyNode,
+                                    false,
+                                    EndSymbol.teetee,
+                                    EndSymbol.crowodot));
+  }
+
+  /**
+   * Lays out the whole diagram as one connected part, starting
+   * crossing minimization from more than one order.
+   */
+  private LayeredGraph newLayeredGraph(final Diagram diagram)
+  {
+    final int[] localIndex = new int[diagram.getNodes().size()];
+    for (int i = 0; i < localIndex.length; i++)
+    {
+      localIndex[i] = i;
+    }
+    return new LayeredGraph(diagram.getNodes(),
+                            diagram.getEdges(),
+                            localIndex,
+                            RESTARTS);
+  }
+
+  private boolean overlaps(final DiagramNode node1, final DiagramNode node2)
+  {
+    return node1.getX() < node2.getX() + node2.getWidth() - EPSILON
+           && node2.getX() < node1.getX() + node1.getWidth() - EPSILON
+           && node1.getY() < node2.getY() + node2.getHeight() - EPSILON
+           && node2.getY() < node1.getY() + node1.getHeight() - EPSILON;
+  }
+
+}
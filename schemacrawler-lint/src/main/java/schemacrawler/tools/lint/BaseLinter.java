@@ -143,6 +143,40 @@ public abstract class BaseLinter
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether tables can be linted on several threads at the same time.
+   * By default, linters are thread-safe. Linters that keep state across
+   * tables, or are not otherwise thread-safe, need to override this, so
+   * that they lint all tables on a single thread.
+   *
+   * @return Whether tables can be linted concurrently
+   */
+  protected boolean isThreadSafe()
+  {
+    return true;
+  }
+
+  /**
+   * Lints a batch of tables, in order. By default, lints each table in
+   * turn. Can be overridden to lint many tables at once, for example
+   * with a single database query.
+   *
+   * @param tables
+   *        Tables to lint
+   * @param connection
+   *        Database connection
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  protected void lint(final List<Table> tables, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    for (final Table table: tables)
+    {
+      lint(table, connection);
+    }
+  }
+
   protected abstract void lint(Table table, Connection connection)
     throws SchemaCrawlerException;
 
@@ -163,30 +197,36 @@ public abstract class BaseLinter
   {
   }
 
-  @Override
-  final void configure(final LinterConfig linterConfig)
+  /**
+   * Whether the linter queries the database while linting tables.
+   * Linting work that uses a connection is not run concurrently on a
+   * shared connection. Can be overridden.
+   *
+   * @return Whether the database connection is used to lint tables
+   */
+  protected boolean usesConnection()
   {
-    super.configure(linterConfig);
-    if (linterConfig != null)
-    {
-      setTableInclusionRule(linterConfig.getTableInclusionRule());
-      setColumnInclusionRule(linterConfig.getColumnInclusionRule());
-    }
+    return false;
   }
 
-  @Override
-  final void lint(final Catalog catalog, final Connection connection)
-    throws SchemaCrawlerException
+  /**
+   * Starts linting a catalog.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @return Tables to lint, in catalog order
+   */
+  final List<Table> beginLinting(final Catalog catalog)
   {
     this.catalog = requireNonNull(catalog, "No catalog provided");
 
-    start(connection);
+    final List<Table> tables = new ArrayList<>();
     for (final Table table: catalog.getTables())
     {
       if (tableInclusionRule.test(table.getFullName())
           && tableTypesFilter.test(table))
       {
-        lint(table, connection);
+        tables.add(table);
       }
       else
       {
@@ -196,8 +236,34 @@ public abstract class BaseLinter
                                     getLinterId()));
       }
     }
+    return tables;
+  }
+
+  @Override
+  final void configure(final LinterConfig linterConfig)
+  {
+    super.configure(linterConfig);
+    if (linterConfig != null)
+    {
+      setTableInclusionRule(linterConfig.getTableInclusionRule());
+      setColumnInclusionRule(linterConfig.getColumnInclusionRule());
+    }
+  }
+
+  final void endLinting()
+  {
+    catalog = null;
+  }
+
+  @Override
+  final void lint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final List<Table> tables = beginLinting(catalog);
+    start(connection);
+    lint(tables, connection);
     end(connection);
-    this.catalog = null;
+    endLinting();
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
@@ -0,0 +1,138 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Holds lints that a linter finds on a worker thread, so that they can
+ * be added to the lint collector later, in the same order as if the
+ * linter had run on a single thread.
+ */
+final class LintBuffer
+{
+
+  interface LintWork
+  {
+
+    void lint()
+      throws SchemaCrawlerException;
+
+  }
+
+  private static final class BufferedLint<N extends NamedObject & AttributedObject>
+  {
+
+    private final N namedObject;
+    private final Lint<?> lint;
+
+    BufferedLint(final N namedObject, final Lint<?> lint)
+    {
+      this.namedObject = namedObject;
+      this.lint = lint;
+    }
+
+    void collect(final Linter linter)
+    {
+      linter.collectLint(namedObject, lint);
+    }
+
+  }
+
+  private static final ThreadLocal<LintBuffer> currentBuffer = new ThreadLocal<>();
+
+  /**
+   * Gets the buffer for the work that is running on the current thread.
+   *
+   * @return Lint buffer, or null if lints are not being buffered
+   */
+  static LintBuffer current()
+  {
+    return currentBuffer.get();
+  }
+
+  private final Linter linter;
+  private final List<BufferedLint<?>> lints;
+
+  LintBuffer(final Linter linter)
+  {
+    this.linter = requireNonNull(linter, "No linter provided");
+    lints = new ArrayList<>();
+  }
+
+  <N extends NamedObject & AttributedObject> void add(final N namedObject,
+                                                      final Lint<?> lint)
+  {
+    lints.add(new BufferedLint<>(namedObject, lint));
+  }
+
+  /**
+   * Adds buffered lints to the linter's collector, in the order in
+   * which they were found.
+   */
+  void flush()
+  {
+    for (final BufferedLint<?> lint: lints)
+    {
+      lint.collect(linter);
+    }
+    lints.clear();
+  }
+
+  /**
+   * Does linting work on the current thread, buffering all lints that
+   * are found.
+   *
+   * @param work
+   *        Linting work
+   * @throws SchemaCrawlerException
+   *         On an exception from the linter
+   */
+  void lint(final LintWork work)
+    throws SchemaCrawlerException
+  {
+    currentBuffer.set(this);
+    try
+    {
+      work.lint();
+    }
+    finally
+    {
+      currentBuffer.remove();
+    }
+  }
+
+}
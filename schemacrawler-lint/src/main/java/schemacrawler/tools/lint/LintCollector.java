@@ -38,6 +38,10 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and attaches them to the objects they were found on.
+ * Lints can be added from several threads at the same time.
+ */
 public final class LintCollector
   implements Iterable<Lint<? extends Serializable>>
 {
@@ -64,7 +68,7 @@ public final class LintCollector
     lints = new ArrayList<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
                                                                  final Lint<?> lint)
   {
     if (namedObject != null && lint != null
@@ -80,13 +84,13 @@ public final class LintCollector
   }
 
   @Override
-  public Iterator<Lint<? extends Serializable>> iterator()
+  public synchronized Iterator<Lint<? extends Serializable>> iterator()
   {
     Collections.sort(lints);
-    return lints.iterator();
+    return new ArrayList<>(lints).iterator();
   }
 
-  public int size()
+  public synchronized int size()
   {
     return lints.size();
   }
@@ -0,0 +1,375 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs linters on a pool of worker threads. Each linter runs on its
+ * own thread, and thread-safe linters split their tables into ordered
+ * batches, which run at the same time. Lints found on worker threads
+ * are buffered, and collected in the same order as if the linters had
+ * run one after another on a single thread, so that lint output does
+ * not depend on thread scheduling.
+ * <p>
+ * Linting work that uses the database connection either runs one batch
+ * at a time on the given connection, or, when a data source is
+ * available, on its own pooled connection.
+ */
+final class LintRunner
+{
+
+  /**
+   * Tables linted by a linter on a single worker thread.
+   */
+  private final class LintBatch
+  {
+
+    private final Linter linter;
+    private final List<Table> tables;
+    private final LintBuffer buffer;
+
+    LintBatch(final Linter linter, final List<Table> tables)
+    {
+      this.linter = linter;
+      this.tables = tables;
+      buffer = new LintBuffer(linter);
+    }
+
+    void lint(final Connection connection)
+      throws SchemaCrawlerException
+    {
+      if (tables == null)
+      {
+        // Not a base linter, so the whole catalog is linted at once
+        buffer.lint(() -> linter.lint(catalog, connection));
+      }
+      else
+      {
+        buffer.lint(() -> ((BaseLinter) linter).lint(tables, connection));
+      }
+    }
+
+    boolean usesConnection()
+    {
+      if (linter instanceof BaseLinter)
+      {
+        return ((BaseLinter) linter).usesConnection();
+      }
+      else
+      {
+        return true;
+      }
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LintRunner.class.getName());
+
+  private static final int BATCHES_PER_THREAD = 4;
+
+  private final List<Linter> linters;
+  private final int threads;
+  private Catalog catalog;
+  private DataSource dataSource;
+  private Queue<Connection> pooledConnections;
+
+  LintRunner(final List<Linter> linters, final int threads)
+  {
+    this.linters = requireNonNull(linters, "No linters provided");
+    this.threads = threads;
+  }
+
+  /**
+   * Lints a catalog, using the given connection for all linting work
+   * that needs a connection.
+   */
+  void lint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    lint(catalog, connection, null);
+  }
+
+  /**
+   * Lints a catalog, using connections from the data source. Batches of
+   * linting work that need a connection run concurrently, each on a
+   * connection from a pool of at most as many connections as there are
+   * threads.
+   */
+  void lint(final Catalog catalog, final DataSource dataSource)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(dataSource, "No data source provided");
+    try (final Connection connection = dataSource.getConnection();)
+    {
+      lint(catalog, connection, dataSource);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not obtain a connection", e);
+    }
+  }
+
+  /**
+   * Lints a catalog, using the given connection to start and end
+   * linters, and connections from the data source, if there is one, for
+   * batches of linting work that need a connection.
+   */
+  void lint(final Catalog catalog,
+            final Connection connection,
+            final DataSource dataSource)
+    throws SchemaCrawlerException
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.dataSource = dataSource;
+    pooledConnections = new ConcurrentLinkedQueue<>();
+
+    // Start each linter on the calling thread, and split the tables for
+    // each linter into batches
+    final List<LintBuffer> startBuffers = new ArrayList<>();
+    final List<List<LintBatch>> batches = new ArrayList<>();
+    for (final Linter linter: linters)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Linting with <%s>",
+                                  linter.getLinterInstanceId()));
+
+      final LintBuffer startBuffer = new LintBuffer(linter);
+      final List<LintBatch> linterBatches = new ArrayList<>();
+      if (linter instanceof BaseLinter)
+      {
+        final BaseLinter baseLinter = (BaseLinter) linter;
+        final List<Table> tables = baseLinter.beginLinting(catalog);
+        startBuffer.lint(() -> baseLinter.start(connection));
+        final int batchSize;
+        if (baseLinter.isThreadSafe())
+        {
+          batchSize = Math.max(1,
+                               (tables.size() + threads * BATCHES_PER_THREAD
+                                - 1) / (threads * BATCHES_PER_THREAD));
+        }
+        else
+        {
+          batchSize = Math.max(1, tables.size());
+        }
+        for (int i = 0; i < tables.size(); i = i + batchSize)
+        {
+          linterBatches
+            .add(new LintBatch(linter,
+                               tables.subList(i,
+                                              Math.min(i + batchSize,
+                                                       tables.size()))));
+        }
+      }
+      else
+      {
+        linterBatches.add(new LintBatch(linter, null));
+      }
+      startBuffers.add(startBuffer);
+      batches.add(linterBatches);
+    }
+
+    try
+    {
+      lintBatches(batches, connection);
+    }
+    finally
+    {
+      closePooledConnections();
+    }
+
+    // Collect lints, and end each linter on the calling thread, in
+    // linter order
+    for (int i = 0; i < linters.size(); i++)
+    {
+      final Linter linter = linters.get(i);
+      startBuffers.get(i).flush();
+      for (final LintBatch batch: batches.get(i))
+      {
+        batch.buffer.flush();
+      }
+      if (linter instanceof BaseLinter)
+      {
+        final BaseLinter baseLinter = (BaseLinter) linter;
+        baseLinter.end(connection);
+        baseLinter.endLinting();
+      }
+    }
+
+    this.catalog = null;
+    this.dataSource = null;
+  }
+
+  private void closePooledConnections()
+  {
+    Connection connection;
+    while ((connection = pooledConnections.poll()) != null)
+    {
+      try
+      {
+        connection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  private void lintBatches(final List<List<LintBatch>> batches,
+                           final Connection connection)
+    throws SchemaCrawlerException
+  {
+    // Batches that use the shared connection run one after another on a
+    // single worker thread
+    final List<LintBatch> connectionBatches = new ArrayList<>();
+    final List<Callable<Void>> work = new ArrayList<>();
+    for (final List<LintBatch> linterBatches: batches)
+    {
+      for (final LintBatch batch: linterBatches)
+      {
+        if (batch.usesConnection() && dataSource == null)
+        {
+          connectionBatches.add(batch);
+        }
+        else
+        {
+          work.add(() -> {
+            lintBatch(batch, connection);
+            return null;
+          });
+        }
+      }
+    }
+    if (!connectionBatches.isEmpty())
+    {
+      work.add(0, () -> {
+        for (final LintBatch batch: connectionBatches)
+        {
+          lintBatch(batch, connection);
+        }
+        return null;
+      });
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Linting with %d linters, in %d batches, using %d threads",
+                                linters.size(),
+                                work.size(),
+                                threads));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final Callable<Void> callable: work)
+      {
+        futures.add(executor.submit(callable));
+      }
+      for (final Future<?> future: futures)
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      throw new SchemaCrawlerException("Could not lint catalog", cause);
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  private void lintBatch(final LintBatch batch, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    if (batch.usesConnection() && dataSource != null)
+    {
+      Connection pooledConnection = pooledConnections.poll();
+      if (pooledConnection == null)
+      {
+        try
+        {
+          pooledConnection = dataSource.getConnection();
+        }
+        catch (final SQLException e)
+        {
+          throw new SchemaCrawlerException("Could not obtain a connection",
+                                           e);
+        }
+      }
+      try
+      {
+        batch.lint(pooledConnection);
+      }
+      finally
+      {
+        pooledConnections.offer(pooledConnection);
+      }
+    }
+    else
+    {
+      batch.lint(connection);
+    }
+  }
+
+}
@@ -35,6 +35,8 @@ import java.sql.Connection;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -56,6 +58,31 @@ public final class LintedCatalog
                        final Connection connection,
                        final Linters linters)
     throws SchemaCrawlerException
+  {
+    this(catalog, connection, null, linters);
+  }
+
+  /**
+   * Lints a catalog, with linters that query the database using
+   * connections from the data source, if there is one, so that they can
+   * run concurrently.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Connection to the database
+   * @param dataSource
+   *        Source of database connections, or null
+   * @param linters
+   *        Linters to run
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public LintedCatalog(final Catalog catalog,
+                       final Connection connection,
+                       final DataSource dataSource,
+                       final Linters linters)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
@@ -71,7 +98,7 @@ public final class LintedCatalog
     }
 
     requireNonNull(linters, "No linters provided");
-    linters.lint(catalog, connection);
+    linters.lint(catalog, connection, dataSource);
     collector = linters.getCollector();
   }
 
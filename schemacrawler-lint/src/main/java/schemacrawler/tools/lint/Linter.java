@@ -168,8 +168,17 @@ public abstract class Linter
                                       getSeverity(),
                                       message,
                                       value);
-      collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      final LintBuffer buffer = LintBuffer.current();
+      if (buffer != null)
+      {
+        // Running on a worker thread, so hold on to the lint until all
+        // tables are linted
+        buffer.add(namedObject, lint);
+      }
+      else
+      {
+        collectLint(namedObject, lint);
+      }
     }
   }
 
@@ -210,6 +219,13 @@ public abstract class Linter
     }
   }
 
+  final <N extends NamedObject & AttributedObject> void collectLint(final N namedObject,
+                                                                    final Lint<?> lint)
+  {
+    collector.addLint(namedObject, lint);
+    lintCount = lintCount + 1;
+  }
+
   abstract void lint(Catalog catalog, Connection connection)
     throws SchemaCrawlerException;
 
@@ -39,6 +39,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.SchemaCrawlerLogger;
@@ -54,6 +56,7 @@ public final class Linters
   private final List<Linter> linters = new ArrayList<>();
   private final LintCollector collector = new LintCollector();
   private final LinterRegistry registry = new LinterRegistry();
+  private int threads = 1;
 
   public Linters(final LinterConfigs linterConfigs)
     throws SchemaCrawlerException
@@ -182,6 +185,16 @@ public final class Linters
     return buffer.toString();
   }
 
+  /**
+   * Number of threads that linters run on.
+   *
+   * @return Number of threads
+   */
+  public int getThreads()
+  {
+    return threads;
+  }
+
   @Override
   public Iterator<Linter> iterator()
   {
@@ -191,6 +204,12 @@ public final class Linters
   public void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
+    if (threads > 1)
+    {
+      new LintRunner(linters, threads).lint(catalog, connection);
+      return;
+    }
+
     for (final Linter linter: linters)
     {
       LOGGER.log(Level.FINE,
@@ -200,6 +219,70 @@ public final class Linters
     }
   }
 
+  /**
+   * Lints a catalog, with linters that query the database each using
+   * their own connections from the data source, if there is one.
+   * Otherwise, all linting work that needs a connection uses the given
+   * connection.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Connection used to start and end linters
+   * @param dataSource
+   *        Source of database connections, or null
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void lint(final Catalog catalog,
+                   final Connection connection,
+                   final DataSource dataSource)
+    throws SchemaCrawlerException
+  {
+    if (dataSource == null)
+    {
+      lint(catalog, connection);
+    }
+    else
+    {
+      new LintRunner(linters, threads).lint(catalog, connection, dataSource);
+    }
+  }
+
+  /**
+   * Lints a catalog, with linters that query the database each using
+   * their own connections from the data source.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param dataSource
+   *        Source of database connections
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public void lint(final Catalog catalog, final DataSource dataSource)
+    throws SchemaCrawlerException
+  {
+    new LintRunner(linters, threads).lint(catalog, dataSource);
+  }
+
+  /**
+   * Sets the number of threads that linters run on. Lints are
+   * collected in the same order, whatever the number of threads.
+   *
+   * @param threads
+   *        Number of threads
+   */
+  public void setThreads(final int threads)
+  {
+    if (threads < 1)
+    {
+      throw new IllegalArgumentException("Need at least one thread for linting, "
+                                         + threads);
+    }
+    this.threads = threads;
+  }
+
   @Override
   public String toString()
   {
@@ -34,6 +34,7 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
@@ -45,11 +46,15 @@ import schemacrawler.tools.lint.LinterConfigs;
 import schemacrawler.tools.lint.Linters;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.utility.NamedObjectSort;
+import sf.util.SchemaCrawlerLogger;
 
 public class LintExecutable
   extends BaseStagedExecutable
 {
 
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LintExecutable.class.getName());
+
   public static final String COMMAND = "lint";
 
   private LintOptions lintOptions;
@@ -69,8 +74,23 @@ public class LintExecutable
     final LinterConfigs linterConfigs = readLinterConfigs(lintOptions,
                                                           additionalConfiguration);
     final Linters linters = new Linters(linterConfigs);
+    if (dataSource == null)
+    {
+      // Linters that query the database would all share the one
+      // connection, so run on a single thread
+      LOGGER.log(Level.INFO,
+                 "Linting on a single thread, since there is no data source for connections");
+      linters.setThreads(1);
+    }
+    else
+    {
+      linters.setThreads(lintOptions.getLinterThreads());
+    }
 
-    final LintedCatalog catalog = new LintedCatalog(db, connection, linters);
+    final LintedCatalog catalog = new LintedCatalog(db,
+                                                    connection,
+                                                    dataSource,
+                                                    linters);
 
     generateReport(catalog);
 
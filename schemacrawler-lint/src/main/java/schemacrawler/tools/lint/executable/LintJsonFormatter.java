@@ -29,7 +29,6 @@ package schemacrawler.tools.lint.executable;
 
 
 import java.util.Collection;
-import java.util.logging.Level;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -38,16 +37,14 @@ import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
-import schemacrawler.tools.text.utility.org.json.JSONArray;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
-import sf.util.StringFormat;
 
 final class LintJsonFormatter
   extends BaseJsonFormatter<LintOptions>
   implements LintTraversalHandler
 {
 
+  private boolean isTableLintsStarted;
+
   LintJsonFormatter(final LintOptions options,
                     final OutputOptions outputOptions,
                     final String identifierQuoteString)
@@ -63,21 +60,9 @@ final class LintJsonFormatter
     final Collection<Lint<?>> lints = LintCollector.getLint(catalog);
     if (lints != null && !lints.isEmpty())
     {
-      final JSONObject jsonDatabase = new JSONObject();
-      try
-      {
-        jsonRoot.accumulate("database_lints", jsonDatabase);
-
-        final JSONArray jsonLints = handleLints(lints);
-        jsonDatabase.put("lints", jsonLints);
-      }
-      catch (final JSONException e)
-      {
-        LOGGER.log(Level.FINER,
-                   new StringFormat("Error outputting table: %s",
-                                    e.getMessage()),
-                   e);
-      }
+      jsonWriter.beginObject("database_lints");
+      handleLints(lints);
+      jsonWriter.endObject();
     }
   }
 
@@ -87,31 +72,29 @@ final class LintJsonFormatter
     final Collection<Lint<?>> lints = LintCollector.getLint(table);
     if (lints != null && !lints.isEmpty())
     {
-      final JSONObject jsonTable = new JSONObject();
-      try
-      {
-        jsonRoot.accumulate("table_lints", jsonTable);
-
-        jsonTable.put("name", table.getName());
-        jsonTable.put("fullName", table.getFullName());
-        jsonTable.put("type", table.getTableType());
-
-        final JSONArray jsonLints = handleLints(lints);
-        jsonTable.put("lints", jsonLints);
-      }
-      catch (final JSONException e)
+      if (!isTableLintsStarted)
       {
-        LOGGER.log(Level.FINER,
-                   new StringFormat("Error outputting table: %s",
-                                    e.getMessage()),
-                   e);
+        jsonWriter.beginArray("table_lints");
+        isTableLintsStarted = true;
       }
+
+      jsonWriter.beginObject();
+      jsonWriter.property("name", table.getName());
+      jsonWriter.property("fullName", table.getFullName());
+      jsonWriter.property("type", table.getTableType());
+      handleLints(lints);
+      jsonWriter.endObject();
     }
   }
 
   @Override
   public void handleEnd()
   {
+    if (isTableLintsStarted)
+    {
+      jsonWriter.endArray();
+      isTableLintsStarted = false;
+    }
   }
 
   @Override
@@ -119,32 +102,19 @@ final class LintJsonFormatter
   {
   }
 
-  private JSONArray handleLints(final Collection<Lint<?>> lints)
+  private void handleLints(final Collection<Lint<?>> lints)
   {
-    final JSONArray jsonLints = new JSONArray();
-    if (lints != null && !lints.isEmpty())
+    jsonWriter.beginArray("lints");
+    for (final Lint<?> lint: lints)
     {
-      for (final Lint<?> lint: lints)
-      {
-        try
-        {
-          final JSONObject jsonLint = new JSONObject();
-          jsonLints.put(jsonLint);
-          jsonLint.put("id", lint.getLinterId());
-          jsonLint.put("severity", lint.getSeverity().name());
-          jsonLint.put("description", lint.getMessage());
-          jsonLint.put("value", lint.getValueAsString());
-        }
-        catch (final JSONException e)
-        {
-          LOGGER.log(Level.FINER,
-                     new StringFormat("Error outputting lint: %s",
-                                      e.getMessage()),
-                     e);
-        }
-      }
+      jsonWriter.beginObject();
+      jsonWriter.property("id", lint.getLinterId());
+      jsonWriter.property("severity", lint.getSeverity().name());
+      jsonWriter.property("description", lint.getMessage());
+      jsonWriter.property("value", lint.getValueAsString());
+      jsonWriter.endObject();
     }
-    return jsonLints;
+    jsonWriter.endArray();
   }
 
 }
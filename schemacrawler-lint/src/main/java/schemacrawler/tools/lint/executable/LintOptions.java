@@ -37,6 +37,7 @@ public class LintOptions
   private static final long serialVersionUID = -5917925090616219096L;
 
   private String linterConfigs;
+  private int linterThreads = Runtime.getRuntime().availableProcessors();
 
   /**
    * Gets the path to the linter configs file.
@@ -48,6 +49,16 @@ public class LintOptions
     return linterConfigs;
   }
 
+  /**
+   * Gets the number of threads that linters run on.
+   *
+   * @return Number of threads
+   */
+  public int getLinterThreads()
+  {
+    return linterThreads;
+  }
+
   /**
    * Sets the path to the linter configs file.
    *
@@ -59,4 +70,20 @@ public class LintOptions
     this.linterConfigs = linterConfigs;
   }
 
+  /**
+   * Sets the number of threads that linters run on.
+   *
+   * @param linterThreads
+   *        Number of threads
+   */
+  public void setLinterThreads(final int linterThreads)
+  {
+    if (linterThreads < 1)
+    {
+      throw new IllegalArgumentException("Need at least one thread for linting, "
+                                         + linterThreads);
+    }
+    this.linterThreads = linterThreads;
+  }
+
 }
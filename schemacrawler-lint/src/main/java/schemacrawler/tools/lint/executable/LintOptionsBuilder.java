@@ -38,6 +38,9 @@ public class LintOptionsBuilder
   private static final String CLI_LINTER_CONFIGS = "linterconfigs";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_FORMAT_PREFIX
                                                + CLI_LINTER_CONFIGS;
+  private static final String CLI_LINTER_THREADS = "linterthreads";
+  private static final String LINTER_THREADS = SCHEMACRAWLER_FORMAT_PREFIX
+                                               + CLI_LINTER_THREADS;
 
   public LintOptionsBuilder()
   {
@@ -65,6 +68,18 @@ public class LintOptionsBuilder
       options.setLinterConfigs(config.getStringValue(LINTER_CONFIGS, ""));
     }
 
+    final int linterThreads = options.getLinterThreads();
+    if (config.containsKey(CLI_LINTER_THREADS))
+    {
+      options.setLinterThreads(config.getIntegerValue(CLI_LINTER_THREADS,
+                                                      linterThreads));
+    }
+    else
+    {
+      options.setLinterThreads(config.getIntegerValue(LINTER_THREADS,
+                                                      linterThreads));
+    }
+
     return this;
   }
 
@@ -73,6 +88,8 @@ public class LintOptionsBuilder
   {
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, options.getLinterConfigs());
+    config.setStringValue(LINTER_THREADS,
+                          String.valueOf(options.getLinterThreads()));
     return config;
   }
 
@@ -85,4 +102,13 @@ public class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * Number of threads that linters run on.
+   */
+  public LintOptionsBuilder withLinterThreads(final int linterThreads)
+  {
+    options.setLinterThreads(linterThreads);
+    return this;
+  }
+
 }
@@ -0,0 +1,214 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.linter;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeForScalar;
+import static schemacrawler.utility.QueryUtility.executeForScalars;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Lints tables with the result of a query that is run against each
+ * table. Tables are queried in batches, so that a single round trip to
+ * the database returns results for many tables. If a batch query
+ * fails, for example because the database does not support the
+ * combined SQL, tables in the batch are queried one at a time.
+ * <p>
+ * The size of each batch can be configured with the "batch-size"
+ * property. A batch size of 1 queries each table separately.
+ */
+abstract class BaseTableSqlLinter
+  extends BaseLinter
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BaseTableSqlLinter.class.getName());
+
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private Identifiers identifiers;
+
+  @Override
+  protected void configure(final Config config)
+  {
+    requireNonNull(config, "No configuration provided");
+
+    batchSize = config.getIntegerValue("batch-size", DEFAULT_BATCH_SIZE);
+    if (batchSize < 1)
+    {
+      throw new IllegalArgumentException("Batch size needs to be at least 1, "
+                                         + batchSize);
+    }
+  }
+
+  @Override
+  protected void end(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    identifiers = null;
+    super.end(connection);
+  }
+
+  /**
+   * Gets the query to run against each table. The query can use
+   * ${table}, and other table variables, and needs to return a single
+   * column, and at most one row.
+   *
+   * @return Query, or null if there is nothing to run
+   */
+  protected abstract Query getQuery();
+
+  @Override
+  protected final void lint(final List<Table> tables,
+                            final Connection connection)
+    throws SchemaCrawlerException
+  {
+    final Query query = getQuery();
+    if (query == null || tables.isEmpty())
+    {
+      return;
+    }
+    requireNonNull(connection, "No connection provided");
+
+    for (int i = 0; i < tables.size(); i = i + batchSize)
+    {
+      final List<Table> batch = tables
+        .subList(i, Math.min(i + batchSize, tables.size()));
+      if (batch.size() > 1)
+      {
+        try
+        {
+          final Map<Table, Object> queryResults = executeForScalars(query,
+                                                                    connection,
+                                                                    batch,
+                                                                    identifiers);
+          for (final Table table: batch)
+          {
+            lintQueryResult(table, queryResults.get(table));
+          }
+          continue;
+        }
+        catch (final SchemaCrawlerException e)
+        {
+          LOGGER.log(Level.CONFIG,
+                     new StringFormat("Could not run <%s> against a batch of %d tables, so running against each table",
+                                      query.getName(),
+                                      batch.size()));
+          LOGGER.log(Level.FINE, e.getMessage(), e);
+        }
+      }
+
+      for (final Table table: batch)
+      {
+        lint(table, connection);
+      }
+    }
+  }
+
+  @Override
+  protected final void lint(final Table table, final Connection connection)
+  {
+    requireNonNull(table, "No table provided");
+    requireNonNull(connection, "No connection provided");
+
+    final Query query = getQuery();
+    if (query == null)
+    {
+      return;
+    }
+
+    try
+    {
+      lintQueryResult(table,
+                      executeForScalar(query, connection, table, identifiers));
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not run query against table <%s>",
+                                  table),
+                 e);
+    }
+  }
+
+  /**
+   * Lints a table with the result of the query.
+   *
+   * @param table
+   *        Table that was queried
+   * @param queryResult
+   *        Query result, or null if the query returned no rows
+   */
+  protected abstract void lintQueryResult(Table table, Object queryResult);
+
+  @Override
+  protected void start(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    super.start(connection);
+
+    if (connection == null)
+    {
+      return;
+    }
+    // Build identifiers once for the lint run, since reserved words
+    // are looked up from database metadata
+    try
+    {
+      identifiers = Identifiers.identifiers().withConnection(connection)
+        .build();
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  protected final boolean usesConnection()
+  {
+    return true;
+  }
+
+}
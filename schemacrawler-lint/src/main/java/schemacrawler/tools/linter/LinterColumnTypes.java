@@ -77,6 +77,12 @@ public class LinterColumnTypes
     super.end(connection);
   }
 
+  @Override
+  protected boolean isThreadSafe()
+  {
+    return false;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -76,6 +76,12 @@ public class LinterTableCycles
     super.end(connection);
   }
 
+  @Override
+  protected boolean isThreadSafe()
+  {
+    return false;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -28,29 +28,17 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 
-import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForLong;
-
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.logging.Level;
-
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
-import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public class LinterTableEmpty
-  extends BaseLinter
+  extends BaseTableSqlLinter
 {
 
-  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
-    .getLogger(LinterTableEmpty.class.getName());
+  private static final Query COUNT_QUERY = new Query("Count",
+                                                     "SELECT COUNT(*) FROM ${table}");
 
   public LinterTableEmpty()
   {
@@ -65,27 +53,18 @@ public class LinterTableEmpty
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection)
+  protected Query getQuery()
   {
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
+    return COUNT_QUERY;
+  }
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try
-    {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0)
-      {
-        addTableLint(table, getSummary());
-      }
-    }
-    catch (final SQLException | SchemaCrawlerException e)
+  @Override
+  protected void lintQueryResult(final Table table, final Object queryResult)
+  {
+    if (queryResult instanceof Number
+        && ((Number) queryResult).longValue() == 0)
     {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
+      addTableLint(table, getSummary());
     }
   }
 
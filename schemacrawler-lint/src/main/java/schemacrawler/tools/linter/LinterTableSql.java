@@ -29,29 +29,16 @@ package schemacrawler.tools.linter;
 
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForScalar;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.logging.Level;
-
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
-import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
-import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public class LinterTableSql
-  extends BaseLinter
+  extends BaseTableSqlLinter
 {
 
-  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
-    .getLogger(LinterTableSql.class.getName());
-
   private String message;
   private String sql;
 
@@ -65,6 +52,7 @@ public class LinterTableSql
   protected void configure(final Config config)
   {
     requireNonNull(config, "No configuration provided");
+    super.configure(config);
 
     message = config.getStringValue("message", null);
     if (isBlank(message))
@@ -80,35 +68,21 @@ public class LinterTableSql
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection)
+  protected Query getQuery()
   {
     if (isBlank(sql))
     {
-      return;
+      return null;
     }
+    return new Query(message, sql);
+  }
 
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
-
-    final Query query = new Query(message, sql);
-    try
-    {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final Object queryResult = executeForScalar(query,
-                                                  connection,
-                                                  table,
-                                                  identifiers);
-      if (queryResult != null)
-      {
-        addTableLint(table, getSummary() + " " + queryResult);
-      }
-    }
-    catch (final SQLException | SchemaCrawlerException e)
+  @Override
+  protected void lintQueryResult(final Table table, final Object queryResult)
+  {
+    if (queryResult != null)
     {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
+      addTableLint(table, getSummary() + " " + queryResult);
     }
   }
 
@@ -82,6 +82,12 @@ public class LinterTableWithQuotedNames
     }
   }
 
+  @Override
+  protected boolean usesConnection()
+  {
+    return true;
+  }
+
   private List<String> findColumnsWithQuotedNames(final List<Column> columns,
                                                   final Identifiers identifiers)
   {
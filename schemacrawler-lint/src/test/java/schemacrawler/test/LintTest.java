@@ -32,18 +32,25 @@ package schemacrawler.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import javax.sql.DataSource;
+
+import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
+import schemacrawler.testdb.TestDatabase;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintedCatalog;
@@ -149,4 +156,54 @@ public class LintTest
     }
   }
 
+  @Test
+  public void parallelLints()
+    throws Exception
+  {
+    final JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl(TestDatabase.CONNECTION_STRING);
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+
+    final List<String> sequentialLints = lint(1, null);
+    // 40 lints, and the 38 of them that are on tables
+    assertEquals(40 + 38, sequentialLints.size());
+
+    // Lints found on several threads are the same as lints found on a
+    // single thread, for the catalog and for each table
+    assertEquals(sequentialLints, lint(4, null));
+    assertEquals(sequentialLints, lint(4, dataSource));
+  }
+
+  private List<String> lint(final int threads, final DataSource dataSource)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setTableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"));
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    schemaCrawlerOptions
+      .setColumnInclusionRule(new RegularExpressionExclusionRule(".*\\..*\\..*[123]"));
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+
+    final Linters linters = new Linters(new LinterConfigs(new Config()));
+    linters.setThreads(threads);
+    linters.lint(catalog, getConnection(), dataSource);
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint: linters.getCollector())
+    {
+      lints.add(lint.toString());
+    }
+    for (final Table table: catalog.getTables())
+    {
+      for (final Lint<?> lint: LintCollector.getLint(table))
+      {
+        lints.add(table.getFullName() + ": " + lint);
+      }
+    }
+    return lints;
+  }
+
 }
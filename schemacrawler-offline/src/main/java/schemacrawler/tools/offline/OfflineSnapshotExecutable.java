@@ -38,6 +38,7 @@ import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.logging.Level;
 
@@ -54,6 +55,7 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseExecutable;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.executable.StagedExecutable;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import schemacrawler.tools.options.OutputOptions;
@@ -86,14 +88,25 @@ public class OfflineSnapshotExecutable
   {
     checkConnection(connection);
 
-    inputOptions = new OutputOptions();
-    inputOptions.setCompressedInputFile(((OfflineConnection) connection)
-      .getOfflineDatabasePath());
+    final Path offlineDatabasePath = ((OfflineConnection) connection)
+      .getOfflineDatabasePath();
 
     databaseSpecificOptions = new DatabaseSpecificOptions(connection,
                                                           databaseSpecificOverrideOptions);
 
-    final Catalog catalog = loadCatalog();
+    final Catalog catalog;
+    if (BinarySerializedCatalog.isBinarySnapshot(offlineDatabasePath))
+    {
+      // Only schemas that will survive the schema reducer are loaded
+      catalog = new BinarySerializedCatalog(offlineDatabasePath,
+                                            schemaCrawlerOptions);
+    }
+    else
+    {
+      inputOptions = new OutputOptions();
+      inputOptions.setCompressedInputFile(offlineDatabasePath);
+      catalog = loadCatalog();
+    }
 
     executeOn(catalog, connection);
   }
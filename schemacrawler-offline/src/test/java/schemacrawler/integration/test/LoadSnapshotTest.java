@@ -36,15 +36,18 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.Path;
+import java.util.zip.ZipInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
@@ -77,6 +80,33 @@ public class LoadSnapshotTest
                  catalog.getTables(schema).size());
   }
 
+  @Test
+  public void loadSnapshotFromPreviousVersion()
+    throws Exception
+  {
+    // Snapshot saved by SchemaCrawler 14.20.04, with lists of names as
+    // lookup keys
+    try (
+        final ZipInputStream snapshotStream = new ZipInputStream(LoadSnapshotTest.class
+          .getResourceAsStream("/snapshot_14.20.04.zip"));)
+    {
+      assertEquals(SCHEMACRAWLER_DATA,
+                   snapshotStream.getNextEntry().getName());
+      final Reader snapshotReader = new InputStreamReader(snapshotStream,
+                                                          UTF_8);
+      final XmlSerializedCatalog catalog = new XmlSerializedCatalog(snapshotReader);
+
+      final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+      assertNotNull("Could not obtain schema", schema);
+      final Table table = catalog.lookupTable(schema, "AUTHORS").orElse(null);
+      assertNotNull("Could not look up table", table);
+      assertTrue("Could not look up column",
+                 table.lookupColumn("FIRSTNAME").isPresent());
+      assertTrue("Could not look up column data type",
+                 catalog.lookupSystemColumnDataType("INTEGER").isPresent());
+    }
+  }
+
   @Before
   public void serializeCatalog()
     throws SchemaCrawlerException, IOException
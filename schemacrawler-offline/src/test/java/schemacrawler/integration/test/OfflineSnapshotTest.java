@@ -37,7 +37,9 @@ import static org.junit.Assert.assertTrue;
 import static schemacrawler.test.utility.TestUtility.flattenCommandlineArgs;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -51,12 +53,14 @@ import schemacrawler.Main;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.executable.Executable;
+import schemacrawler.tools.integration.serialization.BinarySerializedCatalog;
 import schemacrawler.tools.integration.serialization.XmlSerializedCatalog;
 import schemacrawler.tools.iosource.CompressedFileOutputResource;
 import schemacrawler.tools.offline.OfflineSnapshotExecutable;
@@ -177,6 +181,57 @@ public class OfflineSnapshotTest
                       OFFLINE_EXECUTABLE_OUTPUT + "details.txt");
   }
 
+  @Test
+  public void offlineSnapshotExecutableWithSchemaFilter()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionInclusionRule("PUBLIC.BOOKS"));
+
+    final SchemaTextOptionsBuilder schemaTextOptionsBuilder = new SchemaTextOptionsBuilder();
+    schemaTextOptionsBuilder.noInfo();
+
+    final OfflineSnapshotExecutable executable = new OfflineSnapshotExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(schemaTextOptionsBuilder.toConfig());
+
+    // Only the included schema is loaded from the binary snapshot, but
+    // the output is the same as for a fully loaded XML snapshot
+    executeExecutable(executable,
+                      "text",
+                      OFFLINE_EXECUTABLE_OUTPUT + "detailsWithSchemaFilter.txt");
+
+    serializeXmlCatalog();
+    executeExecutable(executable,
+                      "text",
+                      OFFLINE_EXECUTABLE_OUTPUT + "detailsWithSchemaFilter.txt");
+  }
+
+  @Test
+  public void offlineXmlSnapshotExecutable()
+    throws Exception
+  {
+    serializeXmlCatalog();
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
+
+    final SchemaTextOptionsBuilder schemaTextOptionsBuilder = new SchemaTextOptionsBuilder();
+    schemaTextOptionsBuilder.showInfo();
+
+    final OfflineSnapshotExecutable executable = new OfflineSnapshotExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(schemaTextOptionsBuilder.toConfig());
+
+    executeExecutable(executable,
+                      "text",
+                      OFFLINE_EXECUTABLE_OUTPUT + "details.txt");
+  }
+
   @Before
   public void serializeCatalog()
     throws SchemaCrawlerException, IOException
@@ -200,6 +255,30 @@ public class OfflineSnapshotTest
     serializedDatabaseFile = IOUtility.createTempFilePath("schemacrawler",
                                                           "ser");
 
+    final BinarySerializedCatalog binaryDatabase = new BinarySerializedCatalog(catalog);
+    try (final OutputStream outputStream = Files
+      .newOutputStream(serializedDatabaseFile);)
+    {
+      binaryDatabase.save(outputStream);
+    }
+    assertNotSame("Database was not serialized",
+                  0,
+                  size(serializedDatabaseFile));
+
+  }
+
+  private void serializeXmlCatalog()
+    throws SchemaCrawlerException, IOException
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
+
+    final Catalog catalog = getCatalog(schemaCrawlerOptions);
+    serializedDatabaseFile = IOUtility.createTempFilePath("schemacrawler",
+                                                          "ser");
+
     final XmlSerializedCatalog xmlDatabase = new XmlSerializedCatalog(catalog);
     final Writer writer = new CompressedFileOutputResource(serializedDatabaseFile,
                                                            "schemacrawler.data")
@@ -210,7 +289,6 @@ public class OfflineSnapshotTest
     assertNotSame("Database was not serialized to XML",
                   0,
                   size(serializedDatabaseFile));
-
   }
 
   protected void executeExecutable(final Executable executable,
@@ -0,0 +1,24 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYY-MM-DD HH24:MI:SS') AS CHANGE_INDICATOR
+FROM
+  ALL_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OWNER NOT IN 
+    ('ANONYMOUS', 'APEX_PUBLIC_USER', 'APPQOSSYS', 'BI', 'CTXSYS', 'DBSNMP', 'DIP', 
+    'EXFSYS', 'FLOWS_30000', 'FLOWS_FILES', 'IX', 'LBACSYS', 
+    'MDDATA', 'MDSYS', 'MGMT_VIEW', 'OE', 'OLAPSYS', 'ORACLE_OCM', 
+    'ORDPLUGINS', 'ORDSYS', 'OUTLN', 'OWBSYS', 'PM', 'SCOTT', 'SH', 
+    'SI_INFORMTN_SCHEMA', 'SPATIAL_CSW_ADMIN_USR', 'SPATIAL_WFS_ADMIN_USR', 
+    'SYS', 'SYSMAN', 'SYSTEM', 'TSMSYS', 'WKPROXY', 'WKSYS', 'WK_TEST', 
+    'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
+  AND NOT REGEXP_LIKE(OBJECTS.OWNER, '^APEX_[0-9]{6}$')
+  AND NOT REGEXP_LIKE(OBJECTS.OWNER, '^FLOWS_[0-9]{5}$')
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,24 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  TABLES.OWNER AS TABLE_SCHEMA,
+  TABLES.TABLE_NAME,
+  TABLES.NUM_ROWS AS ROW_COUNT
+FROM
+  ALL_TABLES TABLES
+WHERE
+  TABLES.OWNER NOT IN 
+    ('ANONYMOUS', 'APEX_PUBLIC_USER', 'APPQOSSYS', 'BI', 'CTXSYS', 'DBSNMP', 'DIP', 
+    'EXFSYS', 'FLOWS_30000', 'FLOWS_FILES', 'IX', 'LBACSYS', 
+    'MDDATA', 'MDSYS', 'MGMT_VIEW', 'OE', 'OLAPSYS', 'ORACLE_OCM', 
+    'ORDPLUGINS', 'ORDSYS', 'OUTLN', 'OWBSYS', 'PM', 'SCOTT', 'SH', 
+    'SI_INFORMTN_SCHEMA', 'SPATIAL_CSW_ADMIN_USR', 'SPATIAL_WFS_ADMIN_USR', 
+    'SYS', 'SYSMAN', 'SYSTEM', 'TSMSYS', 'WKPROXY', 'WKSYS', 'WK_TEST', 
+    'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
+  AND NOT REGEXP_LIKE(TABLES.OWNER, '^APEX_[0-9]{6}$')
+  AND NOT REGEXP_LIKE(TABLES.OWNER, '^FLOWS_[0-9]{5}$')
+  AND REGEXP_LIKE(TABLES.OWNER, '${schemas}')
+  AND TABLES.TABLE_NAME NOT LIKE 'BIN$%'
+  AND TABLES.NUM_ROWS IS NOT NULL
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
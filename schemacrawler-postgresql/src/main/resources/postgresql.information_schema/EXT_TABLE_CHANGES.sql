@@ -0,0 +1,35 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEMA,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  CONCAT_WS(':',
+    PG_CLASS.XMIN::TEXT,
+    PG_CLASS.RELFILENODE::TEXT,
+    (SELECT STRING_AGG(PG_INDEX.INDEXRELID::TEXT || '.' || PG_INDEX.XMIN::TEXT, ',' 
+       ORDER BY PG_INDEX.INDEXRELID)
+     FROM PG_INDEX 
+     WHERE PG_INDEX.INDRELID = PG_CLASS.OID),
+    (SELECT STRING_AGG(PG_CONSTRAINT.OID::TEXT || '.' || PG_CONSTRAINT.XMIN::TEXT, ',' 
+       ORDER BY PG_CONSTRAINT.OID)
+     FROM PG_CONSTRAINT 
+     WHERE PG_CONSTRAINT.CONRELID = PG_CLASS.OID 
+       OR PG_CONSTRAINT.CONFRELID = PG_CLASS.OID),
+    (SELECT STRING_AGG(PG_TRIGGER.OID::TEXT || '.' || PG_TRIGGER.XMIN::TEXT, ',' 
+       ORDER BY PG_TRIGGER.OID)
+     FROM PG_TRIGGER 
+     WHERE PG_TRIGGER.TGRELID = PG_CLASS.OID),
+    (SELECT STRING_AGG(PG_DESCRIPTION.OBJSUBID::TEXT || '.' || PG_DESCRIPTION.XMIN::TEXT, ',' 
+       ORDER BY PG_DESCRIPTION.OBJSUBID)
+     FROM PG_DESCRIPTION 
+     WHERE PG_DESCRIPTION.OBJOID = PG_CLASS.OID)
+  ) AS CHANGE_INDICATOR
+FROM
+  PG_CLASS
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+WHERE
+  PG_CLASS.RELKIND IN ('r', 'v', 'm', 'p', 'f')
+  AND PG_NAMESPACE.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
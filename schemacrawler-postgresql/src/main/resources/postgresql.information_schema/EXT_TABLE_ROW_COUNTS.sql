@@ -0,0 +1,17 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEMA,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  CASE WHEN PG_CLASS.RELTUPLES < 0 THEN NULL
+    WHEN PG_CLASS.RELPAGES = 0 AND PG_CLASS.RELTUPLES = 0 THEN NULL
+    ELSE CAST(PG_CLASS.RELTUPLES AS BIGINT) END AS ROW_COUNT
+FROM
+  PG_CLASS
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+WHERE
+  PG_CLASS.RELKIND IN ('r', 'm', 'p')
+  AND PG_NAMESPACE.NSPNAME ~ '${schemas}'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
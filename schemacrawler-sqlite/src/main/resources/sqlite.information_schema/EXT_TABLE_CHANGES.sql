@@ -0,0 +1,13 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NULL AS TABLE_SCHEMA,
+  TABLES.name AS TABLE_NAME,
+  (SELECT group_concat(OBJECTS.sql, ';') 
+   FROM sqlite_master OBJECTS 
+   WHERE OBJECTS.tbl_name = TABLES.name) AS CHANGE_INDICATOR
+FROM
+  sqlite_master TABLES
+WHERE
+  TABLES.type IN ('table', 'view')
+ORDER BY
+  TABLES.name
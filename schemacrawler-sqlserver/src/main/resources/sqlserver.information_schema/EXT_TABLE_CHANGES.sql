@@ -0,0 +1,23 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMAS.NAME AS TABLE_SCHEMA,
+  OBJECTS.NAME AS TABLE_NAME,
+  CONVERT(VARCHAR(30), 
+    (SELECT MAX(MODIFY_DATE) 
+     FROM 
+       (SELECT OBJECTS.MODIFY_DATE 
+        UNION ALL 
+        SELECT CHILD_OBJECTS.MODIFY_DATE 
+        FROM SYS.OBJECTS CHILD_OBJECTS 
+        WHERE CHILD_OBJECTS.PARENT_OBJECT_ID = OBJECTS.OBJECT_ID) 
+       AS MODIFY_DATES (MODIFY_DATE)), 
+    126) AS CHANGE_INDICATOR
+FROM
+  SYS.OBJECTS OBJECTS
+  INNER JOIN SYS.SCHEMAS SCHEMAS
+    ON OBJECTS.SCHEMA_ID = SCHEMAS.SCHEMA_ID
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
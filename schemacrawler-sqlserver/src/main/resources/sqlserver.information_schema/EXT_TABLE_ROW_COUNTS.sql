@@ -0,0 +1,19 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMAS.NAME AS TABLE_SCHEMA,
+  TABLES.NAME AS TABLE_NAME,
+  SUM(PARTITIONS.ROWS) AS ROW_COUNT
+FROM
+  SYS.TABLES TABLES
+  INNER JOIN SYS.SCHEMAS SCHEMAS
+    ON TABLES.SCHEMA_ID = SCHEMAS.SCHEMA_ID
+  INNER JOIN SYS.PARTITIONS PARTITIONS
+    ON TABLES.OBJECT_ID = PARTITIONS.OBJECT_ID
+WHERE
+  PARTITIONS.INDEX_ID IN (0, 1)
+GROUP BY
+  SCHEMAS.NAME,
+  TABLES.NAME
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
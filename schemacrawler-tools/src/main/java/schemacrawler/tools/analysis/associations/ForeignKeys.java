@@ -30,23 +30,23 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
+import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
+import sf.util.Multimap;
 
 final class ForeignKeys
 {
 
-  private final Collection<ColumnReference> foreignKeys;
+  private final Multimap<Column, Column> pkColumnsForFkColumn;
 
   ForeignKeys(final List<Table> tables)
   {
-    foreignKeys = mapForeignKeyColumns(tables);
+    pkColumnsForFkColumn = mapForeignKeyColumns(tables);
   }
 
   public boolean contains(final ColumnReference columnMap)
@@ -56,37 +56,33 @@ final class ForeignKeys
       return false;
     }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference foreignKey: foreignKeys)
-    {
-      final boolean equals = columnMap.equals(foreignKey);
-      if (equals)
-      {
-        return true;
-      }
-    }
-    return false;
+    // Look up columns, rather than column references, so that weak
+    // associations match foreign key column references
+    final List<Column> pkColumns = pkColumnsForFkColumn
+      .get(columnMap.getForeignKeyColumn());
+    return pkColumns != null
+           && pkColumns.contains(columnMap.getPrimaryKeyColumn());
   }
 
   @Override
   public String toString()
   {
-    return foreignKeys.toString();
+    return pkColumnsForFkColumn.toString();
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables)
+  private Multimap<Column, Column> mapForeignKeyColumns(final List<Table> tables)
   {
     requireNonNull(tables);
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    final Multimap<Column, Column> fkColumnsMap = new Multimap<>();
     for (final Table table: tables)
     {
       for (final ForeignKey foreignKey: table.getForeignKeys())
       {
         for (final ForeignKeyColumnReference columnRef: foreignKey)
         {
-          fkColumnsMap.add(columnRef);
+          fkColumnsMap.add(columnRef.getForeignKeyColumn(),
+                           columnRef.getPrimaryKeyColumn());
         }
       }
     }
@@ -1,8 +1,19 @@
 package schemacrawler.tools.analysis.associations;
 
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -18,11 +29,133 @@ import java.util.regex.Pattern;
 public class Inflection
 {
 
+  /**
+   * Inflection rules, compiled for fast lookup. Each rule is tried
+   * only if the word ends with the literal suffix that the rule
+   * requires, and results are remembered for words that are seen again.
+   */
+  private static final class CompiledInflections
+  {
+
+    /**
+     * Node in a trie of reversed rule suffixes.
+     */
+    private static final class SuffixNode
+    {
+
+      private final Map<Character, SuffixNode> children = new HashMap<>();
+      private final BitSet rules = new BitSet();
+
+    }
+
+    /**
+     * Limits the memory used to remember inflected words.
+     */
+    private static final int MAX_CACHED_WORDS = 10000;
+
+    private final List<Inflection> inflections;
+    private final SuffixNode suffixes;
+    private final Map<String, String> cache;
+
+    CompiledInflections(final List<Inflection> inflections)
+    {
+      this.inflections = new ArrayList<>(inflections);
+      suffixes = new SuffixNode();
+      cache = new ConcurrentHashMap<>();
+
+      for (int i = 0; i < this.inflections.size(); i++)
+      {
+        final String suffix = this.inflections.get(i).suffix;
+        SuffixNode node = suffixes;
+        for (int j = suffix.length() - 1; j >= 0; j--)
+        {
+          node = node.children.computeIfAbsent(suffix.charAt(j),
+                                               key -> new SuffixNode());
+        }
+        node.rules.set(i);
+      }
+    }
+
+    String inflect(final String word)
+    {
+      final String cachedWord = cache.get(word);
+      if (cachedWord != null)
+      {
+        return cachedWord;
+      }
+
+      final String inflectedWord = inflectWord(word);
+      if (cache.size() < MAX_CACHED_WORDS)
+      {
+        cache.put(word, inflectedWord);
+      }
+      return inflectedWord;
+    }
+
+    private boolean endsWithLineTerminator(final String word)
+    {
+      if (word.isEmpty())
+      {
+        return false;
+      }
+      final char ch = word.charAt(word.length() - 1);
+      return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028'
+             || ch == '\u2029';
+    }
+
+    /**
+     * Tries the rules that could match the word, in order of priority,
+     * and applies the first one that matches.
+     */
+    private String inflectWord(final String word)
+    {
+      if (isUncountable(word))
+      {
+        return word;
+      }
+
+      final String lowerCaseWord = word.toLowerCase(Locale.ENGLISH);
+      final BitSet candidates = (BitSet) suffixes.rules.clone();
+      if (endsWithLineTerminator(word))
+      {
+        // End of input anchors also match before a final line
+        // terminator, so every rule could match
+        candidates.set(0, inflections.size());
+      }
+      SuffixNode node = suffixes;
+      for (int i = lowerCaseWord.length() - 1; i >= 0; i--)
+      {
+        node = node.children.get(lowerCaseWord.charAt(i));
+        if (node == null)
+        {
+          break;
+        }
+        candidates.or(node.rules);
+      }
+
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates
+        .nextSetBit(i + 1))
+      {
+        final Inflection inflection = inflections.get(i);
+        if (inflection.match(word))
+        {
+          return inflection.replace(word);
+        }
+      }
+      return word;
+    }
+
+  }
+
   private static final List<Inflection> plural = new ArrayList<>();
 
   private static final List<Inflection> singular = new ArrayList<>();
 
-  private static final List<String> uncountable = new ArrayList<>();
+  private static final Set<String> uncountable = new HashSet<>();
+
+  private static final CompiledInflections pluralInflections;
+
+  private static final CompiledInflections singularInflections;
 
   static
   {
@@ -92,6 +225,9 @@ public class Inflection
 
     // Collections.reverse(singular);
     // Collections.reverse(plural);
+
+    pluralInflections = new CompiledInflections(plural);
+    singularInflections = new CompiledInflections(singular);
   }
 
   /**
@@ -103,14 +239,8 @@ public class Inflection
    */
   public static boolean isUncountable(final String word)
   {
-    for (final String w: uncountable)
-    {
-      if (w.equalsIgnoreCase(word))
-      {
-        return true;
-      }
-    }
-    return false;
+    return word != null
+           && uncountable.contains(word.toLowerCase(Locale.ENGLISH));
   }
 
   /**
@@ -122,19 +252,7 @@ public class Inflection
    */
   public static String pluralize(final String word)
   {
-    if (Inflection.isUncountable(word))
-    {
-      return word;
-    }
-
-    for (final Inflection inflection: plural)
-    {
-      if (inflection.match(word))
-      {
-        return inflection.replace(word);
-      }
-    }
-    return word;
+    return pluralInflections.inflect(word);
   }
 
   /**
@@ -146,22 +264,113 @@ public class Inflection
    */
   public static String singularize(final String word)
   {
-    if (Inflection.isUncountable(word))
+    return singularInflections.inflect(word);
+  }
+
+  /**
+   * Return the singularized versions of a number of words, such as all
+   * the table names in a catalog.
+   *
+   * @param words
+   *        The words
+   * @return Singularized words, keyed by the original word, in the
+   *         order of the original words
+   */
+  public static Map<String, String> singularizeAll(final Collection<String> words)
+  {
+    requireNonNull(words, "No words provided");
+    final Map<String, String> singularWords = new LinkedHashMap<>();
+    for (final String word: words)
     {
-      return word;
+      if (!singularWords.containsKey(word))
+      {
+        singularWords.put(word, singularize(word));
+      }
     }
+    return singularWords;
+  }
 
-    for (final Inflection inflection: singular)
+  /**
+   * Finds the literal text that a word needs to end with to match a
+   * pattern, ignoring case. The suffix is only found for simple
+   * patterns anchored at the end of the word, so for any other pattern
+   * it is blank, and the pattern has to be tried on every word.
+   */
+  private static String findLiteralSuffix(final String pattern)
+  {
+    if (!pattern.endsWith("$") || pattern.endsWith("\\$")
+        || hasTopLevelAlternation(pattern))
     {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
-      if (inflection.match(word))
+      return "";
+    }
+
+    final StringBuilder suffix = new StringBuilder();
+    int i = pattern.length() - 2;
+    while (i >= 0)
+    {
+      final char ch = pattern.charAt(i);
+      if (i > 0 && pattern.charAt(i - 1) == '\\')
+      {
+        break;
+      }
+      else if (ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z')
+      {
+        suffix.append(ch);
+      }
+      else if (ch == ')')
+      {
+        // Only step into simple groups, without alternatives or
+        // nested groups
+        final String group = pattern.substring(0, i);
+        final int groupStart = group.lastIndexOf('(');
+        if (groupStart < 0 || group.indexOf(')', groupStart) >= 0
+            || group.indexOf('|', groupStart) >= 0)
+        {
+          break;
+        }
+      }
+      else if (ch != '(')
       {
-        // System.out.println("match!");
-        return inflection.replace(word);
+        break;
       }
+      i--;
     }
-    return word;
+    return suffix.reverse().toString().toLowerCase(Locale.ENGLISH);
+  }
+
+  private static boolean hasTopLevelAlternation(final String pattern)
+  {
+    int depth = 0;
+    boolean inCharacterClass = false;
+    for (int i = 0; i < pattern.length(); i++)
+    {
+      final char ch = pattern.charAt(i);
+      if (ch == '\\')
+      {
+        i++;
+      }
+      else if (inCharacterClass)
+      {
+        inCharacterClass = ch != ']';
+      }
+      else if (ch == '[')
+      {
+        inCharacterClass = true;
+      }
+      else if (ch == '(')
+      {
+        depth++;
+      }
+      else if (ch == ')')
+      {
+        depth--;
+      }
+      else if (ch == '|' && depth == 0)
+      {
+        return true;
+      }
+    }
+    return false;
   }
 
   private static void irregular(final String s, final String p)
@@ -184,7 +393,7 @@ public class Inflection
 
   private static void uncountable(final String word)
   {
-    uncountable.add(word);
+    uncountable.add(word.toLowerCase(Locale.ENGLISH));
   }
 
   private final String pattern;
@@ -193,6 +402,10 @@ public class Inflection
 
   private final boolean ignoreCase;
 
+  private final Pattern compiledPattern;
+
+  private final String suffix;
+
   public Inflection(final String pattern)
   {
     this(pattern, null, true);
@@ -210,6 +423,14 @@ public class Inflection
     this.pattern = pattern;
     this.replacement = replacement;
     this.ignoreCase = ignoreCase;
+
+    int flags = 0;
+    if (ignoreCase)
+    {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    compiledPattern = Pattern.compile(pattern, flags);
+    suffix = findLiteralSuffix(pattern);
   }
 
   /**
@@ -221,12 +442,7 @@ public class Inflection
    */
   public boolean match(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return compiledPattern.matcher(word).find();
   }
 
   /**
@@ -238,12 +454,6 @@ public class Inflection
    */
   public String replace(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word)
-      .replaceAll(replacement);
+    return compiledPattern.matcher(word).replaceAll(replacement);
   }
 }
@@ -35,9 +35,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -47,7 +51,6 @@ import sf.util.Multimap;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
-import sf.util.Utility;
 
 final class TableMatchKeys
 {
@@ -98,7 +101,12 @@ final class TableMatchKeys
   }
 
   /**
-   * Finds table prefixes. A prefix ends with "_".
+   * Finds table prefixes. A prefix ends with "_". Each pair of tables
+   * whose longest common prefix ends with "_" counts towards that
+   * prefix, and every shorter prefix of it that also ends with "_".
+   * Pairs are counted from the number of tables that start with each
+   * prefix, rather than by comparing every pair of table names, so
+   * this takes time in proportion to the number of tables.
    *
    * @param tables
    *        Tables
@@ -106,91 +114,107 @@ final class TableMatchKeys
    */
   private Collection<String> findTableNamePrefixes(final List<Table> tables)
   {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < tables.size(); i++)
+    // Count tables starting with each prefix, and with each prefix
+    // followed by one more character
+    final Map<String, Long> tablesForPrefix = new HashMap<>();
+    final Map<String, Long> tablesForLongerPrefix = new HashMap<>();
+    final Map<String, Long> tablesForName = new HashMap<>();
+    for (final Table table: tables)
     {
-      for (int j = i + 1; j < tables.size(); j++)
+      final String tableName = table.getName();
+      if (tableName.endsWith("_"))
+      {
+        tablesForName.merge(tableName, 1L, Long::sum);
+      }
+      for (int i = tableName.indexOf('_'); i >= 0; i = tableName
+        .indexOf('_', i + 1))
       {
-        final String table1 = tables.get(i).getName();
-        final String table2 = tables.get(j).getName();
-        final String commonPrefix = Utility.commonPrefix(table1, table2);
-        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
+        tablesForPrefix.merge(tableName.substring(0, i + 1), 1L, Long::sum);
+        if (i + 1 < tableName.length())
         {
-          final List<String> splitCommonPrefixes = new ArrayList<>();
-          final String[] splitPrefix = commonPrefix.split("_");
-          if (splitPrefix != null && splitPrefix.length > 0)
-          {
-            for (int k = 0; k < splitPrefix.length; k++)
-            {
-              final StringBuilder buffer = new StringBuilder(1024);
-              for (int l = 0; l < k; l++)
-              {
-                buffer.append(splitPrefix[l]).append("_");
-              }
-              if (buffer.length() > 0)
-              {
-                splitCommonPrefixes.add(buffer.toString());
-              }
-            }
-          }
-          splitCommonPrefixes.add(commonPrefix);
-
-          for (final String splitCommonPrefix: splitCommonPrefixes)
-          {
-            final int prevCount;
-            if (prefixesMap.containsKey(splitCommonPrefix))
-            {
-              prevCount = prefixesMap.get(splitCommonPrefix);
-            }
-            else
-            {
-              prevCount = 0;
-            }
-            prefixesMap.put(splitCommonPrefix, prevCount + 1);
-          }
+          tablesForLongerPrefix.merge(tableName.substring(0, i + 2),
+                                      1L,
+                                      Long::sum);
         }
       }
     }
 
-    // Make sure we have the smallest prefixes
-    final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
-    Collections.sort(keySet, new Comparator<String>()
+    // Count pairs of tables whose longest common prefix is exactly
+    // each prefix
+    final Map<String, Long> pairsForPrefix = new HashMap<>();
+    for (final Map.Entry<String, Long> entry: tablesForPrefix.entrySet())
     {
-      @Override
-      public int compare(final String o1, final String o2)
+      pairsForPrefix.put(entry.getKey(), pairs(entry.getValue()));
+    }
+    for (final Map.Entry<String, Long> entry: tablesForLongerPrefix
+      .entrySet())
+    {
+      final String longerPrefix = entry.getKey();
+      pairsForPrefix.merge(longerPrefix.substring(0,
+                                                  longerPrefix.length() - 1),
+                           -pairs(entry.getValue()),
+                           Long::sum);
+    }
+    // Tables with the same name do not have a common prefix
+    for (final Map.Entry<String, Long> entry: tablesForName.entrySet())
+    {
+      pairsForPrefix.merge(entry.getKey(), -pairs(entry.getValue()), Long::sum);
+    }
+
+    // Add the pairs for each common prefix to every prefix of it
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (final Map.Entry<String, Long> entry: pairsForPrefix.entrySet())
+    {
+      final long pairs = entry.getValue();
+      if (pairs <= 0)
       {
-        int comparison = 0;
-        comparison = o2.length() - o1.length();
-        if (comparison == 0)
-        {
-          comparison = o2.compareTo(o1);
-        }
-        return comparison;
+        continue;
       }
-    });
-    for (int i = 0; i < keySet.size(); i++)
+      final String commonPrefix = entry.getKey().toLowerCase();
+      // Shorter prefixes end before the trailing underscores
+      int trailingUnderscores = commonPrefix.length();
+      while (trailingUnderscores > 0
+             && commonPrefix.charAt(trailingUnderscores - 1) == '_')
+      {
+        trailingUnderscores--;
+      }
+      int i = commonPrefix.indexOf('_');
+      while (i >= 0 && i < trailingUnderscores)
+      {
+        prefixesMap.merge(commonPrefix.substring(0, i + 1), pairs, Long::sum);
+        i = commonPrefix.indexOf('_', i + 1);
+      }
+      prefixesMap.merge(commonPrefix, pairs, Long::sum);
+    }
+
+    // Make sure we have the smallest prefixes
+    final Set<String> allPrefixes = new HashSet<>(prefixesMap.keySet());
+    final Iterator<String> iterator = prefixesMap.keySet().iterator();
+    while (iterator.hasNext())
     {
-      for (int j = i + 1; j < keySet.size(); j++)
+      final String longPrefix = iterator.next();
+      int i = longPrefix.indexOf('_');
+      while (i >= 0 && i < longPrefix.length() - 1)
       {
-        final String longPrefix = keySet.get(i);
-        if (longPrefix.startsWith(keySet.get(j)))
+        if (allPrefixes.contains(longPrefix.substring(0, i + 1)))
         {
-          prefixesMap.remove(longPrefix);
+          iterator.remove();
           break;
         }
+        i = longPrefix.indexOf('_', i + 1);
       }
     }
 
     // Sort prefixes by the number of tables using them, in descending
     // order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap
       .entrySet());
-    Collections.sort(prefixesList, new Comparator<Map.Entry<String, Integer>>()
+    Collections.sort(prefixesList, new Comparator<Map.Entry<String, Long>>()
     {
 
       @Override
-      public int compare(final Entry<String, Integer> entry1,
-                         final Entry<String, Integer> entry2)
+      public int compare(final Entry<String, Long> entry1,
+                         final Entry<String, Long> entry2)
       {
         return entry1.getValue().compareTo(entry2.getValue());
       }
@@ -216,22 +240,48 @@ final class TableMatchKeys
   private void mapTableNameMatches(final List<Table> tables,
                                    final Collection<String> prefixes)
   {
+    // Find table names without prefixes, and singularize them all at
+    // once
+    final Multimap<Table, String> unprefixedTableNames = new Multimap<>();
     for (final Table table: tables)
     {
+      final String matchTableName = table.getName().toLowerCase();
       for (final String prefix: prefixes)
       {
-        String matchTableName = table.getName().toLowerCase();
         if (matchTableName.startsWith(prefix))
         {
-          matchTableName = matchTableName.substring(prefix.length());
-          matchTableName = Inflection.singularize(matchTableName);
-          if (!isBlank(matchTableName))
-          {
-            tableKeys.add(table, matchTableName);
-          }
+          unprefixedTableNames.add(table,
+                                   matchTableName.substring(prefix.length()));
+        }
+      }
+    }
+    final Collection<String> names = new ArrayList<>();
+    for (final List<String> tableNames: unprefixedTableNames.values())
+    {
+      names.addAll(tableNames);
+    }
+    final Map<String, String> singularNames = Inflection.singularizeAll(names);
+
+    for (final Table table: tables)
+    {
+      if (!unprefixedTableNames.containsKey(table))
+      {
+        continue;
+      }
+      for (final String unprefixedTableName: unprefixedTableNames.get(table))
+      {
+        final String matchTableName = singularNames.get(unprefixedTableName);
+        if (!isBlank(matchTableName))
+        {
+          tableKeys.add(table, matchTableName);
         }
       }
     }
   }
 
+  private long pairs(final long count)
+  {
+    return count * (count - 1) / 2;
+  }
+
 }
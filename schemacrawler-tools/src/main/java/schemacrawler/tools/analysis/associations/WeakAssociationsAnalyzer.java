@@ -31,13 +31,15 @@ package schemacrawler.tools.analysis.associations;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.analysis.associations.WeakAssociationsUtility.addWeakAssociationToTable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
@@ -45,19 +47,34 @@ import schemacrawler.utility.MetaDataUtility;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
+/**
+ * Finds weak associations between tables, by matching the names of
+ * candidate key columns of each table against an index of match keys
+ * for all columns. Candidate keys of large catalogs are matched
+ * concurrently on the common fork-join pool, since the indexes are only
+ * read, and the weak associations that are found are sorted before
+ * they are added to tables, so the results do not depend on thread
+ * scheduling.
+ */
 final class WeakAssociationsAnalyzer
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(WeakAssociationsAnalyzer.class.getName());
 
+  /**
+   * Smallest number of tables for which candidate keys are matched
+   * concurrently.
+   */
+  private static final int PARALLEL_THRESHOLD = 500;
+
   private final List<Table> tables;
-  private final Collection<WeakAssociationForeignKey> weakAssociations;
+  private final List<WeakAssociationForeignKey> weakAssociations;
 
   WeakAssociationsAnalyzer(final List<Table> tables)
   {
     this.tables = requireNonNull(tables, "No tables provided");
-    weakAssociations = new TreeSet<>();
+    weakAssociations = new ArrayList<>();
   }
 
   Collection<WeakAssociationForeignKey> analyzeTables()
@@ -72,6 +89,23 @@ final class WeakAssociationsAnalyzer
     return weakAssociations;
   }
 
+  private void addColumnsForMatchKeys(final List<String> matchKeys,
+                                      final ColumnMatchKeysMap columnMatchKeysMap,
+                                      final Set<Column> columns)
+  {
+    if (matchKeys == null)
+    {
+      return;
+    }
+    for (final String matchKey: matchKeys)
+    {
+      if (columnMatchKeysMap.containsKey(matchKey))
+      {
+        columns.addAll(columnMatchKeysMap.get(matchKey));
+      }
+    }
+  }
+
   private void addWeakAssociation(final WeakAssociation weakAssociation)
   {
     final String weakFkName = MetaDataUtility
@@ -103,55 +137,92 @@ final class WeakAssociationsAnalyzer
       LOGGER.log(Level.FINER,
                  new StringFormat("Column match keys <%s>", tableMatchKeys));
     }
-    for (final Table table: tables)
+
+    final Stream<Table> tablesStream;
+    if (tables.size() >= PARALLEL_THRESHOLD)
     {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER
-        .log(Level.FINER,
-             new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn: tableCandidateKeys)
+      tablesStream = tables.parallelStream();
+    }
+    else
+    {
+      tablesStream = tables.stream();
+    }
+    final List<WeakAssociation> foundWeakAssociations = tablesStream
+      .flatMap(table -> findWeakAssociations(table,
+                                             foreignKeys,
+                                             columnMatchKeysMap,
+                                             tableMatchKeys)
+                                               .stream())
+      .sorted().collect(Collectors.toList());
+
+    WeakAssociation previousWeakAssociation = null;
+    for (final WeakAssociation weakAssociation: foundWeakAssociations)
+    {
+      if (previousWeakAssociation != null
+          && previousWeakAssociation.compareTo(weakAssociation) == 0)
       {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey())
-        {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn))
-        {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
+        continue;
+      }
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Found weak association <%s>",
+                                  weakAssociation));
+      addWeakAssociation(weakAssociation);
+      previousWeakAssociation = weakAssociation;
+    }
+  }
+
+  /**
+   * Finds weak associations from the candidate keys of a table. This
+   * only reads the indexes, so it can run for many tables at the same
+   * time.
+   */
+  private List<WeakAssociation> findWeakAssociations(final Table table,
+                                                     final ForeignKeys foreignKeys,
+                                                     final ColumnMatchKeysMap columnMatchKeysMap,
+                                                     final TableMatchKeys tableMatchKeys)
+  {
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER
+      .log(Level.FINER,
+           new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+
+    final List<WeakAssociation> weakAssociations = new ArrayList<>();
+    final Set<Column> fkColumns = new HashSet<>();
+    for (final Column pkColumn: tableCandidateKeys)
+    {
+      fkColumns.clear();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey())
+      {
+        addColumnsForMatchKeys(tableMatchKeys.get(table),
+                               columnMatchKeysMap,
+                               fkColumns);
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn))
+      {
+        addColumnsForMatchKeys(columnMatchKeysMap.get(pkColumn),
+                               columnMatchKeysMap,
+                               fkColumns);
+      }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      for (final Column fkColumn: fkColumns)
+      {
+        if (pkColumn.equals(fkColumn))
         {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
-          {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+          continue;
         }
 
-        for (final Column fkColumn: fkColumns)
+        final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
+                                                                    fkColumn);
+        if (weakAssociation.isValid()
+            && !foreignKeys.contains(weakAssociation))
         {
-          if (pkColumn.equals(fkColumn))
-          {
-            continue;
-          }
-
-          final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
-                                                                      fkColumn);
-          if (weakAssociation.isValid()
-              && !foreignKeys.contains(weakAssociation))
-          {
-            LOGGER.log(Level.FINE,
-                       new StringFormat("Found weak association <%s>",
-                                        weakAssociation));
-            addWeakAssociation(weakAssociation);
-          }
+          weakAssociations.add(weakAssociation);
         }
       }
     }
+    return weakAssociations;
   }
 
 }
@@ -64,13 +64,15 @@ public final class WeakAssociationsUtility
   {
     if (table != null && weakAssociation != null)
     {
-      final SortedSet<WeakAssociationForeignKey> tableWeakAssociations = table
-        .getAttribute(WEAK_ASSOCIATIONS_KEY,
-                      new TreeSet<WeakAssociationForeignKey>());
+      SortedSet<WeakAssociationForeignKey> tableWeakAssociations = table
+        .getAttribute(WEAK_ASSOCIATIONS_KEY);
+      if (tableWeakAssociations == null)
+      {
+        tableWeakAssociations = new TreeSet<>();
+        table.setAttribute(WEAK_ASSOCIATIONS_KEY, tableWeakAssociations);
+      }
 
       tableWeakAssociations.add(weakAssociation);
-
-      table.setAttribute(WEAK_ASSOCIATIONS_KEY, tableWeakAssociations);
     }
   }
 
@@ -28,9 +28,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.analysis.counts;
 
 
+import static java.util.Objects.requireNonNull;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
-import static schemacrawler.utility.QueryUtility.executeForLong;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
@@ -42,16 +42,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.tools.text.operation.Operation;
 import schemacrawler.utility.Identifiers;
-import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public final class CatalogWithCounts
   extends BaseCatalogDecorator
@@ -68,12 +68,44 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog,
+         connection,
+         options,
+         new InformationSchemaViews(),
+         new CountOptions());
+  }
+
+  /**
+   * Obtains row counts for all tables on a single connection, one table
+   * at a time.
+   *
+   * @param catalog
+   *        Catalog to decorate
+   * @param connection
+   *        Live database connection
+   * @param options
+   *        SchemaCrawler options
+   * @param informationSchemaViews
+   *        Information schema views, which may have SQL for approximate
+   *        counts from database engine statistics
+   * @param countOptions
+   *        Options for obtaining counts
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final SchemaCrawlerOptions options,
+                           final InformationSchemaViews informationSchemaViews,
+                           final CountOptions countOptions)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
     counts = new HashMap<>();
 
-    Identifiers identifiers;
+    final Identifiers identifiers;
     try
     {
       checkConnection(connection);
@@ -85,34 +117,82 @@ public final class CatalogWithCounts
       // The offline snapshot executable may not have a live connection,
       // so we cannot fail with an exception. Log and continue.
       LOGGER.log(Level.WARNING, "No connection provided", e);
-
-      identifiers = Identifiers.identifiers().withIdentifierQuoteString("\"")
-        .build();
-
       return;
     }
 
-    final Query query = Operation.count.getQuery();
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table: allTables)
+    final TableRowCounts tableRowCounts = new TableRowCounts(countOptions,
+                                                             identifiers);
+    final List<Table> uncountedTables = new ArrayList<>(catalog.getTables());
+    if (countOptions.isApproximateCounts())
     {
-      try
-      {
-        final long count = executeForLong(query,
-                                          connection,
-                                          table,
-                                          identifiers);
-        counts.put(table, count);
-        addRowCountToTable(table, count);
-      }
-      catch (final SchemaCrawlerException e)
+      putCounts(tableRowCounts
+        .approximateCounts(connection,
+                           informationSchemaViews,
+                           options.getSchemaInclusionRule(),
+                           uncountedTables),
+                uncountedTables);
+    }
+    putCounts(tableRowCounts.exactCounts(connection, uncountedTables),
+              uncountedTables);
+
+    reduce(Table.class, getTableReducer(new TableCountFilter(options)));
+  }
+
+  /**
+   * Obtains row counts for all tables, running as many count queries
+   * at the same time as there are threads in the count options. Each
+   * thread uses its own connection from the data source.
+   *
+   * @param catalog
+   *        Catalog to decorate
+   * @param dataSource
+   *        Source of database connections
+   * @param options
+   *        SchemaCrawler options
+   * @param informationSchemaViews
+   *        Information schema views, which may have SQL for approximate
+   *        counts from database engine statistics
+   * @param countOptions
+   *        Options for obtaining counts
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final DataSource dataSource,
+                           final SchemaCrawlerOptions options,
+                           final InformationSchemaViews informationSchemaViews,
+                           final CountOptions countOptions)
+    throws SchemaCrawlerException
+  {
+    super(catalog);
+
+    requireNonNull(dataSource, "No data source provided");
+
+    counts = new HashMap<>();
+
+    final List<Table> uncountedTables = new ArrayList<>(catalog.getTables());
+    final TableRowCounts tableRowCounts;
+    try (final Connection connection = dataSource.getConnection();)
+    {
+      final Identifiers identifiers = Identifiers.identifiers()
+        .withConnection(connection).build();
+      tableRowCounts = new TableRowCounts(countOptions, identifiers);
+      if (countOptions.isApproximateCounts())
       {
-        LOGGER.log(Level.WARNING,
-                   new StringFormat("Could not get count for table <%s>",
-                                    table),
-                   e);
+        putCounts(tableRowCounts
+          .approximateCounts(connection,
+                             informationSchemaViews,
+                             options.getSchemaInclusionRule(),
+                             uncountedTables),
+                  uncountedTables);
       }
     }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not obtain a connection", e);
+    }
+    putCounts(tableRowCounts.exactCounts(dataSource, uncountedTables),
+              uncountedTables);
 
     reduce(Table.class, getTableReducer(new TableCountFilter(options)));
   }
@@ -140,4 +220,17 @@ public final class CatalogWithCounts
     return Optional.of(getAttribute(name));
   }
 
+  private void putCounts(final Map<Table, Long> tableCounts,
+                         final List<Table> uncountedTables)
+  {
+    for (final Map.Entry<Table, Long> tableCount: tableCounts.entrySet())
+    {
+      final Table table = tableCount.getKey();
+      final long count = tableCount.getValue();
+      counts.put(table, count);
+      addRowCountToTable(table, count);
+    }
+    uncountedTables.removeAll(tableCounts.keySet());
+  }
+
 }
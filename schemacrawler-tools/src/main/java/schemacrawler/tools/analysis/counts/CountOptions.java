@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Options;
+import sf.util.ObjectToString;
+
+/**
+ * Options for obtaining table row counts.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CountOptions
+  implements Options
+{
+
+  private static final long serialVersionUID = -6381442498157493711L;
+
+  private int threads;
+  private int queryTimeout;
+  private boolean approximateCounts;
+
+  public CountOptions()
+  {
+    threads = 1;
+    queryTimeout = 0;
+    approximateCounts = false;
+  }
+
+  /**
+   * Timeout for each table count query, in seconds. Zero means there
+   * is no timeout.
+   *
+   * @return Query timeout, in seconds
+   */
+  public int getQueryTimeout()
+  {
+    return queryTimeout;
+  }
+
+  /**
+   * Number of table count queries that can run at the same time, each
+   * on its own connection.
+   *
+   * @return Number of threads
+   */
+  public int getThreads()
+  {
+    return threads;
+  }
+
+  /**
+   * Whether row counts are read from the statistics that the database
+   * engine keeps, if statistics are available. Tables without
+   * statistics are counted exactly.
+   *
+   * @return Whether to use approximate counts
+   */
+  public boolean isApproximateCounts()
+  {
+    return approximateCounts;
+  }
+
+  public void setApproximateCounts(final boolean approximateCounts)
+  {
+    this.approximateCounts = approximateCounts;
+  }
+
+  public void setQueryTimeout(final int queryTimeout)
+  {
+    if (queryTimeout < 0)
+    {
+      throw new IllegalArgumentException("Query timeout cannot be negative, "
+                                         + queryTimeout);
+    }
+    this.queryTimeout = queryTimeout;
+  }
+
+  public void setThreads(final int threads)
+  {
+    if (threads < 1)
+    {
+      throw new IllegalArgumentException("Need at least one thread for counts, "
+                                         + threads);
+    }
+    this.threads = threads;
+  }
+
+  @Override
+  public String toString()
+  {
+    return ObjectToString.toString(this);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.OptionsBuilder;
+
+public final class CountOptionsBuilder
+  implements OptionsBuilder<CountOptions>
+{
+
+  private static final String COUNTS_PREFIX = "schemacrawler.counts.";
+
+  private static final String THREADS = COUNTS_PREFIX + "threads";
+  private static final String QUERY_TIMEOUT = COUNTS_PREFIX + "query_timeout";
+  private static final String APPROXIMATE = COUNTS_PREFIX + "approximate";
+
+  private final CountOptions options;
+
+  public CountOptionsBuilder()
+  {
+    options = new CountOptions();
+  }
+
+  public CountOptionsBuilder approximateCounts(final boolean value)
+  {
+    options.setApproximateCounts(value);
+    return this;
+  }
+
+  @Override
+  public CountOptionsBuilder fromConfig(final Config map)
+  {
+    if (map == null)
+    {
+      return this;
+    }
+
+    final Config config = new Config(map);
+
+    options.setThreads(Math.max(1,
+                                config.getIntegerValue(THREADS,
+                                                       options.getThreads())));
+    options.setQueryTimeout(Math.max(0,
+                                     config
+                                       .getIntegerValue(QUERY_TIMEOUT,
+                                                        options
+                                                          .getQueryTimeout())));
+    options.setApproximateCounts(config
+      .getBooleanValue(APPROXIMATE, options.isApproximateCounts()));
+
+    return this;
+  }
+
+  public CountOptionsBuilder queryTimeout(final int queryTimeout)
+  {
+    options.setQueryTimeout(queryTimeout);
+    return this;
+  }
+
+  public CountOptionsBuilder threads(final int threads)
+  {
+    options.setThreads(threads);
+    return this;
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    final Config config = new Config();
+    config.setStringValue(THREADS, String.valueOf(options.getThreads()));
+    config.setStringValue(QUERY_TIMEOUT,
+                          String.valueOf(options.getQueryTimeout()));
+    config.setBooleanValue(APPROXIMATE, options.isApproximateCounts());
+    return config;
+  }
+
+  @Override
+  public CountOptions toOptions()
+  {
+    return options;
+  }
+
+}
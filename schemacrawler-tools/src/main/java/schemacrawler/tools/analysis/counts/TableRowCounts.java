@@ -0,0 +1,299 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+import static sf.util.Utility.isBlank;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Obtains row counts for tables, either from database engine
+ * statistics, or by counting rows. Exact counts can be run on a single
+ * connection, or on a bounded number of connections obtained from a
+ * data source.
+ */
+final class TableRowCounts
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableRowCounts.class.getName());
+
+  private static NamedObjectKey lookupKey(final String catalogName,
+                                          final String schemaName,
+                                          final String tableName)
+  {
+    return new NamedObjectKey(isBlank(catalogName)? null: catalogName,
+                              isBlank(schemaName)? null: schemaName,
+                              tableName);
+  }
+
+  private final CountOptions countOptions;
+  private final Identifiers identifiers;
+  private final Query query;
+
+  TableRowCounts(final CountOptions countOptions,
+                 final Identifiers identifiers)
+  {
+    this.countOptions = requireNonNull(countOptions, "No count options provided");
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    query = Operation.count.getQuery();
+  }
+
+  /**
+   * Reads approximate row counts from database engine statistics.
+   * Tables that do not have statistics are not in the returned map.
+   */
+  Map<Table, Long> approximateCounts(final Connection connection,
+                                     final InformationSchemaViews informationSchemaViews,
+                                     final InclusionRule schemaInclusionRule,
+                                     final Collection<Table> tables)
+  {
+    final Map<Table, Long> counts = new HashMap<>();
+    if (informationSchemaViews == null
+        || !informationSchemaViews.hasExtTableRowCountsSql())
+    {
+      LOGGER.log(Level.INFO,
+                 "No table row counts SQL provided, so counting all rows");
+      return counts;
+    }
+
+    final Map<NamedObjectKey, Table> tablesByKey = new HashMap<>();
+    for (final Table table: tables)
+    {
+      tablesByKey.put(lookupKey(table.getSchema().getCatalogName(),
+                                table.getSchema().getName(),
+                                table.getName()),
+                      table);
+      // Statistics may not report a catalog
+      tablesByKey.putIfAbsent(lookupKey(null,
+                                        table.getSchema().getName(),
+                                        table.getName()),
+                              table);
+    }
+
+    final Query rowCountsSql = informationSchemaViews
+      .getExtTableRowCountsSql();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(rowCountsSql,
+                                                       statement,
+                                                       schemaInclusionRule);)
+    {
+      while (results != null && results.next())
+      {
+        final Table table = tablesByKey
+          .get(lookupKey(results.getString("TABLE_CATALOG"),
+                         results.getString("TABLE_SCHEMA"),
+                         results.getString("TABLE_NAME")));
+        final long count = results.getLong("ROW_COUNT");
+        if (table == null || results.wasNull() || count < 0)
+        {
+          continue;
+        }
+        counts.put(table, count);
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not obtain approximate table row counts",
+                 e);
+      counts.clear();
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Obtained approximate row counts for %d of %d tables",
+                                counts.size(),
+                                tables.size()));
+    return counts;
+  }
+
+  /**
+   * Counts rows in each table, one table at a time, on a single
+   * connection.
+   */
+  Map<Table, Long> exactCounts(final Connection connection,
+                               final Collection<Table> tables)
+  {
+    final Map<Table, Long> counts = new HashMap<>();
+    for (final Table table: tables)
+    {
+      count(connection, table, counts);
+    }
+    return counts;
+  }
+
+  /**
+   * Counts rows in each table, on as many connections from the data
+   * source as there are threads. Each connection counts tables from a
+   * shared queue until it is empty.
+   */
+  Map<Table, Long> exactCounts(final DataSource dataSource,
+                               final Collection<Table> tables)
+  {
+    final int threads = Math.min(countOptions.getThreads(), tables.size());
+    if (threads <= 1)
+    {
+      try (final Connection connection = dataSource.getConnection();)
+      {
+        return exactCounts(connection, tables);
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not obtain a connection", e);
+        return new HashMap<>();
+      }
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Counting rows in %d tables, using %d connections",
+                                tables.size(),
+                                threads));
+
+    final Queue<Table> pending = new ConcurrentLinkedQueue<>(tables);
+    final Map<Table, Long> counts = new ConcurrentHashMap<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++)
+      {
+        futures.add(executor.submit(() -> {
+          try (final Connection connection = dataSource.getConnection();)
+          {
+            Table table;
+            while ((table = pending.poll()) != null)
+            {
+              count(connection, table, counts);
+            }
+          }
+          catch (final SQLException e)
+          {
+            LOGGER.log(Level.WARNING, "Could not obtain a connection", e);
+          }
+        }));
+      }
+      for (final Future<?> future: futures)
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING, "Interrupted while counting rows", e);
+    }
+    catch (final ExecutionException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not count rows", e.getCause());
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    if (!pending.isEmpty())
+    {
+      // Some connections could not be obtained, so count the rest on
+      // the calling thread
+      try (final Connection connection = dataSource.getConnection();)
+      {
+        counts.putAll(exactCounts(connection, pending));
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not obtain a connection", e);
+      }
+    }
+
+    return new HashMap<>(counts);
+  }
+
+  private void count(final Connection connection,
+                     final Table table,
+                     final Map<Table, Long> counts)
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      if (countOptions.getQueryTimeout() > 0)
+      {
+        statement.setQueryTimeout(countOptions.getQueryTimeout());
+      }
+      try (final ResultSet results = executeAgainstTable(query,
+                                                         statement,
+                                                         table,
+                                                         true,
+                                                         identifiers);)
+      {
+        if (results != null && results.next())
+        {
+          counts.put(table, results.getLong(1));
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>", table),
+                 e);
+    }
+  }
+
+}
@@ -139,13 +139,16 @@ public abstract class DatabaseConnector
 
   /**
    * Gets the complete bundled database specific configuration set,
-   * including the SQL for information schema views.
+   * including the SQL for information schema views, and the metadata
+   * retrieval tuning from the bundled database configuration.
    */
   public DatabaseSpecificOverrideOptionsBuilder getDatabaseSpecificOverrideOptionsBuilder()
   {
     final DatabaseSpecificOverrideOptionsBuilder databaseSpecificOverrideOptionsBuilder = new DatabaseSpecificOverrideOptionsBuilder();
     databaseSpecificOverrideOptionsBuilder.withInformationSchemaViews()
       .fromResourceFolder(informationSchemaViewsResourceFolder);
+    databaseSpecificOverrideOptionsBuilder.withMetadataRetrievalTuning()
+      .fromConfig(getConfig());
 
     return databaseSpecificOverrideOptionsBuilder;
   }
@@ -28,14 +28,26 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Allows chaining multiple executables with the same configuration. The
@@ -49,6 +61,26 @@ abstract class BaseCommandChainExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseCommandChainExecutable.class.getName());
 
+  private static Catalog deserialize(final byte[] serializedCatalog)
+    throws IOException, ClassNotFoundException
+  {
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedCatalog));)
+    {
+      return (Catalog) in.readObject();
+    }
+  }
+
+  private static byte[] serialize(final Catalog catalog)
+    throws IOException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(catalog);
+    }
+    return bytes.toByteArray();
+  }
+
   private final List<Executable> executables;
   protected final CommandRegistry commandRegistry;
 
@@ -86,9 +118,98 @@ abstract class BaseCommandChainExecutable
       {
         final BaseStagedExecutable stagedExecutable = (BaseStagedExecutable) executable;
         executable.setDatabaseSpecificOptions(databaseSpecificOptions);
+        executable.setDataSource(dataSource);
         stagedExecutable.executeOn(catalog, connection);
       }
     }
   }
 
+  /**
+   * Executes the chained executables at the same time, each on its own
+   * copy of the catalog, and on its own connection from the data
+   * source. Executables add information such as weak associations, row
+   * counts and lints to the catalog, so they cannot share one. The
+   * executables should write to separate outputs.
+   * <p>
+   * The catalog is serialized once, and each thread deserializes a full
+   * copy for the executable that it runs, which it holds until the
+   * executable is done. So memory use grows with the number of threads,
+   * since up to that many copies are held at once, in addition to the
+   * catalog and its serialized form. No more threads are used than
+   * there are executables.
+   *
+   * @param catalog
+   *        Catalog to copy for each executable
+   * @param threads
+   *        Number of executables to run at the same time, which is also
+   *        the number of copies of the catalog that can be held at once
+   */
+  protected final void executeChainConcurrently(final Catalog catalog,
+                                                final int threads)
+    throws Exception
+  {
+    if (executables.isEmpty())
+    {
+      LOGGER.log(Level.INFO, "No commands to execute");
+      return;
+    }
+    requireNonNull(dataSource, "No data source provided");
+
+    // Each thread holds its own copy of the catalog, so do not start
+    // threads that have no executable to run
+    final int catalogCopies = Math.min(threads, executables.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Executing %d commands, using %d threads, each with its own copy of the catalog",
+                                executables.size(),
+                                catalogCopies));
+
+    final byte[] serializedCatalog = serialize(catalog);
+    final ExecutorService executor = Executors
+      .newFixedThreadPool(catalogCopies);
+    try
+    {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final Executable executable: executables)
+      {
+        if (executable instanceof BaseStagedExecutable)
+        {
+          final BaseStagedExecutable stagedExecutable = (BaseStagedExecutable) executable;
+          executable.setDatabaseSpecificOptions(databaseSpecificOptions);
+          executable.setDataSource(dataSource);
+          futures.add(executor.submit(() -> {
+            final Catalog catalogCopy = deserialize(serializedCatalog);
+            try (final Connection connection = dataSource.getConnection();)
+            {
+              stagedExecutable.executeOn(catalogCopy, connection);
+            }
+            return null;
+          }));
+        }
+      }
+      for (final Future<?> future: futures)
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while executing commands",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception)
+      {
+        throw (Exception) cause;
+      }
+      throw new SchemaCrawlerException("Could not execute commands", cause);
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
 }
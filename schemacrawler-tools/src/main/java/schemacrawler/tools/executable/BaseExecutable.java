@@ -33,6 +33,8 @@ import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.DatabaseSpecificOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
@@ -55,6 +57,7 @@ public abstract class BaseExecutable
   protected OutputOptions outputOptions;
   protected Config additionalConfiguration;
   protected DatabaseSpecificOptions databaseSpecificOptions;
+  protected DataSource dataSource;
 
   protected BaseExecutable(final String command)
   {
@@ -107,6 +110,15 @@ public abstract class BaseExecutable
     return databaseSpecificOptions;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final DataSource getDataSource()
+  {
+    return dataSource;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -147,6 +159,15 @@ public abstract class BaseExecutable
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final void setDataSource(final DataSource dataSource)
+  {
+    this.dataSource = dataSource;
+  }
+
   /**
    * {@inheritDoc}
    */
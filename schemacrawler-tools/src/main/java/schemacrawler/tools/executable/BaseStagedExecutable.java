@@ -38,6 +38,7 @@ import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.DatabaseSpecificOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -55,9 +56,12 @@ public abstract class BaseStagedExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseStagedExecutable.class.getName());
 
+  protected InformationSchemaViews informationSchemaViews;
+
   protected BaseStagedExecutable(final String command)
   {
     super(command);
+    informationSchemaViews = new InformationSchemaViews();
   }
 
   /**
@@ -74,6 +78,8 @@ public abstract class BaseStagedExecutable
 
     databaseSpecificOptions = new DatabaseSpecificOptions(connection,
                                                           databaseSpecificOverrideOptions);
+    informationSchemaViews = databaseSpecificOverrideOptions
+      .getInformationSchemaViews();
 
     LOGGER.log(Level.INFO,
                new StringFormat("Executing SchemaCrawler command <%s>",
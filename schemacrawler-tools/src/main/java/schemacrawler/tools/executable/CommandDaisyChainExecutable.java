@@ -28,21 +28,47 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 
+import java.io.StringWriter;
+import java.io.Writer;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.base.CommonTextOptionsBuilder;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Allows chaining multiple executables together, that produce shared
  * artifacts, such as a single HTML file.
+ * <p>
+ * If more than one command thread is configured, and connections can
+ * be obtained from a data source, text output from the commands is
+ * produced concurrently. Each command runs on its own copy of the
+ * catalog, and writes to its own buffer, and the buffers are written to
+ * the output in command order. Information that a command adds to the
+ * catalog, such as weak associations, row counts or lints, is only seen
+ * by that command. Text commands compute what they show for
+ * themselves, so the output is the same as when the commands run one
+ * after another. Since each command thread holds a full copy of the
+ * catalog, memory use grows with the number of command threads.
  */
 public final class CommandDaisyChainExecutable
   extends BaseCommandChainExecutable
 {
 
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CommandDaisyChainExecutable.class.getName());
+
+  private static final String CLI_COMMAND_THREADS = "commandthreads";
+  private static final String COMMAND_THREADS = "schemacrawler.command.threads";
+
   public CommandDaisyChainExecutable(final String commands)
     throws SchemaCrawlerException
   {
@@ -61,6 +87,10 @@ public final class CommandDaisyChainExecutable
       throw new SchemaCrawlerException("No command specified");
     }
 
+    final boolean isConcurrent = isConcurrent(commands);
+    final List<StringWriter> buffers = new ArrayList<>();
+    boolean isAppendOutput = false;
+
     for (final String command: commands)
     {
       final Executable executable = addNext(command);
@@ -102,12 +132,83 @@ public final class CommandDaisyChainExecutable
       executableAdditionalConfig.putAll(commonTextOptions.toConfig());
       executable.setAdditionalConfiguration(executableAdditionalConfig);
 
+      if (isConcurrent)
+      {
+        if (commands.isFirstCommand(command))
+        {
+          isAppendOutput = commonTextOptions.toOptions().isAppendOutput();
+        }
+        final StringWriter buffer = new StringWriter();
+        executable.setOutputOptions(new OutputOptions(outputOptions, buffer));
+        buffers.add(buffer);
+      }
+
     }
 
-    executeChain(catalog, connection);
+    if (isConcurrent)
+    {
+      executeChainConcurrently(catalog, getCommandThreads());
+      try (final Writer writer = outputOptions
+        .openNewOutputWriter(isAppendOutput);)
+      {
+        for (final StringWriter buffer: buffers)
+        {
+          writer.write(buffer.toString());
+        }
+      }
+    }
+    else
+    {
+      executeChain(catalog, connection);
+    }
 
   }
 
+  private int getCommandThreads()
+  {
+    final Config config = new Config(additionalConfiguration);
+    final int commandThreads;
+    if (config.containsKey(CLI_COMMAND_THREADS))
+    {
+      // Honor command-line option first
+      commandThreads = config.getIntegerValue(CLI_COMMAND_THREADS, 1);
+    }
+    else
+    {
+      // Otherwise, take option from SchemaCrawler configuration file
+      commandThreads = config.getIntegerValue(COMMAND_THREADS, 1);
+    }
+    return Math.max(1, commandThreads);
+  }
+
+  /**
+   * Commands are run concurrently only if asked for, and only for text
+   * output, since other formats cannot be buffered and joined. Each
+   * command needs its own connection, from the data source.
+   */
+  private boolean isConcurrent(final Commands commands)
+  {
+    if (!commands.hasMultipleCommands() || getCommandThreads() <= 1)
+    {
+      return false;
+    }
+    if (!TextOutputFormat
+      .isSupportedFormat(outputOptions.getOutputFormatValue()))
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Executing commands in sequence, since output format <%s> is not a text format",
+                                  outputOptions.getOutputFormatValue()));
+      return false;
+    }
+    if (dataSource == null)
+    {
+      LOGGER.log(Level.INFO,
+                 "Executing commands in sequence, since there is no data source for connections");
+      return false;
+    }
+    return true;
+  }
+
   private final Executable addNext(final String command)
     throws SchemaCrawlerException
   {
@@ -30,6 +30,8 @@ package schemacrawler.tools.executable;
 
 import java.sql.Connection;
 
+import javax.sql.DataSource;
+
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.DatabaseSpecificOptions;
 import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptions;
@@ -69,6 +71,15 @@ public interface Executable
 
   DatabaseSpecificOptions getDatabaseSpecificOptions();
 
+  /**
+   * Source of additional connections to the same database, for
+   * executables that can do work in parallel.
+   *
+   * @return Data source, or null if only the connection provided for
+   *         execution can be used
+   */
+  DataSource getDataSource();
+
   OutputOptions getOutputOptions();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
@@ -77,6 +88,8 @@ public interface Executable
 
   void setDatabaseSpecificOptions(DatabaseSpecificOptions databaseSpecificOptions);
 
+  void setDataSource(DataSource dataSource);
+
   void setOutputOptions(OutputOptions outputOptions);
 
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
@@ -118,6 +118,7 @@ public final class SchemaCrawlerExecutable
     }
 
     executable.setDatabaseSpecificOptions(databaseSpecificOptions);
+    executable.setDataSource(dataSource);
     executable.setAdditionalConfiguration(additionalConfiguration);
 
     executable.executeOn(catalog, connection);
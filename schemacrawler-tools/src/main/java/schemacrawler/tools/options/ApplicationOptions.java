@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.options;
 
 
+import java.nio.file.Path;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.Options;
@@ -42,12 +43,53 @@ public class ApplicationOptions
   private Level applicationLogLevel;
   private boolean showHelp;
   private boolean showVersionOnly;
+  private int serverPort;
+  private int catalogCacheTimeToLive;
+  private transient Path identifiersCacheFile;
 
   public Level getApplicationLogLevel()
   {
     return applicationLogLevel;
   }
 
+  /**
+   * Number of seconds that a catalog is cached in server mode, before
+   * the database is crawled again. Zero means that catalogs are cached
+   * until they are refreshed on demand.
+   */
+  public int getCatalogCacheTimeToLive()
+  {
+    return catalogCacheTimeToLive;
+  }
+
+  /**
+   * File that SQL keywords and identifier quote strings for databases
+   * are loaded from before running, and saved to after running, so
+   * that they are looked up from database metadata only once.
+   */
+  public Path getIdentifiersCacheFile()
+  {
+    return identifiersCacheFile;
+  }
+
+  /**
+   * Port that SchemaCrawler listens on, in server mode.
+   */
+  public int getServerPort()
+  {
+    return serverPort;
+  }
+
+  public boolean hasIdentifiersCacheFile()
+  {
+    return identifiersCacheFile != null;
+  }
+
+  public boolean isServer()
+  {
+    return serverPort > 0;
+  }
+
   public boolean isShowHelp()
   {
     return showHelp;
@@ -63,6 +105,29 @@ public class ApplicationOptions
     this.applicationLogLevel = applicationLogLevel;
   }
 
+  public void setCatalogCacheTimeToLive(final int catalogCacheTimeToLive)
+  {
+    if (catalogCacheTimeToLive < 0)
+    {
+      throw new IllegalArgumentException("Catalog cache time to live cannot be negative");
+    }
+    this.catalogCacheTimeToLive = catalogCacheTimeToLive;
+  }
+
+  public void setIdentifiersCacheFile(final Path identifiersCacheFile)
+  {
+    this.identifiersCacheFile = identifiersCacheFile;
+  }
+
+  public void setServerPort(final int serverPort)
+  {
+    if (serverPort < 0 || serverPort > 65535)
+    {
+      throw new IllegalArgumentException("Server port is out of range");
+    }
+    this.serverPort = serverPort;
+  }
+
   public void setShowHelp(final boolean showHelp)
   {
     this.showHelp = showHelp;
@@ -131,6 +131,25 @@ public class OutputOptions
          writer);
   }
 
+  /**
+   * Output options copied from other output options, but with output to
+   * the given writer.
+   *
+   * @param outputOptions
+   *        Output options to copy
+   * @param writer
+   *        Output writer
+   */
+  public OutputOptions(final OutputOptions outputOptions, final Writer writer)
+  {
+    requireNonNull(outputOptions, "No output options provided");
+    outputFormatValue = outputOptions.outputFormatValue;
+    inputResource = outputOptions.inputResource;
+    inputEncodingCharset = outputOptions.inputEncodingCharset;
+    outputEncodingCharset = outputOptions.outputEncodingCharset;
+    setWriter(writer);
+  }
+
   /**
    * Output options, given the type and the output to the console.
    *
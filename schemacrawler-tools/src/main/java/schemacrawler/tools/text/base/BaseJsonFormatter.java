@@ -30,7 +30,6 @@ package schemacrawler.tools.text.base;
 
 
 import java.util.Collection;
-import java.util.logging.Level;
 
 import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseInfo;
@@ -41,11 +40,7 @@ import schemacrawler.schema.SchemaCrawlerInfo;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.utility.JsonFormattingHelper;
-import schemacrawler.tools.text.utility.org.json.JSONArray;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
-import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
+import schemacrawler.tools.text.utility.JsonWriter;
 
 /**
  * Text formatting of schema.
@@ -56,10 +51,11 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   extends BaseFormatter<O>
 {
 
-  protected static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
-    .getLogger(BaseJsonFormatter.class.getName());
-
-  protected final JSONObject jsonRoot;
+  /**
+   * Writes each object to the output as soon as it is handled, so that
+   * the size of the catalog or the data does not matter.
+   */
+  protected final JsonWriter jsonWriter;
 
   protected BaseJsonFormatter(final O options,
                               final boolean printVerboseDatabaseInfo,
@@ -71,7 +67,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           printVerboseDatabaseInfo,
           outputOptions,
           identifierQuoteString);
-    jsonRoot = new JSONObject();
+    jsonWriter = ((JsonFormattingHelper) formattingHelper).getJsonWriter();
   }
 
   @Override
@@ -82,13 +78,14 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     {
       formattingHelper.append("[").println();
     }
+    jsonWriter.beginObject();
   }
 
   @Override
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    jsonWriter.endObject();
 
     if (options.isNoFooter())
     {
@@ -111,23 +108,11 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
       return;
     }
 
-    try
-    {
-      final JSONObject jsonSchemaCrawlerHeaderInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerHeaderInfo", jsonSchemaCrawlerHeaderInfo);
-
-      jsonSchemaCrawlerHeaderInfo
-        .put("crawlTimestamp", formatTimestamp(crawlInfo.getCrawlTimestamp()));
-      jsonSchemaCrawlerHeaderInfo.put("title", crawlInfo.getTitle());
-    }
-    catch (final JSONException e)
-    {
-      LOGGER
-        .log(Level.FINER,
-             new StringFormat("Error outputting SchemaCrawlerHeaderInfo: %s",
-                              e.getMessage()),
-             e);
-    }
+    jsonWriter.beginObject("schemaCrawlerHeaderInfo");
+    jsonWriter.property("crawlTimestamp",
+                        formatTimestamp(crawlInfo.getCrawlTimestamp()));
+    jsonWriter.property("title", crawlInfo.getTitle());
+    jsonWriter.endObject();
   }
 
   @Override
@@ -139,38 +124,25 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
       return;
     }
 
-    try
-    {
-      final JSONObject jsonDbInfo = new JSONObject();
-      jsonRoot.put("databaseInfo", jsonDbInfo);
-
-      jsonDbInfo.put("databaseProductName", dbInfo.getProductName());
-      jsonDbInfo.put("databaseProductVersion", dbInfo.getProductVersion());
-      jsonDbInfo.put("databaseUserName", dbInfo.getUserName());
+    jsonWriter.beginObject("databaseInfo");
+    jsonWriter.property("databaseProductName", dbInfo.getProductName());
+    jsonWriter.property("databaseProductVersion", dbInfo.getProductVersion());
+    jsonWriter.property("databaseUserName", dbInfo.getUserName());
 
-      if (printVerboseDatabaseInfo && dbInfo.getProperties().size() > 0)
+    if (printVerboseDatabaseInfo && dbInfo.getProperties().size() > 0)
+    {
+      jsonWriter.beginArray("databaseProperties");
+      for (final DatabaseProperty property: dbInfo.getProperties())
       {
-        final JSONArray jsonDbProperties = new JSONArray();
-        jsonDbInfo.put("databaseProperties", jsonDbProperties);
-        for (final DatabaseProperty property: dbInfo.getProperties())
-        {
-          final JSONObject jsonDbProperty = new JSONObject();
-          jsonDbProperties.put(jsonDbProperty);
-
-          jsonDbProperty.put("name", property.getName());
-          jsonDbProperty.put("description", property.getDescription());
-          jsonDbProperty.put("value", property.getValue());
-        }
+        jsonWriter.beginObject();
+        jsonWriter.property("name", property.getName());
+        jsonWriter.property("description", property.getDescription());
+        jsonWriter.property("value", property.getValue());
+        jsonWriter.endObject();
       }
+      jsonWriter.endArray();
     }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting DatabaseInfo: %s",
-                                  e.getMessage()),
-                 e);
-    }
-
+    jsonWriter.endObject();
   }
 
   @Override
@@ -182,38 +154,26 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
       return;
     }
 
-    try
+    jsonWriter.beginObject("jdbcDriverInfo");
+    jsonWriter.property("driverName", driverInfo.getDriverName());
+    jsonWriter.property("driverVersion", driverInfo.getDriverVersion());
+    jsonWriter.property("driverClassName", driverInfo.getDriverClassName());
+    jsonWriter.property("url", driverInfo.getConnectionUrl());
+    jsonWriter.property("isJDBCCompliant",
+                        Boolean.toString(driverInfo.isJdbcCompliant()));
+
+    final Collection<JdbcDriverProperty> jdbcDriverProperties = driverInfo
+      .getDriverProperties();
+    if (jdbcDriverProperties.size() > 0)
     {
-      final JSONObject jsonDriverInfo = new JSONObject();
-      jsonRoot.put("jdbcDriverInfo", jsonDriverInfo);
-
-      jsonDriverInfo.put("driverName", driverInfo.getDriverName());
-      jsonDriverInfo.put("driverVersion", driverInfo.getDriverVersion());
-      jsonDriverInfo.put("driverClassName", driverInfo.getDriverClassName());
-      jsonDriverInfo.put("url", driverInfo.getConnectionUrl());
-      jsonDriverInfo.put("isJDBCCompliant",
-                         Boolean.toString(driverInfo.isJdbcCompliant()));
-
-      final Collection<JdbcDriverProperty> jdbcDriverProperties = driverInfo
-        .getDriverProperties();
-      if (jdbcDriverProperties.size() > 0)
+      jsonWriter.beginArray("jdbcDriverProperties");
+      for (final JdbcDriverProperty driverProperty: jdbcDriverProperties)
       {
-        final JSONArray jsonJdbcDriverProperties = new JSONArray();
-        jsonDriverInfo.put("jdbcDriverProperties", jsonJdbcDriverProperties);
-        for (final JdbcDriverProperty driverProperty: jdbcDriverProperties)
-        {
-          jsonJdbcDriverProperties.put(printJdbcDriverProperty(driverProperty));
-        }
+        printJdbcDriverProperty(driverProperty);
       }
+      jsonWriter.endArray();
     }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting JdbcDriverInfo: %s",
-                                  e.getMessage()),
-                 e);
-    }
-
+    jsonWriter.endObject();
   }
 
   @Override
@@ -225,23 +185,12 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
       return;
     }
 
-    try
-    {
-      final JSONObject jsonSchemaCrawlerInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerInfo", jsonSchemaCrawlerInfo);
-
-      jsonSchemaCrawlerInfo
-        .put("productName", schemaCrawlerInfo.getSchemaCrawlerProductName());
-      jsonSchemaCrawlerInfo.put("productVersion",
-                                schemaCrawlerInfo.getSchemaCrawlerVersion());
-    }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting SchemaCrawlerInfo: %s",
-                                  e.getMessage()),
-                 e);
-    }
+    jsonWriter.beginObject("schemaCrawlerInfo");
+    jsonWriter.property("productName",
+                        schemaCrawlerInfo.getSchemaCrawlerProductName());
+    jsonWriter.property("productVersion",
+                        schemaCrawlerInfo.getSchemaCrawlerVersion());
+    jsonWriter.endObject();
   }
 
   @Override
@@ -268,33 +217,19 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
   }
 
-  private JSONObject printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
+  private void printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
   {
-    final JSONObject jsonDriverProperty = new JSONObject();
-
-    try
+    jsonWriter.beginObject();
+    final Collection<String> choices = driverProperty.getChoices();
+    if (choices != null && choices.size() > 0)
     {
-      final Collection<String> choices = driverProperty.getChoices();
-      if (choices != null && choices.size() > 0)
-      {
-        jsonDriverProperty.put("choices", choices);
-      }
-      final String value = driverProperty.getValue();
-
-      jsonDriverProperty.put("name", driverProperty.getName());
-      jsonDriverProperty.put("description", driverProperty.getDescription());
-      jsonDriverProperty.put("required", driverProperty.isRequired());
-      jsonDriverProperty.put("value", value);
+      jsonWriter.property("choices", choices);
     }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting JdbcDriverProperty: %s",
-                                  e.getMessage()),
-                 e);
-    }
-
-    return jsonDriverProperty;
+    jsonWriter.property("name", driverProperty.getName());
+    jsonWriter.property("description", driverProperty.getDescription());
+    jsonWriter.property("required", driverProperty.isRequired());
+    jsonWriter.property("value", driverProperty.getValue());
+    jsonWriter.endObject();
   }
 
 }
@@ -0,0 +1,374 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Buffers the values of one column, for one chunk of rows. Buffers are
+ * reused from chunk to chunk, and values are encoded into them as they
+ * are read, so no objects are created for each row for numeric and
+ * boolean columns. Large objects are streamed to a side stream for the
+ * column, and only their offset and length in the side stream are held
+ * in the buffer.
+ */
+final class ColumnChunk
+{
+
+  /**
+   * Receives large object data for a row, as it is read.
+   */
+  interface LobSink
+  {
+
+    /**
+     * Appends binary large object data to the side stream for the
+     * column.
+     *
+     * @return Number of bytes written, or -1 if the data was not
+     *         written
+     */
+    long writeBinary(int columnIndex, InputStream in)
+      throws IOException;
+
+    /**
+     * Appends character large object data to the side stream for the
+     * column.
+     *
+     * @return Number of bytes written, or -1 if the data was not
+     *         written
+     */
+    long writeCharacter(int columnIndex, Reader reader)
+      throws IOException;
+
+  }
+
+  private final int columnIndex;
+  private final ColumnEncoding encoding;
+  private final byte[] nulls;
+  private byte[] data;
+  private int dataLength;
+  private int rowCount;
+  private long lobOffset;
+
+  ColumnChunk(final int columnIndex,
+              final ColumnEncoding encoding,
+              final int chunkSize)
+  {
+    this.columnIndex = columnIndex;
+    this.encoding = requireNonNull(encoding, "No column encoding provided");
+    nulls = new byte[(chunkSize + 7) / 8];
+    data = new byte[Math.min(chunkSize, 1024) * 8];
+  }
+
+  /**
+   * Reads the value of this column from the current row, and appends
+   * it to the chunk.
+   *
+   * @param rows
+   *        Results, positioned at the current row
+   * @param lobSink
+   *        Receives large object data
+   */
+  void append(final ResultSet rows, final LobSink lobSink)
+    throws SQLException, IOException
+  {
+    final int ordinal = columnIndex + 1;
+    switch (encoding)
+    {
+      case bool:
+        final boolean booleanValue = rows.getBoolean(ordinal);
+        if (!isNull(rows))
+        {
+          writeByte(booleanValue? 1: 0);
+        }
+        break;
+      case int64:
+        final long longValue = rows.getLong(ordinal);
+        if (!isNull(rows))
+        {
+          writeLong(longValue);
+        }
+        break;
+      case float64:
+        final double doubleValue = rows.getDouble(ordinal);
+        if (!isNull(rows))
+        {
+          writeLong(Double.doubleToLongBits(doubleValue));
+        }
+        break;
+      case date:
+        final Date dateValue = rows.getDate(ordinal);
+        if (!isNull(rows, dateValue))
+        {
+          writeLong(dateValue.getTime());
+        }
+        break;
+      case time:
+        final Time timeValue = rows.getTime(ordinal);
+        if (!isNull(rows, timeValue))
+        {
+          writeLong(timeValue.getTime());
+        }
+        break;
+      case timestamp:
+        final Timestamp timestampValue = rows.getTimestamp(ordinal);
+        if (!isNull(rows, timestampValue))
+        {
+          writeLong(timestampValue.getTime());
+          writeInt(timestampValue.getNanos());
+        }
+        break;
+      case bytes:
+        final byte[] bytesValue = rows.getBytes(ordinal);
+        if (!isNull(rows, bytesValue))
+        {
+          writeInt(bytesValue.length);
+          writeBytes(bytesValue);
+        }
+        break;
+      case blob:
+        try (final InputStream in = rows.getBinaryStream(ordinal);)
+        {
+          if (!isNull(rows, in))
+          {
+            writeLob(lobSink.writeBinary(columnIndex, in));
+          }
+        }
+        break;
+      case clob:
+        try (final Reader reader = rows.getCharacterStream(ordinal);)
+        {
+          if (!isNull(rows, reader))
+          {
+            writeLob(lobSink.writeCharacter(columnIndex, reader));
+          }
+        }
+        break;
+      case string:
+      default:
+        final String stringValue = rows.getString(ordinal);
+        if (!isNull(rows, stringValue))
+        {
+          writeString(stringValue);
+        }
+        break;
+    }
+    rowCount++;
+  }
+
+  ColumnEncoding getEncoding()
+  {
+    return encoding;
+  }
+
+  /**
+   * Clears the chunk, keeping the buffers for the next chunk.
+   */
+  void reset()
+  {
+    Arrays.fill(nulls, (byte) 0);
+    dataLength = 0;
+    rowCount = 0;
+    lobOffset = 0;
+  }
+
+  /**
+   * Writes the encoding, the length of the data, the null bitmap, and
+   * the data.
+   *
+   * @param out
+   *        Output stream for the chunk
+   */
+  void writeTo(final DataOutputStream out)
+    throws IOException
+  {
+    out.writeByte(encoding.getCode());
+    out.writeInt(dataLength);
+    out.write(nulls, 0, (rowCount + 7) / 8);
+    out.write(data, 0, dataLength);
+  }
+
+  private void ensureCapacity(final int additionalLength)
+  {
+    final int requiredLength = dataLength + additionalLength;
+    if (requiredLength > data.length)
+    {
+      data = Arrays.copyOf(data,
+                           Math.max(requiredLength, data.length * 2));
+    }
+  }
+
+  private boolean isNull(final ResultSet rows)
+    throws SQLException
+  {
+    if (rows.wasNull())
+    {
+      nulls[rowCount >>> 3] |= 1 << (rowCount & 7);
+      return true;
+    }
+    else
+    {
+      return false;
+    }
+  }
+
+  private boolean isNull(final ResultSet rows, final Object value)
+    throws SQLException
+  {
+    if (value == null)
+    {
+      nulls[rowCount >>> 3] |= 1 << (rowCount & 7);
+      return true;
+    }
+    else
+    {
+      return isNull(rows);
+    }
+  }
+
+  private void writeByte(final int value)
+  {
+    ensureCapacity(1);
+    data[dataLength++] = (byte) value;
+  }
+
+  private void writeBytes(final byte[] value)
+  {
+    ensureCapacity(value.length);
+    System.arraycopy(value, 0, data, dataLength, value.length);
+    dataLength = dataLength + value.length;
+  }
+
+  private void writeInt(final int value)
+  {
+    ensureCapacity(4);
+    writeIntAt(dataLength, value);
+    dataLength = dataLength + 4;
+  }
+
+  private void writeIntAt(final int position, final int value)
+  {
+    data[position] = (byte) (value >>> 24);
+    data[position + 1] = (byte) (value >>> 16);
+    data[position + 2] = (byte) (value >>> 8);
+    data[position + 3] = (byte) value;
+  }
+
+  /**
+   * Records where a large object was written in the side stream for the
+   * chunk, or -1 for both the offset and the length if it was not
+   * written.
+   */
+  private void writeLob(final long length)
+  {
+    if (length < 0)
+    {
+      writeLong(-1);
+      writeLong(-1);
+    }
+    else
+    {
+      writeLong(lobOffset);
+      writeLong(length);
+      lobOffset = lobOffset + length;
+    }
+  }
+
+  private void writeLong(final long value)
+  {
+    ensureCapacity(8);
+    writeIntAt(dataLength, (int) (value >>> 32));
+    writeIntAt(dataLength + 4, (int) value);
+    dataLength = dataLength + 8;
+  }
+
+  /**
+   * Encodes a string as UTF-8 directly into the buffer, preceded by
+   * the length of the encoded bytes. Unpaired surrogates are encoded
+   * as '?', as {@link String#getBytes(java.nio.charset.Charset)} does.
+   */
+  private void writeString(final String value)
+  {
+    final int length = value.length();
+    ensureCapacity(4 + length * 3);
+    final int lengthPosition = dataLength;
+    int position = lengthPosition + 4;
+    for (int i = 0; i < length; i++)
+    {
+      final char ch = value.charAt(i);
+      if (ch < 0x80)
+      {
+        data[position++] = (byte) ch;
+      }
+      else if (ch < 0x800)
+      {
+        data[position++] = (byte) (0xC0 | ch >> 6);
+        data[position++] = (byte) (0x80 | ch & 0x3F);
+      }
+      else if (Character.isSurrogate(ch))
+      {
+        if (Character.isHighSurrogate(ch) && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1)))
+        {
+          final int codePoint = Character.toCodePoint(ch,
+                                                      value.charAt(++i));
+          data[position++] = (byte) (0xF0 | codePoint >> 18);
+          data[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+          data[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+          data[position++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+        else
+        {
+          data[position++] = (byte) '?';
+        }
+      }
+      else
+      {
+        data[position++] = (byte) (0xE0 | ch >> 12);
+        data[position++] = (byte) (0x80 | ch >> 6 & 0x3F);
+        data[position++] = (byte) (0x80 | ch & 0x3F);
+      }
+    }
+    writeIntAt(lengthPosition, position - lengthPosition - 4);
+    dataLength = position;
+  }
+
+}
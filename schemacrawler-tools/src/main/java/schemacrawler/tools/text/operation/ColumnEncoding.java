@@ -0,0 +1,120 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import java.sql.Types;
+
+/**
+ * How values of a column are encoded in a columnar chunk. Each encoding
+ * has a stable code, which is written to the chunk files.
+ */
+enum ColumnEncoding
+{
+
+ /** One byte, 1 for true and 0 for false. */
+ bool(1),
+ /** Eight byte, big-endian signed integer. */
+ int64(2),
+ /** Eight byte IEEE 754 double precision number. */
+ float64(3),
+ /** Milliseconds since the epoch, as an eight byte integer. */
+ date(4),
+ /** Milliseconds since the epoch, as an eight byte integer. */
+ time(5),
+ /**
+  * Milliseconds since the epoch, as an eight byte integer, followed by
+  * nanoseconds, as a four byte integer.
+  */
+ timestamp(6),
+ /** Four byte length, followed by UTF-8 bytes. */
+ string(7),
+ /** Four byte length, followed by the bytes. */
+ bytes(8),
+ /**
+  * Eight byte length of binary large object data, which is written to a
+  * side file, or -1 if large objects are not written.
+  */
+ blob(9),
+ /**
+  * Eight byte length of character large object data, which is written
+  * to a side file as UTF-8, or -1 if large objects are not written.
+  */
+ clob(10),;
+
+  static ColumnEncoding fromJavaSqlType(final int javaSqlType)
+  {
+    switch (javaSqlType)
+    {
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return bool;
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        return int64;
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return float64;
+      case Types.DATE:
+        return date;
+      case Types.TIME:
+        return time;
+      case Types.TIMESTAMP:
+        return timestamp;
+      case Types.BINARY:
+      case Types.VARBINARY:
+        return bytes;
+      case Types.BLOB:
+      case Types.LONGVARBINARY:
+        return blob;
+      case Types.CLOB:
+      case Types.NCLOB:
+      case Types.LONGVARCHAR:
+      case Types.LONGNVARCHAR:
+        return clob;
+      default:
+        return string;
+    }
+  }
+
+  private final byte code;
+
+  private ColumnEncoding(final int code)
+  {
+    this.code = (byte) code;
+  }
+
+  byte getCode()
+  {
+    return code;
+  }
+
+}
@@ -0,0 +1,459 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.ResultsColumn;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.IOUtility;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Writes the rows of one result set into a directory of a ZIP archive,
+ * as columnar chunk files. The directory contains a "columns.tsv" file
+ * describing the columns, with escaped names, chunk files named "chunk-NNNNNN.col", and
+ * large object side files named "chunk-NNNNNN-cNNNN.lob", one for each
+ * large object column in a chunk.
+ * <p>
+ * Each chunk file starts with a four byte magic number ("SCCC"), a four
+ * byte format version, the number of rows in the chunk, and the number
+ * of columns. Then, for each column, it has a one byte encoding code, a
+ * four byte data length, a null bitmap with one bit per row, and the
+ * encoded values for rows that are not null. Large object values are
+ * encoded as an eight byte offset and an eight byte length into the
+ * side file for the column and chunk, or -1 for both if large objects
+ * are not written. All numbers are big-endian.
+ * <p>
+ * A ZIP archive can only be written one entry at a time, so large
+ * objects are spooled to a temporary file for each column while a chunk
+ * is read, and copied into the archive after the chunk file.
+ */
+final class ColumnarTableWriter
+  implements ColumnChunk.LobSink
+{
+
+  /**
+   * Counts bytes written to a stream, and prevents the stream from
+   * being closed when a writer on it is closed.
+   */
+  private static final class EntryOutputStream
+    extends FilterOutputStream
+  {
+
+    private long count;
+
+    EntryOutputStream(final OutputStream out)
+    {
+      super(out);
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      flush();
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len)
+      throws IOException
+    {
+      out.write(b, off, len);
+      count = count + len;
+    }
+
+    @Override
+    public void write(final int b)
+      throws IOException
+    {
+      out.write(b);
+      count++;
+    }
+
+    long getCount()
+    {
+      return count;
+    }
+
+  }
+
+  /**
+   * Temporary file holding the large objects of one column, for the
+   * current chunk.
+   */
+  private static final class LobSpool
+  {
+
+    private final Path file;
+    private OutputStream fileOut;
+    private EntryOutputStream out;
+
+    LobSpool()
+      throws IOException
+    {
+      file = IOUtility.createTempFilePath("lobs", "bin");
+      open();
+    }
+
+    void delete()
+      throws IOException
+    {
+      fileOut.close();
+      Files.deleteIfExists(file);
+    }
+
+    OutputStream getOutputStream()
+    {
+      return out;
+    }
+
+    boolean isEmpty()
+    {
+      return out.getCount() == 0;
+    }
+
+    /**
+     * Copies the large objects for the current chunk to the output, and
+     * empties the spool for the next chunk.
+     */
+    void transferTo(final OutputStream zip)
+      throws IOException
+    {
+      fileOut.close();
+      Files.copy(file, zip);
+      open();
+    }
+
+    private void open()
+      throws IOException
+    {
+      fileOut = new BufferedOutputStream(Files.newOutputStream(file));
+      out = new EntryOutputStream(fileOut);
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ColumnarTableWriter.class.getName());
+
+  static final int MAGIC = 0x53434343;
+  static final int VERSION = 2;
+
+  /**
+   * Escapes a field of a "tsv" file, so that names that contain tabs or
+   * line breaks do not break up the lines of the file. Backslashes,
+   * tabs, carriage returns and line feeds are written as "\\", "\t",
+   * "\r" and "\n".
+   *
+   * @param field
+   *        Field value
+   * @return Escaped field value
+   */
+  static String escapeTsv(final String field)
+  {
+    if (field == null)
+    {
+      return "";
+    }
+    final StringBuilder buffer = new StringBuilder(field.length());
+    for (int i = 0; i < field.length(); i++)
+    {
+      final char ch = field.charAt(i);
+      switch (ch)
+      {
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        default:
+          buffer.append(ch);
+      }
+    }
+    return buffer.toString();
+  }
+
+  private final ZipOutputStream zip;
+  private final String directory;
+  private final int chunkSize;
+  private final boolean writeLobs;
+  private final byte[] copyBuffer;
+  private final char[] charCopyBuffer;
+  private LobSpool[] lobSpools;
+  private long rowCount;
+  private int chunkCount;
+
+  ColumnarTableWriter(final ZipOutputStream zip,
+                      final String directory,
+                      final int chunkSize,
+                      final boolean writeLobs)
+  {
+    this.zip = requireNonNull(zip, "No ZIP archive provided");
+    this.directory = requireNonNull(directory, "No directory provided");
+    if (chunkSize <= 0)
+    {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    this.chunkSize = chunkSize;
+    this.writeLobs = writeLobs;
+    copyBuffer = new byte[8192];
+    charCopyBuffer = new char[4096];
+  }
+
+  @Override
+  public long writeBinary(final int columnIndex, final InputStream in)
+    throws IOException
+  {
+    if (!writeLobs)
+    {
+      return -1;
+    }
+
+    final OutputStream out = lobSpool(columnIndex).getOutputStream();
+    long length = 0;
+    int read;
+    while ((read = in.read(copyBuffer)) != -1)
+    {
+      out.write(copyBuffer, 0, read);
+      length = length + read;
+    }
+    return length;
+  }
+
+  @Override
+  public long writeCharacter(final int columnIndex, final Reader reader)
+    throws IOException
+  {
+    if (!writeLobs)
+    {
+      return -1;
+    }
+
+    final EntryOutputStream out = new EntryOutputStream(lobSpool(columnIndex)
+      .getOutputStream());
+    try (final Writer writer = new OutputStreamWriter(out, UTF_8);)
+    {
+      int read;
+      while ((read = reader.read(charCopyBuffer)) != -1)
+      {
+        writer.write(charCopyBuffer, 0, read);
+      }
+    }
+    return out.getCount();
+  }
+
+  int getChunkCount()
+  {
+    return chunkCount;
+  }
+
+  long getRowCount()
+  {
+    return rowCount;
+  }
+
+  /**
+   * Reads all rows from the results, and writes them in chunks.
+   *
+   * @param rows
+   *        Results to write
+   */
+  void write(final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(rows, "Cannot use null results");
+    final List<ResultsColumn> resultsColumns = SchemaCrawler
+      .getResultsColumns(rows).getColumns();
+    final ColumnChunk[] chunks = new ColumnChunk[resultsColumns.size()];
+    for (int i = 0; i < chunks.length; i++)
+    {
+      final int javaSqlType = resultsColumns.get(i).getColumnDataType()
+        .getJavaSqlType().getJavaSqlType();
+      chunks[i] = new ColumnChunk(i,
+                                  ColumnEncoding.fromJavaSqlType(javaSqlType),
+                                  chunkSize);
+    }
+    lobSpools = new LobSpool[chunks.length];
+
+    try
+    {
+      writeColumns(resultsColumns, chunks);
+
+      int chunkRowCount = 0;
+      while (rows.next())
+      {
+        for (final ColumnChunk chunk: chunks)
+        {
+          chunk.append(rows, this);
+        }
+        rowCount++;
+        chunkRowCount++;
+        if (chunkRowCount == chunkSize)
+        {
+          writeChunk(chunks, chunkRowCount);
+          chunkRowCount = 0;
+        }
+      }
+      if (chunkRowCount > 0)
+      {
+        writeChunk(chunks, chunkRowCount);
+      }
+    }
+    catch (final SQLException | IOException e)
+    {
+      throw new SchemaCrawlerException(String
+        .format("Could not write columnar data to <%s>", directory), e);
+    }
+    finally
+    {
+      deleteLobSpools();
+    }
+  }
+
+  private void deleteLobSpools()
+  {
+    for (final LobSpool lobSpool: lobSpools)
+    {
+      if (lobSpool != null)
+      {
+        try
+        {
+          lobSpool.delete();
+        }
+        catch (final IOException e)
+        {
+          LOGGER.log(Level.WARNING,
+                     new StringFormat("Could not delete large object spool file, for <%s>",
+                                      directory),
+                     e);
+        }
+      }
+    }
+    lobSpools = null;
+  }
+
+  private LobSpool lobSpool(final int columnIndex)
+    throws IOException
+  {
+    if (lobSpools[columnIndex] == null)
+    {
+      lobSpools[columnIndex] = new LobSpool();
+    }
+    return lobSpools[columnIndex];
+  }
+
+  private void writeChunk(final ColumnChunk[] chunks, final int chunkRowCount)
+    throws IOException
+  {
+    zip.putNextEntry(new ZipEntry(String.format("%schunk-%06d.col",
+                                                directory,
+                                                chunkCount)));
+    final DataOutputStream out = new DataOutputStream(new EntryOutputStream(zip));
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(chunkRowCount);
+    out.writeInt(chunks.length);
+    for (final ColumnChunk chunk: chunks)
+    {
+      chunk.writeTo(out);
+      chunk.reset();
+    }
+    out.flush();
+    zip.closeEntry();
+
+    for (int i = 0; i < lobSpools.length; i++)
+    {
+      final LobSpool lobSpool = lobSpools[i];
+      if (lobSpool != null && !lobSpool.isEmpty())
+      {
+        zip.putNextEntry(new ZipEntry(String
+          .format("%schunk-%06d-c%04d.lob", directory, chunkCount, i)));
+        lobSpool.transferTo(zip);
+        zip.closeEntry();
+      }
+    }
+
+    chunkCount++;
+  }
+
+  private void writeColumns(final List<ResultsColumn> resultsColumns,
+                            final ColumnChunk[] chunks)
+    throws IOException
+  {
+    zip.putNextEntry(new ZipEntry(directory + "columns.tsv"));
+    try (final Writer writer = new OutputStreamWriter(new EntryOutputStream(zip),
+                                                      UTF_8);)
+    {
+      writer.write("index\tname\tdata_type\tjava_sql_type\tencoding\n");
+      for (int i = 0; i < chunks.length; i++)
+      {
+        final ResultsColumn column = resultsColumns.get(i);
+        writer.write(String.format("%d\t%s\t%s\t%s\t%s\n",
+                                   i,
+                                   escapeTsv(column.getName()),
+                                   escapeTsv(column.getColumnDataType()
+                                     .getName()),
+                                   column.getColumnDataType()
+                                     .getJavaSqlType().getJavaSqlTypeName(),
+                                   chunks[i].getEncoding()));
+      }
+    }
+    zip.closeEntry();
+  }
+
+}
@@ -0,0 +1,293 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.SchemaCrawlerInfo;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.traversal.DataTraversalHandler;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Writes data into compressed columnar chunk files, in a ZIP archive.
+ * Each table, or query, gets a directory in the archive, and a
+ * "tables.tsv" file lists the directories, with the escaped table
+ * names, row counts and chunk counts. Rows are never held in memory, beyond the
+ * current chunk.
+ *
+ * @see ColumnarTableWriter
+ */
+final class DataColumnarFormatter
+  implements DataTraversalHandler
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(DataColumnarFormatter.class.getName());
+
+  private final OperationOptions options;
+  private final OutputOptions outputOptions;
+  private final List<String> tables;
+  private ZipOutputStream zip;
+
+  DataColumnarFormatter(final OperationOptions options,
+                        final OutputOptions outputOptions)
+  {
+    this.options = requireNonNull(options, "Options not provided");
+    this.outputOptions = requireNonNull(outputOptions,
+                                        "Output options not provided");
+    tables = new ArrayList<>();
+  }
+
+  @Override
+  public void begin()
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      outputOptions.forceOutputFile();
+      final Path outputFile = outputOptions.getOutputFile();
+      zip = new ZipOutputStream(new BufferedOutputStream(Files
+        .newOutputStream(outputFile)));
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Writing columnar data to <%s>",
+                                  outputFile));
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not create columnar data file",
+                                       e);
+    }
+  }
+
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    if (zip == null)
+    {
+      return;
+    }
+    // The archive is closed just once, whether or not writing succeeds
+    try (final ZipOutputStream archive = zip;)
+    {
+      zip = null;
+      archive.putNextEntry(new ZipEntry("tables.tsv"));
+      final Writer writer = new OutputStreamWriter(archive, UTF_8);
+      writer.write("directory\tname\trows\tchunks\n");
+      for (final String table: tables)
+      {
+        writer.write(table);
+        writer.write('\n');
+      }
+      writer.flush();
+      archive.closeEntry();
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write columnar data file",
+                                       e);
+    }
+  }
+
+  @Override
+  public void handle(final CrawlInfo crawlInfo)
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handle(final DatabaseInfo databaseInfo)
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handle(final JdbcDriverInfo jdbcDriverInfo)
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handle(final SchemaCrawlerInfo schemaCrawlerInfo)
+    throws SchemaCrawlerException
+  {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Query query, final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    final String title;
+    if (query != null)
+    {
+      title = query.getName();
+    }
+    else
+    {
+      title = "";
+    }
+
+    handleData(title, rows);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    final String tableName;
+    if (table != null)
+    {
+      if (options.isShowUnqualifiedNames())
+      {
+        tableName = table.getName();
+      }
+      else
+      {
+        tableName = table.getFullName();
+      }
+    }
+    else
+    {
+      tableName = "";
+    }
+
+    handleData(tableName, rows);
+  }
+
+  @Override
+  public void handleHeaderEnd()
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handleHeaderStart()
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handleInfoEnd()
+    throws SchemaCrawlerException
+  {
+  }
+
+  @Override
+  public void handleInfoStart()
+    throws SchemaCrawlerException
+  {
+  }
+
+  /**
+   * Closes the archive, so that the output file is not left open if
+   * writing fails.
+   */
+  private void closeZip()
+  {
+    try
+    {
+      zip.close();
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not close columnar data file", e);
+    }
+    finally
+    {
+      zip = null;
+    }
+  }
+
+  private void handleData(final String title, final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    if (rows == null)
+    {
+      return;
+    }
+    if (zip == null)
+    {
+      throw new SchemaCrawlerException("Columnar data file is not open");
+    }
+
+    final String directory = String.format("%05d_%s/",
+                                            tables.size(),
+                                            title.replaceAll("[^\\w.-]", "_"));
+    final ColumnarTableWriter tableWriter = new ColumnarTableWriter(zip,
+                                                                    directory,
+                                                                    options
+                                                                      .getColumnarChunkSize(),
+                                                                    options
+                                                                      .isShowLobs());
+    try
+    {
+      tableWriter.write(rows);
+    }
+    catch (final SchemaCrawlerException | RuntimeException e)
+    {
+      closeZip();
+      throw e;
+    }
+
+    tables.add(String.format("%s\t%s\t%d\t%d",
+                             directory,
+                             ColumnarTableWriter.escapeTsv(title),
+                             tableWriter.getRowCount(),
+                             tableWriter.getChunkCount()));
+  }
+
+}
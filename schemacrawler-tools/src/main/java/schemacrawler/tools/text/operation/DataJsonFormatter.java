@@ -29,21 +29,17 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static schemacrawler.tools.text.operation.DataResultSet.readAggregate;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
-import schemacrawler.tools.text.utility.org.json.JSONArray;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
 /**
@@ -53,11 +49,11 @@ import schemacrawler.utility.Query;
  */
 final class DataJsonFormatter
   extends BaseJsonFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataRowsTraversalHandler
 {
 
   private final Operation operation;
-  private final JSONArray jsonDataArray;
+  private boolean isDataStarted;
 
   /**
    * Text formatting of data.
@@ -82,22 +78,29 @@ final class DataJsonFormatter
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+  }
 
-    jsonDataArray = new JSONArray();
-    try
-    {
-      if (operation != null)
-      {
-        jsonRoot.put("description", operation.getDescription());
-      }
-      jsonRoot.put("data", jsonDataArray);
-    }
-    catch (final JSONException e)
+  @Override
+  public void begin()
+    throws SchemaCrawlerException
+  {
+    super.begin();
+    if (operation != null)
     {
-      throw new SchemaCrawlerException(e.getMessage(), e);
+      jsonWriter.property("description", operation.getDescription());
     }
   }
 
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    startData();
+    jsonWriter.endArray();
+
+    super.end();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -118,12 +121,27 @@ final class DataJsonFormatter
     handleData(title, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
+  private String getTableName(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,38 +159,10 @@ final class DataJsonFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
-  }
-
-  /**
-   * Handles an aggregate operation, such as a count, for a given table.
-   *
-   * @param title
-   *        Title
-   * @param results
-   *        Results
-   */
-  private long handleAggregateOperationForTable(final String title,
-                                                final ResultSet results)
-    throws SchemaCrawlerException
-  {
-    try
-    {
-      long aggregate = 0;
-      if (results.next())
-      {
-        aggregate = results.getLong(1);
-      }
-      return aggregate;
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerException("Could not obtain aggregate data", e);
-    }
+    return tableName;
   }
 
-  private void handleData(final String title, final ResultSet rows)
+  private void handleData(final String title, final DataRows rows)
     throws SchemaCrawlerException
   {
     if (rows == null)
@@ -180,60 +170,64 @@ final class DataJsonFormatter
       return;
     }
 
-    try
-    {
-      final JSONObject jsonData = new JSONObject();
-      jsonData.put("title", title);
+    startData();
 
-      if (operation == Operation.count)
+    jsonWriter.beginObject();
+    jsonWriter.property("title", title);
+
+    if (operation == Operation.count)
+    {
+      final long aggregate = readAggregate(rows);
+      jsonWriter.property("value", aggregate);
+    }
+    else
+    {
+      try
       {
-        final long aggregate = handleAggregateOperationForTable(title, rows);
-        jsonData.put("value", aggregate);
+        jsonWriter.property("columnNames", rows.getColumnNames());
+
+        jsonWriter.beginArray("rows");
+        iterateRows(rows);
+        jsonWriter.endArray();
       }
-      else
+      catch (final SQLException e)
       {
-        try
-        {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
-
-          jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
-
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
-        }
-        catch (final SQLException e)
-        {
-          throw new SchemaCrawlerException(e.getMessage(), e);
-        }
+        throw new SchemaCrawlerException(e.getMessage(), e);
       }
-
-      jsonDataArray.put(jsonData);
     }
-    catch (final JSONException e)
+
+    jsonWriter.endObject();
+  }
+
+  private void handleData(final String title, final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    if (rows == null)
     {
-      throw new SchemaCrawlerException("Could not convert data to JSON", e);
+      return;
     }
 
+    handleData(title, new DataResultSet(rows, options.isShowLobs()));
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
+  /**
+   * Writes each row as soon as it is read, so that rows are never held
+   * in memory.
+   */
+  private void iterateRows(final DataRows dataRows)
     throws SQLException
   {
-    final JSONArray jsonRows = new JSONArray();
     while (dataRows.next())
     {
-      final List<Object> currentRowRaw = dataRows.row();
-      final List<Object> currentRow = new ArrayList<>();
-      for (final Object columnData: currentRowRaw)
+      jsonWriter.beginArray();
+      for (final Object columnData: dataRows.row())
       {
         if (columnData == null || columnData instanceof Number
             || columnData instanceof CharSequence
             || columnData instanceof Boolean || columnData instanceof Date
             || columnData instanceof Calendar)
         {
-          currentRow.add(columnData);
+          jsonWriter.value(columnData);
         }
         else
         {
@@ -243,21 +237,34 @@ final class DataJsonFormatter
             if (columnDataClass.getMethod("toString")
               .getDeclaringClass() != Object.class)
             {
-              currentRow.add(columnData.toString());
+              jsonWriter.value(columnData.toString());
             }
             else
             {
-              currentRow.add(columnDataClass.getSimpleName());
+              jsonWriter.value(columnDataClass.getSimpleName());
             }
           }
           catch (final NoSuchMethodException | SecurityException e)
           {
-            currentRow.add(columnDataClass.getSimpleName());
+            jsonWriter.value(columnDataClass.getSimpleName());
           }
         }
       }
-      jsonRows.put(new JSONArray(currentRow));
+      jsonWriter.endArray();
     }
-    return jsonRows;
   }
+
+  /**
+   * Starts the data array, once all the information before it has been
+   * written.
+   */
+  private void startData()
+  {
+    if (!isDataStarted)
+    {
+      jsonWriter.beginArray("data");
+      isDataStarted = true;
+    }
+  }
+
 }
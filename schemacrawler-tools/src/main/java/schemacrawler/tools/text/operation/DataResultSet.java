@@ -43,7 +43,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -59,14 +58,46 @@ import sf.util.SchemaCrawlerLogger;
  * @author Sualeh Fatehi
  */
 final class DataResultSet
+  implements DataRows
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(DataResultSet.class.getName());
 
+  /**
+   * Reads the result of an aggregate operation, such as a count, from
+   * the first column of the first row.
+   *
+   * @param rows
+   *        Rows of data
+   * @return Aggregate value, or 0 if there is none
+   */
+  static long readAggregate(final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      long aggregate = 0;
+      if (rows.next())
+      {
+        final Object value = rows.row()[0];
+        if (value instanceof Number)
+        {
+          aggregate = ((Number) value).longValue();
+        }
+      }
+      return aggregate;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Could not obtain aggregate data", e);
+    }
+  }
+
   private final ResultSet rows;
   private final List<ResultsColumn> resultsColumns;
   private final boolean showLobs;
+  private final Object[] currentRow;
 
   public DataResultSet(final ResultSet rows, final boolean showLobs)
     throws SchemaCrawlerException
@@ -74,8 +105,10 @@ final class DataResultSet
     this.rows = requireNonNull(rows, "Cannot use null results");
     this.showLobs = showLobs;
     resultsColumns = SchemaCrawler.getResultsColumns(rows).getColumns();
+    currentRow = new Object[resultsColumns.size()];
   }
 
+  @Override
   public String[] getColumnNames()
   {
     final int columnCount = resultsColumns.size();
@@ -87,25 +120,30 @@ final class DataResultSet
     return columnNames;
   }
 
+  @Override
   public boolean next()
     throws SQLException
   {
     return rows.next();
   }
 
-  public List<Object> row()
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The same array is filled in for every row.
+   */
+  @Override
+  public Object[] row()
     throws SQLException
   {
-    final int columnCount = resultsColumns.size();
-    final List<Object> currentRow = new ArrayList<>(columnCount);
-    for (int i = 0; i < columnCount; i++)
+    for (int i = 0; i < currentRow.length; i++)
     {
-      currentRow.add(getColumnData(i));
+      currentRow[i] = getColumnData(i);
     }
-
     return currentRow;
   }
 
+  @Override
   public int width()
   {
     return resultsColumns.size();
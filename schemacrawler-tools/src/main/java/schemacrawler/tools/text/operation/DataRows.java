@@ -0,0 +1,56 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import java.sql.SQLException;
+
+/**
+ * Rows of data to be formatted, either read directly from results, or
+ * from a segment that was spooled to disk.
+ */
+interface DataRows
+{
+
+  String[] getColumnNames();
+
+  boolean next()
+    throws SQLException;
+
+  /**
+   * Values of the current row. The array may be reused for the next
+   * row, so values need to be copied if they are kept.
+   *
+   * @return Values of the current row
+   */
+  Object[] row()
+    throws SQLException;
+
+  int width();
+
+}
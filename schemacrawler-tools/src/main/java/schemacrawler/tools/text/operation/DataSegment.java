@@ -0,0 +1,372 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.text.utility.BinaryData;
+import sf.util.IOUtility;
+import sf.util.SchemaCrawlerLogger;
+
+/**
+ * Rows of data, read from results and spooled to a temporary file, so
+ * that they can be formatted later, after the results are closed. Rows
+ * are read back one at a time, so only one row is held in memory. The
+ * rows are the same as those read by {@link DataResultSet}, so the
+ * formatted output is the same as if the results were formatted
+ * directly.
+ */
+final class DataSegment
+  implements DataRows, AutoCloseable
+{
+
+  /**
+   * Reads back only the classes that values are spooled as, so that a
+   * temporary file that was changed cannot create any other objects.
+   */
+  private static final class SegmentInputStream
+    extends ObjectInputStream
+  {
+
+    SegmentInputStream(final InputStream in)
+      throws IOException
+    {
+      super(in);
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException
+    {
+      final String className = desc.getName();
+      if (SPOOLED_CLASSES.contains(className))
+      {
+        return super.resolveClass(desc);
+      }
+      throw new InvalidClassException(className,
+                                      "Not allowed in spooled data");
+    }
+
+    @Override
+    protected Class<?> resolveProxyClass(final String[] interfaces)
+      throws IOException
+    {
+      throw new InvalidClassException("Proxy classes are not allowed in spooled data");
+    }
+
+  }
+
+  /**
+   * Stands in for a value that cannot be serialized, but that is
+   * formatted as text.
+   */
+  private static final class TextValue
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 2407306454425467163L;
+
+    private final String text;
+
+    TextValue(final String text)
+    {
+      this.text = text;
+    }
+
+    @Override
+    public String toString()
+    {
+      return text;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(DataSegment.class.getName());
+
+  /**
+   * Number of rows after which the object stream forgets objects that
+   * it has written, so that memory does not grow with the number of
+   * rows.
+   */
+  private static final int RESET_INTERVAL = 1000;
+
+  /**
+   * Classes that values are spooled as, and their serializable
+   * superclasses. Values of any other class are spooled as text, in the
+   * same way that they would be formatted.
+   */
+  private static final Set<String> SPOOLED_CLASSES = new HashSet<>(Arrays
+    .asList("[B",
+            "[C",
+            "[Ljava.lang.Object;",
+            "[Ljava.lang.String;",
+            "java.lang.Boolean",
+            "java.lang.Byte",
+            "java.lang.Character",
+            "java.lang.Double",
+            "java.lang.Float",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Number",
+            "java.lang.Short",
+            "java.lang.String",
+            "java.math.BigDecimal",
+            "java.math.BigInteger",
+            "java.sql.Date",
+            "java.sql.Time",
+            "java.sql.Timestamp",
+            "java.util.Date",
+            BinaryData.class.getName(),
+            TextValue.class.getName()));
+  /**
+   * Reads all the rows from the results, and spools them to a
+   * temporary file.
+   *
+   * @param rows
+   *        Results to spool
+   * @param showLobs
+   *        Whether to read large objects
+   * @return Segment of data, positioned before the first row
+   * @throws SchemaCrawlerException
+   *         If the results cannot be read, or if any value cannot be
+   *         spooled
+   */
+  static DataSegment spool(final ResultSet rows, final boolean showLobs)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(rows, "Cannot use null results");
+
+    Path segmentFile = null;
+    try
+    {
+      segmentFile = IOUtility.createTempFilePath("segment", "data");
+      final DataResultSet dataRows = new DataResultSet(rows, showLobs);
+      try (final ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files
+        .newOutputStream(segmentFile)));)
+      {
+        out.writeObject(dataRows.getColumnNames());
+        long rowCount = 0;
+        while (dataRows.next())
+        {
+          out.writeBoolean(true);
+          // The row array is reused, so it is written unshared
+          out.writeUnshared(toSerializable(dataRows.row()));
+          rowCount++;
+          if (rowCount % RESET_INTERVAL == 0)
+          {
+            out.reset();
+          }
+        }
+        out.writeBoolean(false);
+      }
+      return new DataSegment(segmentFile);
+    }
+    catch (final IOException | SQLException e)
+    {
+      delete(segmentFile);
+      throw new SchemaCrawlerException("Could not spool data", e);
+    }
+  }
+
+  /**
+   * Values of classes that are not spooled are formatted using their
+   * own string representation, if they have one, so they are replaced
+   * by it. Numbers are kept as numbers, so that they are formatted as
+   * numbers.
+   */
+  private static Object[] toSerializable(final Object[] values)
+    throws NotSerializableException
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      final Object value = values[i];
+      if (value == null
+          || SPOOLED_CLASSES.contains(value.getClass().getName()))
+      {
+        continue;
+      }
+      if (value instanceof Number)
+      {
+        try
+        {
+          values[i] = new BigDecimal(value.toString());
+          continue;
+        }
+        catch (final NumberFormatException e)
+        {
+          // Spool the number as text
+        }
+      }
+      try
+      {
+        if (value.getClass().getMethod("toString")
+          .getDeclaringClass() != Object.class)
+        {
+          values[i] = new TextValue(value.toString());
+          continue;
+        }
+      }
+      catch (final NoSuchMethodException | SecurityException e)
+      {
+        // Fail to spool the value below
+      }
+      throw new NotSerializableException(value.getClass().getName());
+    }
+    return values;
+  }
+
+  private static void delete(final Path segmentFile)
+  {
+    if (segmentFile == null)
+    {
+      return;
+    }
+    try
+    {
+      Files.deleteIfExists(segmentFile);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.FINE, "Could not delete spooled data", e);
+    }
+  }
+
+  private final Path segmentFile;
+  private final ObjectInputStream in;
+  private final String[] columnNames;
+  private Object[] currentRow;
+  private boolean isAfterLast;
+
+  private DataSegment(final Path segmentFile)
+    throws IOException
+  {
+    this.segmentFile = segmentFile;
+    in = new SegmentInputStream(new BufferedInputStream(Files
+      .newInputStream(segmentFile)));
+    try
+    {
+      columnNames = (String[]) in.readObject();
+    }
+    catch (final ClassNotFoundException e)
+    {
+      in.close();
+      throw new IOException("Could not read spooled data", e);
+    }
+  }
+
+  /**
+   * Closes and deletes the temporary file.
+   */
+  @Override
+  public void close()
+  {
+    try
+    {
+      in.close();
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.FINE, "Could not close spooled data", e);
+    }
+    delete(segmentFile);
+  }
+
+  @Override
+  public String[] getColumnNames()
+  {
+    return columnNames.clone();
+  }
+
+  @Override
+  public boolean next()
+    throws SQLException
+  {
+    if (isAfterLast)
+    {
+      return false;
+    }
+    try
+    {
+      if (in.readBoolean())
+      {
+        currentRow = (Object[]) in.readObject();
+        return true;
+      }
+      else
+      {
+        currentRow = null;
+        isAfterLast = true;
+        return false;
+      }
+    }
+    catch (final IOException | ClassNotFoundException e)
+    {
+      throw new SQLException("Could not read spooled data", e);
+    }
+  }
+
+  @Override
+  public Object[] row()
+  {
+    if (currentRow == null)
+    {
+      throw new IllegalStateException("Not positioned on a row");
+    }
+    return currentRow;
+  }
+
+  @Override
+  public int width()
+  {
+    return columnNames.length;
+  }
+
+}
@@ -30,10 +30,10 @@ package schemacrawler.tools.text.operation;
 
 
 import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessage;
+import static schemacrawler.tools.text.operation.DataResultSet.readAggregate;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -41,7 +41,6 @@ import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.text.utility.html.Alignment;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 import sf.util.Color;
 
@@ -52,7 +51,7 @@ import sf.util.Color;
  */
 final class DataTextFormatter
   extends BaseTabularFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataRowsTraversalHandler
 {
 
   private int dataBlockCount;
@@ -118,12 +117,42 @@ final class DataTextFormatter
     handleData(title, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
+  private String getMessage(final double aggregate)
+  {
+    final Number number;
+    if (Math.abs(aggregate - (int) aggregate) < 1E-10D)
+    {
+      number = Integer.valueOf((int) aggregate);
+    }
+    else
+    {
+      number = Double.valueOf(aggregate);
+    }
+    final String message = getRowCountMessage(number);
+    return message;
+  }
+
+  private String getTableName(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,23 +170,7 @@ final class DataTextFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
-  }
-
-  private String getMessage(final double aggregate)
-  {
-    final Number number;
-    if (Math.abs(aggregate - (int) aggregate) < 1E-10D)
-    {
-      number = Integer.valueOf((int) aggregate);
-    }
-    else
-    {
-      number = Double.valueOf(aggregate);
-    }
-    final String message = getRowCountMessage(number);
-    return message;
+    return tableName;
   }
 
   /**
@@ -169,27 +182,16 @@ final class DataTextFormatter
    *        Results
    */
   private void handleAggregateOperationForTable(final String title,
-                                                final ResultSet results)
+                                                final DataRows results)
     throws SchemaCrawlerException
   {
-    long aggregate = 0;
-    try
-    {
-      if (results.next())
-      {
-        aggregate = results.getLong(1);
-      }
-    }
-    catch (final SQLException e)
-    {
-      throw new SchemaCrawlerException("Could not obtain aggregate data", e);
-    }
+    final long aggregate = readAggregate(results);
     final String message = getMessage(aggregate);
     //
     formattingHelper.writeNameValueRow(title, message, Alignment.right);
   }
 
-  private void handleData(final String title, final ResultSet rows)
+  private void handleData(final String title, final DataRows rows)
     throws SchemaCrawlerException
   {
     if (rows == null)
@@ -214,12 +216,9 @@ final class DataTextFormatter
       formattingHelper.writeObjectNameRow("", title, "", Color.white);
       try
       {
-        final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
+        formattingHelper.writeRowHeader(rows.getColumnNames());
 
-        formattingHelper.writeRowHeader(dataRows.getColumnNames());
-
-        iterateRows(dataRows);
+        iterateRows(rows);
       }
       catch (final SQLException e)
       {
@@ -231,15 +230,23 @@ final class DataTextFormatter
     dataBlockCount++;
   }
 
-  private void iterateRows(final DataResultSet dataRows)
+  private void handleData(final String title, final ResultSet rows)
+    throws SchemaCrawlerException
+  {
+    if (rows == null)
+    {
+      return;
+    }
+
+    handleData(title, new DataResultSet(rows, options.isShowLobs()));
+  }
+
+  private void iterateRows(final DataRows dataRows)
     throws SQLException
   {
     while (dataRows.next())
     {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow
-        .toArray(new Object[currentRow.size()]);
-      formattingHelper.writeRow(columnData);
+      formattingHelper.writeRow(dataRows.row());
     }
   }
 
@@ -30,7 +30,7 @@ package schemacrawler.tools.text.operation;
 
 
 import static schemacrawler.utility.QueryUtility.executeAgainstTable;
-import static sf.util.DatabaseUtility.createStatement;
+import static sf.util.DatabaseUtility.checkConnection;
 import static sf.util.DatabaseUtility.executeSql;
 
 import java.sql.Connection;
@@ -45,6 +45,7 @@ import java.util.logging.Level;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.StatementTuning;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.DataTraversalHandler;
@@ -90,8 +91,11 @@ public final class OperationExecutable
 
     final DataTraversalHandler handler = getDataTraversalHandler();
     final Query query = getQuery();
+    final StatementTuning statementTuning = new StatementTuning(operationOptions
+      .getFetchSize());
 
-    try (final Statement statement = createStatement(connection);)
+    try (final Statement statement = statementTuning
+      .createStatement(checkConnection(connection));)
     {
 
       handler.begin();
@@ -114,18 +118,36 @@ public final class OperationExecutable
         final Identifiers identifiers = Identifiers.identifiers()
           .withIdentifierQuoteString(identifierQuoteString).build();
 
-        for (final Table table: getSortedTables(catalog))
+        final List<? extends Table> tables = getSortedTables(catalog);
+        final boolean isAlphabeticalSortForTableColumns = operationOptions
+          .isAlphabeticalSortForTableColumns();
+        if (isParallel(handler, tables))
         {
-          final boolean isAlphabeticalSortForTableColumns = operationOptions
-            .isAlphabeticalSortForTableColumns();
-          try (
-              final ResultSet results = executeAgainstTable(query,
-                                                            statement,
-                                                            table,
-                                                            isAlphabeticalSortForTableColumns,
-                                                            identifiers);)
+          final ParallelTableQueries parallelTableQueries = new ParallelTableQueries(query,
+                                                                                     isAlphabeticalSortForTableColumns,
+                                                                                     identifiers,
+                                                                                     operationOptions
+                                                                                       .isShowLobs(),
+                                                                                     dataSource,
+                                                                                     statementTuning,
+                                                                                     operationOptions
+                                                                                       .getThreads());
+          parallelTableQueries
+            .execute(tables, (DataRowsTraversalHandler) handler, statement);
+        }
+        else
+        {
+          for (final Table table: tables)
           {
-            handler.handleData(table, results);
+            try (
+                final ResultSet results = executeAgainstTable(query,
+                                                              statement,
+                                                              table,
+                                                              isAlphabeticalSortForTableColumns,
+                                                              identifiers);)
+            {
+              handler.handleData(table, results);
+            }
           }
         }
       }
@@ -159,7 +181,9 @@ public final class OperationExecutable
   {
     final String outputFormatValue = outputOptions.getOutputFormatValue();
     final boolean isOutputFormatSupported = TextOutputFormat
-      .isSupportedFormat(outputFormatValue);
+      .isSupportedFormat(outputFormatValue)
+                                            || DataOutputFormat
+                                              .isSupportedFormat(outputFormatValue);
     return isOutputFormatSupported;
   }
 
@@ -174,6 +198,12 @@ public final class OperationExecutable
     final Operation operation = getOperation();
 
     final OperationOptions operationOptions = getOperationOptions();
+    if (DataOutputFormat
+      .isSupportedFormat(outputOptions.getOutputFormatValue()))
+    {
+      return new DataColumnarFormatter(operationOptions, outputOptions);
+    }
+
     final DataTraversalHandler formatter;
     final TextOutputFormat outputFormat = TextOutputFormat
       .fromFormat(outputOptions.getOutputFormatValue());
@@ -248,6 +278,19 @@ public final class OperationExecutable
     return tables;
   }
 
+  /**
+   * Tables are queried in parallel only if more than one thread is
+   * requested, there is a data source for additional connections, and
+   * the output can be formatted from spooled data.
+   */
+  private boolean isParallel(final DataTraversalHandler handler,
+                             final List<? extends Table> tables)
+  {
+    return operationOptions.getThreads() > 1 && dataSource != null
+           && handler instanceof DataRowsTraversalHandler
+           && tables.size() > 1;
+  }
+
   private void loadOperationOptions()
   {
     if (operationOptions == null)
@@ -43,6 +43,42 @@ public final class OperationOptions
   private static final long serialVersionUID = -7977434852526746391L;
 
   private boolean isShowLobs;
+  private int columnarChunkSize = 65536;
+  private int fetchSize;
+  private int threads = 1;
+
+  /**
+   * Number of rows in each chunk of columnar data.
+   *
+   * @return Number of rows in each chunk
+   */
+  public int getColumnarChunkSize()
+  {
+    return columnarChunkSize;
+  }
+
+  /**
+   * Number of rows fetched in each round trip when streaming table
+   * data. Zero leaves the JDBC driver default in place.
+   *
+   * @return Number of rows fetched in each round trip
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Number of threads used to run queries against tables. Queries are
+   * run in parallel only if there is more than one thread, and a data
+   * source to obtain additional connections from.
+   *
+   * @return Number of threads
+   */
+  public int getThreads()
+  {
+    return threads;
+  }
 
   /**
    * Whether to show LOBs.
@@ -54,6 +90,38 @@ public final class OperationOptions
     return isShowLobs;
   }
 
+  /**
+   * Number of rows in each chunk of columnar data.
+   *
+   * @param columnarChunkSize
+   *        Number of rows in each chunk
+   */
+  public void setColumnarChunkSize(final int columnarChunkSize)
+  {
+    if (columnarChunkSize <= 0)
+    {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    this.columnarChunkSize = columnarChunkSize;
+  }
+
+  /**
+   * Number of rows fetched in each round trip when streaming table
+   * data.
+   *
+   * @param fetchSize
+   *        Number of rows fetched in each round trip, or zero for the
+   *        JDBC driver default
+   */
+  public void setFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      throw new IllegalArgumentException("Fetch size cannot be negative");
+    }
+    this.fetchSize = fetchSize;
+  }
+
   /**
    * Whether to show LOBs.
    *
@@ -65,4 +133,19 @@ public final class OperationOptions
     isShowLobs = showLobs;
   }
 
+  /**
+   * Number of threads used to run queries against tables.
+   *
+   * @param threads
+   *        Number of threads
+   */
+  public void setThreads(final int threads)
+  {
+    if (threads <= 0)
+    {
+      throw new IllegalArgumentException("Number of threads must be positive");
+    }
+    this.threads = threads;
+  }
+
 }
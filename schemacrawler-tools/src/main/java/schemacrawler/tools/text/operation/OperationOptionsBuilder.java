@@ -41,8 +41,16 @@ public final class OperationOptionsBuilder
   extends BaseTextOptionsBuilder<OperationOptions>
 {
 
+  private static final String COLUMNAR_CHUNK_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                                    + "data.columnar_chunk_size";
+  private static final String CLI_DATA_FETCH_SIZE = "datafetchsize";
+  private static final String DATA_FETCH_SIZE = SCHEMACRAWLER_FORMAT_PREFIX
+                                                + "data.fetch_size";
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String CLI_DATA_THREADS = "datathreads";
+  private static final String DATA_THREADS = SCHEMACRAWLER_FORMAT_PREFIX
+                                             + "data.threads";
 
   /**
    * Operator options, defaults.
@@ -52,6 +60,25 @@ public final class OperationOptionsBuilder
     super(new OperationOptions());
   }
 
+  /**
+   * Number of rows in each chunk of columnar data.
+   */
+  public OperationOptionsBuilder columnarChunkSize(final int value)
+  {
+    options.setColumnarChunkSize(value);
+    return this;
+  }
+
+  /**
+   * Number of rows fetched in each round trip when streaming table
+   * data.
+   */
+  public OperationOptionsBuilder fetchSize(final int value)
+  {
+    options.setFetchSize(value);
+    return this;
+  }
+
   @Override
   public OperationOptionsBuilder fromConfig(final Config map)
   {
@@ -63,6 +90,44 @@ public final class OperationOptionsBuilder
 
     final Config config = new Config(map);
     options.setShowLobs(config.getBooleanValue(SHOW_LOBS, false));
+    final int columnarChunkSize = config
+      .getIntegerValue(COLUMNAR_CHUNK_SIZE, options.getColumnarChunkSize());
+    if (columnarChunkSize > 0)
+    {
+      options.setColumnarChunkSize(columnarChunkSize);
+    }
+
+    final int fetchSize;
+    if (config.containsKey(CLI_DATA_FETCH_SIZE))
+    {
+      // Honor command-line option first
+      fetchSize = config.getIntegerValue(CLI_DATA_FETCH_SIZE,
+                                         options.getFetchSize());
+    }
+    else
+    {
+      fetchSize = config.getIntegerValue(DATA_FETCH_SIZE,
+                                         options.getFetchSize());
+    }
+    if (fetchSize >= 0)
+    {
+      options.setFetchSize(fetchSize);
+    }
+
+    final int threads;
+    if (config.containsKey(CLI_DATA_THREADS))
+    {
+      // Honor command-line option first
+      threads = config.getIntegerValue(CLI_DATA_THREADS, options.getThreads());
+    }
+    else
+    {
+      threads = config.getIntegerValue(DATA_THREADS, options.getThreads());
+    }
+    if (threads > 0)
+    {
+      options.setThreads(threads);
+    }
 
     return this;
   }
@@ -76,11 +141,25 @@ public final class OperationOptionsBuilder
     return this;
   }
 
+  /**
+   * Number of threads used to run queries against tables.
+   */
+  public OperationOptionsBuilder threads(final int value)
+  {
+    options.setThreads(value);
+    return this;
+  }
+
   @Override
   public Config toConfig()
   {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, options.isShowLobs());
+    config.setStringValue(COLUMNAR_CHUNK_SIZE,
+                          String.valueOf(options.getColumnarChunkSize()));
+    config.setStringValue(DATA_FETCH_SIZE,
+                          String.valueOf(options.getFetchSize()));
+    config.setStringValue(DATA_THREADS, String.valueOf(options.getThreads()));
     return config;
   }
 
@@ -0,0 +1,314 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.StatementTuning;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Runs a query against each table concurrently, on connections from a
+ * data source, and hands the results to a handler in the original
+ * order of the tables. The results of each table are spooled to a
+ * temporary file as they are read, and formatted on the calling thread
+ * once all the tables before it have been formatted, so the output is
+ * the same as when the tables are queried one after the other.
+ */
+final class ParallelTableQueries
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ParallelTableQueries.class.getName());
+
+  /**
+   * Number of tables that can be queried ahead of formatting, for each
+   * thread. This limits the space taken by spooled data.
+   */
+  private static final int TABLES_AHEAD_PER_THREAD = 2;
+
+  private final Query query;
+  private final boolean isAlphabeticalSortForTableColumns;
+  private final Identifiers identifiers;
+  private final boolean showLobs;
+  private final DataSource dataSource;
+  private final StatementTuning statementTuning;
+  private final int threads;
+  private final Queue<Connection> pooledConnections;
+
+  ParallelTableQueries(final Query query,
+                       final boolean isAlphabeticalSortForTableColumns,
+                       final Identifiers identifiers,
+                       final boolean showLobs,
+                       final DataSource dataSource,
+                       final StatementTuning statementTuning,
+                       final int threads)
+  {
+    this.query = requireNonNull(query, "No query provided");
+    this.isAlphabeticalSortForTableColumns = isAlphabeticalSortForTableColumns;
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    this.showLobs = showLobs;
+    this.dataSource = requireNonNull(dataSource, "No data source provided");
+    this.statementTuning = requireNonNull(statementTuning,
+                                          "No statement tuning provided");
+    this.threads = threads;
+    pooledConnections = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * Queries all tables, and hands the data for each table to the
+   * handler, in order. If the data for a table could not be spooled,
+   * the table is queried again using the statement, and the results
+   * are handed to the handler directly.
+   *
+   * @param tables
+   *        Tables to query, in order
+   * @param handler
+   *        Handler for the data
+   * @param statement
+   *        Statement for tables that could not be queried in parallel
+   */
+  void execute(final List<? extends Table> tables,
+               final DataRowsTraversalHandler handler,
+               final Statement statement)
+    throws SchemaCrawlerException, SQLException
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running query <%s> against %d tables, using %d threads",
+                                query.getName(),
+                                tables.size(),
+                                threads));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final Deque<Future<DataSegment>> futures = new ArrayDeque<>();
+    try
+    {
+      final int tablesAhead = threads * TABLES_AHEAD_PER_THREAD;
+      int submitted = 0;
+      for (final Table table: tables)
+      {
+        while (submitted < tables.size() && futures.size() < tablesAhead)
+        {
+          final Table nextTable = tables.get(submitted);
+          futures.add(executor.submit(() -> spool(nextTable)));
+          submitted++;
+        }
+
+        final DataSegment segment = nextSegment(futures.poll(), table);
+        if (segment != null)
+        {
+          try
+          {
+            handler.handleData(table, segment);
+          }
+          finally
+          {
+            segment.close();
+          }
+        }
+        else
+        {
+          try (
+              final ResultSet results = executeAgainstTable(query,
+                                                            statement,
+                                                            table,
+                                                            isAlphabeticalSortForTableColumns,
+                                                            identifiers);)
+          {
+            handler.handleData(table, results);
+          }
+        }
+      }
+    }
+    finally
+    {
+      // Stop queries for tables that were not handled, because of an
+      // earlier exception, and wait for them, so that no thread is
+      // still using a pooled connection or spooling data
+      executor.shutdownNow();
+      awaitTermination(executor);
+      discard(futures);
+      closePooledConnections();
+    }
+  }
+
+  private void awaitTermination(final ExecutorService executor)
+  {
+    try
+    {
+      while (!executor.awaitTermination(1, TimeUnit.SECONDS))
+      {
+        LOGGER.log(Level.FINE, "Waiting for queries to stop");
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Connection borrowConnection()
+    throws SQLException
+  {
+    final Connection connection = pooledConnections.poll();
+    if (connection != null)
+    {
+      return connection;
+    }
+    return dataSource.getConnection();
+  }
+
+  private void closePooledConnections()
+  {
+    Connection connection;
+    while ((connection = pooledConnections.poll()) != null)
+    {
+      try
+      {
+        connection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
+  /**
+   * Deletes any data that was spooled for tables that were not handled.
+   * Queries that never started are not done, and have no data.
+   */
+  private void discard(final Deque<Future<DataSegment>> futures)
+  {
+    for (final Future<DataSegment> future: futures)
+    {
+      if (!future.isDone())
+      {
+        continue;
+      }
+      try
+      {
+        future.get().close();
+      }
+      catch (final InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      catch (final ExecutionException | CancellationException e)
+      {
+        // Ignore, since there is no spooled data
+      }
+    }
+    futures.clear();
+  }
+
+  /**
+   * Waits for the data for the next table. Returns null if the data
+   * could not be spooled, so that the table can be queried again on
+   * the calling thread.
+   */
+  private DataSegment nextSegment(final Future<DataSegment> future,
+                                  final Table table)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException(String
+        .format("Interrupted while querying <%s>", table.getFullName()), e);
+    }
+    catch (final ExecutionException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not query <%s> in parallel, so querying it again",
+                                  table.getFullName()),
+                 e.getCause());
+      return null;
+    }
+  }
+
+  private DataSegment spool(final Table table)
+    throws SchemaCrawlerException, SQLException
+  {
+    final Connection connection = borrowConnection();
+    try (final Statement statement = statementTuning
+      .createStatement(connection);
+        final ResultSet results = executeAgainstTable(query,
+                                                      statement,
+                                                      table,
+                                                      isAlphabeticalSortForTableColumns,
+                                                      identifiers);)
+    {
+      final DataSegment segment = DataSegment.spool(results, showLobs);
+      if (Thread.currentThread().isInterrupted())
+      {
+        // Stopped while spooling, so the data will never be handled
+        segment.close();
+        throw new SchemaCrawlerException(String
+          .format("Stopped querying <%s>", table.getFullName()));
+      }
+      return segment;
+    }
+    finally
+    {
+      pooledConnections.offer(connection);
+    }
+  }
+
+}
@@ -36,7 +36,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.logging.Level;
 
 import schemacrawler.schema.BaseForeignKey;
 import schemacrawler.schema.Column;
@@ -69,12 +68,8 @@ import schemacrawler.tools.analysis.associations.WeakAssociationForeignKey;
 import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
-import schemacrawler.tools.text.utility.org.json.JSONArray;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.utility.NamedObjectSort;
-import sf.util.StringFormat;
 
 /**
  * JSON formatting of schema.
@@ -121,45 +116,37 @@ final class SchemaJsonFormatter
   public void handle(final ColumnDataType columnDataType)
     throws SchemaCrawlerException
   {
-    if (printVerboseDatabaseInfo && isVerbose)
+    if (!isShowColumnDataTypes())
     {
-      try
-      {
-        final JSONObject jsonColumnDataType = new JSONObject();
-        jsonRoot.accumulate("columnDataypes", jsonColumnDataType);
+      return;
+    }
 
-        final String databaseSpecificTypeName;
-        if (options.isShowUnqualifiedNames())
-        {
-          databaseSpecificTypeName = columnDataType.getName();
-        }
-        else
-        {
-          databaseSpecificTypeName = columnDataType.getFullName();
-        }
-        jsonColumnDataType.put("databaseSpecificTypeName",
-                               databaseSpecificTypeName);
-        jsonColumnDataType
-          .put("basedOn",
-               columnDataType.getBaseType() == null? "": columnDataType
-                 .getBaseType().getName());
-        jsonColumnDataType.put("userDefined", columnDataType.isUserDefined());
-        jsonColumnDataType.put("createParameters",
-                               columnDataType.getCreateParameters());
-        jsonColumnDataType.put("nullable", columnDataType.isNullable());
-        jsonColumnDataType.put("autoIncrementable",
-                               columnDataType.isAutoIncrementable());
-        jsonColumnDataType.put("searchable",
-                               columnDataType.getSearchable().toString());
-      }
-      catch (final JSONException e)
-      {
-        LOGGER.log(Level.FINER,
-                   new StringFormat("Error outputting ColumnDataType: %s",
-                                    e.getMessage()),
-                   e);
-      }
+    jsonWriter.beginObject();
+
+    final String databaseSpecificTypeName;
+    if (options.isShowUnqualifiedNames())
+    {
+      databaseSpecificTypeName = columnDataType.getName();
     }
+    else
+    {
+      databaseSpecificTypeName = columnDataType.getFullName();
+    }
+    jsonWriter.property("databaseSpecificTypeName", databaseSpecificTypeName);
+    jsonWriter
+      .property("basedOn",
+                columnDataType.getBaseType() == null? "": columnDataType
+                  .getBaseType().getName());
+    jsonWriter.property("userDefined", columnDataType.isUserDefined());
+    jsonWriter.property("createParameters",
+                        columnDataType.getCreateParameters());
+    jsonWriter.property("nullable", columnDataType.isNullable());
+    jsonWriter.property("autoIncrementable",
+                        columnDataType.isAutoIncrementable());
+    jsonWriter.property("searchable",
+                        columnDataType.getSearchable().toString());
+
+    jsonWriter.endObject();
   }
 
   /**
@@ -171,53 +158,43 @@ final class SchemaJsonFormatter
   @Override
   public void handle(final Routine routine)
   {
-    try
+    jsonWriter.beginObject();
+
+    jsonWriter.property("name", routine.getName());
+    if (!options.isShowUnqualifiedNames())
     {
-      final JSONObject jsonRoutine = new JSONObject();
-      jsonRoot.accumulate("routines", jsonRoutine);
+      jsonWriter.property("fullName", routine.getFullName());
+    }
+    jsonWriter.property("type", routine.getRoutineType());
+    jsonWriter.property("returnType", routine.getReturnType());
+    printRemarks(routine);
 
-      jsonRoutine.put("name", routine.getName());
-      if (!options.isShowUnqualifiedNames())
+    if (!isBrief)
+    {
+      jsonWriter.beginArray("parameters");
+      final List<? extends RoutineColumn<? extends Routine>> columns = new ArrayList<>(routine
+        .getColumns());
+      Collections.sort(columns,
+                       NamedObjectSort.getNamedObjectSort(options
+                         .isAlphabeticalSortForRoutineColumns()));
+      for (final RoutineColumn<?> column: columns)
       {
-        jsonRoutine.put("fullName", routine.getFullName());
+        handleRoutineColumn(column);
       }
-      jsonRoutine.put("type", routine.getRoutineType());
-      jsonRoutine.put("returnType", routine.getReturnType());
-      printRemarks(routine, jsonRoutine);
+      jsonWriter.endArray();
 
-      if (!isBrief)
-      {
-        final JSONArray jsonParameters = new JSONArray();
-        jsonRoutine.put("parameters", jsonParameters);
-
-        final List<? extends RoutineColumn<? extends Routine>> columns = routine
-          .getColumns();
-        Collections.sort(columns,
-                         NamedObjectSort.getNamedObjectSort(options
-                           .isAlphabeticalSortForRoutineColumns()));
-        for (final RoutineColumn<?> column: columns)
-        {
-          jsonParameters.put(handleRoutineColumn(column));
-        }
-        printDefinition(routine, jsonRoutine);
+      printDefinition(routine);
 
-        if (isVerbose)
+      if (isVerbose)
+      {
+        if (!options.isHideRoutineSpecificNames())
         {
-          if (!options.isHideRoutineSpecificNames())
-          {
-            jsonRoutine.put("specificName", routine.getSpecificName());
-          }
+          jsonWriter.property("specificName", routine.getSpecificName());
         }
       }
     }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting Routine: %s",
-                                  e.getMessage()),
-                 e);
-    }
 
+    jsonWriter.endObject();
   }
 
   /**
@@ -229,34 +206,24 @@ final class SchemaJsonFormatter
   @Override
   public void handle(final Sequence sequence)
   {
-    try
-    {
-      final JSONObject jsonSequence = new JSONObject();
-      jsonRoot.accumulate("sequences", jsonSequence);
-
-      jsonSequence.put("name", sequence.getName());
-      if (!options.isShowUnqualifiedNames())
-      {
-        jsonSequence.put("fullName", sequence.getFullName());
-      }
-      printRemarks(sequence, jsonSequence);
+    jsonWriter.beginObject();
 
-      if (!isBrief)
-      {
-        jsonSequence.put("increment", sequence.getIncrement());
-        jsonSequence.put("minimumValue", sequence.getMinimumValue());
-        jsonSequence.put("maximumValue", sequence.getMaximumValue());
-        jsonSequence.put("cycle", sequence.isCycle());
-      }
+    jsonWriter.property("name", sequence.getName());
+    if (!options.isShowUnqualifiedNames())
+    {
+      jsonWriter.property("fullName", sequence.getFullName());
     }
-    catch (final JSONException e)
+    printRemarks(sequence);
+
+    if (!isBrief)
     {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting sequence: %s",
-                                  e.getMessage()),
-                 e);
+      jsonWriter.property("increment", sequence.getIncrement());
+      jsonWriter.property("minimumValue", sequence.getMinimumValue());
+      jsonWriter.property("maximumValue", sequence.getMaximumValue());
+      jsonWriter.property("cycle", sequence.isCycle());
     }
 
+    jsonWriter.endObject();
   }
 
   /**
@@ -268,614 +235,531 @@ final class SchemaJsonFormatter
   @Override
   public void handle(final Synonym synonym)
   {
-    try
+    jsonWriter.beginObject();
+
+    jsonWriter.property("name", synonym.getName());
+    if (!options.isShowUnqualifiedNames())
     {
-      final JSONObject jsonSynonym = new JSONObject();
-      jsonRoot.accumulate("synonyms", jsonSynonym);
+      jsonWriter.property("fullName", synonym.getFullName());
+    }
+    printRemarks(synonym);
 
-      jsonSynonym.put("name", synonym.getName());
-      if (!options.isShowUnqualifiedNames())
+    if (!isBrief)
+    {
+      final String referencedObjectName;
+      if (options.isShowUnqualifiedNames())
       {
-        jsonSynonym.put("fullName", synonym.getFullName());
+        referencedObjectName = synonym.getReferencedObject().getName();
       }
-      printRemarks(synonym, jsonSynonym);
-
-      if (!isBrief)
+      else
       {
-        final String referencedObjectName;
-        if (options.isShowUnqualifiedNames())
-        {
-          referencedObjectName = synonym.getReferencedObject().getName();
-        }
-        else
-        {
-          referencedObjectName = synonym.getReferencedObject().getFullName();
-        }
-        jsonSynonym.put("referencedObject", referencedObjectName);
+        referencedObjectName = synonym.getReferencedObject().getFullName();
       }
-    }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting synonym: %s",
-                                  e.getMessage()),
-                 e);
+      jsonWriter.property("referencedObject", referencedObjectName);
     }
 
+    jsonWriter.endObject();
   }
 
   @Override
   public void handle(final Table table)
   {
-    final JSONObject jsonTable = new JSONObject();
+    jsonWriter.beginObject();
 
-    try
+    jsonWriter.property("name", table.getName());
+    if (!options.isShowUnqualifiedNames())
     {
-      jsonRoot.accumulate("tables", jsonTable);
-
-      jsonTable.put("name", table.getName());
-      if (!options.isShowUnqualifiedNames())
+      jsonWriter.property("fullName", table.getFullName());
+    }
+    jsonWriter.property("type", table.getTableType());
+    printRemarks(table);
+
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    Collections.sort(columns,
+                     NamedObjectSort.getNamedObjectSort(options
+                       .isAlphabeticalSortForTableColumns()));
+    jsonWriter.beginArray("columns");
+    for (final Column column: columns)
+    {
+      if (isBrief && !isColumnSignificant(column))
       {
-        jsonTable.put("fullName", table.getFullName());
+        continue;
       }
-      jsonTable.put("type", table.getTableType());
-      printRemarks(table, jsonTable);
+      handleTableColumn(column);
+    }
+    jsonWriter.endArray();
 
-      final List<Column> columns = table.getColumns();
-      final JSONArray jsonColumns = new JSONArray();
-      jsonTable.put("columns", jsonColumns);
-      Collections.sort(columns,
+    final List<Column> hiddenColumns = new ArrayList<>(table
+      .getHiddenColumns());
+    if (isVerbose && !hiddenColumns.isEmpty())
+    {
+      Collections.sort(hiddenColumns,
                        NamedObjectSort.getNamedObjectSort(options
                          .isAlphabeticalSortForTableColumns()));
-      for (final Column column: columns)
+      jsonWriter.beginArray("hiddenColumns");
+      for (final Column hiddenColumn: hiddenColumns)
       {
-        if (isBrief && !isColumnSignificant(column))
-        {
-          continue;
-        }
-        jsonColumns.put(handleTableColumn(column));
+        handleTableColumn(hiddenColumn);
       }
+      jsonWriter.endArray();
+    }
+
+    jsonWriter.beginObject("primaryKey");
+    handleIndexContent(table.getPrimaryKey());
+    jsonWriter.endObject();
 
-      final List<Column> hiddenColumns = new ArrayList<>(table
-        .getHiddenColumns());
-      if (isVerbose && !hiddenColumns.isEmpty())
+    handleForeignKeys(table.getForeignKeys());
+
+    if (!isBrief)
+    {
+      if (isVerbose && options.isShowWeakAssociations())
       {
-        final JSONArray jsonHiddenColumns = new JSONArray();
-        jsonTable.put("hiddenColumns", jsonHiddenColumns);
-        Collections.sort(hiddenColumns,
-                         NamedObjectSort.getNamedObjectSort(options
-                           .isAlphabeticalSortForTableColumns()));
-        for (final Column hiddenColumn: hiddenColumns)
-        {
-          if (isBrief && !isColumnSignificant(hiddenColumn))
-          {
-            continue;
-          }
-          jsonHiddenColumns.put(handleTableColumn(hiddenColumn));
-        }
+        handleWeakAssociations(WeakAssociationsUtility
+          .getWeakAssociations(table));
       }
 
-      jsonTable.put("primaryKey", handleIndex(table.getPrimaryKey()));
-      jsonTable.put("foreignKeys", handleForeignKeys(table.getForeignKeys()));
-      if (!isBrief)
+      final List<Index> indexes = new ArrayList<>(table.getIndexes());
+      Collections
+        .sort(indexes,
+              NamedObjectSort
+                .getNamedObjectSort(options.isAlphabeticalSortForIndexes()));
+      jsonWriter.beginArray("indexes");
+      for (final Index index: indexes)
       {
-        if (isVerbose)
-        {
-          final Collection<WeakAssociationForeignKey> weakAssociationsCollection = WeakAssociationsUtility
-            .getWeakAssociations(table);
-          final List<WeakAssociationForeignKey> weakAssociations = new ArrayList<>(weakAssociationsCollection);
-          Collections.sort(weakAssociations);
-
-          if (options.isShowWeakAssociations())
-          {
-            jsonTable.put("weakAssociations",
-                          handleWeakAssociations(weakAssociations));
-          }
-        }
+        jsonWriter.beginObject();
+        handleIndexContent(index);
+        jsonWriter.endObject();
+      }
+      jsonWriter.endArray();
 
-        final JSONArray jsonIndexes = new JSONArray();
-        jsonTable.put("indexes", jsonIndexes);
-        final Collection<Index> indexesCollection = table.getIndexes();
-        final List<Index> indexes = new ArrayList<>(indexesCollection);
-        Collections
-          .sort(indexes,
-                NamedObjectSort
-                  .getNamedObjectSort(options.isAlphabeticalSortForIndexes()));
-        for (final Index index: indexes)
-        {
-          jsonIndexes.put(handleIndex(index));
-        }
-        printDefinition(table, jsonTable);
-
-        jsonTable.put("triggers", handleTriggers(table.getTriggers()));
-
-        final JSONArray jsonTableConstraints = new JSONArray();
-        jsonTable.put("tableConstraints", jsonTableConstraints);
-        final Collection<TableConstraint> constraintsCollection = table
-          .getTableConstraints();
-        final List<TableConstraint> constraints = new ArrayList<>(constraintsCollection);
-        Collections
-          .sort(constraints,
-                NamedObjectSort
-                  .getNamedObjectSort(options.isAlphabeticalSortForIndexes()));
-        for (final TableConstraint constraint: constraints)
-        {
-          jsonTableConstraints.put(handleTableConstraint(constraint));
-        }
+      printDefinition(table);
 
-        if (isVerbose)
-        {
-          for (final Privilege<Table> privilege: table.getPrivileges())
-          {
-            if (privilege != null)
-            {
-              final JSONObject jsonPrivilege = new JSONObject();
-              jsonTable.accumulate("privileges", jsonPrivilege);
-              jsonPrivilege.put("name", privilege.getName());
-              for (final Grant<?> grant: privilege.getGrants())
-              {
-                final JSONObject jsonGrant = new JSONObject();
-                jsonPrivilege.accumulate("grants", jsonGrant);
-
-                jsonGrant.put("grantor", grant.getGrantor());
-                jsonGrant.put("grantee", grant.getGrantee());
-                jsonGrant.put("grantable", grant.isGrantable());
-              }
-            }
-          }
-        }
+      handleTriggers(table.getTriggers());
 
-        final JSONObject jsonAdditionalInformation = new JSONObject();
-        printTableRowCount(table, jsonAdditionalInformation);
-        if (jsonAdditionalInformation.length() > 0)
-        {
-          jsonTable.put("additionalInformation", jsonAdditionalInformation);
-        }
+      final List<TableConstraint> constraints = new ArrayList<>(table
+        .getTableConstraints());
+      Collections
+        .sort(constraints,
+              NamedObjectSort
+                .getNamedObjectSort(options.isAlphabeticalSortForIndexes()));
+      jsonWriter.beginArray("tableConstraints");
+      for (final TableConstraint constraint: constraints)
+      {
+        handleTableConstraint(constraint);
+      }
+      jsonWriter.endArray();
+
+      if (isVerbose)
+      {
+        handlePrivileges(table.getPrivileges());
+      }
+
+      if (options.isShowRowCounts() && hasRowCount(table))
+      {
+        jsonWriter.beginObject("additionalInformation");
+        jsonWriter.property("rowCount", getRowCountMessage(table));
+        jsonWriter.endObject();
       }
     }
-    catch (final JSONException e)
-    {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting table: %s", e.getMessage()),
-                 e);
-    }
+
+    jsonWriter.endObject();
   }
 
   @Override
   public void handleColumnDataTypesEnd()
   {
+    if (isShowColumnDataTypes())
+    {
+      jsonWriter.endArray();
+    }
   }
 
   @Override
   public void handleColumnDataTypesStart()
   {
+    if (isShowColumnDataTypes())
+    {
+      jsonWriter.beginArray("columnDataypes");
+    }
   }
 
   @Override
   public void handleRoutinesEnd()
     throws SchemaCrawlerException
   {
+    jsonWriter.endArray();
   }
 
   @Override
   public void handleRoutinesStart()
     throws SchemaCrawlerException
   {
+    jsonWriter.beginArray("routines");
   }
 
   @Override
   public void handleSequencesEnd()
     throws SchemaCrawlerException
   {
+    jsonWriter.endArray();
   }
 
   @Override
   public void handleSequencesStart()
     throws SchemaCrawlerException
   {
+    jsonWriter.beginArray("sequences");
   }
 
   @Override
   public void handleSynonymsEnd()
     throws SchemaCrawlerException
   {
+    jsonWriter.endArray();
   }
 
   @Override
   public void handleSynonymsStart()
     throws SchemaCrawlerException
   {
+    jsonWriter.beginArray("synonyms");
   }
 
   @Override
   public void handleTablesEnd()
     throws SchemaCrawlerException
   {
+    jsonWriter.endArray();
   }
 
   @Override
   public void handleTablesStart()
     throws SchemaCrawlerException
   {
+    jsonWriter.beginArray("tables");
   }
 
-  private JSONArray handleColumnReferences(final BaseForeignKey<? extends ColumnReference> foreignKey)
+  private void handleColumnReferences(final BaseForeignKey<? extends ColumnReference> foreignKey)
   {
-    final JSONArray jsonColumnReferences = new JSONArray();
+    jsonWriter.beginArray("columnReferences");
     for (final ColumnReference columnReference: foreignKey)
     {
-      try
-      {
-        final JSONObject jsonColumnReference = new JSONObject();
+      jsonWriter.beginObject();
 
-        final String pkColumnName;
-        if (options.isShowUnqualifiedNames())
-        {
-          pkColumnName = columnReference.getPrimaryKeyColumn().getShortName();
-        }
-        else
-        {
-          pkColumnName = columnReference.getPrimaryKeyColumn().getFullName();
-        }
-        jsonColumnReference.put("pkColumn", pkColumnName);
-
-        final String fkColumnName;
-        if (options.isShowUnqualifiedNames())
-        {
-          fkColumnName = columnReference.getForeignKeyColumn().getShortName();
-        }
-        else
-        {
-          fkColumnName = columnReference.getForeignKeyColumn().getFullName();
-        }
-        jsonColumnReference.put("fkColumn", fkColumnName);
+      final String pkColumnName;
+      if (options.isShowUnqualifiedNames())
+      {
+        pkColumnName = columnReference.getPrimaryKeyColumn().getShortName();
+      }
+      else
+      {
+        pkColumnName = columnReference.getPrimaryKeyColumn().getFullName();
+      }
+      jsonWriter.property("pkColumn", pkColumnName);
 
-        if (columnReference instanceof ForeignKeyColumnReference
-            && options.isShowOrdinalNumbers())
-        {
-          final int keySequence = ((ForeignKeyColumnReference) columnReference)
-            .getKeySequence();
-          jsonColumnReference.put("keySequence", keySequence);
-        }
-        jsonColumnReferences.put(jsonColumnReference);
+      final String fkColumnName;
+      if (options.isShowUnqualifiedNames())
+      {
+        fkColumnName = columnReference.getForeignKeyColumn().getShortName();
       }
-      catch (final JSONException e)
+      else
+      {
+        fkColumnName = columnReference.getForeignKeyColumn().getFullName();
+      }
+      jsonWriter.property("fkColumn", fkColumnName);
+
+      if (columnReference instanceof ForeignKeyColumnReference
+          && options.isShowOrdinalNumbers())
       {
-        LOGGER.log(Level.FINER,
-                   new StringFormat("Error outputting column reference: %s",
-                                    e.getMessage()),
-                   e);
+        final int keySequence = ((ForeignKeyColumnReference) columnReference)
+          .getKeySequence();
+        jsonWriter.property("keySequence", keySequence);
       }
+
+      jsonWriter.endObject();
     }
-    return jsonColumnReferences;
+    jsonWriter.endArray();
   }
 
-  private JSONArray handleForeignKeys(final Collection<ForeignKey> foreignKeysCollection)
+  private void handleForeignKeys(final Collection<ForeignKey> foreignKeysCollection)
   {
-    final JSONArray jsonFks = new JSONArray();
     final List<ForeignKey> foreignKeys = new ArrayList<>(foreignKeysCollection);
     Collections
       .sort(foreignKeys,
             NamedObjectSort
               .getNamedObjectSort(options.isAlphabeticalSortForForeignKeys()));
+    jsonWriter.beginArray("foreignKeys");
     for (final ForeignKey foreignKey: foreignKeys)
     {
       if (foreignKey != null)
       {
-        try
+        jsonWriter.beginObject();
+        if (!options.isHideForeignKeyNames())
+        {
+          jsonWriter.property("name", foreignKey.getName());
+        }
+
+        final ForeignKeyUpdateRule updateRule = foreignKey.getUpdateRule();
+        if (updateRule != null && updateRule != ForeignKeyUpdateRule.unknown)
         {
-          final JSONObject jsonFk = new JSONObject();
-          jsonFks.put(jsonFk);
-          if (!options.isHideForeignKeyNames())
-          {
-            jsonFk.put("name", foreignKey.getName());
-          }
-
-          final ForeignKeyUpdateRule updateRule = foreignKey.getUpdateRule();
-          if (updateRule != null && updateRule != ForeignKeyUpdateRule.unknown)
-          {
-            jsonFk.put("updateRule", updateRule.toString());
-          }
-
-          final ForeignKeyUpdateRule deleteRule = foreignKey.getDeleteRule();
-          if (deleteRule != null && deleteRule != ForeignKeyUpdateRule.unknown)
-          {
-            jsonFk.put("deleteRule", deleteRule.toString());
-          }
-
-          jsonFk.put("columnReferences", handleColumnReferences(foreignKey));
-          printDefinition(foreignKey, jsonFk);
+          jsonWriter.property("updateRule", updateRule.toString());
         }
-        catch (final JSONException e)
+
+        final ForeignKeyUpdateRule deleteRule = foreignKey.getDeleteRule();
+        if (deleteRule != null && deleteRule != ForeignKeyUpdateRule.unknown)
         {
-          LOGGER.log(Level.FINER,
-                     new StringFormat("Error outputting foreign key: %s",
-                                      e.getMessage()),
-                     e);
+          jsonWriter.property("deleteRule", deleteRule.toString());
         }
+
+        handleColumnReferences(foreignKey);
+        printDefinition(foreignKey);
+        jsonWriter.endObject();
       }
     }
-
-    return jsonFks;
+    jsonWriter.endArray();
   }
 
-  private JSONObject handleIndex(final Index index)
+  /**
+   * Writes the members of an index, into an object that has already
+   * been started.
+   */
+  private void handleIndexContent(final Index index)
   {
-
-    final JSONObject jsonIndex = new JSONObject();
-
     if (index == null)
     {
-      return jsonIndex;
+      return;
     }
 
-    try
+    if (index instanceof PrimaryKey && !options.isHidePrimaryKeyNames())
     {
-      if (index instanceof PrimaryKey && !options.isHidePrimaryKeyNames())
-      {
-        jsonIndex.put("name", index.getName());
-      }
-      else if (!options.isHideIndexNames())
-      {
-        jsonIndex.put("name", index.getName());
-      }
-
-      printRemarks(index, jsonIndex);
+      jsonWriter.property("name", index.getName());
+    }
+    else if (!options.isHideIndexNames())
+    {
+      jsonWriter.property("name", index.getName());
+    }
 
-      final IndexType indexType = index.getIndexType();
-      if (indexType != IndexType.unknown && indexType != IndexType.other)
-      {
-        jsonIndex.put("type", indexType.toString());
-      }
-      jsonIndex.put("unique", index.isUnique());
+    printRemarks(index);
 
-      for (final IndexColumn indexColumn: index)
-      {
-        jsonIndex.accumulate("columns", handleTableColumn(indexColumn));
-      }
-      printDefinition(index, jsonIndex);
+    final IndexType indexType = index.getIndexType();
+    if (indexType != IndexType.unknown && indexType != IndexType.other)
+    {
+      jsonWriter.property("type", indexType.toString());
     }
-    catch (final JSONException e)
+    jsonWriter.property("unique", index.isUnique());
+
+    jsonWriter.beginArray("columns");
+    for (final IndexColumn indexColumn: index)
     {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting index: %s", e.getMessage()),
-                 e);
+      handleTableColumn(indexColumn);
     }
+    jsonWriter.endArray();
 
-    return jsonIndex;
+    printDefinition(index);
   }
 
-  private JSONObject handleRoutineColumn(final RoutineColumn<?> column)
+  private void handlePrivileges(final Collection<Privilege<Table>> privileges)
   {
-    final JSONObject jsonColumn = new JSONObject();
-
-    try
-    {
-      jsonColumn.put("name", column.getName());
-      jsonColumn
-        .put("dataType",
-             column.getColumnDataType().getJavaSqlType().getJavaSqlTypeName());
-      jsonColumn.put("databaseSpecificType",
-                     column.getColumnDataType().getDatabaseSpecificTypeName());
-      jsonColumn.put("width", column.getWidth());
-      jsonColumn.put("type", column.getColumnType().toString());
-      if (options.isShowOrdinalNumbers())
+    if (privileges.isEmpty())
+    {
+      return;
+    }
+
+    jsonWriter.beginArray("privileges");
+    for (final Privilege<Table> privilege: privileges)
+    {
+      if (privilege != null)
       {
-        jsonColumn.put("ordinal", column.getOrdinalPosition() + 1);
+        jsonWriter.beginObject();
+        jsonWriter.property("name", privilege.getName());
+        jsonWriter.beginArray("grants");
+        for (final Grant<?> grant: privilege.getGrants())
+        {
+          jsonWriter.beginObject();
+          jsonWriter.property("grantor", grant.getGrantor());
+          jsonWriter.property("grantee", grant.getGrantee());
+          jsonWriter.property("grantable", grant.isGrantable());
+          jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
       }
     }
-    catch (final JSONException e)
+    jsonWriter.endArray();
+  }
+
+  private void handleRoutineColumn(final RoutineColumn<?> column)
+  {
+    jsonWriter.beginObject();
+
+    jsonWriter.property("name", column.getName());
+    jsonWriter
+      .property("dataType",
+                column.getColumnDataType().getJavaSqlType().getJavaSqlTypeName());
+    jsonWriter.property("databaseSpecificType",
+                        column.getColumnDataType().getDatabaseSpecificTypeName());
+    jsonWriter.property("width", column.getWidth());
+    jsonWriter.property("type", column.getColumnType().toString());
+    if (options.isShowOrdinalNumbers())
     {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting routine column: %s",
-                                  e.getMessage()),
-                 e);
+      jsonWriter.property("ordinal", column.getOrdinalPosition() + 1);
     }
 
-    return jsonColumn;
+    jsonWriter.endObject();
   }
 
-  private JSONObject handleTableColumn(final Column column)
+  private void handleTableColumn(final Column column)
   {
-    final JSONObject jsonColumn = new JSONObject();
-    try
-    {
-      jsonColumn.put("name", column.getName());
-      printRemarks(column, jsonColumn);
+    jsonWriter.beginObject();
 
-      if (column instanceof IndexColumn)
-      {
-        jsonColumn.put("sortSequence",
-                       ((IndexColumn) column).getSortSequence().name());
-      }
-      else
-      {
-        jsonColumn.put("dataType",
-                       column.getColumnDataType().getJavaSqlType()
-                         .getJavaSqlTypeName());
-        jsonColumn
-          .put("databaseSpecificType",
-               column.getColumnDataType().getDatabaseSpecificTypeName());
-        jsonColumn.put("width", column.getWidth());
-        jsonColumn.put("size", column.getSize());
-        jsonColumn.put("decimalDigits", column.getDecimalDigits());
-        jsonColumn.put("nullable", column.isNullable());
-        jsonColumn.put("autoIncremented", column.isAutoIncremented());
-        jsonColumn.put("generated", column.isGenerated());
-      }
+    jsonWriter.property("name", column.getName());
+    printRemarks(column);
 
-      if (options.isShowOrdinalNumbers())
-      {
-        jsonColumn.put("ordinal", column.getOrdinalPosition());
-      }
-      if (column instanceof DefinedObject)
-      {
-        printDefinition((DefinedObject) column, jsonColumn);
-      }
+    if (column instanceof IndexColumn)
+    {
+      jsonWriter.property("sortSequence",
+                          ((IndexColumn) column).getSortSequence().name());
+    }
+    else
+    {
+      jsonWriter.property("dataType",
+                          column.getColumnDataType().getJavaSqlType()
+                            .getJavaSqlTypeName());
+      jsonWriter
+        .property("databaseSpecificType",
+                  column.getColumnDataType().getDatabaseSpecificTypeName());
+      jsonWriter.property("width", column.getWidth());
+      jsonWriter.property("size", column.getSize());
+      jsonWriter.property("decimalDigits", column.getDecimalDigits());
+      jsonWriter.property("nullable", column.isNullable());
+      jsonWriter.property("autoIncremented", column.isAutoIncremented());
+      jsonWriter.property("generated", column.isGenerated());
+    }
+
+    if (options.isShowOrdinalNumbers())
+    {
+      jsonWriter.property("ordinal", column.getOrdinalPosition());
     }
-    catch (final JSONException e)
+    if (column instanceof DefinedObject)
     {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting column: %s",
-                                  e.getMessage()),
-                 e);
+      printDefinition((DefinedObject) column);
     }
 
-    return jsonColumn;
+    jsonWriter.endObject();
   }
 
-  private JSONObject handleTableConstraint(final TableConstraint constraint)
+  private void handleTableConstraint(final TableConstraint constraint)
   {
-
-    final JSONObject jsonConstraint = new JSONObject();
-
     if (constraint == null)
     {
-      return jsonConstraint;
+      return;
     }
 
-    try
-    {
-      if (!options.isHideTableConstraintNames())
-      {
-        jsonConstraint.put("name", constraint.getName());
-      }
+    jsonWriter.beginObject();
 
-      final TableConstraintType tableConstraintType = constraint
-        .getConstraintType();
-      if (tableConstraintType != TableConstraintType.unknown)
-      {
-        jsonConstraint.put("type", tableConstraintType.toString());
-      }
+    if (!options.isHideTableConstraintNames())
+    {
+      jsonWriter.property("name", constraint.getName());
+    }
 
-      for (final TableConstraintColumn tableConstraintColumn: constraint
-        .getColumns())
-      {
-        jsonConstraint.accumulate("columns",
-                                  handleTableColumn(tableConstraintColumn));
-      }
-      printDefinition(constraint, jsonConstraint);
+    final TableConstraintType tableConstraintType = constraint
+      .getConstraintType();
+    if (tableConstraintType != TableConstraintType.unknown)
+    {
+      jsonWriter.property("type", tableConstraintType.toString());
     }
-    catch (final JSONException e)
+
+    jsonWriter.beginArray("columns");
+    for (final TableConstraintColumn tableConstraintColumn: constraint
+      .getColumns())
     {
-      LOGGER.log(Level.FINER,
-                 new StringFormat("Error outputting table constraint: %s",
-                                  e.getMessage()),
-                 e);
+      handleTableColumn(tableConstraintColumn);
     }
+    jsonWriter.endArray();
+
+    printDefinition(constraint);
 
-    return jsonConstraint;
+    jsonWriter.endObject();
   }
 
-  private JSONArray handleTriggers(final Collection<Trigger> triggers)
+  private void handleTriggers(final Collection<Trigger> triggers)
   {
-    final JSONArray jsonTriggers = new JSONArray();
+    jsonWriter.beginArray("triggers");
     for (final Trigger trigger: triggers)
     {
       if (trigger != null)
       {
-        try
+        jsonWriter.beginObject();
+
+        if (!options.isHideTriggerNames())
         {
-          final JSONObject jsonTrigger = new JSONObject();
-          jsonTriggers.put(jsonTrigger);
-
-          if (!options.isHideTriggerNames())
-          {
-            jsonTrigger.put("name", trigger.getName());
-          }
-
-          final ConditionTimingType conditionTiming = trigger
-            .getConditionTiming();
-          final EventManipulationType eventManipulationType = trigger
-            .getEventManipulationType();
-          if (conditionTiming != null
-              && conditionTiming != ConditionTimingType.unknown
-              && eventManipulationType != null
-              && eventManipulationType != EventManipulationType.unknown)
-          {
-            jsonTrigger.put("conditionTiming", conditionTiming);
-            jsonTrigger.put("eventManipulationType", eventManipulationType);
-          }
-          jsonTrigger.put("actionOrientation", trigger.getActionOrientation());
-          jsonTrigger.put("actionCondition", trigger.getActionCondition());
-          jsonTrigger.put("actionStatement", trigger.getActionStatement());
+          jsonWriter.property("name", trigger.getName());
         }
-        catch (final JSONException e)
+
+        final ConditionTimingType conditionTiming = trigger
+          .getConditionTiming();
+        final EventManipulationType eventManipulationType = trigger
+          .getEventManipulationType();
+        if (conditionTiming != null
+            && conditionTiming != ConditionTimingType.unknown
+            && eventManipulationType != null
+            && eventManipulationType != EventManipulationType.unknown)
         {
-          LOGGER.log(Level.FINER,
-                     new StringFormat("Error outputting trigger: %s",
-                                      e.getMessage()),
-                     e);
+          jsonWriter.property("conditionTiming", conditionTiming);
+          jsonWriter.property("eventManipulationType", eventManipulationType);
         }
+        jsonWriter.property("actionOrientation",
+                            trigger.getActionOrientation());
+        jsonWriter.property("actionCondition", trigger.getActionCondition());
+        jsonWriter.property("actionStatement", trigger.getActionStatement());
+
+        jsonWriter.endObject();
       }
     }
-    return jsonTriggers;
+    jsonWriter.endArray();
   }
 
-  private JSONArray handleWeakAssociations(final Collection<WeakAssociationForeignKey> weakAssociationsCollection)
-    throws JSONException
+  private void handleWeakAssociations(final Collection<WeakAssociationForeignKey> weakAssociationsCollection)
   {
-    final JSONArray jsonFks = new JSONArray();
-
     final List<WeakAssociationForeignKey> weakAssociations = new ArrayList<>(weakAssociationsCollection);
     Collections.sort(weakAssociations);
+
+    jsonWriter.beginArray("weakAssociations");
     for (final WeakAssociationForeignKey weakFk: weakAssociations)
     {
       if (weakFk != null)
       {
-        try
-        {
-          final JSONObject jsonFk = new JSONObject();
-          jsonFks.put(jsonFk);
-
-          jsonFk.put("columnReferences", handleColumnReferences(weakFk));
-        }
-        catch (final JSONException e)
-        {
-          LOGGER.log(Level.FINER,
-                     new StringFormat("Error outputting weak association: ",
-                                      e.getMessage()),
-                     e);
-        }
+        jsonWriter.beginObject();
+        handleColumnReferences(weakFk);
+        jsonWriter.endObject();
       }
     }
+    jsonWriter.endArray();
+  }
 
-    return jsonFks;
+  private boolean isShowColumnDataTypes()
+  {
+    return printVerboseDatabaseInfo && isVerbose;
   }
 
-  private void printDefinition(final DefinedObject definedObject,
-                               final JSONObject jsonObject)
-    throws JSONException
+  private void printDefinition(final DefinedObject definedObject)
   {
     if (!isVerbose)
     {
       return;
     }
     // Print empty string, if value is not available
-    jsonObject.put("definition", definedObject.getDefinition());
+    jsonWriter.property("definition", definedObject.getDefinition());
   }
 
-  private void printRemarks(final DatabaseObject object,
-                            final JSONObject jsonObject)
-    throws JSONException
+  private void printRemarks(final DatabaseObject object)
   {
     if (object == null || options.isHideRemarks())
     {
       return;
     }
     // Print empty string, if value is not available
-    jsonObject.put("remarks", object.getRemarks());
-  }
-
-  private void printTableRowCount(final Table table,
-                                  final JSONObject jsonObject)
-    throws JSONException
-  {
-    if (!options.isShowRowCounts() || table == null || !hasRowCount(table))
-    {
-      return;
-    }
-    jsonObject.put("rowCount", getRowCountMessage(table));
+    jsonWriter.property("remarks", object.getRemarks());
   }
 
 }
@@ -35,6 +35,8 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.executable.BaseStagedExecutable;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
@@ -72,9 +74,13 @@ public final class SchemaTextExecutable
     if (schemaTextOptions.isShowRowCounts()
         || schemaCrawlerOptions.isHideEmptyTables())
     {
+      final CountOptions countOptions = new CountOptionsBuilder()
+        .fromConfig(additionalConfiguration).toOptions();
       catalog = new CatalogWithCounts(catalog,
                                       connection,
-                                      schemaCrawlerOptions);
+                                      schemaCrawlerOptions,
+                                      informationSchemaViews,
+                                      countOptions);
     }
 
     final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
@@ -796,13 +796,14 @@ final class SchemaTextFormatter
     formattingHelper.writeWideRow(object.getRemarks(), "remarks");
   }
 
-  private void printRoutineColumns(final List<? extends RoutineColumn<?>> columns)
+  private void printRoutineColumns(final List<? extends RoutineColumn<?>> routineColumns)
   {
-    if (columns.isEmpty())
+    if (routineColumns.isEmpty())
     {
       return;
     }
 
+    final List<RoutineColumn<?>> columns = new ArrayList<>(routineColumns);
     Collections.sort(columns,
                      NamedObjectSort.getNamedObjectSort(options
                        .isAlphabeticalSortForRoutineColumns()));
@@ -911,14 +912,15 @@ final class SchemaTextFormatter
       .writeDetailRow("", "", column.getRemarks(), true, false, "remarks");
   }
 
-  private void printTableColumns(final List<? extends Column> columns,
+  private void printTableColumns(final List<? extends Column> tableColumns,
                                  final boolean extraDetails)
   {
-    if (columns.isEmpty())
+    if (tableColumns.isEmpty())
     {
       return;
     }
 
+    final List<Column> columns = new ArrayList<>(tableColumns);
     Collections
       .sort(columns,
             NamedObjectSort
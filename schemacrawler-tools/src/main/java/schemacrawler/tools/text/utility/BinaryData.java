@@ -28,9 +28,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility;
 
 
+import java.io.Serializable;
+
 public class BinaryData
+  implements Serializable
 {
 
+  private static final long serialVersionUID = -3462932437506924409L;
+
   private final boolean hasData;
   private final String data;
 
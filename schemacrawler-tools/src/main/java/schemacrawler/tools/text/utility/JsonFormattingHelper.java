@@ -30,32 +30,24 @@ package schemacrawler.tools.text.utility;
 
 import java.io.PrintWriter;
 
-import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
 
 public class JsonFormattingHelper
   extends PlainTextFormattingHelper
 {
 
+  private final JsonWriter jsonWriter;
+
   public JsonFormattingHelper(final PrintWriter out,
                               final TextOutputFormat outputFormat)
   {
     super(out, outputFormat);
+    jsonWriter = new JsonWriter(out, 2);
   }
 
-  public void write(final JSONObject jsonObject)
-    throws SchemaCrawlerException
+  public JsonWriter getJsonWriter()
   {
-    try
-    {
-      jsonObject.write(out, 2);
-    }
-    catch (final JSONException e)
-    {
-      throw new SchemaCrawlerException("Could not write database", e);
-    }
+    return jsonWriter;
   }
 
 }
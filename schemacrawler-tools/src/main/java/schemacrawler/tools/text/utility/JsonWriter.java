@@ -0,0 +1,360 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Writes pretty-printed JSON text as a stream of events, straight to
+ * the output. Nothing is buffered beyond the nesting of the current
+ * object or array, so memory use does not depend on the size of the
+ * document.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class JsonWriter
+{
+
+  /**
+   * Produce a string in double quotes with backslash sequences in all
+   * the right places. A backslash will be inserted within &lt;/,
+   * allowing JSON text to be delivered in HTML. In JSON text, a string
+   * cannot contain a control character or an unescaped quote or
+   * backslash.
+   *
+   * @param string
+   *        A String
+   * @return A String correctly formatted for insertion in a JSON text.
+   */
+  public static String quote(final String string)
+  {
+    if (string == null || string.isEmpty())
+    {
+      return "\"\"";
+    }
+
+    final int length = string.length();
+    final StringBuilder buffer = new StringBuilder(length + 4);
+    buffer.append('"');
+    char previous;
+    char current = 0;
+    for (int i = 0; i < length; i++)
+    {
+      previous = current;
+      current = string.charAt(i);
+      switch (current)
+      {
+        case '\\':
+        case '"':
+          buffer.append('\\').append(current);
+          break;
+        case '/':
+          if (previous == '<')
+          {
+            buffer.append('\\');
+          }
+          buffer.append(current);
+          break;
+        case '\b':
+          buffer.append("\\b");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\f':
+          buffer.append("\\f");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        default:
+          if (current < ' ' || current >= '\u0080' && current < '\u00a0'
+              || current >= '\u2000' && current < '\u2100')
+          {
+            final String hex = "000" + Integer.toHexString(current);
+            buffer.append("\\u").append(hex.substring(hex.length() - 4));
+          }
+          else
+          {
+            buffer.append(current);
+          }
+      }
+    }
+    buffer.append('"');
+    return buffer.toString();
+  }
+
+  private static String numberToString(final Number number)
+  {
+    if (number instanceof Double
+        && (((Double) number).isInfinite() || ((Double) number).isNaN())
+        || number instanceof Float
+           && (((Float) number).isInfinite() || ((Float) number).isNaN()))
+    {
+      // Not allowed as a JSON number
+      return quote(number.toString());
+    }
+
+    // Shave off trailing zeros and decimal point, if possible
+    String string = number.toString();
+    if (string.indexOf('.') > 0 && string.indexOf('e') < 0
+        && string.indexOf('E') < 0)
+    {
+      while (string.endsWith("0"))
+      {
+        string = string.substring(0, string.length() - 1);
+      }
+      if (string.endsWith("."))
+      {
+        string = string.substring(0, string.length() - 1);
+      }
+    }
+    return string;
+  }
+
+  private final PrintWriter out;
+  private final int indentFactor;
+  /**
+   * One entry for each open object or array, which is true once the
+   * object or array has at least one member.
+   */
+  private final Deque<Boolean> hasMembers;
+  /**
+   * Closing bracket for each open object or array.
+   */
+  private final Deque<Character> closeBrackets;
+  private final String newline;
+  private boolean isAfterName;
+
+  public JsonWriter(final PrintWriter out, final int indentFactor)
+  {
+    this.out = requireNonNull(out, "No output writer provided");
+    if (indentFactor < 0)
+    {
+      throw new IllegalArgumentException("Indent cannot be negative");
+    }
+    this.indentFactor = indentFactor;
+    hasMembers = new ArrayDeque<>();
+    closeBrackets = new ArrayDeque<>();
+    newline = System.lineSeparator();
+  }
+
+  public JsonWriter beginArray()
+  {
+    checkValueAllowed();
+    beforeValue();
+    open('[', ']');
+    return this;
+  }
+
+  public JsonWriter beginArray(final String name)
+  {
+    name(name);
+    return beginArray();
+  }
+
+  public JsonWriter beginObject()
+  {
+    checkValueAllowed();
+    beforeValue();
+    open('{', '}');
+    return this;
+  }
+
+  public JsonWriter beginObject(final String name)
+  {
+    name(name);
+    return beginObject();
+  }
+
+  public JsonWriter endArray()
+  {
+    return close(']');
+  }
+
+  public JsonWriter endObject()
+  {
+    return close('}');
+  }
+
+  /**
+   * Writes a named value in the current object. Null values are not
+   * written, so the name is absent from the object.
+   *
+   * @param name
+   *        Name of the value
+   * @param value
+   *        Value, which can be a string, number, boolean, collection,
+   *        array, or any object that will be written as a string
+   */
+  public JsonWriter property(final String name, final Object value)
+  {
+    if (value == null)
+    {
+      return this;
+    }
+    name(name);
+    return value(value);
+  }
+
+  /**
+   * Writes a value in the current array, or after a name in the
+   * current object. Null values are written as JSON null.
+   *
+   * @param value
+   *        Value, which can be a string, number, boolean, collection,
+   *        array, or any object that will be written as a string
+   */
+  public JsonWriter value(final Object value)
+  {
+    checkValueAllowed();
+    if (value instanceof Iterable)
+    {
+      beginArray();
+      for (final Object item: (Iterable<?>) value)
+      {
+        value(item);
+      }
+      return endArray();
+    }
+    else if (value != null && value.getClass().isArray())
+    {
+      beginArray();
+      final int length = Array.getLength(value);
+      for (int i = 0; i < length; i++)
+      {
+        value(Array.get(value, i));
+      }
+      return endArray();
+    }
+
+    beforeValue();
+    if (value == null)
+    {
+      out.write("null");
+    }
+    else if (value instanceof Number)
+    {
+      out.write(numberToString((Number) value));
+    }
+    else if (value instanceof Boolean)
+    {
+      out.write(value.toString());
+    }
+    else
+    {
+      out.write(quote(value.toString()));
+    }
+    return this;
+  }
+
+  private void beforeValue()
+  {
+    if (isAfterName)
+    {
+      isAfterName = false;
+      return;
+    }
+    if (hasMembers.isEmpty())
+    {
+      return;
+    }
+
+    if (hasMembers.pop())
+    {
+      out.write(',');
+    }
+    hasMembers.push(Boolean.TRUE);
+    newlineAndIndent();
+  }
+
+  private void checkValueAllowed()
+  {
+    if (!isAfterName && !closeBrackets.isEmpty()
+        && closeBrackets.peek() == '}')
+    {
+      throw new IllegalStateException("Values in an object need a name");
+    }
+  }
+
+  private JsonWriter close(final char closeBracket)
+  {
+    if (closeBrackets.isEmpty() || closeBrackets.peek() != closeBracket
+        || isAfterName)
+    {
+      throw new IllegalStateException("Cannot close with " + closeBracket);
+    }
+    closeBrackets.pop();
+    if (hasMembers.pop())
+    {
+      newlineAndIndent();
+    }
+    out.write(closeBracket);
+    return this;
+  }
+
+  private void name(final String name)
+  {
+    if (closeBrackets.isEmpty() || closeBrackets.peek() != '}'
+        || isAfterName)
+    {
+      throw new IllegalStateException("Not in an object");
+    }
+    beforeValue();
+    out.write(quote(name));
+    out.write(": ");
+    isAfterName = true;
+  }
+
+  private void open(final char openBracket, final char closeBracket)
+  {
+    out.write(openBracket);
+    hasMembers.push(Boolean.FALSE);
+    closeBrackets.push(closeBracket);
+  }
+
+  private void newlineAndIndent()
+  {
+    out.write(newline);
+    final int indent = hasMembers.size() * indentFactor;
+    for (int i = 0; i < indent; i++)
+    {
+      out.write(' ');
+    }
+  }
+
+}
@@ -111,6 +111,29 @@ public final class SchemaCrawlerUtility
   public static Catalog getCatalog(final Connection connection,
                                    final SchemaCrawlerOptions schemaCrawlerOptions)
     throws SchemaCrawlerException
+  {
+    return getCatalog(connection, schemaCrawlerOptions, null);
+  }
+
+  /**
+   * Crawls a database incrementally, and returns a catalog. Only tables
+   * that have changed since the previous catalog was crawled are
+   * crawled again.
+   *
+   * @param connection
+   *        Live database connection.
+   * @param schemaCrawlerOptions
+   *        Options.
+   * @param previousCatalog
+   *        Catalog from a previous crawl, such as an offline snapshot.
+   * @return Database catalog.
+   * @throws SchemaCrawlerException
+   *         On an exception.
+   */
+  public static Catalog getCatalog(final Connection connection,
+                                   final SchemaCrawlerOptions schemaCrawlerOptions,
+                                   final Catalog previousCatalog)
+    throws SchemaCrawlerException
   {
     checkConnection(connection);
     if (LOGGER.isLoggable(Level.CONFIG))
@@ -121,7 +144,8 @@ public final class SchemaCrawlerUtility
     final DatabaseSpecificOverrideOptions dbSpecificOverrideOptions = matchDatabaseSpecificOverrideOptions(connection);
     final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
                                                           dbSpecificOverrideOptions);
-    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions);
+    final Catalog catalog = schemaCrawler.crawl(schemaCrawlerOptions,
+                                               previousCatalog);
 
     return catalog;
   }
@@ -0,0 +1,346 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.test.utility.BaseDatabaseTest;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.text.base.CommonTextOptionsBuilder;
+import schemacrawler.tools.text.operation.DataOutputFormat;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+import sf.util.IOUtility;
+
+public class ColumnarDataOutputTest
+  extends BaseDatabaseTest
+{
+
+  private static List<String[]> readTsv(final ZipFile zipFile,
+                                        final String entryName)
+    throws IOException
+  {
+    final ZipEntry entry = zipFile.getEntry(entryName);
+    assertNotNull(entryName, entry);
+    final List<String[]> lines = new ArrayList<>();
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(zipFile
+      .getInputStream(entry), UTF_8));)
+    {
+      // Skip header
+      reader.readLine();
+      String line;
+      while ((line = reader.readLine()) != null)
+      {
+        lines.add(line.split("\t", -1));
+      }
+    }
+    return lines;
+  }
+
+  @Test
+  public void dumpAsColumnar()
+    throws Exception
+  {
+    final Path outputFile = IOUtility.createTempFilePath("columnar", "zip");
+    final int chunkSize = 2;
+
+    final Config config = new Config();
+    final CommonTextOptionsBuilder commonTextOptions = new CommonTextOptionsBuilder();
+    commonTextOptions.sortTables(true);
+    config.putAll(commonTextOptions.toConfig());
+    config.putAll(new OperationOptionsBuilder().showLobs(true)
+      .columnarChunkSize(chunkSize).toConfig());
+
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(Operation.dump
+      .name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    executable
+      .setOutputOptions(new OutputOptions(DataOutputFormat.columnar,
+                                          outputFile));
+    executable.execute(getConnection());
+
+    final Map<String, Long> rowCounts = new HashMap<>();
+    try (final ZipFile zipFile = new ZipFile(outputFile.toFile());)
+    {
+      final List<String[]> tables = readTsv(zipFile, "tables.tsv");
+      assertFalse(tables.isEmpty());
+      for (final String[] table: tables)
+      {
+        final String directory = table[0];
+        final long rowCount = Long.parseLong(table[2]);
+        final int chunkCount = Integer.parseInt(table[3]);
+        rowCounts.put(table[1], rowCount);
+
+        final List<String[]> columns = readTsv(zipFile,
+                                               directory + "columns.tsv");
+        assertFalse(directory, columns.isEmpty());
+        assertEquals(directory,
+                     (rowCount + chunkSize - 1) / chunkSize,
+                     chunkCount);
+
+        long chunkedRowCount = 0;
+        for (int i = 0; i < chunkCount; i++)
+        {
+          final String chunkName = String.format("%schunk-%06d.col",
+                                                 directory,
+                                                 i);
+          final ZipEntry chunkEntry = zipFile.getEntry(chunkName);
+          assertNotNull(chunkName, chunkEntry);
+          try (
+              final DataInputStream in = new DataInputStream(zipFile
+                .getInputStream(chunkEntry));)
+          {
+            assertEquals(chunkName, 0x53434343, in.readInt());
+            assertEquals(chunkName, 2, in.readInt());
+            chunkedRowCount = chunkedRowCount + in.readInt();
+            assertEquals(chunkName, columns.size(), in.readInt());
+          }
+        }
+        assertEquals(directory, rowCount, chunkedRowCount);
+      }
+
+      assertEquals(Long.valueOf(countRows("PUBLIC.BOOKS.AUTHORS")),
+                   rowCounts.get("PUBLIC.BOOKS.AUTHORS"));
+      assertAuthorIds(zipFile, tables);
+      assertCouponData(zipFile, tables);
+
+      // Large objects are in one side file for each column and chunk,
+      // not one for each value
+      int lobEntryCount = 0;
+      for (final ZipEntry entry: Collections.list(zipFile.entries()))
+      {
+        if (entry.getName().endsWith(".lob"))
+        {
+          lobEntryCount++;
+        }
+        assertTrue(entry.getName(),
+                   entry.getName().matches(".*/(columns\\.tsv|chunk-\\d{6}\\.col|chunk-\\d{6}-c\\d{4}\\.lob)|tables\\.tsv"));
+      }
+      assertTrue(lobEntryCount > 0);
+    }
+  }
+
+  private void assertAuthorIds(final ZipFile zipFile,
+                               final List<String[]> tables)
+    throws Exception
+  {
+    final String directory = findDirectory(tables, "PUBLIC.BOOKS.AUTHORS");
+
+    final List<String[]> columns = readTsv(zipFile, directory + "columns.tsv");
+    assertEquals("ID", columns.get(0)[1]);
+    assertEquals("int64", columns.get(0)[4]);
+
+    final List<Long> ids = new ArrayList<>();
+    int chunk = 0;
+    ZipEntry chunkEntry;
+    while ((chunkEntry = zipFile.getEntry(String
+      .format("%schunk-%06d.col", directory, chunk++))) != null)
+    {
+      try (final InputStream entryIn = zipFile.getInputStream(chunkEntry);
+          final DataInputStream in = new DataInputStream(entryIn);)
+      {
+        in.readInt();
+        in.readInt();
+        final int rowCount = in.readInt();
+        in.readInt();
+        assertEquals(2, in.readByte());
+        final int dataLength = in.readInt();
+        final byte[] nulls = new byte[(rowCount + 7) / 8];
+        in.readFully(nulls);
+        assertEquals(rowCount * 8, dataLength);
+        for (int i = 0; i < rowCount; i++)
+        {
+          assertEquals(0, nulls[i >>> 3] & 1 << (i & 7));
+          ids.add(in.readLong());
+        }
+      }
+    }
+
+    final List<Long> expectedIds = new ArrayList<>();
+    final Connection connection = getConnection();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement
+          .executeQuery("SELECT ID FROM PUBLIC.BOOKS.AUTHORS ORDER BY ID");)
+    {
+      while (results.next())
+      {
+        expectedIds.add(results.getLong(1));
+      }
+    }
+    assertTrue(!expectedIds.isEmpty());
+    assertEquals(expectedIds, ids);
+  }
+
+  private void assertCouponData(final ZipFile zipFile,
+                                final List<String[]> tables)
+    throws Exception
+  {
+    final String directory = findDirectory(tables, "PUBLIC.BOOKS.COUPONS");
+
+    final List<String[]> columns = readTsv(zipFile, directory + "columns.tsv");
+    assertEquals("DATA", columns.get(1)[1]);
+    assertEquals("clob", columns.get(1)[4]);
+
+    final List<String> data = new ArrayList<>();
+    int chunk = 0;
+    ZipEntry chunkEntry;
+    while ((chunkEntry = zipFile.getEntry(String
+      .format("%schunk-%06d.col", directory, chunk))) != null)
+    {
+      final List<long[]> lobs = new ArrayList<>();
+      try (final InputStream entryIn = zipFile.getInputStream(chunkEntry);
+          final DataInputStream in = new DataInputStream(entryIn);)
+      {
+        in.readInt();
+        in.readInt();
+        final int rowCount = in.readInt();
+        final int columnCount = in.readInt();
+        for (int column = 0; column < columnCount; column++)
+        {
+          in.readByte();
+          final byte[] values = new byte[in.readInt()];
+          final byte[] nulls = new byte[(rowCount + 7) / 8];
+          in.readFully(nulls);
+          in.readFully(values);
+          if (column == 1)
+          {
+            final DataInputStream valuesIn = new DataInputStream(new ByteArrayInputStream(values));
+            for (int i = 0; i < rowCount; i++)
+            {
+              if ((nulls[i >>> 3] & 1 << (i & 7)) == 0)
+              {
+                lobs.add(new long[] {
+                                      valuesIn.readLong(), valuesIn.readLong()
+                });
+              }
+            }
+          }
+        }
+      }
+
+      if (!lobs.isEmpty())
+      {
+        final String lobName = String.format("%schunk-%06d-c%04d.lob",
+                                             directory,
+                                             chunk,
+                                             1);
+        final ZipEntry lobEntry = zipFile.getEntry(lobName);
+        assertNotNull(lobName, lobEntry);
+        final byte[] lobBytes;
+        try (final DataInputStream in = new DataInputStream(zipFile
+          .getInputStream(lobEntry));)
+        {
+          lobBytes = new byte[(int) lobEntry.getSize()];
+          in.readFully(lobBytes);
+        }
+        for (final long[] lob: lobs)
+        {
+          data.add(new String(lobBytes, (int) lob[0], (int) lob[1], UTF_8));
+        }
+      }
+      chunk++;
+    }
+
+    final List<String> expectedData = new ArrayList<>();
+    final Connection connection = getConnection();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement
+          .executeQuery("SELECT DATA FROM PUBLIC.BOOKS.COUPONS WHERE DATA IS NOT NULL ORDER BY ID");)
+    {
+      while (results.next())
+      {
+        expectedData.add(results.getString(1));
+      }
+    }
+    assertTrue(!expectedData.isEmpty());
+    assertEquals(expectedData, data);
+  }
+
+  private long countRows(final String table)
+    throws Exception
+  {
+    final Connection connection = getConnection();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = statement
+          .executeQuery("SELECT COUNT(*) FROM " + table);)
+    {
+      results.next();
+      return results.getLong(1);
+    }
+  }
+
+  private String findDirectory(final List<String[]> tables,
+                               final String tableName)
+  {
+    String directory = null;
+    for (final String[] table: tables)
+    {
+      if (table[1].equals(tableName))
+      {
+        directory = table[0];
+      }
+    }
+    assertNotNull(tableName, directory);
+    return directory;
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import schemacrawler.tools.analysis.associations.Inflection;
+
+public class InflectionTest
+{
+
+  @Test
+  public void pluralize()
+  {
+    assertEquals("customers", Inflection.pluralize("customer"));
+    assertEquals("categories", Inflection.pluralize("category"));
+    assertEquals("addresses", Inflection.pluralize("address"));
+    assertEquals("people", Inflection.pluralize("person"));
+    assertEquals("information", Inflection.pluralize("information"));
+  }
+
+  @Test
+  public void singularize()
+  {
+    assertEquals("customer", Inflection.singularize("customers"));
+    assertEquals("category", Inflection.singularize("categories"));
+    assertEquals("address", Inflection.singularize("addresses"));
+    assertEquals("analysis", Inflection.singularize("analyses"));
+    assertEquals("Diagnosis", Inflection.singularize("Diagnoses"));
+    assertEquals("matrix", Inflection.singularize("matrices"));
+    assertEquals("knife", Inflection.singularize("knives"));
+    assertEquals("ox", Inflection.singularize("oxen"));
+    assertEquals("person", Inflection.singularize("people"));
+    assertEquals("sheep", Inflection.singularize("sheep"));
+    assertEquals("customer_information",
+                 Inflection.singularize("customer_informations"));
+
+    // Repeated words give the same results
+    assertEquals("customer", Inflection.singularize("customers"));
+    assertEquals("Diagnosis", Inflection.singularize("Diagnoses"));
+  }
+
+  @Test
+  public void singularizeAll()
+  {
+    final Map<String, String> expected = new LinkedHashMap<>();
+    expected.put("books", "book");
+    expected.put("authors", "author");
+    expected.put("book_authors", "book_author");
+    expected.put("publishers", "publisher");
+
+    assertEquals(expected,
+                 Inflection.singularizeAll(Arrays.asList("books",
+                                                         "authors",
+                                                         "book_authors",
+                                                         "books",
+                                                         "publishers")));
+  }
+
+}
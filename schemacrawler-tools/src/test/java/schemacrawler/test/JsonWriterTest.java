@@ -0,0 +1,103 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2018, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import schemacrawler.tools.text.utility.JsonWriter;
+
+public class JsonWriterTest
+{
+
+  private static String lines(final String... lines)
+  {
+    return String.join(System.lineSeparator(), lines);
+  }
+
+  @Test
+  public void emptyContainers()
+  {
+    final StringWriter writer = new StringWriter();
+    final JsonWriter jsonWriter = new JsonWriter(new PrintWriter(writer), 2);
+    jsonWriter.beginObject().beginArray("items").endArray()
+      .beginObject("detail").endObject().endObject();
+
+    assertEquals(lines("{", "  \"items\": [],", "  \"detail\": {}", "}"),
+                 writer.toString());
+  }
+
+  @Test
+  public void nestedValues()
+  {
+    final StringWriter writer = new StringWriter();
+    final JsonWriter jsonWriter = new JsonWriter(new PrintWriter(writer), 2);
+    jsonWriter.beginObject();
+    jsonWriter.property("name", "</a\"b\tc");
+    jsonWriter.property("absent", null);
+    jsonWriter.property("count", 2.50d);
+    jsonWriter.property("flag", true);
+    jsonWriter.property("names", Arrays.asList("x", "y"));
+    jsonWriter.beginArray("rows");
+    jsonWriter.beginArray().value(1).value(null).endArray();
+    jsonWriter.endArray();
+    jsonWriter.endObject();
+
+    assertEquals(lines("{",
+                       "  \"name\": \"<\\/a\\\"b\\tc\",",
+                       "  \"count\": 2.5,",
+                       "  \"flag\": true,",
+                       "  \"names\": [",
+                       "    \"x\",",
+                       "    \"y\"",
+                       "  ],",
+                       "  \"rows\": [",
+                       "    [",
+                       "      1,",
+                       "      null",
+                       "    ]",
+                       "  ]",
+                       "}"),
+                 writer.toString());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void unbalanced()
+  {
+    final StringWriter writer = new StringWriter();
+    final JsonWriter jsonWriter = new JsonWriter(new PrintWriter(writer), 2);
+    jsonWriter.beginArray().endObject().endArray();
+  }
+
+}
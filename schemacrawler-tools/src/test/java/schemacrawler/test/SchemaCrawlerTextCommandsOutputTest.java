@@ -29,22 +29,35 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static schemacrawler.test.utility.TestUtility.clean;
 
+import java.io.StringWriter;
+
+import javax.sql.DataSource;
+
+import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.DatabaseSpecificOptions;
+import schemacrawler.schemacrawler.DatabaseSpecificOverrideOptionsBuilder;
 import schemacrawler.schemacrawler.IncludeAll;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestWriter;
+import schemacrawler.testdb.TestDatabase;
 import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.base.CommonTextOptionsBuilder;
 import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
 import schemacrawler.tools.text.schema.SchemaTextDetailType;
 
 public class SchemaCrawlerTextCommandsOutputTest
@@ -60,6 +73,70 @@ public class SchemaCrawlerTextCommandsOutputTest
     clean(COMMAND_OUTPUT);
   }
 
+  @Test
+  public void concurrentCommandsOutput()
+    throws Exception
+  {
+    final String commands = "brief,count,schema,dump";
+    final String sequentialOutput = textOutput(commands, new Config(), null);
+
+    final Config config = new Config();
+    config.put("schemacrawler.command.threads", "4");
+    final String concurrentOutput = textOutput(commands, config, dataSource());
+
+    assertFalse(sequentialOutput.isEmpty());
+    assertEquals(sequentialOutput, concurrentOutput);
+  }
+
+  @Test
+  public void concurrentCommandsWithCatalogDecorations()
+    throws Exception
+  {
+    final String commands = "schema,brief,count,details,schema,brief";
+    final Config config = new Config();
+    config.put("schemacrawler.format.show_weak_associations", "true");
+    config.put("schemacrawler.format.show_row_counts", "true");
+    final String sequentialOutput = textOutput(commands, config, null);
+    assertFalse(sequentialOutput.isEmpty());
+
+    config.put("schemacrawler.command.threads", "4");
+    for (int i = 0; i < 5; i++)
+    {
+      assertEquals(sequentialOutput,
+                   textOutput(commands, config, dataSource()));
+    }
+  }
+
+  @Test
+  public void concurrentCommandsUseCatalogCopies()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.format.show_weak_associations", "true");
+    config.put("schemacrawler.format.show_row_counts", "true");
+    config.put("schemacrawler.command.threads", "4");
+    final SchemaCrawlerExecutable executable = newExecutable("schema,brief",
+                                                             config,
+                                                             dataSource(),
+                                                             new OutputOptions(TextOutputFormat.text,
+                                                                               new StringWriter()));
+    executable
+      .setDatabaseSpecificOptions(new DatabaseSpecificOptions(getConnection(),
+                                                              new DatabaseSpecificOverrideOptionsBuilder()
+                                                                .toOptions()));
+
+    final Catalog catalog = getCatalog(executable.getSchemaCrawlerOptions());
+    executable.executeOn(catalog, getConnection());
+
+    // Weak associations and row counts are added to the copies of the
+    // catalog, and not to the shared catalog
+    for (final Table table: catalog.getTables())
+    {
+      assertFalse(table.hasAttribute("schemacrawler.weak_associations"));
+      assertFalse(table.hasAttribute("schemacrawler.table.count"));
+    }
+  }
+
   @Test
   public void countOutput()
     throws Exception
@@ -74,6 +151,43 @@ public class SchemaCrawlerTextCommandsOutputTest
     testOperationOutput(Operation.dump);
   }
 
+  @Test
+  public void fetchSizeDumpOutput()
+    throws Exception
+  {
+    final Config config = new Config();
+    config.putAll(new OperationOptionsBuilder().fetchSize(2).toConfig());
+    textOutputTest(Operation.dump.name(), config);
+  }
+
+  @Test
+  public void parallelCountOutput()
+    throws Exception
+  {
+    textOutputTest(Operation.count.name(), parallelConfig(), dataSource());
+  }
+
+  @Test
+  public void parallelDumpOutput()
+    throws Exception
+  {
+    textOutputTest(Operation.dump.name(), parallelConfig(), dataSource());
+  }
+
+  @Test
+  public void parallelJsonDumpOutput()
+    throws Exception
+  {
+    final String sequentialOutput = jsonOutput(Operation.dump.name(),
+                                               new Config(),
+                                               null);
+    final String parallelOutput = jsonOutput(Operation.dump.name(),
+                                             parallelConfig(),
+                                             dataSource());
+    assertFalse(sequentialOutput.isEmpty());
+    assertEquals(sequentialOutput, parallelOutput);
+  }
+
   @Test
   public void queryOutput()
     throws Exception
@@ -135,40 +249,101 @@ public class SchemaCrawlerTextCommandsOutputTest
     textOutputTest(SchemaTextDetailType.brief.name(), new Config());
   }
 
+  private DataSource dataSource()
+  {
+    final JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl(TestDatabase.CONNECTION_STRING);
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+    return dataSource;
+  }
+
+  private SchemaCrawlerExecutable newExecutable(final String command,
+                                                final Config config,
+                                                final DataSource dataSource,
+                                                final OutputOptions outputOptions)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions
+      .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
+    schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
+
+    final CommonTextOptionsBuilder commonTextOptions = new CommonTextOptionsBuilder();
+    commonTextOptions.fromConfig(config);
+    commonTextOptions.noInfo();
+    commonTextOptions.noHeader(true);
+    commonTextOptions.noFooter(true);
+    commonTextOptions.sortTables(true);
+    config.putAll(commonTextOptions.toConfig());
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(outputOptions);
+    executable.setDataSource(dataSource);
+    return executable;
+  }
+
+  private String jsonOutput(final String command,
+                            final Config config,
+                            final DataSource dataSource)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+    final OutputOptions outputOptions = new OutputOptions(TextOutputFormat.json,
+                                                          writer);
+    newExecutable(command, config, dataSource, outputOptions)
+      .execute(getConnection());
+    return writer.toString();
+  }
+
+  private Config parallelConfig()
+  {
+    final Config config = new Config();
+    config.putAll(new OperationOptionsBuilder().threads(4).fetchSize(2)
+      .toConfig());
+    return config;
+  }
+
   private void testOperationOutput(final Operation operation)
     throws Exception
   {
     textOutputTest(operation.name(), new Config());
   }
 
+  private String textOutput(final String command,
+                            final Config config,
+                            final DataSource dataSource)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+    final OutputOptions outputOptions = new OutputOptions(TextOutputFormat.text,
+                                                          writer);
+    newExecutable(command, config, dataSource, outputOptions)
+      .execute(getConnection());
+    return writer.toString();
+  }
+
   private void textOutputTest(final String command, final Config config)
     throws Exception
+  {
+    textOutputTest(command, config, null);
+  }
+
+  private void textOutputTest(final String command,
+                              final Config config,
+                              final DataSource dataSource)
+    throws Exception
   {
     try (final TestWriter writer = new TestWriter(TextOutputFormat.text
       .getFormat());)
     {
-      final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
-      schemaCrawlerOptions
-        .setSchemaInclusionRule(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
-      schemaCrawlerOptions.setRoutineInclusionRule(new IncludeAll());
-      schemaCrawlerOptions.setRoutineColumnInclusionRule(new IncludeAll());
-
       final OutputOptions outputOptions = new OutputOptions(TextOutputFormat.text,
                                                             writer);
-
-      final CommonTextOptionsBuilder commonTextOptions = new CommonTextOptionsBuilder();
-      commonTextOptions.fromConfig(config);
-      commonTextOptions.noInfo();
-      commonTextOptions.noHeader(true);
-      commonTextOptions.noFooter(true);
-      commonTextOptions.sortTables(true);
-      config.putAll(commonTextOptions.toConfig());
-
-      final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
-      executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
-      executable.setAdditionalConfiguration(config);
-      executable.setOutputOptions(outputOptions);
-      executable.execute(getConnection());
+      newExecutable(command, config, dataSource, outputOptions)
+        .execute(getConnection());
 
       writer.assertEquals(COMMAND_OUTPUT + command + ".txt");
     }
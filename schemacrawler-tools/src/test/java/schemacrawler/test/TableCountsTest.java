@@ -33,19 +33,25 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 
+import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.Rule;
 import org.junit.Test;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.test.utility.BaseDatabaseTest;
 import schemacrawler.test.utility.TestName;
 import schemacrawler.test.utility.TestWriter;
+import schemacrawler.testdb.TestDatabase;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountOptions;
+import schemacrawler.tools.analysis.counts.CountOptionsBuilder;
 import schemacrawler.tools.analysis.counts.CountsUtility;
 import schemacrawler.utility.NamedObjectSort;
 
@@ -91,4 +97,80 @@ public class TableCountsTest
     }
   }
 
+  @Test
+  public void approximateTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final InformationSchemaViews informationSchemaViews = new InformationSchemaViewsBuilder()
+      .withExtTableRowCountsSql("SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                                + "CASE WHEN TABLE_SCHEMA = 'BOOKS' AND TABLE_NAME = 'AUTHORS' "
+                                + "THEN NULL ELSE 99 END AS ROW_COUNT "
+                                + "FROM INFORMATION_SCHEMA.TABLES")
+      .toOptions();
+    final CountOptions countOptions = new CountOptionsBuilder()
+      .approximateCounts(true).toOptions();
+
+    final Catalog baseCatalog = getCatalog(schemaCrawlerOptions);
+    final CatalogWithCounts catalog = new CatalogWithCounts(baseCatalog,
+                                                            getConnection(),
+                                                            schemaCrawlerOptions,
+                                                            informationSchemaViews,
+                                                            countOptions);
+    for (final Table table: catalog.getTables())
+    {
+      if (table.getFullName().equals("PUBLIC.BOOKS.AUTHORS"))
+      {
+        // No statistics, so rows are counted
+        assertEquals(table.getFullName(),
+                     20L,
+                     CountsUtility.getRowCount(table));
+      }
+      else
+      {
+        assertEquals(table.getFullName(),
+                     99L,
+                     CountsUtility.getRowCount(table));
+      }
+    }
+  }
+
+  @Test
+  public void parallelTableCounts()
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = new SchemaCrawlerOptions();
+    schemaCrawlerOptions.setSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+
+    final JDBCDataSource dataSource = new JDBCDataSource();
+    dataSource.setUrl(TestDatabase.CONNECTION_STRING);
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+
+    final CountOptions countOptions = new CountOptionsBuilder().threads(4)
+      .queryTimeout(10).toOptions();
+
+    final CatalogWithCounts sequentialCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                      getConnection(),
+                                                                      schemaCrawlerOptions);
+    final CatalogWithCounts parallelCatalog = new CatalogWithCounts(getCatalog(schemaCrawlerOptions),
+                                                                    dataSource,
+                                                                    schemaCrawlerOptions,
+                                                                    new InformationSchemaViews(),
+                                                                    countOptions);
+
+    assertEquals(sequentialCatalog.getTables().size(),
+                 parallelCatalog.getTables().size());
+    for (final Table table: sequentialCatalog.getTables())
+    {
+      final Table parallelTable = parallelCatalog
+        .lookupTable(table.getSchema(), table.getName()).get();
+      assertEquals(table.getFullName(),
+                   CountsUtility.getRowCount(table),
+                   CountsUtility.getRowCount(parallelTable));
+    }
+  }
+
 }